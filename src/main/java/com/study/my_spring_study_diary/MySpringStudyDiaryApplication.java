@@ -2,8 +2,10 @@ package com.study.my_spring_study_diary;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class MySpringStudyDiaryApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(MySpringStudyDiaryApplication.class, args);
@@ -0,0 +1,32 @@
+package com.study.my_spring_study_diary.common;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이징 응답 객체
+ * <p>
+ * Page와 달리 전체 개수/페이지 수를 세지 않는다. (COUNT 쿼리 없이 정렬 인덱스만 이어 읽음)
+ * 다음 페이지는 nextCursor를 그대로 cursor 파라미터로 보내서 받는다.
+ *
+ * @param <T> 페이지에 담길 데이터의 타입
+ */
+@Getter
+public class CursorPage<T> {
+    private List<T> content;        // 현재 페이지의 데이터 목록
+    private int size;               // 요청한 페이지 크기
+    private String sortBy;          // 정렬 기준
+    private String sortDirection;   // 정렬 방향 (ASC / DESC)
+    private String nextCursor;      // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext;        // 다음 페이지 존재 여부
+
+    public CursorPage(List<T> content, int size, String sortBy, String sortDirection, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.sortBy = sortBy;
+        this.sortDirection = sortDirection;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -1,16 +1,22 @@
 package com.study.my_spring_study_diary.controller;
 
+import com.study.my_spring_study_diary.common.CursorPage;
 import com.study.my_spring_study_diary.common.Page;
 import com.study.my_spring_study_diary.dto.request.StudyLogCreateRequest;
 import com.study.my_spring_study_diary.dto.request.StudyLogUpdateRequest;
 import com.study.my_spring_study_diary.dto.response.StudyLogDeleteResponse;
 import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.event.StudyLogEventStream;
 import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.global.exception.StudyLogVersionMismatchException;
 import com.study.my_spring_study_diary.service.StudyLogService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -22,6 +28,7 @@ import java.util.Map;
  * {@code @RestController} 어노테이션 설명:
  * - {@code @Controller} + {@code @ResponseBody}의 조합
  * - 이 클래스의 모든 메서드 반환값을 JSON으로 변환하여 응답
+ *   (Accept: application/cbor 이면 같은 구조를 CBOR로 응답, 요청 본문도 Content-Type으로 구분)
  * - REST API 개발 시 사용
  *
  * {@code @RequestMapping} 어노테이션 설명:
@@ -34,13 +41,15 @@ public class StudyLogController {
 
     // 의존성 주입: Service를 주입받음
     private final StudyLogService studyLogService;
+    private final StudyLogEventStream studyLogEventStream;
 
     /**
      * 생성자 주입
      * Spring이 StudyLogService Bean을 찾아서 자동으로 주입해줍니다.
      */
-    private StudyLogController(StudyLogService studyLogService) {
+    private StudyLogController(StudyLogService studyLogService, StudyLogEventStream studyLogEventStream) {
         this.studyLogService = studyLogService;
+        this.studyLogEventStream = studyLogEventStream;
     }
 
     // ==================== CREATE ====================
@@ -61,12 +70,30 @@ public class StudyLogController {
         // Service 호출하여 학습 일지 생성
         StudyLogResponse response = studyLogService.createStudyLog(request);
 
-        // 201 Created 상태 코드와 함께 응답
+        // 201 Created 상태 코드와 함께 응답 (ETag: 이후 If-Match 수정에 쓸 버전)
         return ResponseEntity
                 .status(HttpStatus.CREATED)
+                .eTag(eTag(response))
                 .body(ApiResponse.success(response));
     }
 
+    /**
+     * 학습 일지 일괄 생성
+     * <p>
+     * POST /api/v1/logs/batch
+     * Body: 생성 요청 배열 (JSON 또는 CBOR, Content-Type으로 구분)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<StudyLogResponse>>> createStudyLogs(
+            @RequestBody
+            List<StudyLogCreateRequest> requests
+    ) {
+        List<StudyLogResponse> responses = studyLogService.createStudyLogs(requests);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(responses));
+    }
+
     // ==================== READ ====================
 
     /**
@@ -107,6 +134,7 @@ public class StudyLogController {
         // 200 OK 상태 코드와 함께 응답
         return ResponseEntity
                 .ok()
+                .eTag(eTag(response))
                 .body(ApiResponse.success(response));
     }
 
@@ -162,10 +190,13 @@ public class StudyLogController {
     /**
      * 전체 학습 일지 페이징 조회
      * GET /api/v1/logs/page?page=0&size=10
-     * GET /api/v1/logs/page -> 기본값 page=0, size=10
+     * GET /api/v1/logs/page?sortBy=title&sortDirection=ASC
+     * GET /api/v1/logs/page -> 기본값 page=0, size=10, studyDate DESC
      *
      * @param page 페이지 번호 (0-based, 기본값: 0)
      * @param size 페이지 크기 (기본값: 10, 최대값: 100)
+     * @param sortBy 정렬 기준 (studyDate, createdAt, title, studyTime)
+     * @param sortDirection 정렬 방향 (ASC, DESC)
      * @return 페이징된 학습 일지
      */
     @GetMapping("/page")
@@ -173,9 +204,13 @@ public class StudyLogController {
             @RequestParam(defaultValue = "0")
             int page,
             @RequestParam(defaultValue = "10")
-            int size
+            int size,
+            @RequestParam(required = false)
+            String sortBy,
+            @RequestParam(required = false)
+            String sortDirection
     ) {
-        Page<StudyLogResponse> response = studyLogService.getStudyLogWithPaging(page, size);
+        Page<StudyLogResponse> response = studyLogService.getStudyLogWithPaging(page, size, sortBy, sortDirection);
 
         // 200 OK 상태 코드와 함께 응답
         return ResponseEntity
@@ -185,11 +220,13 @@ public class StudyLogController {
 
     /**
      * 카테고리별 학습 일지 페이징 조회
-     * GET /api/v1/logs/category/{category}/page?page=0&size=10
+     * GET /api/v1/logs/category/{category}/page?page=0&size=10&sortBy=studyTime&sortDirection=DESC
      *
      * @param category 카테고리
      * @param page 페이지 번호
      * @param size 페이지 크기
+     * @param sortBy 정렬 기준 (studyDate, createdAt, title, studyTime)
+     * @param sortDirection 정렬 방향 (ASC, DESC)
      * @return 페이징된 학습 일지
      */
     @GetMapping("/category/{category}/page")
@@ -199,9 +236,41 @@ public class StudyLogController {
             @RequestParam(defaultValue = "0")
             int page,
             @RequestParam(defaultValue = "10")
+            int size,
+            @RequestParam(required = false)
+            String sortBy,
+            @RequestParam(required = false)
+            String sortDirection
+    ) {
+        Page<StudyLogResponse> response = studyLogService.getStudyLogsByCategoryWithPaging(
+                category, page, size, sortBy, sortDirection);
+
+        // 200 OK 상태 코드와 함께 응답
+        return ResponseEntity
+                .ok()
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 작성자별 학습 일지 페이징 조회
+     * GET /api/v1/logs/owner/{ownerId}/page?page=0&size=10
+     * (샤딩 구성에서는 작성자의 샤드 하나만 조회)
+     *
+     * @param ownerId 작성자 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 페이징된 학습 일지
+     */
+    @GetMapping("/owner/{ownerId}/page")
+    public ResponseEntity<ApiResponse<Page<StudyLogResponse>>> getStudyLogsByOwnerWithPaging(
+            @PathVariable
+            Long ownerId,
+            @RequestParam(defaultValue = "0")
+            int page,
+            @RequestParam(defaultValue = "10")
             int size
     ) {
-        Page<StudyLogResponse> response = studyLogService.getStudyLogsByCategoryWithPaging(category, page, size);
+        Page<StudyLogResponse> response = studyLogService.getStudyLogsByOwnerWithPaging(ownerId, page, size);
 
         // 200 OK 상태 코드와 함께 응답
         return ResponseEntity
@@ -209,6 +278,13 @@ public class StudyLogController {
                 .body(ApiResponse.success(response));
     }
 
+    /**
+     * 검색 (제목 키워드 / 카테고리 / 날짜 범위) + 페이징
+     * GET /api/v1/logs/search?title=JPA&category=SPRING&startDate=2025-01-01&endDate=2025-03-31&facets=true
+     * <p>
+     * facets=true 이면 검색 조건에 맞는 전체 결과의 카테고리 / 이해도 / 월별 개수를 data.facets에 함께 싣는다.
+     * sortBy / sortDirection으로 정렬을 바꿀 수 있다. (기본 studyDate DESC)
+     */
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<Page<StudyLogResponse>>> searchStudyLogsWithPaging(
             @RequestParam(required = false)
@@ -224,10 +300,55 @@ public class StudyLogController {
             @RequestParam(defaultValue = "0")
             int page,
             @RequestParam(defaultValue = "10")
-            int size
+            int size,
+            @RequestParam(required = false)
+            String sortBy,
+            @RequestParam(required = false)
+            String sortDirection,
+            @RequestParam(defaultValue = "false")
+            boolean facets
     ) {
         Page<StudyLogResponse> response = studyLogService.searchStudyLogsWithPaging(
-                title, category, startDate, endDate, page, size);
+                title, category, startDate, endDate, page, size, sortBy, sortDirection, facets);
+
+        // 200 OK 상태 코드와 함께 응답
+        return ResponseEntity
+                .ok()
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 검색 + 커서(keyset) 페이징 (깊은 페이지용)
+     * GET /api/v1/logs/scroll?sortBy=title&sortDirection=ASC&size=20
+     * GET /api/v1/logs/scroll?sortBy=title&sortDirection=ASC&size=20&cursor={직전 응답의 nextCursor}
+     * <p>
+     * 페이지 번호 대신 직전 페이지의 마지막 위치(cursor)부터 이어 읽으므로 페이지가 깊어져도 느려지지 않는다.
+     * 전체 개수는 주지 않으며, nextCursor가 null이면 마지막 페이지다.
+     * 커서는 만든 정렬(sortBy / sortDirection)과 같은 정렬로만 쓸 수 있다.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<StudyLogResponse>>> getStudyLogsByCursor(
+            @RequestParam(required = false)
+            String title,
+            @RequestParam(required = false)
+            String category,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate startDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate endDate,
+            @RequestParam(required = false)
+            String sortBy,
+            @RequestParam(required = false)
+            String sortDirection,
+            @RequestParam(required = false)
+            String cursor,
+            @RequestParam(defaultValue = "10")
+            int size
+    ) {
+        CursorPage<StudyLogResponse> response = studyLogService.getStudyLogsByCursor(
+                title, category, startDate, endDate, sortBy, sortDirection, cursor, size);
 
         // 200 OK 상태 코드와 함께 응답
         return ResponseEntity
@@ -235,6 +356,28 @@ public class StudyLogController {
                 .body(ApiResponse.success(response));
     }
 
+    // ==================== STREAM ====================
+
+    /**
+     * 학습 일지 변경 이벤트 구독 (Server-Sent Events)
+     * GET /api/v1/logs/stream
+     * <p>
+     * 목록을 주기적으로 다시 조회(polling)하는 대신 생성/수정/삭제 이벤트를 받아 화면을 갱신한다.
+     * - 이벤트 이름: created, updated, deleted, cleared
+     * - resync 이벤트를 받으면 목록을 다시 조회한 뒤 그 이벤트의 id로 재접속한다.
+     * 브라우저 EventSource는 재접속할 때 마지막으로 받은 id를 Last-Event-ID 헤더로 보낸다.
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 id (없으면 지금부터)
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStudyLogChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false)
+            String lastEventId
+    ) {
+        return studyLogEventStream.subscribe(lastEventId);
+    }
+
     // ==================== UPDATE ====================
 
     /**
@@ -246,16 +389,25 @@ public class StudyLogController {
      * <p>
      * {@code @PathVariable} URL의 {id} 부분을 파라미터로 받음
      * {@code @RequestBody} HTTP Body의 JSON을 객체로 변환
+     * <p>
+     * If-Match: 단건 조회/생성/수정 응답의 ETag를 그대로 보내면 그 버전일 때만 수정한다.
+     * - 버전이 다르거나 약한 ETag(W/...)를 보내면 412 PRECONDITION_FAILED (If-Match는 강한 비교)
+     * - If-Match 없이 보냈는데 조회와 저장 사이에 다른 요청이 먼저 수정하면 409 CONFLICT
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<StudyLogResponse>> updateStudyLog(
             @PathVariable
             Long id,
             @RequestBody
-            StudyLogUpdateRequest request
+            StudyLogUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            String ifMatch
     ) {
-        StudyLogResponse response = studyLogService.updateStudyLog(id, request);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        StudyLogResponse response = studyLogService.updateStudyLog(id, request, parseIfMatch(id, ifMatch));
+        return ResponseEntity
+                .ok()
+                .eTag(eTag(response))
+                .body(ApiResponse.success(response));
     }
 
     // ==================== DELETE ====================
@@ -287,4 +439,35 @@ public class StudyLogController {
         Map<String, Object> response = studyLogService.deleteAllStudyLogs();
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    // ==================== ETAG ====================
+
+    private static String eTag(StudyLogResponse response) {
+        return String.valueOf(response.getVersion());
+    }
+
+    /**
+     * If-Match 헤더에서 기대 버전을 꺼낸다
+     * <p>
+     * 없거나 "*"이면 null (버전 검사 안 함). 따옴표는 떼고 읽는다.
+     * If-Match는 강한 비교만 하므로 약한 ETag(W/...)는 어떤 버전과도 일치하지 않는다 (412)
+     * 숫자가 아니면 이 서버가 준 ETag가 아니므로 IllegalArgumentException (400)
+     */
+    private static Long parseIfMatch(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            throw new StudyLogVersionMismatchException(id, value);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match 헤더는 응답으로 받은 ETag여야 합니다: " + ifMatch);
+        }
+    }
 }
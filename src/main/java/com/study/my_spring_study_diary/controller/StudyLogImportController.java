@@ -0,0 +1,91 @@
+package com.study.my_spring_study_diary.controller;
+
+import com.study.my_spring_study_diary.dto.response.ImportJobResponse;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.importer.StudyLogImportService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * 학습 일지 대량 가져오기 컨트롤러
+ * <p>
+ * 다른 노트 도구에서 옮겨 오는 CSV / NDJSON 파일을 받아 백그라운드 작업으로 적재한다.
+ * 작업 ID로 진행 상황과 거절된 행을 확인한다.
+ */
+@RestController
+@RequestMapping("/api/v1/imports")
+public class StudyLogImportController {
+
+    private final StudyLogImportService studyLogImportService;
+
+    public StudyLogImportController(StudyLogImportService studyLogImportService) {
+        this.studyLogImportService = studyLogImportService;
+    }
+
+    /**
+     * 가져오기 작업 시작
+     * <p>
+     * POST /api/v1/imports (multipart/form-data)
+     * - file: CSV 또는 NDJSON 파일
+     * - format: csv | ndjson (생략하면 확장자로 판단)
+     * <p>
+     * 파일을 받는 즉시 202 Accepted와 작업 ID를 돌려주고, 적재는 백그라운드에서 진행한다.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportJobResponse>> startImport(
+            @RequestParam("file")
+            MultipartFile file,
+            @RequestParam(required = false)
+            String format
+    ) {
+        ImportJobResponse response = ImportJobResponse.from(studyLogImportService.submit(file, format));
+        return ResponseEntity
+                .accepted()
+                .location(URI.create("/api/v1/imports/" + response.getJobId()))
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 가져오기 작업 진행 상황
+     * <p>
+     * GET /api/v1/imports/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ImportJobResponse>> getImport(
+            @PathVariable
+            String jobId
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(ImportJobResponse.from(studyLogImportService.getJob(jobId))));
+    }
+
+    /**
+     * 거절된 행 보고서 (CSV: line,reason,raw)
+     * <p>
+     * GET /api/v1/imports/{jobId}/rejected
+     */
+    @GetMapping("/{jobId}/rejected")
+    public ResponseEntity<Resource> getRejectedRows(
+            @PathVariable
+            String jobId
+    ) {
+        Path report = studyLogImportService.getRejectedReport(jobId);
+        if (report == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(jobId + "-rejected.csv").build().toString())
+                .body(new FileSystemResource(report));
+    }
+}
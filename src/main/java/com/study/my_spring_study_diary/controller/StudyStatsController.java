@@ -0,0 +1,112 @@
+package com.study.my_spring_study_diary.controller;
+
+import com.study.my_spring_study_diary.dto.response.ActivityHeatmapResponse;
+import com.study.my_spring_study_diary.dto.response.StudyStreakResponse;
+import com.study.my_spring_study_diary.dto.response.StudyTimePercentilesResponse;
+import com.study.my_spring_study_diary.dto.response.StudyTimeRangeResponse;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.service.StudyLogService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 학습 통계 컨트롤러 (대시보드용)
+ * <p>
+ * 메모리의 날짜별 활동 색인 / 학습 시간 구간 색인에서 바로 계산하므로 학습 일지 목록을 읽지 않는다.
+ * ownerId를 생략하면 전체 작성자 합계를 돌려준다.
+ */
+@RestController
+@RequestMapping("/api/v1/stats")
+public class StudyStatsController {
+
+    private final StudyLogService studyLogService;
+
+    public StudyStatsController(StudyLogService studyLogService) {
+        this.studyLogService = studyLogService;
+    }
+
+    /**
+     * 연간 학습 히트맵 (GitHub 잔디 형태)
+     * <p>
+     * GET /api/v1/stats/heatmap?year=2025&ownerId=3
+     *
+     * @param year    연도 (생략하면 올해)
+     * @param ownerId 작성자 ID (생략하면 전체)
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<ApiResponse<ActivityHeatmapResponse>> getActivityHeatmap(
+            @RequestParam(required = false)
+            Integer year,
+            @RequestParam(required = false)
+            Long ownerId
+    ) {
+        ActivityHeatmapResponse response = studyLogService.getActivityHeatmap(ownerId, year);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 현재/최장 연속 학습일
+     * <p>
+     * GET /api/v1/stats/streaks?ownerId=3
+     *
+     * @param ownerId 작성자 ID (생략하면 전체)
+     */
+    @GetMapping("/streaks")
+    public ResponseEntity<ApiResponse<StudyStreakResponse>> getStudyStreaks(
+            @RequestParam(required = false)
+            Long ownerId
+    ) {
+        StudyStreakResponse response = studyLogService.getStudyStreaks(ownerId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 날짜 구간 학습 시간 합계 (양 끝 포함)
+     * <p>
+     * GET /api/v1/stats/study-time?from=2025-01-01&to=2025-03-31&category=SPRING
+     *
+     * @param from     시작일
+     * @param to       종료일
+     * @param category 카테고리 (생략하면 전체 + 카테고리별 내역)
+     */
+    @GetMapping("/study-time")
+    public ResponseEntity<ApiResponse<StudyTimeRangeResponse>> getStudyTimeInRange(
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to,
+            @RequestParam(required = false)
+            String category
+    ) {
+        StudyTimeRangeResponse response = studyLogService.getStudyTimeInRange(from, to, category);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 학습 시간 분위수 (p50 / p90 / p99), 전체 + 카테고리별 + 이해도별
+     * <p>
+     * GET /api/v1/stats/study-time/percentiles?days=30&to=2025-03-31
+     *
+     * @param days 창 크기 (기본 30일)
+     * @param to   창의 마지막 날 (생략하면 오늘)
+     */
+    @GetMapping("/study-time/percentiles")
+    public ResponseEntity<ApiResponse<StudyTimePercentilesResponse>> getStudyTimePercentiles(
+            @RequestParam(defaultValue = "30")
+            int days,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to
+    ) {
+        StudyTimePercentilesResponse response = studyLogService.getStudyTimePercentiles(days, to);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
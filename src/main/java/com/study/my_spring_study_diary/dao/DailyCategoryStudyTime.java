@@ -0,0 +1,21 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.Category;
+
+import java.time.LocalDate;
+
+/**
+ * 카테고리/날짜별 학습 집계 (GROUP BY category, study_date 한 행)
+ *
+ * @param category     카테고리
+ * @param studyDate    학습 날짜
+ * @param logCount     그날 그 카테고리의 학습 일지 수
+ * @param totalMinutes 그날 그 카테고리의 학습 시간 합계 (분)
+ */
+public record DailyCategoryStudyTime(
+        Category category,
+        LocalDate studyDate,
+        int logCount,
+        long totalMinutes
+) {
+}
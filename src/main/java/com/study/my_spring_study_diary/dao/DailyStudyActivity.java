@@ -0,0 +1,19 @@
+package com.study.my_spring_study_diary.dao;
+
+import java.time.LocalDate;
+
+/**
+ * 작성자/날짜별 학습 집계 (GROUP BY owner_id, study_date 한 행)
+ *
+ * @param ownerId      작성자 ID
+ * @param studyDate    학습 날짜
+ * @param logCount     그날 작성한 학습 일지 수
+ * @param totalMinutes 그날 학습 시간 합계 (분)
+ */
+public record DailyStudyActivity(
+        Long ownerId,
+        LocalDate studyDate,
+        int logCount,
+        long totalMinutes
+) {
+}
@@ -4,6 +4,11 @@ import com.study.my_spring_study_diary.common.Page;
 import com.study.my_spring_study_diary.entity.Category;
 import com.study.my_spring_study_diary.entity.StudyLog;
 import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.timeout.StatementTimeouts;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
@@ -12,11 +17,15 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.Date;
 import java.sql.PreparedStatement;
-import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * MySQL 기반 StudyLog DAO 구현
@@ -25,13 +34,33 @@ import java.util.Optional;
  * - Spring에서 제공하는 JDBC 헬퍼 클래스다.
  * - Connection, Statement 등을 자동으로 관리한다.
  * - SQL 예외를 Spring의 DataAccessException으로 변환한다.
+ * <p>
+ * content는 ContentCodec 형식(MEDIUMBLOB)으로 저장한다. 긴 본문은 압축되어 저장되고,
+ * 읽을 때는 저장된 바이트를 그대로 엔티티에 담아 두었다가 본문이 실제로 필요할 때 푼다.
+ * <p>
+ * 페이징/검색의 정렬은 화이트리스트(StudyLogSortKey)의 컬럼 목록으로만 만들며, 각 목록은 같은 순서의 인덱스가 있다.
+ * (카테고리 조건이 붙으면 (category, 정렬 컬럼..., id) 인덱스. 키워드/날짜 범위 검색의 한계는 StudyLogSortKey 참고)
+ * 커서 페이징(searchAfter)은 (정렬 컬럼..., id) 행 비교로 그 인덱스를 커서 위치부터 읽는다.
+ * <p>
+ * 쿼리는 메서드 이름별 JdbcTemplate(StatementTimeouts)으로 실행한다. 작업마다 문장 타임아웃이 다르고,
+ * 요청 기한이 있으면 남은 시간 안에서만 실행되며 기한이 지나면 실행 중인 문장이 취소된다.
  */
 @Repository
 public class MySQLStudyLogDaoImpl implements StudyLogDao {
     private final JdbcTemplate jdbcTemplate;
+    private final ContentCodec contentCodec;
+    private final StatementTimeouts statementTimeouts;
+    private final Map<String, JdbcTemplate> templates = new ConcurrentHashMap<>();
+
+    public MySQLStudyLogDaoImpl(JdbcTemplate jdbcTemplate, ContentCodec contentCodec) {
+        this(jdbcTemplate, contentCodec, StatementTimeouts.NONE);
+    }
 
-    public MySQLStudyLogDaoImpl(JdbcTemplate jdbcTemplate) {
+    @Autowired
+    public MySQLStudyLogDaoImpl(JdbcTemplate jdbcTemplate, ContentCodec contentCodec, StatementTimeouts statementTimeouts) {
         this.jdbcTemplate = jdbcTemplate;
+        this.contentCodec = contentCodec;
+        this.statementTimeouts = statementTimeouts;
     }
 
     // ==================== CREATE ====================
@@ -39,21 +68,23 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
     @Override
     public StudyLog save(StudyLog studyLog) {
         String sql = """
-                INSERT INTO study_logs (title, content, category, understanding, study_time, study_date)
-                VALUE (?, ?, ?, ?, ?, ?)
+                INSERT INTO study_logs (owner_id, title, content, category, understanding, study_time, study_date)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
                 """;
 
         // KeyHolder: 자동 생성된 ID를 수신하는 객체
         KeyHolder keyHolder = new GeneratedKeyHolder();
 
-        jdbcTemplate.update(connection -> {
-            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            ps.setString(1, studyLog.getTitle());
-            ps.setString(2, studyLog.getContent());
-            ps.setString(3, studyLog.getCategory().name());
-            ps.setString(4, studyLog.getUnderstanding().name());
-            ps.setInt(5, studyLog.getStudyTime());
-            ps.setDate(6, Date.valueOf(studyLog.getStudyDate()));
+        jdbc("save").update(connection -> {
+            // 생성 키 컬럼을 "id"로 한정 (H2는 DEFAULT 값이 있는 컬럼까지 키로 돌려줌)
+            PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
+            ps.setLong(1, studyLog.getOwnerId() != null ? studyLog.getOwnerId() : StudyLog.UNASSIGNED_OWNER_ID);
+            ps.setString(2, studyLog.getTitle());
+            ps.setBytes(3, contentCodec.encode(studyLog.getContent()));
+            ps.setString(4, studyLog.getCategory().name());
+            ps.setString(5, studyLog.getUnderstanding().name());
+            ps.setInt(6, studyLog.getStudyTime());
+            ps.setDate(7, Date.valueOf(studyLog.getStudyDate()));
             return ps;
         }, keyHolder);
 
@@ -65,6 +96,28 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
         return studyLog;
     }
 
+    /**
+     * JdbcTemplate.batchUpdate()로 한 번에 전송 (MySQL은 rewriteBatchedStatements=true 이면 multi-row INSERT)
+     */
+    @Override
+    public int saveAll(List<StudyLog> studyLogs) {
+        String sql = """
+                INSERT INTO study_logs (owner_id, title, content, category, understanding, study_time, study_date)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        jdbc("saveAll").batchUpdate(sql, studyLogs, studyLogs.size(), (ps, studyLog) -> {
+            ps.setLong(1, studyLog.getOwnerId() != null ? studyLog.getOwnerId() : StudyLog.UNASSIGNED_OWNER_ID);
+            ps.setString(2, studyLog.getTitle());
+            ps.setBytes(3, contentCodec.encode(studyLog.getContent()));
+            ps.setString(4, studyLog.getCategory().name());
+            ps.setString(5, studyLog.getUnderstanding().name());
+            ps.setInt(6, studyLog.getStudyTime());
+            ps.setDate(7, Date.valueOf(studyLog.getStudyDate()));
+        });
+        return studyLogs.size();
+    }
+
     // ==================== READ ====================
 
     @Override
@@ -72,9 +125,10 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
         String sql = "SELECT * FROM study_logs WHERE id = ?";
 
         try {
-            StudyLog studyLog = jdbcTemplate.queryForObject(sql, studyLogRowMapper, id);
+            StudyLog studyLog = jdbc("findById").queryForObject(sql, studyLogRowMapper, id);
             return Optional.ofNullable(studyLog);
-        } catch (Exception e) {
+        } catch (EmptyResultDataAccessException e) {
+            // 결과가 없는 경우만 빈 값으로 처리 (연결 실패 등은 그대로 전파)
             return Optional.empty();
         }
     }
@@ -82,53 +136,67 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
     @Override
     public List<StudyLog> findAll() {
         String sql = "SELECT * FROM study_logs ORDER BY study_date DESC, id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper);
+        return jdbc("findAll").query(sql, studyLogRowMapper);
     }
 
     @Override
     public List<StudyLog> findByCategory(Category category) {
         String sql = "SELECT * FROM study_logs WHERE category = ? ORDER BY study_date DESC, id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper, category);
+        return jdbc("findByCategory").query(sql, studyLogRowMapper, category.name());
     }
 
     @Override
     public List<StudyLog> findByStudyDate(LocalDate date) {
+        // 등호 조건이므로 월 파티션 테이블에서는 해당 월 파티션 하나만 읽는다
         String sql = "SELECT * FROM study_logs WHERE study_date = ? ORDER BY id DESC";
-        return jdbcTemplate.query(sql, studyLogRowMapper, Date.valueOf(date));
+        return jdbc("findByStudyDate").query(sql, studyLogRowMapper, Date.valueOf(date));
     }
 
     @Override
     public boolean existsById(Long id) {
         String sql = "SELECT COUNT(*) FROM study_logs WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
+        Integer count = jdbc("existsById").queryForObject(sql, Integer.class, id);
         return count != null && count > 0;
     }
 
     // ==================== UPDATE ====================
 
+    /**
+     * 읽어 온 버전이 그대로일 때만 수정한다 (compare-and-set)
+     * <p>
+     * 행 잠금(SELECT ... FOR UPDATE) 없이 UPDATE 한 문장의 WHERE version = ? 로 충돌을 감지한다.
+     * 그 사이 다른 요청이 먼저 수정했으면 OptimisticLockingFailureException, 성공하면 엔티티의 버전을 1 올린다.
+     */
     @Override
     public StudyLog update(StudyLog studyLog) {
         String sql = """
                 UPDATE study_logs
                 SET title = ?, content = ?, category =?, understanding = ?,
-                    study_time = ?, study_date = ?
-                WHERE id = ?
+                    study_time = ?, study_date = ?, version = version + 1
+                WHERE id = ? AND version = ?
                 """;
 
-        int updated = jdbcTemplate.update(sql,
+        int updated = jdbc("update").update(sql,
                 studyLog.getTitle(),
-                studyLog.getContent(),
+                contentCodec.encode(studyLog.getContent()),
                 studyLog.getCategory().name(),
                 studyLog.getUnderstanding().name(),
                 studyLog.getStudyTime(),
                 studyLog.getStudyDate(),
-                studyLog.getId()
+                studyLog.getId(),
+                studyLog.getVersion()
                 );
 
         if (updated == 0) {
-          throw new RuntimeException("학습 일지를 찾을 수 없습니다. ID: " + studyLog.getId());
+            // 행이 남아 있으면 버전이 바뀐 것 (삭제된 경우와 구분)
+            if (existsById(studyLog.getId())) {
+                throw new OptimisticLockingFailureException(
+                        "다른 요청이 먼저 수정한 학습 일지입니다. (id: " + studyLog.getId() + ", version: " + studyLog.getVersion() + ")");
+            }
+            throw new RuntimeException("학습 일지를 찾을 수 없습니다. ID: " + studyLog.getId());
         }
 
+        studyLog.setVersion(studyLog.getVersion() + 1);
         return studyLog;
     }
 
@@ -137,98 +205,68 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
     @Override
     public boolean deleteById(Long id) {
         String sql = "DELETE FROM study_logs WHERE id = ?";
-        int deleted = jdbcTemplate.update(sql, id);
+        int deleted = jdbc("deleteById").update(sql, id);
         return deleted > 0;
     }
 
     @Override
     public void deleteAll() {
         String sql = "DELETE FROM study_logs";
-        jdbcTemplate.update(sql);
+        jdbc("deleteAll").update(sql);
     }
 
     // ==================== PAGING ====================
 
     @Override
-    public Page<StudyLog> findAllWithPaging(int page, int size) {
+    public Page<StudyLog> findAllWithPaging(int page, int size, StudyLogSort sort) {
         // 1단계: 전체 개수 조회
         String countSql = "SELECT COUNT(*) FROM study_logs";
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class);
+        Long totalElements = jdbc("findAllWithPaging").queryForObject(countSql, Long.class);
 
         // 전체 데이터가 0건이면 빈 페이지 반환
         if (totalElements == null || totalElements == 0) {
             return new Page<>(List.of(), page, size, 0);
         }
 
-        // 2단계: 해당 페이지 데이터 조회
-        String dataSql = """
-                SELECT * FROM study_logs
-                ORDER BY study_date DESC, id DESC
-                LIMIT ? OFFSET ?
-                """;
+        // 2단계: 해당 페이지 데이터 조회 (정렬 기준마다 같은 순서의 인덱스가 있음)
+        String dataSql = "SELECT * FROM study_logs" + sort.orderBy() + " LIMIT ? OFFSET ?";
 
         int offset = page * size;
-        List<StudyLog> content = jdbcTemplate.query(dataSql, studyLogRowMapper, size, offset);
+        List<StudyLog> content = jdbc("findAllWithPaging").query(dataSql, studyLogRowMapper, size, offset);
 
         // 3.단계: Page 객체 생성 및 반환
         return new Page<>(content, page, size, totalElements);
     }
 
     @Override
-    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size) {
+    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size, StudyLogSort sort) {
         // COUNT 쿼리에도 동일한 WHERE 조건 적용
         String countSql = "SELECT COUNT(*) FROM study_logs WHERE category = ?";
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class, category);
+        Long totalElements = jdbc("findByCategoryWithPaging").queryForObject(countSql, Long.class, category);
 
         // 전체 데이터가 0건이면 빈 페이지 반환
         if (totalElements == null || totalElements == 0) {
             return new Page<>(List.of(), page, size, 0);
         }
 
-        // 2단계: 해당 페이지 데이터 조회
-        String dataSql = """
-                SELECT * FROM study_logs
-                WHERE category = ?
-                ORDER BY study_date DESC, id DESC
-                LIMIT ? OFFSET ?
-                """;
+        // 2단계: 해당 페이지 데이터 조회 (정렬 기준마다 (category, 정렬 컬럼..., id) 인덱스가 있음)
+        String dataSql = "SELECT * FROM study_logs WHERE category = ?" + sort.orderBy() + " LIMIT ? OFFSET ?";
 
         int offset = page * size;
-        List<StudyLog> content = jdbcTemplate.query(dataSql, studyLogRowMapper, category, size, offset);
+        List<StudyLog> content = jdbc("findByCategoryWithPaging").query(dataSql, studyLogRowMapper, category, size, offset);
 
         // 3.단계: Page 객체 생성 및 반환
         return new Page<>(content, page, size, totalElements);
     }
 
     @Override
-    public Page<StudyLog> searchWithPaging(String titleKeyword, String category, LocalDate startDate, LocalDate endDate, int page, int size) {
+    public Page<StudyLog> searchWithPaging(String titleKeyword, String category, LocalDate startDate, LocalDate endDate, int page, int size, StudyLogSort sort) {
         // 공통 WHERE 절 구성
-        StringBuilder whereClause = new StringBuilder("WHERE 1=1");
-        List<Object> params = new ArrayList<>();
-
-        if (titleKeyword != null && !titleKeyword.isBlank()) {
-            whereClause.append(" AND title LIKE ?");
-            params.add("%" + titleKeyword + "%");
-        }
-
-        if (category != null && !category.isBlank()) {
-            whereClause.append(" AND category = ?");
-            params.add(category);
-        }
-
-        if (startDate != null) {
-            whereClause.append(" AND study_date >= ?");
-            params.add(Date.valueOf(startDate));
-        }
-
-        if (endDate != null) {
-            whereClause.append(" AND study_date <= ?");
-            params.add(Date.valueOf(endDate));
-        }
+        SearchCondition condition = searchCondition(titleKeyword, category, startDate, endDate);
 
         // 1단계: COUNT 쿼리 (WHERE 절 재사용)
-        String countSql = "SELECT COUNT(*) FROM study_logs " + whereClause;
-        Long totalElements = jdbcTemplate.queryForObject(countSql, Long.class, params.toArray());
+        String countSql = "SELECT COUNT(*) FROM study_logs " + condition.where();
+        Long totalElements = jdbc("searchWithPaging").queryForObject(countSql, Long.class, condition.params().toArray());
 
         // 전체 데이터가 0건이면 빈 페이지 반환
         if (totalElements == null || totalElements == 0) {
@@ -237,49 +275,216 @@ public class MySQLStudyLogDaoImpl implements StudyLogDao {
 
         // 2단계: 데이터 쿼리 (WHERE 절 재사용 + 페이징)
         String dataSql = "SELECT * FROM study_logs "
-                + whereClause
-                + " ORDER BY study_date DESC, id DESC"
+                + condition.where()
+                + sort.orderBy()
                 + " LIMIT ? OFFSET ?";
 
         // 페이징 파라미터를 기존 파라미터에 추가
-        List<Object> dataParams = new ArrayList<>(params);
+        List<Object> dataParams = new ArrayList<>(condition.params());
         dataParams.add(size);
         dataParams.add(page * size);
 
-        List<StudyLog> content = jdbcTemplate.query(dataSql, studyLogRowMapper, dataParams.toArray());
+        List<StudyLog> content = jdbc("searchWithPaging").query(dataSql, studyLogRowMapper, dataParams.toArray());
 
         // 3.단계: Page 객체 생성 및 반환
         return new Page<>(content, page, size, totalElements);
     }
 
+    @Override
+    public List<StudyLog> searchAfter(String titleKeyword, String category, LocalDate startDate, LocalDate endDate,
+                                      StudyLogSort sort, StudyLogCursor after, int limit) {
+        SearchCondition condition = searchCondition(titleKeyword, category, startDate, endDate);
+        StringBuilder sql = new StringBuilder("SELECT * FROM study_logs ").append(condition.where());
+        List<Object> params = new ArrayList<>(condition.params());
+
+        // (정렬 컬럼..., id) 행 비교 -> 정렬 인덱스에서 커서 위치부터 범위 검색
+        if (after != null) {
+            List<StudyLogSortKey.Column> columns = sort.key().getColumns();
+            StringBuilder tuple = new StringBuilder("(");
+            StringBuilder placeholders = new StringBuilder("(");
+            for (int i = 0; i < columns.size(); i++) {
+                tuple.append(columns.get(i).getSqlName()).append(", ");
+                placeholders.append("?, ");
+                params.add(columns.get(i).toJdbc(after.values().get(i)));
+            }
+            tuple.append("id)");
+            placeholders.append("?)");
+            params.add(after.id());
+            sql.append(" AND ").append(tuple).append(sort.ascending() ? " > " : " < ").append(placeholders);
+        }
+
+        sql.append(sort.orderBy()).append(" LIMIT ?");
+        params.add(limit);
+        return jdbc("searchAfter").query(sql.toString(), studyLogRowMapper, params.toArray());
+    }
+
+    @Override
+    public List<SearchFacetCount> searchFacets(String titleKeyword, String category, LocalDate startDate, LocalDate endDate) {
+        // 검색과 같은 WHERE 절로 한 번만 훑고 (카테고리, 이해도, 월) 조합별 개수를 받는다 (최대 9 x 5 x 월 수 행)
+        SearchCondition condition = searchCondition(titleKeyword, category, startDate, endDate);
+        String sql = "SELECT category, understanding, YEAR(study_date) AS study_year, MONTH(study_date) AS study_month,"
+                + " COUNT(*) AS log_count"
+                + " FROM study_logs "
+                + condition.where()
+                + " GROUP BY category, understanding, YEAR(study_date), MONTH(study_date)";
+        return jdbc("searchFacets").query(sql, (rs, rowNum) -> new SearchFacetCount(
+                Category.valueOf(rs.getString("category")),
+                Understanding.valueOf(rs.getString("understanding")),
+                YearMonth.of(rs.getInt("study_year"), rs.getInt("study_month")),
+                rs.getLong("log_count")
+        ), condition.params().toArray());
+    }
+
+    @Override
+    public Page<StudyLog> findByOwnerWithPaging(Long ownerId, int page, int size) {
+        // (owner_id, study_date, id) 인덱스로 COUNT와 정렬을 모두 처리
+        String countSql = "SELECT COUNT(*) FROM study_logs WHERE owner_id = ?";
+        Long totalElements = jdbc("findByOwnerWithPaging").queryForObject(countSql, Long.class, ownerId);
+
+        if (totalElements == null || totalElements == 0) {
+            return new Page<>(List.of(), page, size, 0);
+        }
+
+        String dataSql = """
+                SELECT * FROM study_logs
+                WHERE owner_id = ?
+                ORDER BY study_date DESC, id DESC
+                LIMIT ? OFFSET ?
+                """;
+
+        int offset = page * size;
+        List<StudyLog> content = jdbc("findByOwnerWithPaging").query(dataSql, studyLogRowMapper, ownerId, size, offset);
+
+        return new Page<>(content, page, size, totalElements);
+    }
+
     @Override
     public long countByCategory(String category) {
         String sql = "SELECT COUNT(*) FROM study_logs WHERE category = ?";
-        Long count = jdbcTemplate.queryForObject(sql, Long.class, category);
+        Long count = jdbc("countByCategory").queryForObject(sql, Long.class, category);
         return count != null ? count : 0;
     }
 
     @Override
     public long count() {
         String sql = "SELECT COUNT(*) FROM study_logs";
-        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        Long count = jdbc("count").queryForObject(sql, Long.class);
         return count != null ? count : 0;
     }
 
+    // ==================== STATISTICS ====================
+
+    @Override
+    public List<DailyStudyActivity> aggregateDailyActivity() {
+        // (owner_id, study_date, id) 인덱스 순서로 묶이며 본문(content)은 읽지 않는다
+        String sql = """
+                SELECT owner_id, study_date, COUNT(*) AS log_count, COALESCE(SUM(study_time), 0) AS total_minutes
+                FROM study_logs
+                GROUP BY owner_id, study_date
+                """;
+        return jdbc("aggregateDailyActivity").query(sql, (rs, rowNum) -> new DailyStudyActivity(
+                rs.getLong("owner_id"),
+                rs.getDate("study_date").toLocalDate(),
+                rs.getInt("log_count"),
+                rs.getLong("total_minutes")
+        ));
+    }
+
+    @Override
+    public List<DailyCategoryStudyTime> aggregateDailyStudyTimeByCategory() {
+        String sql = """
+                SELECT category, study_date, COUNT(*) AS log_count, COALESCE(SUM(study_time), 0) AS total_minutes
+                FROM study_logs
+                GROUP BY category, study_date
+                """;
+        return jdbc("aggregateDailyStudyTimeByCategory").query(sql, (rs, rowNum) -> new DailyCategoryStudyTime(
+                Category.valueOf(rs.getString("category")),
+                rs.getDate("study_date").toLocalDate(),
+                rs.getInt("log_count"),
+                rs.getLong("total_minutes")
+        ));
+    }
+
+    @Override
+    public List<StudyTimeDistribution> aggregateStudyTimeDistribution() {
+        // 학습 시간은 분 단위 정수라 같은 날 같은 값이 많다 -> 행 수는 학습 일지 수보다 훨씬 적다
+        String sql = """
+                SELECT category, understanding, study_date, study_time, COUNT(*) AS log_count
+                FROM study_logs
+                GROUP BY category, understanding, study_date, study_time
+                """;
+        return jdbc("aggregateStudyTimeDistribution").query(sql, (rs, rowNum) -> new StudyTimeDistribution(
+                Category.valueOf(rs.getString("category")),
+                Understanding.valueOf(rs.getString("understanding")),
+                rs.getDate("study_date").toLocalDate(),
+                rs.getInt("study_time"),
+                rs.getLong("log_count")
+        ));
+    }
+
     // ==================== PRIVATE METHODS ====================
 
+    /**
+     * DAO 작업(메서드 이름)별 타임아웃이 걸린 JdbcTemplate
+     */
+    private JdbcTemplate jdbc(String operation) {
+        return templates.computeIfAbsent(operation, name -> statementTimeouts.template(jdbcTemplate, name));
+    }
+
+    /**
+     * 검색 조건의 WHERE 절과 바인딩 값 (searchWithPaging / searchFacets 공용)
+     */
+    private record SearchCondition(String where, List<Object> params) {
+    }
+
+    private static SearchCondition searchCondition(String titleKeyword, String category, LocalDate startDate, LocalDate endDate) {
+        StringBuilder whereClause = new StringBuilder("WHERE 1=1");
+        List<Object> params = new ArrayList<>();
+
+        if (titleKeyword != null && !titleKeyword.isBlank()) {
+            whereClause.append(" AND title LIKE ?");
+            params.add("%" + titleKeyword + "%");
+        }
+
+        if (category != null && !category.isBlank()) {
+            whereClause.append(" AND category = ?");
+            params.add(category);
+        }
+
+        if (startDate != null) {
+            whereClause.append(" AND study_date >= ?");
+            params.add(Date.valueOf(startDate));
+        }
+
+        // 날짜 조건은 컬럼을 가공하지 않은 반열린 구간 [startDate, endDate + 1일)으로 비교한다
+        // -> 인덱스 범위 검색과 월 파티션 잘라내기(partition pruning)가 모두 가능
+        if (endDate != null) {
+            whereClause.append(" AND study_date < ?");
+            params.add(Date.valueOf(endDate.plusDays(1)));
+        }
+        return new SearchCondition(whereClause.toString(), params);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
     /**
      * RowMapper: ResulSet의 각 행을 StudyLog 객체로 반환합니다.
      */
     private final RowMapper<StudyLog> studyLogRowMapper = (rs, rowMapper) -> {
         StudyLog studyLog = new StudyLog();
         studyLog.setId(rs.getLong("id"));
+        studyLog.setOwnerId(rs.getLong("owner_id"));
         studyLog.setTitle(rs.getString("title"));
-        studyLog.setContent(rs.getString("content"));
+        studyLog.setStoredContent(rs.getBytes("content"));
         studyLog.setCategory(Category.valueOf(rs.getString("category")));
         studyLog.setUnderstanding(Understanding.valueOf(rs.getString("understanding")));
         studyLog.setStudyTime(rs.getInt("study_time"));
         studyLog.setStudyDate(rs.getDate("study_date").toLocalDate());
+        studyLog.setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")));
+        studyLog.setUpdatedAt(toLocalDateTime(rs.getTimestamp("updated_at")));
+        studyLog.setVersion(rs.getLong("version"));
         return studyLog;
     };
 }
@@ -0,0 +1,202 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.global.datasource.ClientIdentityFilter;
+import com.study.my_spring_study_diary.global.datasource.DataSourceRoute;
+import com.study.my_spring_study_diary.global.datasource.ReadYourWritesTracker;
+import com.study.my_spring_study_diary.global.datasource.ReplicaHealth;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 읽기/쓰기 분리 StudyLog DAO
+ * <p>
+ * MySQLStudyLogDaoImpl을 감싸서 호출마다 커넥션 풀을 고른다. (데코레이터 패턴)
+ * - 쓰기(save, update, delete): 항상 primary, 그리고 해당 클라이언트의 쓰기 시각을 기록
+ * - 수정/삭제 직전의 조회(findByIdForWrite): 항상 primary (replica의 낡은 행으로 덮어쓰거나 거짓 409/412를 내지 않도록)
+ * - 읽기: replica. 단, 아래 경우는 primary
+ *   1) 같은 클라이언트가 stickinessWindow 안에 쓰기를 했을 때 (read-your-writes)
+ *   2) replica 장애로 사용 중단 상태일 때, 또는 읽기 중 커넥션 오류가 났을 때
+ *   3) 이미 트랜잭션이 진행 중일 때 (트랜잭션의 커넥션을 그대로 사용)
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "diary.datasource.replication", name = "enabled", havingValue = "true")
+public class ReplicaRoutingStudyLogDao implements StudyLogDao {
+
+    private final StudyLogDao delegate;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaHealth replicaHealth;
+
+    public ReplicaRoutingStudyLogDao(
+            MySQLStudyLogDaoImpl delegate,
+            ReadYourWritesTracker readYourWritesTracker,
+            ReplicaHealth replicaHealth
+    ) {
+        this.delegate = delegate;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaHealth = replicaHealth;
+    }
+
+    // ==================== CREATE ====================
+
+    @Override
+    public StudyLog save(StudyLog studyLog) {
+        return write(() -> delegate.save(studyLog));
+    }
+
+    @Override
+    public int saveAll(List<StudyLog> studyLogs) {
+        return write(() -> delegate.saveAll(studyLogs));
+    }
+
+    // ==================== READ ====================
+
+    @Override
+    public Optional<StudyLog> findById(Long id) {
+        return read(() -> delegate.findById(id));
+    }
+
+    @Override
+    public Optional<StudyLog> findByIdForWrite(Long id) {
+        return DataSourceRoute.PRIMARY.call(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<StudyLog> findAll() {
+        return read(delegate::findAll);
+    }
+
+    @Override
+    public List<StudyLog> findByCategory(Category category) {
+        return read(() -> delegate.findByCategory(category));
+    }
+
+    @Override
+    public List<StudyLog> findByStudyDate(LocalDate date) {
+        return read(() -> delegate.findByStudyDate(date));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return read(() -> delegate.existsById(id));
+    }
+
+    // ==================== UPDATE ====================
+
+    @Override
+    public StudyLog update(StudyLog studyLog) {
+        return write(() -> delegate.update(studyLog));
+    }
+
+    // ==================== DELETE ====================
+
+    @Override
+    public boolean deleteById(Long id) {
+        return write(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAll() {
+        write(() -> {
+            delegate.deleteAll();
+            return null;
+        });
+    }
+
+    // ==================== PAGING ====================
+
+    @Override
+    public Page<StudyLog> findAllWithPaging(int page, int size, StudyLogSort sort) {
+        return read(() -> delegate.findAllWithPaging(page, size, sort));
+    }
+
+    @Override
+    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size, StudyLogSort sort) {
+        return read(() -> delegate.findByCategoryWithPaging(category, page, size, sort));
+    }
+
+    @Override
+    public Page<StudyLog> searchWithPaging(String titleKeyword, String category, LocalDate startDate, LocalDate endDate, int page, int size, StudyLogSort sort) {
+        return read(() -> delegate.searchWithPaging(titleKeyword, category, startDate, endDate, page, size, sort));
+    }
+
+    @Override
+    public List<StudyLog> searchAfter(String titleKeyword, String category, LocalDate startDate, LocalDate endDate,
+                                      StudyLogSort sort, StudyLogCursor after, int limit) {
+        return read(() -> delegate.searchAfter(titleKeyword, category, startDate, endDate, sort, after, limit));
+    }
+
+    @Override
+    public Page<StudyLog> findByOwnerWithPaging(Long ownerId, int page, int size) {
+        return read(() -> delegate.findByOwnerWithPaging(ownerId, page, size));
+    }
+
+    @Override
+    public long count() {
+        return read(delegate::count);
+    }
+
+    @Override
+    public List<SearchFacetCount> searchFacets(String titleKeyword, String category, LocalDate startDate, LocalDate endDate) {
+        return read(() -> delegate.searchFacets(titleKeyword, category, startDate, endDate));
+    }
+
+    @Override
+    public long countByCategory(String category) {
+        return read(() -> delegate.countByCategory(category));
+    }
+
+    // ==================== STATISTICS ====================
+
+    @Override
+    public List<DailyStudyActivity> aggregateDailyActivity() {
+        return read(delegate::aggregateDailyActivity);
+    }
+
+    @Override
+    public List<DailyCategoryStudyTime> aggregateDailyStudyTimeByCategory() {
+        return read(delegate::aggregateDailyStudyTimeByCategory);
+    }
+
+    @Override
+    public List<StudyTimeDistribution> aggregateStudyTimeDistribution() {
+        return read(delegate::aggregateStudyTimeDistribution);
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private <T> T write(Supplier<T> action) {
+        try {
+            return DataSourceRoute.PRIMARY.call(action);
+        } finally {
+            readYourWritesTracker.markWrite(ClientIdentityFilter.currentClientId());
+        }
+    }
+
+    private <T> T read(Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || readYourWritesTracker.isSticky(ClientIdentityFilter.currentClientId())
+                || !replicaHealth.isAvailable()) {
+            return DataSourceRoute.PRIMARY.call(query);
+        }
+
+        try {
+            return DataSourceRoute.REPLICA.call(query);
+        } catch (DataAccessResourceFailureException e) {
+            // 커넥션 획득 실패 등 replica 자체의 문제 -> primary로 재시도
+            replicaHealth.markDown(e);
+            return DataSourceRoute.PRIMARY.call(query);
+        }
+    }
+}
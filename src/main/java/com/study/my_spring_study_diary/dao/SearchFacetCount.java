@@ -0,0 +1,24 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.YearMonth;
+
+/**
+ * 검색 결과 패싯 집계 (GROUP BY category, understanding, 학습 월 한 행)
+ * <p>
+ * 카테고리별 / 이해도별 / 월별 개수는 이 행들을 각 축으로 더해서 구한다.
+ *
+ * @param category      카테고리
+ * @param understanding 이해도
+ * @param month         학습 월
+ * @param count         학습 일지 수
+ */
+public record SearchFacetCount(
+        Category category,
+        Understanding understanding,
+        YearMonth month,
+        long count
+) {
+}
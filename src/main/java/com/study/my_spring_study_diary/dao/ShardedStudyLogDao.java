@@ -0,0 +1,449 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.global.timeout.QueryDeadline;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 작성자(owner_id) 기준 수평 샤딩 StudyLog DAO
+ * <p>
+ * 샤드마다 독립된 DB(StudyLogDao)를 두고 호출을 나눠 보낸다.
+ * - 쓰기/작성자별 조회: owner_id 해시로 고른 샤드 하나
+ * - ID 기반 조회/수정/삭제: 전역 ID에 담긴 샤드 번호로 샤드 하나
+ * - 전체 목록/페이징/검색: 모든 샤드에 병렬로 보내고(scatter) 결과를 합친다(gather)
+ * <p>
+ * 전역 ID = (샤드 내 AUTO_INCREMENT ID << 8) | 샤드 번호
+ * 샤드마다 ID가 따로 증가해도 충돌하지 않고, 같은 샤드 안에서는 순서가 유지된다. (최대 256개 샤드)
+ * <p>
+ * 정렬은 단일 DB와 같은 순서(StudyLogSort, 기본은 study_date DESC, id DESC)이며, 전역 ID로 비교하므로 전체 순서가 결정적이다.
+ * 페이징은 각 샤드에서 (page + 1) * size 건까지 받아 k-way merge 한 뒤 잘라내므로,
+ * 뒤쪽 페이지일수록 샤드 수만큼 더 많이 읽는다. 커서 페이징(searchAfter)은 샤드마다 limit건만 읽는다.
+ */
+public class ShardedStudyLogDao implements StudyLogDao {
+
+    static final int SHARD_BITS = 8;
+    static final int MAX_SHARDS = 1 << SHARD_BITS;
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+
+    // 단일 DB 쿼리의 ORDER BY study_date DESC, id DESC 와 같은 순서
+    private static final Comparator<StudyLog> NEWEST_FIRST = StudyLogSort.DEFAULT.comparator();
+
+    private final List<StudyLogDao> shards;
+    private final ExecutorService executor;
+
+    /**
+     * @param shards   샤드 번호 순서대로의 샤드별 DAO (순서를 바꾸면 기존 데이터의 위치가 어긋난다)
+     * @param executor scatter 쿼리를 실행할 스레드 풀
+     */
+    public ShardedStudyLogDao(List<StudyLogDao> shards, ExecutorService executor) {
+        if (shards.isEmpty() || shards.size() > MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 수는 1 ~ " + MAX_SHARDS + " 사이여야 합니다: " + shards.size());
+        }
+        this.shards = List.copyOf(shards);
+        this.executor = executor;
+    }
+
+    // ==================== CREATE ====================
+
+    @Override
+    public StudyLog save(StudyLog studyLog) {
+        if (studyLog.getOwnerId() == null) {
+            studyLog.setOwnerId(StudyLog.UNASSIGNED_OWNER_ID);
+        }
+        int shard = shardOf(studyLog.getOwnerId());
+        shards.get(shard).save(studyLog);
+        studyLog.setId(globalId(studyLog.getId(), shard));
+        return studyLog;
+    }
+
+    /**
+     * 작성자 기준으로 샤드별로 나눈 뒤, 샤드마다 배치 저장을 병렬로 보낸다
+     * (샤드 사이에는 원자적이지 않음: 한 샤드가 실패해도 다른 샤드에 저장된 건은 남는다)
+     */
+    @Override
+    public int saveAll(List<StudyLog> studyLogs) {
+        List<List<StudyLog>> byShard = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            byShard.add(new ArrayList<>());
+        }
+        for (StudyLog studyLog : studyLogs) {
+            if (studyLog.getOwnerId() == null) {
+                studyLog.setOwnerId(StudyLog.UNASSIGNED_OWNER_ID);
+            }
+            byShard.get(shardOf(studyLog.getOwnerId())).add(studyLog);
+        }
+
+        List<Integer> saved = scatterIndexed((shard, dao) -> byShard.get(shard).isEmpty() ? 0 : dao.saveAll(byShard.get(shard)));
+        return saved.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    // ==================== READ ====================
+
+    @Override
+    public Optional<StudyLog> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        int shard = shardOfId(id);
+        if (shard >= shards.size()) {
+            return Optional.empty();
+        }
+        return shards.get(shard).findById(localId(id))
+                .map(studyLog -> toGlobal(studyLog, shard));
+    }
+
+    @Override
+    public List<StudyLog> findAll() {
+        return mergeAll(scatter(StudyLogDao::findAll));
+    }
+
+    @Override
+    public List<StudyLog> findByCategory(Category category) {
+        return mergeAll(scatter(shard -> shard.findByCategory(category)));
+    }
+
+    @Override
+    public List<StudyLog> findByStudyDate(LocalDate date) {
+        return mergeAll(scatter(shard -> shard.findByStudyDate(date)));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (id == null) {
+            return false;
+        }
+        int shard = shardOfId(id);
+        return shard < shards.size() && shards.get(shard).existsById(localId(id));
+    }
+
+    // ==================== UPDATE ====================
+
+    @Override
+    public StudyLog update(StudyLog studyLog) {
+        int shard = shardOfId(studyLog.getId());
+        if (shard >= shards.size()) {
+            throw new RuntimeException("학습 일지를 찾을 수 없습니다. ID: " + studyLog.getId());
+        }
+        // 호출자의 객체는 전역 ID를 유지하도록 샤드 내 ID를 가진 복사본으로 수정하고, 올라간 버전만 돌려받는다
+        StudyLog updated = shards.get(shard).update(copyWithId(studyLog, localId(studyLog.getId())));
+        studyLog.setVersion(updated.getVersion());
+        return studyLog;
+    }
+
+    // ==================== DELETE ====================
+
+    @Override
+    public boolean deleteById(Long id) {
+        if (id == null) {
+            return false;
+        }
+        int shard = shardOfId(id);
+        return shard < shards.size() && shards.get(shard).deleteById(localId(id));
+    }
+
+    @Override
+    public void deleteAll() {
+        scatter(shard -> {
+            shard.deleteAll();
+            return null;
+        });
+    }
+
+    // ==================== PAGING ====================
+
+    @Override
+    public Page<StudyLog> findAllWithPaging(int page, int size, StudyLogSort sort) {
+        return gatherPage(page, size, sort, (shard, limit) -> shard.findAllWithPaging(0, limit, sort));
+    }
+
+    @Override
+    public Page<StudyLog> findByCategoryWithPaging(String category, int page, int size, StudyLogSort sort) {
+        return gatherPage(page, size, sort, (shard, limit) -> shard.findByCategoryWithPaging(category, 0, limit, sort));
+    }
+
+    @Override
+    public Page<StudyLog> searchWithPaging(String titleKeyword, String category, LocalDate startDate, LocalDate endDate, int page, int size, StudyLogSort sort) {
+        return gatherPage(page, size, sort,
+                (shard, limit) -> shard.searchWithPaging(titleKeyword, category, startDate, endDate, 0, limit, sort));
+    }
+
+    /**
+     * 샤드마다 커서 다음 limit건을 받아 병합한 뒤 앞에서 limit건
+     * <p>
+     * 커서의 id는 전역 ID이므로 샤드별 로컬 ID 경계로 바꿔 보낸다. (같은 정렬 값 안에서의 순서가 전역 ID 순서와 같도록)
+     */
+    @Override
+    public List<StudyLog> searchAfter(String titleKeyword, String category, LocalDate startDate, LocalDate endDate,
+                                      StudyLogSort sort, StudyLogCursor after, int limit) {
+        List<List<StudyLog>> shardResults = scatterIndexed((shard, dao) -> dao.searchAfter(
+                titleKeyword, category, startDate, endDate, sort, after == null ? null : localCursor(after, shard), limit));
+        List<List<StudyLog>> sortedRuns = new ArrayList<>(shardResults.size());
+        for (int shard = 0; shard < shardResults.size(); shard++) {
+            sortedRuns.add(toGlobal(shardResults.get(shard), shard));
+        }
+        return merge(sortedRuns, sort.comparator(), 0, limit);
+    }
+
+    @Override
+    public List<SearchFacetCount> searchFacets(String titleKeyword, String category, LocalDate startDate, LocalDate endDate) {
+        // 같은 (카테고리, 이해도, 월) 묶음이 여러 샤드에서 올 수 있지만, 축별로 더하는 쪽에서 합쳐지므로 이어 붙이기만 한다
+        return scatter(shard -> shard.searchFacets(titleKeyword, category, startDate, endDate)).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    @Override
+    public Page<StudyLog> findByOwnerWithPaging(Long ownerId, int page, int size) {
+        // 한 작성자의 데이터는 한 샤드에만 있으므로 scatter 하지 않는다
+        int shard = shardOf(ownerId);
+        Page<StudyLog> result = shards.get(shard).findByOwnerWithPaging(ownerId, page, size);
+        List<StudyLog> content = result.getContent().stream()
+                .map(studyLog -> toGlobal(studyLog, shard))
+                .toList();
+        return new Page<>(content, page, size, result.getTotalElements());
+    }
+
+    @Override
+    public long count() {
+        return scatter(StudyLogDao::count).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long countByCategory(String category) {
+        return scatter(shard -> shard.countByCategory(category)).stream().mapToLong(Long::longValue).sum();
+    }
+
+    // ==================== STATISTICS ====================
+
+    @Override
+    public List<DailyStudyActivity> aggregateDailyActivity() {
+        // 작성자는 한 샤드에만 있으므로 (작성자, 날짜) 묶음이 샤드 사이에 겹치지 않는다 -> 이어 붙이기만 하면 된다
+        return scatter(StudyLogDao::aggregateDailyActivity).stream().flatMap(List::stream).toList();
+    }
+
+    @Override
+    public List<DailyCategoryStudyTime> aggregateDailyStudyTimeByCategory() {
+        // 같은 (카테고리, 날짜) 묶음이 여러 샤드에서 올 수 있지만 색인에 더하는 값이므로 이어 붙이기만 한다
+        return scatter(StudyLogDao::aggregateDailyStudyTimeByCategory).stream().flatMap(List::stream).toList();
+    }
+
+    @Override
+    public List<StudyTimeDistribution> aggregateStudyTimeDistribution() {
+        return scatter(StudyLogDao::aggregateStudyTimeDistribution).stream().flatMap(List::stream).toList();
+    }
+
+    // ==================== SHARD KEY ====================
+
+    /**
+     * 작성자 ID로 샤드 번호를 고른다
+     * <p>
+     * 연속된 ID가 한 샤드에 몰리지 않도록 64비트 해시(MurmurHash3 finalizer)로 섞은 뒤 나머지를 취한다.
+     */
+    public int shardOf(Long ownerId) {
+        long h = ownerId != null ? ownerId : StudyLog.UNASSIGNED_OWNER_ID;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) shards.size());
+    }
+
+    static long globalId(long localId, int shard) {
+        return (localId << SHARD_BITS) | shard;
+    }
+
+    static int shardOfId(long globalId) {
+        return (int) (globalId & SHARD_MASK);
+    }
+
+    static long localId(long globalId) {
+        return globalId >>> SHARD_BITS;
+    }
+
+    /**
+     * 전역 ID 커서를 한 샤드의 로컬 ID 커서로 바꾼다
+     * <p>
+     * 오름차순: globalId(local, shard) > id  <=>  local > floor((id - shard) / 256)
+     * 내림차순: globalId(local, shard) < id  <=>  local < ceil((id - shard) / 256)
+     */
+    static StudyLogCursor localCursor(StudyLogCursor cursor, int shard) {
+        long offset = cursor.id() - shard;
+        long local = cursor.sort().ascending()
+                ? Math.floorDiv(offset, MAX_SHARDS)
+                : Math.floorDiv(offset + MAX_SHARDS - 1, MAX_SHARDS);
+        return cursor.withId(local);
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    // ==================== SCATTER / GATHER ====================
+
+    /**
+     * 모든 샤드에 같은 호출을 병렬로 보내고 샤드 번호 순서대로 결과를 모은다.
+     * 한 샤드라도 실패하면 그 예외를 그대로 던진다. (일부 결과만으로 응답하지 않음)
+     * 요청 기한(QueryDeadline)은 scatter 스레드에도 넘겨, 기한이 지나면 모든 샤드의 쿼리가 함께 취소된다.
+     */
+    private <T> List<T> scatter(Function<StudyLogDao, T> call) {
+        return scatterIndexed((shard, dao) -> call.apply(dao));
+    }
+
+    /**
+     * scatter()와 같되 샤드 번호도 함께 넘긴다 (샤드마다 다른 인자를 보낼 때)
+     */
+    private <T> List<T> scatterIndexed(BiFunction<Integer, StudyLogDao, T> call) {
+        if (shards.size() == 1) {
+            return List.of(call.apply(0, shards.get(0)));
+        }
+
+        QueryDeadline deadline = QueryDeadline.current();
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            int shard = i;
+            futures.add(CompletableFuture.supplyAsync(() -> deadline == null
+                    ? call.apply(shard, shards.get(shard))
+                    : deadline.call(() -> call.apply(shard, shards.get(shard))), executor));
+        }
+
+        List<T> results = new ArrayList<>(shards.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private Page<StudyLog> gatherPage(int page, int size, StudyLogSort sort, ShardPageQuery query) {
+        int limit = Math.multiplyExact(page + 1, size);
+        List<Page<StudyLog>> shardPages = scatter(shard -> query.fetch(shard, limit));
+
+        long totalElements = 0;
+        List<List<StudyLog>> sortedRuns = new ArrayList<>(shardPages.size());
+        for (int shard = 0; shard < shardPages.size(); shard++) {
+            Page<StudyLog> shardPage = shardPages.get(shard);
+            totalElements += shardPage.getTotalElements();
+            sortedRuns.add(toGlobal(shardPage.getContent(), shard));
+        }
+
+        if (totalElements == 0) {
+            return new Page<>(List.of(), page, size, 0);
+        }
+        return new Page<>(merge(sortedRuns, sort.comparator(), page * size, size), page, size, totalElements);
+    }
+
+    private List<StudyLog> mergeAll(List<List<StudyLog>> shardResults) {
+        List<List<StudyLog>> sortedRuns = new ArrayList<>(shardResults.size());
+        for (int shard = 0; shard < shardResults.size(); shard++) {
+            sortedRuns.add(toGlobal(shardResults.get(shard), shard));
+        }
+        return merge(sortedRuns, NEWEST_FIRST, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 이미 order 순서로 정렬된 샤드별 결과를 k-way merge 한다
+     * <p>
+     * 각 샤드의 현재 맨 앞 원소만 우선순위 큐에 두므로 O(전체 건수 * log 샤드 수)이다.
+     */
+    static List<StudyLog> merge(List<List<StudyLog>> sortedRuns, Comparator<StudyLog> order, int skip, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(
+                Math.max(1, sortedRuns.size()), (a, b) -> order.compare(a.current(), b.current()));
+        for (List<StudyLog> run : sortedRuns) {
+            if (!run.isEmpty()) {
+                heads.add(new Cursor(run));
+            }
+        }
+
+        List<StudyLog> merged = new ArrayList<>(Math.min(limit, 1_024));
+        int skipped = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Cursor head = heads.poll();
+            StudyLog next = head.current();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                merged.add(next);
+            }
+            if (head.advance()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private List<StudyLog> toGlobal(List<StudyLog> studyLogs, int shard) {
+        for (StudyLog studyLog : studyLogs) {
+            toGlobal(studyLog, shard);
+        }
+        return studyLogs;
+    }
+
+    private StudyLog toGlobal(StudyLog studyLog, int shard) {
+        studyLog.setId(globalId(studyLog.getId(), shard));
+        return studyLog;
+    }
+
+    private static StudyLog copyWithId(StudyLog source, long id) {
+        StudyLog copy = new StudyLog();
+        copy.setId(id);
+        copy.setOwnerId(source.getOwnerId());
+        copy.setTitle(source.getTitle());
+        copy.setContent(source.getContent());
+        copy.setCategory(source.getCategory());
+        copy.setUnderstanding(source.getUnderstanding());
+        copy.setStudyTime(source.getStudyTime());
+        copy.setStudyDate(source.getStudyDate());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+
+    @FunctionalInterface
+    private interface ShardPageQuery {
+        Page<StudyLog> fetch(StudyLogDao shard, int limit);
+    }
+
+    /**
+     * 정렬된 샤드 결과 하나를 앞에서부터 읽는 커서
+     */
+    private static final class Cursor {
+        private final List<StudyLog> run;
+        private int position;
+
+        Cursor(List<StudyLog> run) {
+            this.run = run;
+        }
+
+        StudyLog current() {
+            return run.get(position);
+        }
+
+        boolean advance() {
+            return ++position < run.size();
+        }
+    }
+}
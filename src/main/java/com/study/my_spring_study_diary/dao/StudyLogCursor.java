@@ -0,0 +1,98 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 커서(keyset) 페이징의 위치: 직전 페이지 마지막 행의 정렬 값과 id
+ * <p>
+ * 다음 페이지는 "(정렬 컬럼..., id)가 이 값보다 뒤"인 행을 인덱스에서 이어 읽으므로
+ * OFFSET처럼 앞쪽 행을 건너뛰며 읽지 않고, 페이지 깊이와 상관없이 비용이 같다.
+ * <p>
+ * 클라이언트에는 정렬 기준/방향까지 담은 문자열(Base64 URL)로 넘긴다.
+ * 형식: 정렬 기준|방향|id|값1|값2... (문자열 컬럼은 항상 마지막이라 값 안의 '|'는 나누지 않는다)
+ *
+ * @param sort   이 커서를 만든 정렬
+ * @param values 정렬 컬럼 값 (StudyLogSortKey.getColumns() 순서)
+ * @param id     마지막 행의 id
+ */
+public record StudyLogCursor(StudyLogSort sort, List<Object> values, long id) {
+
+    private static final String SEPARATOR = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    public StudyLogCursor {
+        values = List.copyOf(values);
+    }
+
+    /**
+     * 페이지 마지막 행 다음부터 읽는 커서
+     */
+    public static StudyLogCursor after(StudyLogSort sort, StudyLog last) {
+        List<Object> values = new ArrayList<>(sort.key().getColumns().size());
+        for (StudyLogSortKey.Column column : sort.key().getColumns()) {
+            Object value = column.valueOf(last);
+            if (value == null) {
+                throw new IllegalStateException(column.getSqlName() + " 값이 없는 행으로는 커서를 만들 수 없습니다. (id: " + last.getId() + ")");
+            }
+            values.add(value);
+        }
+        return new StudyLogCursor(sort, values, last.getId());
+    }
+
+    /**
+     * 같은 위치에서 id만 바꾼 커서 (샤드별 로컬 id로 옮길 때)
+     */
+    public StudyLogCursor withId(long id) {
+        return new StudyLogCursor(sort, values, id);
+    }
+
+    public String encode() {
+        StringBuilder text = new StringBuilder()
+                .append(sort.key().getProperty()).append(SEPARATOR)
+                .append(sort.direction()).append(SEPARATOR)
+                .append(id);
+        for (Object value : values) {
+            text.append(SEPARATOR).append(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서를 해석한다
+     *
+     * @param sort 이번 요청의 정렬 (커서를 만든 정렬과 다르면 IllegalArgumentException)
+     */
+    public static StudyLogCursor decode(String token, StudyLogSort sort) {
+        List<StudyLogSortKey.Column> columns = sort.key().getColumns();
+        String[] parts;
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = SPLITTER.split(text, 3 + columns.size());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        if (parts.length != 3 + columns.size()) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        if (!parts[0].equals(sort.key().getProperty()) || !parts[1].equals(sort.direction())) {
+            throw new IllegalArgumentException("커서의 정렬(" + parts[0] + " " + parts[1] + ")이 요청한 정렬("
+                    + sort.key().getProperty() + " " + sort.direction() + ")과 다릅니다.");
+        }
+        try {
+            long id = Long.parseLong(parts[2]);
+            List<Object> values = new ArrayList<>(columns.size());
+            for (int i = 0; i < columns.size(); i++) {
+                values.add(columns.get(i).parse(parts[3 + i]));
+            }
+            return new StudyLogCursor(sort, values, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -22,9 +22,35 @@ public interface StudyLogDao {
 
     StudyLog save(StudyLog studyLog);
 
+    /**
+     * 여러 건을 한 번에 저장 (대량 가져오기용)
+     * <p>
+     * 기본 구현은 한 건씩 save()를 호출한다. JDBC 구현체는 배치 INSERT로 바꾸며,
+     * 이 경우 생성된 ID를 엔티티에 채우지 않는다.
+     *
+     * @return 저장된 건수
+     */
+    default int saveAll(List<StudyLog> studyLogs) {
+        for (StudyLog studyLog : studyLogs) {
+            save(studyLog);
+        }
+        return studyLogs.size();
+    }
+
     // ==================== READ ====================
 
     Optional<StudyLog> findById(Long id);
+
+    /**
+     * 수정/삭제 직전에 읽는 조회 (read-modify-write)
+     * <p>
+     * 읽은 행을 그대로 다시 쓰므로 복제 지연이 있는 replica가 아니라 항상 쓰기 대상(primary)에서 읽어야 한다.
+     * 기본 구현은 findById()와 같다.
+     */
+    default Optional<StudyLog> findByIdForWrite(Long id) {
+        return findById(id);
+    }
+
     List<StudyLog> findAll();
     List<StudyLog> findByCategory(Category category);
 
@@ -45,18 +71,29 @@ public interface StudyLogDao {
     // ==================== PAGING ====================
 
     /**
-     * 전체 학습 일지를 페이징하여 조회
+     * 전체 학습 일지를 페이징하여 조회 (study_date DESC, id DESC)
      *
      * @param page 페이지 번호 (0-based)
      * @param size 페이지당 데이터 개수
      * @return 페이징된 결과
      */
-    Page<StudyLog> findAllWithPaging(int page, int size);
+    default Page<StudyLog> findAllWithPaging(int page, int size) {
+        return findAllWithPaging(page, size, StudyLogSort.DEFAULT);
+    }
+
+    /**
+     * 전체 학습 일지를 지정한 정렬로 페이징하여 조회
+     */
+    Page<StudyLog> findAllWithPaging(int page, int size, StudyLogSort sort);
 
     /**
      * 카테고리별 학습 일지를 페이징하여 조회
      */
-    Page<StudyLog> findByCategoryWithPaging(String category, int page, int size);
+    default Page<StudyLog> findByCategoryWithPaging(String category, int page, int size) {
+        return findByCategoryWithPaging(category, page, size, StudyLogSort.DEFAULT);
+    }
+
+    Page<StudyLog> findByCategoryWithPaging(String category, int page, int size, StudyLogSort sort);
 
     /**
      * 검색 조건과 함께 페이징하여 조회
@@ -64,15 +101,62 @@ public interface StudyLogDao {
      * - 카테고리 필터
      * - 날짜 범위 필터
      */
-    Page<StudyLog> searchWithPaging(
+    default Page<StudyLog> searchWithPaging(
             String titleKeyword,
             String category,
             LocalDate startDate,
             LocalDate endDate,
             int page,
             int size
+    ) {
+        return searchWithPaging(titleKeyword, category, startDate, endDate, page, size, StudyLogSort.DEFAULT);
+    }
+
+    Page<StudyLog> searchWithPaging(
+            String titleKeyword,
+            String category,
+            LocalDate startDate,
+            LocalDate endDate,
+            int page,
+            int size,
+            StudyLogSort sort
     );
 
+    /**
+     * 검색 조건에 맞는 행 중 커서 다음부터 limit건 (커서/keyset 페이징)
+     * <p>
+     * OFFSET 없이 정렬 인덱스를 커서 위치부터 이어 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     * 전체 개수는 세지 않는다.
+     *
+     * @param after 직전 페이지의 커서 (null이면 처음부터)
+     */
+    List<StudyLog> searchAfter(
+            String titleKeyword,
+            String category,
+            LocalDate startDate,
+            LocalDate endDate,
+            StudyLogSort sort,
+            StudyLogCursor after,
+            int limit
+    );
+
+    /**
+     * searchWithPaging과 같은 조건에 맞는 전체 결과의 패싯 집계
+     * <p>
+     * (카테고리, 이해도, 학습 월)로 묶은 GROUP BY 한 번으로 구한다. 값마다 COUNT 쿼리를 따로 보내지 않는다.
+     */
+    List<SearchFacetCount> searchFacets(
+            String titleKeyword,
+            String category,
+            LocalDate startDate,
+            LocalDate endDate
+    );
+
+    /**
+     * 작성자별 학습 일지를 페이징하여 조회
+     */
+    Page<StudyLog> findByOwnerWithPaging(Long ownerId, int page, int size);
+
     /**
      * 전체 데이터 개수 조회
      */
@@ -82,4 +166,27 @@ public interface StudyLogDao {
      * 조건부 데이터 개수 조회
      */
     long countByCategory(String category);
+
+    // ==================== STATISTICS ====================
+
+    /**
+     * 작성자/날짜별 학습 일지 수와 학습 시간 합계 (GROUP BY 한 번)
+     * <p>
+     * 학습 활동 색인(StudyActivityIndex)을 시작할 때 다시 만드는 데 쓴다.
+     */
+    List<DailyStudyActivity> aggregateDailyActivity();
+
+    /**
+     * 카테고리/날짜별 학습 일지 수와 학습 시간 합계 (GROUP BY 한 번)
+     * <p>
+     * 날짜 구간 학습 시간 색인(StudyTimeRangeIndex)을 시작할 때 다시 만드는 데 쓴다.
+     */
+    List<DailyCategoryStudyTime> aggregateDailyStudyTimeByCategory();
+
+    /**
+     * (카테고리, 이해도, 날짜, 학습 시간)별 학습 일지 수 (GROUP BY 한 번)
+     * <p>
+     * 학습 시간 분위수 색인(StudyTimeQuantileIndex)을 시작할 때 다시 만드는 데 쓴다.
+     */
+    List<StudyTimeDistribution> aggregateStudyTimeDistribution();
 }
@@ -0,0 +1,78 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC 페이징/검색의 정렬 (허용된 정렬 기준 + 방향)
+ *
+ * @param key       정렬 기준
+ * @param ascending true면 오름차순, false면 내림차순 (모든 정렬 컬럼과 id에 똑같이 적용)
+ */
+public record StudyLogSort(StudyLogSortKey key, boolean ascending) {
+
+    /**
+     * 기존 페이징 순서 (study_date DESC, id DESC)
+     */
+    public static final StudyLogSort DEFAULT = new StudyLogSort(StudyLogSortKey.STUDY_DATE, false);
+
+    /**
+     * 요청 파라미터로 정렬을 만든다
+     * <p>
+     * sortBy가 비어 있으면 studyDate, 방향이 비어 있으면 DESC.
+     * 목록에 없는 정렬 기준이나 방향은 IllegalArgumentException (컬럼명을 그대로 SQL에 넣지 않는다)
+     */
+    public static StudyLogSort of(String sortBy, String direction) {
+        StudyLogSortKey key = StudyLogSortKey.STUDY_DATE;
+        if (sortBy != null && !sortBy.isBlank()) {
+            key = StudyLogSortKey.fromProperty(sortBy);
+            if (key == null) {
+                throw new IllegalArgumentException("정렬 기준은 " + allowedProperties() + " 중 하나여야 합니다: " + sortBy);
+            }
+        }
+        if (direction == null || direction.isBlank()) {
+            return new StudyLogSort(key, false);
+        }
+        return switch (direction.toUpperCase(Locale.ROOT)) {
+            case "ASC" -> new StudyLogSort(key, true);
+            case "DESC" -> new StudyLogSort(key, false);
+            default -> throw new IllegalArgumentException("정렬 방향은 ASC 또는 DESC 여야 합니다: " + direction);
+        };
+    }
+
+    public String direction() {
+        return ascending ? "ASC" : "DESC";
+    }
+
+    /**
+     * SQL ORDER BY 절 (컬럼명은 화이트리스트에서만 온다)
+     */
+    public String orderBy() {
+        String direction = " " + direction();
+        return key.getColumns().stream()
+                .map(column -> column.getSqlName() + direction)
+                .collect(Collectors.joining(", ", " ORDER BY ", ", id" + direction));
+    }
+
+    /**
+     * ORDER BY와 같은 순서의 비교기 (샤드별 결과 병합용)
+     */
+    public Comparator<StudyLog> comparator() {
+        Comparator<StudyLog> order = null;
+        for (StudyLogSortKey.Column column : key.getColumns()) {
+            order = order == null ? column.comparator() : order.thenComparing(column.comparator());
+        }
+        order = order.thenComparing(StudyLog::getId);
+        return ascending ? order : order.reversed();
+    }
+
+    private static String allowedProperties() {
+        return Arrays.stream(StudyLogSortKey.values())
+                .map(StudyLogSortKey::getProperty)
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,134 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.text.Collator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * JDBC 페이징/검색에서 허용하는 정렬 기준 (화이트리스트)
+ * <p>
+ * 정렬 기준마다 ORDER BY에 쓰는 컬럼 목록이 정해져 있고, 마지막에 항상 id가 붙어 순서가 결정적이다.
+ * 각 컬럼 목록은 같은 순서의 인덱스가 있어서(db/schema.sql) 조건 없는 목록은 정렬을 인덱스 순서로 읽고 filesort 하지 않는다.
+ * - studyDate: (study_date, id)              -> idx_study_logs_study_date (InnoDB 보조 인덱스는 끝에 PK를 포함)
+ * - createdAt: (created_at, id)              -> idx_study_logs_created_at
+ * - title:     (title, id)                   -> idx_study_logs_title
+ * - studyTime: (study_time, study_date, id)  -> idx_study_logs_study_time (같은 학습 시간이면 최근 날짜 순)
+ * 방향은 모든 컬럼에 똑같이 적용하므로 오름차순 인덱스 하나를 거꾸로 읽어 내림차순도 처리한다.
+ * <p>
+ * 카테고리로 거른 목록/검색(category = ?)은 정렬 기준마다 (category, 정렬 컬럼..., id) 인덱스
+ * (idx_study_logs_category_*)로 같은 방식으로 읽는다.
+ * 제목 키워드(LIKE '%키워드%')나 studyDate가 아닌 정렬에 날짜 범위를 함께 건 검색은 인덱스 하나로
+ * 조건과 정렬을 모두 처리할 수 없어, 옵티마이저가 정렬 인덱스를 따라 읽으며 거르거나 조건으로 고른 행을 filesort 한다.
+ */
+public enum StudyLogSortKey {
+
+    STUDY_DATE("studyDate", List.of(Column.STUDY_DATE)),
+    CREATED_AT("createdAt", List.of(Column.CREATED_AT)),
+    TITLE("title", List.of(Column.TITLE)),
+    STUDY_TIME("studyTime", List.of(Column.STUDY_TIME, Column.STUDY_DATE));
+
+    private final String property;
+    private final List<Column> columns;
+
+    StudyLogSortKey(String property, List<Column> columns) {
+        this.property = property;
+        this.columns = columns;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * id를 뺀 정렬 컬럼 (문자열 컬럼은 항상 마지막, 커서 인코딩이 이 순서에 기대므로 바꾸지 않는다)
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * 요청 파라미터 값(sortBy)으로 정렬 기준을 찾는다 (없으면 null)
+     */
+    public static StudyLogSortKey fromProperty(String property) {
+        for (StudyLogSortKey key : values()) {
+            if (key.property.equals(property)) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 정렬 컬럼 하나: SQL 컬럼명, 엔티티 값, 커서 문자열 변환, JDBC 바인딩 값
+     */
+    public enum Column {
+        STUDY_DATE("study_date", StudyLog::getStudyDate, LocalDate::parse,
+                Comparator.<LocalDate>naturalOrder()),
+        CREATED_AT("created_at", StudyLog::getCreatedAt, LocalDateTime::parse,
+                Comparator.<LocalDateTime>naturalOrder()),
+        // MySQL 컬럼은 utf8mb4_unicode_ci(UCA)라 대소문자/악센트를 구분하지 않고 비교한다.
+        // 샤드 결과 병합과 커서도 같은 순서여야 하므로 UCA 규칙의 Collator를 PRIMARY 강도로 쓴다 (같다고 보면 id 순)
+        TITLE("title", StudyLog::getTitle, text -> text,
+                titleCollator()),
+        STUDY_TIME("study_time", StudyLog::getStudyTime, Integer::valueOf,
+                Comparator.<Integer>naturalOrder());
+
+        private final String sqlName;
+        private final Function<StudyLog, Object> extractor;
+        private final Function<String, Object> parser;
+        private final Comparator<Object> order;
+
+        @SuppressWarnings("unchecked")
+        <T> Column(String sqlName, Function<StudyLog, T> extractor, Function<String, T> parser, Comparator<T> order) {
+            this.sqlName = sqlName;
+            this.extractor = (Function<StudyLog, Object>) extractor;
+            this.parser = (Function<String, Object>) parser;
+            this.order = (Comparator<Object>) order;
+        }
+
+        public String getSqlName() {
+            return sqlName;
+        }
+
+        public Object valueOf(StudyLog studyLog) {
+            return extractor.apply(studyLog);
+        }
+
+        public Object parse(String text) {
+            return parser.apply(text);
+        }
+
+        /**
+         * JdbcTemplate에 넘길 값 (날짜/시각은 java.sql 타입으로)
+         */
+        public Object toJdbc(Object value) {
+            if (value instanceof LocalDate date) {
+                return Date.valueOf(date);
+            }
+            if (value instanceof LocalDateTime dateTime) {
+                return Timestamp.valueOf(dateTime);
+            }
+            return value;
+        }
+
+        Comparator<StudyLog> comparator() {
+            return Comparator.comparing(extractor, Comparator.nullsFirst(order));
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static Comparator<String> titleCollator() {
+            Collator collator = Collator.getInstance(Locale.ROOT);
+            collator.setStrength(Collator.PRIMARY);
+            collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+            return (Comparator) collator;
+        }
+    }
+}
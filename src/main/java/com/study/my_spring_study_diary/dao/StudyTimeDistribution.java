@@ -0,0 +1,24 @@
+package com.study.my_spring_study_diary.dao;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+
+/**
+ * 학습 시간 분포 집계 (GROUP BY category, understanding, study_date, study_time 한 행)
+ *
+ * @param category      카테고리
+ * @param understanding 이해도
+ * @param studyDate     학습 날짜
+ * @param studyTime     학습 시간 (분)
+ * @param count         같은 값을 가진 학습 일지 수
+ */
+public record StudyTimeDistribution(
+        Category category,
+        Understanding understanding,
+        LocalDate studyDate,
+        int studyTime,
+        long count
+) {
+}
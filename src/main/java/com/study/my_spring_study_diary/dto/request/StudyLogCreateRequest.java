@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 public class StudyLogCreateRequest {
 
+    private Long ownerId;
     private String title;
     private String content;
     private String category;
@@ -15,6 +16,10 @@ public class StudyLogCreateRequest {
     public StudyLogCreateRequest() {
     }
 
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -39,6 +44,10 @@ public class StudyLogCreateRequest {
         return studyDate;
     }
 
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
     public void setTitle(String title) {
         this.title = title;
     }
@@ -0,0 +1,47 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.study.my_spring_study_diary.stats.StudyActivityIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 연간 학습 히트맵 응답
+ * <p>
+ * minutes / logCounts 배열의 i번째 값은 startDate + i일의 학습 시간 합계(분)와 일지 수다.
+ */
+@JsonPropertyOrder({
+        "ownerId", "year", "startDate", "endDate",
+        "activeDays", "totalLogs", "totalMinutes",
+        "minutes", "logCounts"
+})
+@Getter
+@Builder
+public class ActivityHeatmapResponse {
+    private Long ownerId;           // null이면 전체 작성자 합계
+    private int year;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int activeDays;         // 기록이 있는 날 수
+    private int totalLogs;
+    private long totalMinutes;
+    private int[] minutes;
+    private int[] logCounts;
+
+    public static ActivityHeatmapResponse of(Long ownerId, StudyActivityIndex.YearActivity activity) {
+        LocalDate startDate = LocalDate.of(activity.year(), 1, 1);
+        return ActivityHeatmapResponse.builder()
+                .ownerId(ownerId)
+                .year(activity.year())
+                .startDate(startDate)
+                .endDate(startDate.plusDays(activity.minutes().length - 1))
+                .activeDays(activity.activeDays())
+                .totalLogs(activity.totalLogs())
+                .totalMinutes(activity.totalMinutes())
+                .minutes(activity.minutes())
+                .logCounts(activity.logCounts())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.global.json.CompactStudyLogListSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+
+/**
+ * 목록 응답의 압축 표현 (?view=compact)
+ * <p>
+ * 행마다 반복되던 카테고리/이해도 문자열과 아이콘/이모지는 dictionary에 한 번만 싣고,
+ * 각 행은 columns 순서의 배열(튜플)로 보낸다.
+ * <pre>
+ * {
+ *   "columns": ["id", "ownerId", "title", "content", "category", "understanding",
+ *               "studyTime", "studyDate", "createdAt", "updatedAt"],
+ *   "dictionary": {
+ *     "category": [{"name": "JAVA", "icon": "☕"}, ...],            // 배열 위치 = ordinal
+ *     "understanding": [{"name": "VERY_GOOD", "emoji": "😎"}, ...]
+ *   },
+ *   "timeZone": "Asia/Seoul",
+ *   "rows": [[1, 3, "제목", "내용", 1, 0, 45, 19783, 1709251200000, 1709251200000], ...],
+ *   "page": 0, "size": 10, ...                                       // 페이지 응답일 때만
+ *   "facets": {...}                                                  // 검색 패싯을 요청했을 때만
+ * }
+ * </pre>
+ * - category / understanding: dictionary 배열의 인덱스 (enum ordinal)
+ * - studyDate: epoch day (1970-01-01부터의 일수)
+ * - createdAt / updatedAt: timeZone 기준 epoch 밀리초
+ */
+@JsonSerialize(using = CompactStudyLogListSerializer.class)
+public class CompactStudyLogList {
+
+    private final List<StudyLogResponse> rows;
+    private final Page<StudyLogResponse> page;     // 목록 응답이면 null
+
+    private CompactStudyLogList(List<StudyLogResponse> rows, Page<StudyLogResponse> page) {
+        this.rows = rows;
+        this.page = page;
+    }
+
+    public static CompactStudyLogList of(List<StudyLogResponse> rows) {
+        return new CompactStudyLogList(rows, null);
+    }
+
+    public static CompactStudyLogList of(Page<StudyLogResponse> page) {
+        return new CompactStudyLogList(page.getContent(), page);
+    }
+
+    public List<StudyLogResponse> getRows() {
+        return rows;
+    }
+
+    public Page<StudyLogResponse> getPage() {
+        return page;
+    }
+}
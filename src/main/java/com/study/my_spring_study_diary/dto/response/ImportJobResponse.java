@@ -0,0 +1,65 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.study.my_spring_study_diary.importer.ImportJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 가져오기 작업 상태 응답
+ */
+@JsonPropertyOrder({
+        "jobId", "status", "format", "fileName", "loadMethod",
+        "totalBytes", "bytesRead", "progressPercent",
+        "rowsRead", "imported", "rejected", "rejectedSamples", "rejectedReport",
+        "error", "createdAt", "startedAt", "finishedAt"
+})
+@Getter
+@Builder
+public class ImportJobResponse {
+    private String jobId;
+    private String status;
+    private String format;
+    private String fileName;
+    private String loadMethod;
+    private long totalBytes;
+    private long bytesRead;
+    private int progressPercent;        // 읽은 바이트 기준
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private List<ImportJob.RejectedRow> rejectedSamples;    // 앞쪽 일부, 전체는 rejectedReport
+    private String rejectedReport;      // 거절 행 보고서 다운로드 경로 (거절이 없으면 null)
+    private String error;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public static ImportJobResponse from(ImportJob job) {
+        long totalBytes = job.getTotalBytes();
+        long bytesRead = Math.min(job.getBytesRead(), totalBytes);
+        boolean completed = job.getStatus() == ImportJob.Status.COMPLETED;
+        return ImportJobResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .format(job.getFormat().name())
+                .fileName(job.getFileName())
+                .loadMethod(job.getLoadMethod() != null ? job.getLoadMethod().name() : null)
+                .totalBytes(totalBytes)
+                .bytesRead(bytesRead)
+                .progressPercent(completed || totalBytes == 0 ? (completed ? 100 : 0) : (int) (bytesRead * 100 / totalBytes))
+                .rowsRead(job.getRowsRead())
+                .imported(job.getImported())
+                .rejected(job.getRejected())
+                .rejectedSamples(job.getRejectedSamples())
+                .rejectedReport(job.getRejected() > 0 ? "/api/v1/imports/" + job.getId() + "/rejected" : null)
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
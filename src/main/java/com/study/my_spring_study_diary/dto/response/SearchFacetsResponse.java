@@ -0,0 +1,56 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.study.my_spring_study_diary.dao.SearchFacetCount;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 검색 결과 패싯 (검색 조건에 맞는 전체 결과의 항목별 개수)
+ * <p>
+ * 카테고리 / 이해도는 결과가 0건인 값도 enum 순서대로 모두 싣고, 월("2025-03")은 결과가 있는 달만 오름차순으로 싣는다.
+ */
+@JsonPropertyOrder({"total", "categories", "understandings", "months"})
+@Getter
+@Builder
+public class SearchFacetsResponse {
+    private long total;
+    private Map<String, Long> categories;
+    private Map<String, Long> understandings;
+    private Map<String, Long> months;
+
+    /**
+     * GROUP BY (카테고리, 이해도, 월) 행을 축별로 더한다
+     */
+    public static SearchFacetsResponse from(List<SearchFacetCount> counts) {
+        Map<String, Long> categories = new LinkedHashMap<>();
+        for (Category category : Category.values()) {
+            categories.put(category.name(), 0L);
+        }
+        Map<String, Long> understandings = new LinkedHashMap<>();
+        for (Understanding understanding : Understanding.values()) {
+            understandings.put(understanding.name(), 0L);
+        }
+        Map<String, Long> months = new TreeMap<>();
+        long total = 0;
+        for (SearchFacetCount count : counts) {
+            categories.merge(count.category().name(), count.count(), Long::sum);
+            understandings.merge(count.understanding().name(), count.count(), Long::sum);
+            months.merge(count.month().toString(), count.count(), Long::sum);
+            total += count.count();
+        }
+        return SearchFacetsResponse.builder()
+                .total(total)
+                .categories(categories)
+                .understandings(understandings)
+                .months(months)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.my_spring_study_diary.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.study.my_spring_study_diary.entity.StudyLog;
 
@@ -7,7 +8,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @JsonPropertyOrder({
-        "id", "title", "content",
+        "id", "ownerId", "title", "content",
         "category", "categoryIcon",
         "understanding", "understandingEmoji",
         "studyTime", "studyDate",
@@ -15,8 +16,10 @@ import java.time.LocalDateTime;
 })
 public class StudyLogResponse {
     private Long id;
+    private Long ownerId;
     private String title;
-    private String content;
+    private volatile String content;
+    private volatile StudyLog contentSource;    // 본문은 직렬화할 때 꺼낸다 (압축 해제를 실제로 필요할 때까지 미룸)
     private String category;
     private String categoryIcon;
     private String understanding;
@@ -25,6 +28,7 @@ public class StudyLogResponse {
     private LocalDate studyDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;               // 본문에는 싣지 않고 ETag 헤더로만 내보낸다
 
     public StudyLogResponse() {
     }
@@ -32,8 +36,9 @@ public class StudyLogResponse {
     public static StudyLogResponse from(StudyLog studyLog) {
         StudyLogResponse response = new StudyLogResponse();
         response.id = studyLog.getId();
+        response.ownerId = studyLog.getOwnerId();
         response.title = studyLog.getTitle();
-        response.content = studyLog.getContent();
+        response.contentSource = studyLog;
         response.category = studyLog.getCategory().name();
         response.categoryIcon = studyLog.getCategory().getIcon();
         response.understanding = studyLog.getUnderstanding().name();
@@ -42,6 +47,7 @@ public class StudyLogResponse {
         response.studyDate = studyLog.getStudyDate();
         response.createdAt = studyLog.getCreatedAt();
         response.updatedAt = studyLog.getUpdatedAt();
+        response.version = studyLog.getVersion();
         return response;
     }
 
@@ -49,12 +55,28 @@ public class StudyLogResponse {
         return id;
     }
 
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
     public String getTitle() {
         return title;
     }
 
     public String getContent() {
-        return content;
+        String value = content;
+        if (value == null) {
+            // SSE 이벤트처럼 같은 응답 객체를 여러 스레드가 직렬화할 수 있음
+            StudyLog source = contentSource;
+            if (source != null) {
+                value = source.getContent();
+                content = value;
+                contentSource = null;
+            } else {
+                value = content;
+            }
+        }
+        return value;
     }
 
     public String getCategory() {
@@ -88,4 +110,9 @@ public class StudyLogResponse {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    @JsonIgnore
+    public long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,21 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.study.my_spring_study_diary.common.Page;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 패싯을 함께 담은 검색 결과 페이지 (GET /api/v1/logs/search?facets=true)
+ * <p>
+ * 기존 페이지 필드는 그대로 두고 facets 필드만 더한다.
+ */
+@Getter
+public class StudyLogSearchPage extends Page<StudyLogResponse> {
+    private final SearchFacetsResponse facets;
+
+    public StudyLogSearchPage(List<StudyLogResponse> content, int page, int size, long totalElements, SearchFacetsResponse facets) {
+        super(content, page, size, totalElements);
+        this.facets = facets;
+    }
+}
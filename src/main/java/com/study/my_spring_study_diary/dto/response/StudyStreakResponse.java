@@ -0,0 +1,39 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.study.my_spring_study_diary.stats.StudyActivityIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 연속 학습일 응답
+ */
+@JsonPropertyOrder({
+        "ownerId", "today", "currentStreak",
+        "longestStreak", "longestStreakStart", "longestStreakEnd", "lastStudyDate"
+})
+@Getter
+@Builder
+public class StudyStreakResponse {
+    private Long ownerId;               // null이면 전체 작성자 합계
+    private LocalDate today;
+    private int currentStreak;          // 오늘(기록이 없으면 어제)까지 이어진 일수
+    private int longestStreak;
+    private LocalDate longestStreakStart;
+    private LocalDate longestStreakEnd;
+    private LocalDate lastStudyDate;
+
+    public static StudyStreakResponse of(Long ownerId, LocalDate today, StudyActivityIndex.Streaks streaks) {
+        return StudyStreakResponse.builder()
+                .ownerId(ownerId)
+                .today(today)
+                .currentStreak(streaks.current())
+                .longestStreak(streaks.longest())
+                .longestStreakStart(streaks.longestStart())
+                .longestStreakEnd(streaks.longestEnd())
+                .lastStudyDate(streaks.lastActiveDate())
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.study.my_spring_study_diary.stats.StudyTimeQuantileIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 학습 시간 분위수 응답 (창 from ~ to)
+ * <p>
+ * p50 / p90 / p99는 스케치 추정값이다. errorBound에 적힌 대로 같은 순위의 실제 학습 시간 x와 |추정값 - x| ≤ relativeAccuracy·x 를 만족한다.
+ * 기록이 없는 카테고리/이해도는 count 0, 분위수 null.
+ * 시작할 때 분위수 색인을 아직 만들지 못했으면(재시도 중) complete=false 이고, 일부 기록만 담은 스케치의 값은
+ * 오차 한계가 성립하지 않으므로 total / categories / understandings를 비워 돌려준다.
+ */
+@JsonPropertyOrder({
+        "from", "to", "days", "complete",
+        "relativeAccuracy", "errorBound",
+        "total", "categories", "understandings"
+})
+@Getter
+@Builder
+public class StudyTimePercentilesResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private long days;
+    private boolean complete;
+    private double relativeAccuracy;
+    private String errorBound;
+    private Percentiles total;
+    private Map<String, Percentiles> categories;
+    private Map<String, Percentiles> understandings;
+
+    public static StudyTimePercentilesResponse of(LocalDate from, LocalDate to, StudyTimeQuantileIndex.WindowQuantiles quantiles) {
+        if (!quantiles.complete()) {
+            return StudyTimePercentilesResponse.builder()
+                    .from(from)
+                    .to(to)
+                    .days(ChronoUnit.DAYS.between(from, to) + 1)
+                    .complete(false)
+                    .relativeAccuracy(StudyTimeQuantileIndex.RELATIVE_ACCURACY)
+                    .errorBound("분위수 색인을 아직 만들지 못해 분위수를 계산하지 않았습니다. 잠시 뒤 다시 조회해 주세요.")
+                    .build();
+        }
+        Map<String, Percentiles> categories = new LinkedHashMap<>();
+        quantiles.categories().forEach((category, estimate) -> categories.put(category.name(), Percentiles.of(estimate)));
+        Map<String, Percentiles> understandings = new LinkedHashMap<>();
+        quantiles.understandings().forEach((understanding, estimate) -> understandings.put(understanding.name(), Percentiles.of(estimate)));
+        double accuracy = StudyTimeQuantileIndex.RELATIVE_ACCURACY;
+        return StudyTimePercentilesResponse.builder()
+                .from(from)
+                .to(to)
+                .days(ChronoUnit.DAYS.between(from, to) + 1)
+                .complete(true)
+                .relativeAccuracy(accuracy)
+                .errorBound("각 분위수는 같은 순위의 실제 학습 시간 대비 ±" + Math.round(accuracy * 100) + "% 이내입니다 (상대 오차).")
+                .total(Percentiles.of(quantiles.total()))
+                .categories(categories)
+                .understandings(understandings)
+                .build();
+    }
+
+    /**
+     * 학습 시간(분) 분위수, 소수 첫째 자리까지
+     */
+    @JsonPropertyOrder({"count", "p50", "p90", "p99"})
+    @Getter
+    @Builder
+    public static class Percentiles {
+        private long count;
+        private Double p50;
+        private Double p90;
+        private Double p99;
+
+        static Percentiles of(StudyTimeQuantileIndex.Estimate estimate) {
+            return Percentiles.builder()
+                    .count(estimate.count())
+                    .p50(round(estimate.p50()))
+                    .p90(round(estimate.p90()))
+                    .p99(round(estimate.p99()))
+                    .build();
+        }
+
+        private static Double round(Double value) {
+            return value == null ? null : Math.round(value * 10) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.study.my_spring_study_diary.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.stats.StudyTimeRangeIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 날짜 구간 학습 시간 응답
+ * <p>
+ * 카테고리를 지정하지 않으면 categoryMinutes에 카테고리별 학습 시간(분)을 enum 순서로 함께 싣는다.
+ */
+@JsonPropertyOrder({
+        "category", "from", "to", "days",
+        "totalMinutes", "logCount", "averageMinutesPerDay",
+        "categoryMinutes"
+})
+@Getter
+@Builder
+public class StudyTimeRangeResponse {
+    private String category;                // null이면 전체
+    private LocalDate from;
+    private LocalDate to;
+    private long days;                      // 구간 일수 (양 끝 포함)
+    private long totalMinutes;
+    private long logCount;
+    private double averageMinutesPerDay;
+    private Map<String, Long> categoryMinutes;     // 카테고리를 지정했으면 null
+
+    public static StudyTimeRangeResponse of(Category category, LocalDate from, LocalDate to,
+                                            StudyTimeRangeIndex.RangeSum sum,
+                                            Map<Category, StudyTimeRangeIndex.RangeSum> byCategory) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        Map<String, Long> categoryMinutes = null;
+        if (byCategory != null) {
+            categoryMinutes = new LinkedHashMap<>();
+            for (Map.Entry<Category, StudyTimeRangeIndex.RangeSum> entry : byCategory.entrySet()) {
+                categoryMinutes.put(entry.getKey().name(), entry.getValue().minutes());
+            }
+        }
+        return StudyTimeRangeResponse.builder()
+                .category(category != null ? category.name() : null)
+                .from(from)
+                .to(to)
+                .days(days)
+                .totalMinutes(sum.minutes())
+                .logCount(sum.logs())
+                .averageMinutesPerDay((double) sum.minutes() / days)
+                .categoryMinutes(categoryMinutes)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.study.my_spring_study_diary.entity;
 
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.cglib.core.Local;
@@ -11,15 +13,25 @@ import java.time.LocalDateTime;
 @Setter
 public class StudyLog {
 
+    // 작성자를 지정하지 않은 (다중 팀 도입 이전) 학습 일지의 owner_id
+    public static final long UNASSIGNED_OWNER_ID = 0L;
+
     private Long id;
+    private Long ownerId;               // 작성자(팀/사용자) ID, 샤드를 고르는 키
     private String title;
-    private String content;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile String content;    // 필요할 때 storedContent에서 풀어서 채움
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile byte[] storedContent;  // DAO가 읽어 온 저장 형식 그대로의 본문 (압축되어 있을 수 있음)
     private Category category;
     private Understanding understanding;
     private Integer studyTime;
     private LocalDate studyDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;               // 낙관적 잠금 버전 (수정할 때마다 1 증가, ETag로 내보냄)
 
     // Entity에 삭제 플래그 추가
     private boolean deleted = false;    // Soft Delete 플래그
@@ -40,6 +52,39 @@ public class StudyLog {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 학습 내용 (DB에서 읽은 본문은 처음 요청될 때 압축을 푼다)
+     * <p>
+     * 여러 스레드가 같은 객체를 읽을 수 있으므로(조회 합치기) 동시에 풀어도 결과가 같도록 한다.
+     */
+    public String getContent() {
+        String value = content;
+        if (value == null) {
+            byte[] stored = storedContent;
+            if (stored != null) {
+                value = ContentCodec.decode(stored);
+                content = value;
+                storedContent = null;
+            } else {
+                value = content;    // 다른 스레드가 방금 풀어 둔 값
+            }
+        }
+        return value;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.storedContent = null;
+    }
+
+    /**
+     * DB에 저장된 형식의 본문을 그대로 보관 (압축 해제는 getContent() 때)
+     */
+    public void setStoredContent(byte[] storedContent) {
+        this.content = null;
+        this.storedContent = storedContent;
+    }
+
     /**
      * 학습 일지 정보 수정
      * <p>
@@ -52,7 +97,7 @@ public class StudyLog {
             this.title = title;
         }
         if (content != null) {
-            this.content = content;
+            setContent(content);
         }
         if (category != null) {
             this.category = category;
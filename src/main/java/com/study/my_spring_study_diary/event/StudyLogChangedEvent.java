@@ -0,0 +1,56 @@
+package com.study.my_spring_study_diary.event;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+
+import java.time.Instant;
+
+/**
+ * 학습 일지 변경 이벤트
+ * <p>
+ * StudyLogService가 쓰기에 성공한 뒤 ApplicationEventPublisher로 발행한다.
+ * 같은 프로세스 안에서만 전달되므로 여러 인스턴스로 띄우면 각 인스턴스의 변경만 보인다.
+ *
+ * @param type       변경 종류
+ * @param id         학습 일지 ID (CLEARED, IMPORTED는 null)
+ * @param ownerId    작성자 ID (CLEARED, IMPORTED는 null)
+ * @param log        변경 후 내용 (DELETED, CLEARED, IMPORTED는 null)
+ * @param occurredAt 발생 시각
+ */
+@JsonPropertyOrder({"type", "id", "ownerId", "log", "occurredAt"})
+public record StudyLogChangedEvent(
+        ChangeType type,
+        Long id,
+        Long ownerId,
+        StudyLogResponse log,
+        Instant occurredAt
+) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        CLEARED,    // 전체 삭제
+        IMPORTED    // 대량 가져오기 (건마다가 아니라 적재한 묶음마다 한 번, 구독자는 다시 조회)
+    }
+
+    public static StudyLogChangedEvent created(StudyLogResponse log) {
+        return new StudyLogChangedEvent(ChangeType.CREATED, log.getId(), log.getOwnerId(), log, Instant.now());
+    }
+
+    public static StudyLogChangedEvent updated(StudyLogResponse log) {
+        return new StudyLogChangedEvent(ChangeType.UPDATED, log.getId(), log.getOwnerId(), log, Instant.now());
+    }
+
+    public static StudyLogChangedEvent deleted(Long id, Long ownerId) {
+        return new StudyLogChangedEvent(ChangeType.DELETED, id, ownerId, null, Instant.now());
+    }
+
+    public static StudyLogChangedEvent cleared() {
+        return new StudyLogChangedEvent(ChangeType.CLEARED, null, null, null, Instant.now());
+    }
+
+    public static StudyLogChangedEvent imported() {
+        return new StudyLogChangedEvent(ChangeType.IMPORTED, null, null, null, Instant.now());
+    }
+}
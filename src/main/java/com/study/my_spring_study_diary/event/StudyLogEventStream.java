@@ -0,0 +1,253 @@
+package com.study.my_spring_study_diary.event;
+
+import com.study.my_spring_study_diary.global.concurrent.EventRingBuffer;
+import com.study.my_spring_study_diary.global.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 학습 일지 변경 이벤트 SSE 브로드캐스터
+ * <p>
+ * StudyLogChangedEvent -> 링 버퍼 한 곳에만 기록 -> 구독자마다 자기 커서로 버퍼를 따라 읽으며 전송
+ * - 구독자별 큐가 없으므로 느린 구독자가 있어도 메모리는 버퍼 크기로 고정된다.
+ * - 느린 구독자가 버퍼 한 바퀴 이상 뒤처지면 resync 이벤트를 보내고 연결을 끊는다.
+ *   클라이언트는 목록을 다시 조회한 뒤 resync 이벤트의 id를 Last-Event-ID로 재접속한다.
+ * - 이벤트 id는 "세대-순번" 형식이다. 세대는 서버가 재시작할 때마다 바뀌므로,
+ *   재시작 전 id로 재접속하면 이어 받을 수 없어 resync를 받는다.
+ */
+@Slf4j
+@Component
+public class StudyLogEventStream implements DisposableBean {
+
+    private static final String RESYNC_EVENT = "resync";
+
+    private final StudyLogStreamProperties properties;
+    private final EventRingBuffer<StudyLogChangedEvent> buffer;
+    private final String generation = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeat;
+    private final Counter resyncCounter;
+
+    public StudyLogEventStream(StudyLogStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new EventRingBuffer<>(properties.getBufferSize());
+        this.senders = Executors.newFixedThreadPool(properties.getSenderThreads(), daemon("sse-sender-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("sse-heartbeat-"));
+
+        long interval = properties.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("diary.stream.subscribers", subscribers, Set::size)
+                .description("SSE 구독자 수")
+                .register(meterRegistry);
+        this.resyncCounter = Counter.builder("diary.stream.resyncs")
+                .description("이어 받을 수 없어 resync를 보낸 횟수")
+                .register(meterRegistry);
+    }
+
+    // ==================== 구독 ====================
+
+    /**
+     * 새 구독 (lastEventId가 있으면 그 다음 이벤트부터 이어 보냄)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new ServiceOverloadedException("stream", "max_subscribers",
+                    Math.max(1, properties.getReconnectDelay().toSeconds()));
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        long cursor = buffer.lastSequence();
+        boolean resync = false;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            Long resumeFrom = parseSequence(lastEventId.trim());
+            if (resumeFrom != null && buffer.canResumeFrom(resumeFrom)) {
+                cursor = resumeFrom;
+            } else {
+                resync = true;
+            }
+        }
+
+        Subscriber subscriber = new Subscriber(emitter, cursor, resync);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.schedule();
+        return emitter;
+    }
+
+    /**
+     * 변경 이벤트를 버퍼에 기록하고 구독자들의 전송을 깨운다 (요청 스레드에서는 기록만 하고 바로 반환)
+     */
+    @EventListener
+    public void onStudyLogChanged(StudyLogChangedEvent event) {
+        buffer.publish(event);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.schedule();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue.set(true);
+            subscriber.schedule();
+        }
+    }
+
+    private String eventId(long sequence) {
+        return generation + "-" + sequence;
+    }
+
+    private Long parseSequence(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash <= 0 || !eventId.substring(0, dash).equals(generation)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 구독자 하나의 커서와 전송 상태
+     * <p>
+     * 전송 작업은 구독자당 동시에 하나만 돈다(running). 전송 중에 들어온 이벤트는 작업이 끝나기 전에 다시 확인한다.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile boolean resyncPending;
+        private volatile boolean helloPending = true;
+
+        Subscriber(SseEmitter emitter, long cursor, boolean resyncPending) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+            this.resyncPending = resyncPending;
+        }
+
+        void schedule() {
+            if (running.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException e) {
+                    running.set(false);     // 종료 중
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    sendPending();
+                    running.set(false);
+                    // running을 내린 뒤 들어온 이벤트를 놓치지 않도록 한 번 더 확인
+                } while (buffer.lastSequence() > cursor && running.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었거나 이미 종료된 emitter
+                subscribers.remove(this);
+                running.set(false);
+            }
+        }
+
+        private void sendPending() throws IOException {
+            if (helloPending) {
+                helloPending = false;
+                emitter.send(SseEmitter.event()
+                        .reconnectTime(properties.getReconnectDelay().toMillis())
+                        .comment("connected"));
+            }
+            if (resyncPending) {
+                resyncPending = false;
+                sendResync(false);
+            }
+
+            boolean sent = false;
+            while (true) {
+                EventRingBuffer.ReadResult<StudyLogChangedEvent> result = buffer.read(cursor, properties.getBatchSize());
+                if (result.overrun()) {
+                    // 버퍼 한 바퀴 이상 뒤처짐 -> 이어 보낼 수 없으므로 resync 후 연결 종료
+                    sendResync(true);
+                    return;
+                }
+                if (result.items().isEmpty()) {
+                    break;
+                }
+                for (EventRingBuffer.Entry<StudyLogChangedEvent> entry : result.items()) {
+                    StudyLogChangedEvent event = entry.value();
+                    emitter.send(SseEmitter.event()
+                            .id(eventId(entry.sequence()))
+                            .name(event.type().name().toLowerCase())
+                            .data(event, MediaType.APPLICATION_JSON));
+                    cursor = entry.sequence();
+                }
+                sent = true;
+            }
+
+            if (heartbeatDue.getAndSet(false) && !sent) {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+            }
+        }
+
+        private void sendResync(boolean disconnect) throws IOException {
+            resyncCounter.increment();
+            long latest = buffer.lastSequence();
+            cursor = latest;
+            emitter.send(SseEmitter.event()
+                    .id(eventId(latest))
+                    .name(RESYNC_EVENT)
+                    .data(Map.of("reason", disconnect ? "slow_consumer" : "cannot_resume"), MediaType.APPLICATION_JSON));
+            if (disconnect) {
+                log.debug("느린 SSE 구독자 연결 종료 (cursor={}, latest={})", cursor, latest);
+                subscribers.remove(this);
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.study.my_spring_study_diary.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 학습 일지 변경 SSE 스트림 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.stream")
+public class StudyLogStreamProperties {
+
+    // 링 버퍼 칸 수 (2의 거듭제곱으로 올림). 재접속 시 이만큼 이전 이벤트까지 이어 받을 수 있다
+    private int bufferSize = 4_096;
+
+    // 동시 구독자 수 한도 (넘으면 503)
+    private int maxSubscribers = 1_000;
+
+    // 구독자당 한 번에 보내는 최대 이벤트 수
+    private int batchSize = 256;
+
+    // 전송 작업 스레드 수 (느린 클라이언트 하나가 스레드 하나만 붙잡도록 구독자 단위로 나눠 보냄)
+    private int senderThreads = 4;
+
+    // 연결 유지 시간 (지나면 서버가 끊고 클라이언트가 Last-Event-ID로 재접속)
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+
+    // 이벤트가 없을 때 보내는 주석(heartbeat) 간격 (프록시의 유휴 연결 종료 방지)
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // 재접속 권장 대기 시간 (SSE retry 필드)
+    private Duration reconnectDelay = Duration.ofSeconds(3);
+}
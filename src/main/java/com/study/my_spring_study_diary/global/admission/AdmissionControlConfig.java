@@ -0,0 +1,63 @@
+package com.study.my_spring_study_diary.global.admission;
+
+import com.study.my_spring_study_diary.global.datasource.ShardDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 유입 제어 구성
+ * <p>
+ * diary.admission.enabled=true(기본값) 일 때 /api/v1/logs/** 요청에 인터셉터를 건다.
+ * 상태는 /actuator/metrics/diary.admission.* 로 확인할 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "diary.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<AdmissionController> admissionController;
+
+    public AdmissionControlConfig(ObjectProvider<AdmissionController> admissionController) {
+        this.admissionController = admissionController;
+    }
+
+    @Bean
+    public ConnectionPoolMonitor connectionPoolMonitor(
+            ObjectProvider<HikariDataSource> hikariDataSources,
+            ObjectProvider<ShardDataSources> shardDataSources,
+            MeterRegistry meterRegistry,
+            AdmissionProperties properties
+    ) {
+        // 샤딩 구성이면 샤드 풀도 함께 본다
+        return new ConnectionPoolMonitor(
+                () -> Stream.concat(
+                        hikariDataSources.orderedStream(),
+                        shardDataSources.stream().map(ShardDataSources::get).flatMap(List::stream)
+                ).toList(),
+                meterRegistry,
+                properties.getPool());
+    }
+
+    @Bean
+    public AdmissionController admissionController(
+            AdmissionProperties properties,
+            ConnectionPoolMonitor connectionPoolMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        return new AdmissionController(properties, connectionPoolMonitor, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(admissionController.getObject()))
+                .addPathPatterns("/api/v1/logs", "/api/v1/logs/**");
+    }
+}
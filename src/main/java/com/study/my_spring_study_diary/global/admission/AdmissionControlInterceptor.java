@@ -0,0 +1,78 @@
+package com.study.my_spring_study_diary.global.admission;
+
+import com.study.my_spring_study_diary.common.Page;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨트롤러 진입 전에 AdmissionController로 입장 여부를 확인하는 인터셉터
+ * <p>
+ * 엔드포인트 이름은 핸들러 메서드 이름, 우선순위는 HTTP 메서드와 응답 타입으로 정한다.
+ * - GET이 아닌 요청: WRITE
+ * - 목록(Collection) / 페이지(Page)를 돌려주는 GET: BULK_READ
+ * - 그 밖의 GET: READ
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String BULKHEAD_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".bulkhead";
+
+    private final AdmissionController admissionController;
+    private final Map<HandlerMethod, EndpointPriority> priorities = new ConcurrentHashMap<>();
+
+    public AdmissionControlInterceptor(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        // 비동기 요청의 재디스패치는 이미 입장한 요청이다
+        if (request.getAttribute(BULKHEAD_ATTRIBUTE) != null) {
+            return true;
+        }
+        // SSE 같은 장기 연결은 DB 커넥션을 쓰지 않고 자체 구독자 한도가 있으므로 bulkhead 대상이 아니다
+        if (ResponseBodyEmitter.class.isAssignableFrom(handlerMethod.getMethod().getReturnType())) {
+            return true;
+        }
+
+        EndpointPriority priority = priorities.computeIfAbsent(handlerMethod,
+                method -> classify(request.getMethod(), method));
+        Bulkhead bulkhead = admissionController.admit(handlerMethod.getMethod().getName(), priority);
+        request.setAttribute(BULKHEAD_ATTRIBUTE, bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object bulkhead = request.getAttribute(BULKHEAD_ATTRIBUTE);
+        if (bulkhead != null) {
+            request.removeAttribute(BULKHEAD_ATTRIBUTE);
+            admissionController.release((Bulkhead) bulkhead);
+        }
+    }
+
+    static EndpointPriority classify(String httpMethod, HandlerMethod handlerMethod) {
+        if (!"GET".equalsIgnoreCase(httpMethod)) {
+            return EndpointPriority.WRITE;
+        }
+        // ResponseEntity<ApiResponse<T>>의 T
+        Class<?> body = ResolvableType.forMethodReturnType(handlerMethod.getMethod())
+                .getGeneric(0)
+                .getGeneric(0)
+                .resolve(Object.class);
+        if (Collection.class.isAssignableFrom(body) || Page.class.isAssignableFrom(body)) {
+            return EndpointPriority.BULK_READ;
+        }
+        return EndpointPriority.READ;
+    }
+}
@@ -0,0 +1,150 @@
+package com.study.my_spring_study_diary.global.admission;
+
+import com.study.my_spring_study_diary.global.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 유입 제어 판단
+ * <p>
+ * 엔드포인트별 bulkhead와 커넥션 풀 압력을 함께 보고 입장 여부를 결정한다.
+ * <pre>
+ *              NORMAL        ELEVATED        SATURATED
+ * WRITE        한도까지      한도까지         한도까지 (자리가 없으면 잠깐 대기)
+ * READ         한도까지      한도까지         한도의 절반
+ * BULK_READ    한도까지      한도의 절반      거절
+ * </pre>
+ * 거절은 커넥션을 기다리기 전에 바로 일어나므로, 풀 대기(connection-timeout)만큼 요청이 쌓이지 않는다.
+ */
+@Slf4j
+public class AdmissionController {
+
+    private final AdmissionProperties properties;
+    private final ConnectionPoolMonitor poolMonitor;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public AdmissionController(
+            AdmissionProperties properties,
+            ConnectionPoolMonitor poolMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.poolMonitor = poolMonitor;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("diary.admission.pool.pressure", poolMonitor, monitor -> monitor.pressure().ordinal())
+                .description("커넥션 풀 압력 (0=NORMAL, 1=ELEVATED, 2=SATURATED)")
+                .register(meterRegistry);
+        Gauge.builder("diary.admission.pool.awaiting", poolMonitor, monitor -> monitor.sample().awaitingThreads())
+                .description("커넥션을 기다리는 스레드 수")
+                .register(meterRegistry);
+    }
+
+    // ==================== 입장 / 퇴장 ====================
+
+    /**
+     * 입장 시도. 거절되면 ServiceOverloadedException
+     *
+     * @return 입장한 bulkhead (요청이 끝나면 release 호출)
+     */
+    public Bulkhead admit(String endpoint, EndpointPriority priority) {
+        Bulkhead bulkhead = bulkheadFor(endpoint, priority);
+        PoolPressure pressure = poolMonitor.pressure();
+
+        if (priority == EndpointPriority.BULK_READ && pressure == PoolPressure.SATURATED) {
+            throw reject(bulkhead, "pool_saturated");
+        }
+
+        boolean admitted;
+        if (priority == EndpointPriority.WRITE) {
+            admitted = acquireWrite(bulkhead);
+        } else {
+            admitted = bulkhead.tryAcquire(effectiveLimit(bulkhead, pressure));
+        }
+
+        if (!admitted) {
+            throw reject(bulkhead, "concurrency_limit");
+        }
+        counter("diary.admission.admitted", bulkhead, null).increment();
+        return bulkhead;
+    }
+
+    public void release(Bulkhead bulkhead) {
+        bulkhead.release();
+    }
+
+    private boolean acquireWrite(Bulkhead bulkhead) {
+        try {
+            return bulkhead.tryAcquire(properties.getWriteQueueTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private int effectiveLimit(Bulkhead bulkhead, PoolPressure pressure) {
+        boolean halve = (bulkhead.getPriority() == EndpointPriority.BULK_READ && pressure == PoolPressure.ELEVATED)
+                || (bulkhead.getPriority() == EndpointPriority.READ && pressure == PoolPressure.SATURATED);
+        return halve ? Math.max(1, bulkhead.getLimit() / 2) : bulkhead.getLimit();
+    }
+
+    private ServiceOverloadedException reject(Bulkhead bulkhead, String reason) {
+        counter("diary.admission.rejected", bulkhead, reason).increment();
+        log.debug("요청 거절: endpoint={}, priority={}, reason={}, inFlight={}",
+                bulkhead.getName(), bulkhead.getPriority(), reason, bulkhead.inFlight());
+        return new ServiceOverloadedException(bulkhead.getName(), reason, retryAfterSeconds());
+    }
+
+    public long retryAfterSeconds() {
+        return Math.max(1, properties.getRetryAfter().toSeconds());
+    }
+
+    // ==================== bulkhead / 메트릭 ====================
+
+    private Bulkhead bulkheadFor(String endpoint, EndpointPriority priority) {
+        return bulkheads.computeIfAbsent(endpoint, name -> {
+            Bulkhead bulkhead = new Bulkhead(name, priority, limitFor(name, priority));
+            Gauge.builder("diary.admission.in_flight", bulkhead, Bulkhead::inFlight)
+                    .tag("endpoint", name)
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+            Gauge.builder("diary.admission.queued", bulkhead, Bulkhead::queued)
+                    .tag("endpoint", name)
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+            Gauge.builder("diary.admission.limit", bulkhead, Bulkhead::getLimit)
+                    .tag("endpoint", name)
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+            return bulkhead;
+        });
+    }
+
+    private int limitFor(String endpoint, EndpointPriority priority) {
+        Integer override = properties.getEndpointLimits().get(endpoint);
+        if (override != null) {
+            return override;
+        }
+        return switch (priority) {
+            case WRITE -> properties.getWriteLimit();
+            case READ -> properties.getReadLimit();
+            case BULK_READ -> properties.getBulkReadLimit();
+        };
+    }
+
+    private Counter counter(String name, Bulkhead bulkhead, String reason) {
+        Counter.Builder builder = Counter.builder(name)
+                .tag("endpoint", bulkhead.getName())
+                .tag("priority", bulkhead.getPriority().name());
+        if (reason != null) {
+            builder.tag("reason", reason);
+        }
+        return builder.register(meterRegistry);
+    }
+}
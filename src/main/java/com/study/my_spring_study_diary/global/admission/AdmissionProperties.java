@@ -0,0 +1,49 @@
+package com.study.my_spring_study_diary.global.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * StudyLogController 앞단 유입 제어(admission control) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    // 우선순위별 기본 동시 실행 한도 (엔드포인트마다 따로 적용되는 bulkhead)
+    private int writeLimit = 8;
+    private int readLimit = 16;
+    private int bulkReadLimit = 8;
+
+    // 엔드포인트(컨트롤러 메서드 이름)별 한도 재정의. 예: searchStudyLogsWithPaging: 4
+    private Map<String, Integer> endpointLimits = new HashMap<>();
+
+    // 쓰기는 한도가 찼을 때 이 시간만큼 자리를 기다린다 (읽기는 기다리지 않고 바로 거절)
+    private Duration writeQueueTimeout = Duration.ofMillis(100);
+
+    // 거절 응답의 Retry-After 값
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Pool pool = new Pool();
+
+    /**
+     * 커넥션 풀 압력 판단 기준
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+        private Duration sampleInterval = Duration.ofMillis(100);  // 풀 상태를 다시 읽는 최소 간격
+        private int elevatedAwaitingThreads = 1;                  // 커넥션 대기 스레드 수
+        private int saturatedAwaitingThreads = 5;
+        private Duration elevatedAcquireTime = Duration.ofMillis(50);   // 최근 커넥션 획득 대기 시간 최댓값
+        private Duration saturatedAcquireTime = Duration.ofMillis(500);
+    }
+}
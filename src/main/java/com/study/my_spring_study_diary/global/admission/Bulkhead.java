@@ -0,0 +1,70 @@
+package com.study.my_spring_study_diary.global.admission;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트 하나의 동시 실행 한도
+ * <p>
+ * 풀 압력이 높을 때는 한도보다 낮은 유효 한도(effectiveLimit)로 입장시킨다.
+ * 유효 한도 검사와 permit 획득 사이에 경쟁이 있어 순간적으로 약간 넘칠 수 있지만,
+ * 전체 한도(limit)는 Semaphore가 보장한다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final EndpointPriority priority;
+    private final int limit;
+    private final Semaphore permits;
+
+    public Bulkhead(String name, EndpointPriority priority, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("동시 실행 한도는 1 이상이어야 합니다. (" + name + ": " + limit + ")");
+        }
+        this.name = name;
+        this.priority = priority;
+        this.limit = limit;
+        this.permits = new Semaphore(limit);
+    }
+
+    /**
+     * 기다리지 않고 입장 시도
+     */
+    public boolean tryAcquire(int effectiveLimit) {
+        if (inFlight() >= effectiveLimit) {
+            return false;
+        }
+        return permits.tryAcquire();
+    }
+
+    /**
+     * 자리가 날 때까지 최대 timeoutMillis 동안 기다리며 입장 시도 (쓰기 전용)
+     */
+    public boolean tryAcquire(long timeoutMillis) throws InterruptedException {
+        return permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int inFlight() {
+        return limit - permits.availablePermits();
+    }
+
+    public int queued() {
+        return permits.getQueueLength();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EndpointPriority getPriority() {
+        return priority;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,92 @@
+package com.study.my_spring_study_diary.global.admission;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * HikariCP 커넥션 풀 압력 측정기
+ * <p>
+ * - 커넥션을 기다리는 스레드 수: HikariPoolMXBean.getThreadsAwaitingConnection()
+ * - 최근 커넥션 획득 대기 시간: Micrometer의 hikaricp.connections.acquire 타이머 최댓값 (감쇠 구간 기준)
+ * 요청마다 읽으면 비용이 들기 때문에 sampleInterval 동안은 마지막 측정값을 재사용한다.
+ * 풀이 여러 개(primary/replica 등)면 가장 압력이 높은 풀을 기준으로 판단한다.
+ */
+public class ConnectionPoolMonitor {
+
+    private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final Supplier<List<HikariDataSource>> dataSources;
+    private final MeterRegistry meterRegistry;
+    private final AdmissionProperties.Pool properties;
+    private final long sampleIntervalNanos;
+
+    private volatile Sample lastSample = new Sample(PoolPressure.NORMAL, 0, 0, 0);
+    private volatile long lastSampleNanos = System.nanoTime() - Long.MAX_VALUE / 2;
+
+    public ConnectionPoolMonitor(
+            Supplier<List<HikariDataSource>> dataSources,
+            MeterRegistry meterRegistry,
+            AdmissionProperties.Pool properties
+    ) {
+        this.dataSources = dataSources;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.sampleIntervalNanos = properties.getSampleInterval().toNanos();
+    }
+
+    /**
+     * 현재 풀 압력 (sampleInterval 이내면 캐시된 값)
+     */
+    public Sample sample() {
+        long now = System.nanoTime();
+        if (now - lastSampleNanos < sampleIntervalNanos) {
+            return lastSample;
+        }
+        lastSampleNanos = now;
+        lastSample = measure();
+        return lastSample;
+    }
+
+    public PoolPressure pressure() {
+        return sample().pressure();
+    }
+
+    private Sample measure() {
+        int awaiting = 0;
+        int active = 0;
+        for (HikariDataSource dataSource : dataSources.get()) {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null) {
+                awaiting = Math.max(awaiting, pool.getThreadsAwaitingConnection());
+                active = Math.max(active, pool.getActiveConnections());
+            }
+        }
+
+        double acquireMillis = 0;
+        for (Timer timer : meterRegistry.find(ACQUIRE_TIMER).timers()) {
+            acquireMillis = Math.max(acquireMillis, timer.max(TimeUnit.MILLISECONDS));
+        }
+
+        PoolPressure pressure = PoolPressure.NORMAL;
+        if (awaiting >= properties.getSaturatedAwaitingThreads()
+                || acquireMillis >= properties.getSaturatedAcquireTime().toMillis()) {
+            pressure = PoolPressure.SATURATED;
+        } else if (awaiting >= properties.getElevatedAwaitingThreads()
+                || acquireMillis >= properties.getElevatedAcquireTime().toMillis()) {
+            pressure = PoolPressure.ELEVATED;
+        }
+        return new Sample(pressure, awaiting, active, acquireMillis);
+    }
+
+    /**
+     * 한 번의 측정 결과
+     */
+    public record Sample(PoolPressure pressure, int awaitingThreads, int activeConnections, double acquireMillis) {
+    }
+}
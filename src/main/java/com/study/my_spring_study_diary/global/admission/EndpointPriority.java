@@ -0,0 +1,12 @@
+package com.study.my_spring_study_diary.global.admission;
+
+/**
+ * 엔드포인트 우선순위
+ * <p>
+ * 커넥션 풀이 포화되면 BULK_READ부터 거절하고, WRITE는 마지막까지 받는다.
+ */
+public enum EndpointPriority {
+    WRITE,      // 생성/수정/삭제
+    READ,       // 단건 조회
+    BULK_READ   // 목록/페이징/검색
+}
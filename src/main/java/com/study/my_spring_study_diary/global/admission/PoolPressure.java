@@ -0,0 +1,10 @@
+package com.study.my_spring_study_diary.global.admission;
+
+/**
+ * 커넥션 풀 압력 단계
+ */
+public enum PoolPressure {
+    NORMAL,     // 대기 없음
+    ELEVATED,   // 대기가 생기기 시작함 -> 목록 조회 한도를 절반으로
+    SATURATED   // 대기가 길어짐 -> 목록 조회 거절, 단건 조회도 제한
+}
@@ -0,0 +1,119 @@
+package com.study.my_spring_study_diary.global.compression;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * study_logs.content 저장 형식 인코더/디코더
+ * <p>
+ * 저장 형식 (MEDIUMBLOB)
+ * - 원본: UTF-8 바이트 그대로 (짧은 글, 압축 이득이 없는 글, 압축 도입 전에 저장된 행)
+ * - 압축: [0xFF 마커][코덱 1바이트][원본 UTF-8 길이 int][Deflate(raw) 데이터]
+ * 0xFF는 UTF-8에 절대 나오지 않는 바이트이므로, 첫 바이트만 보고 두 형식을 구분할 수 있다.
+ * <p>
+ * Deflater/Inflater는 네이티브 zlib 상태를 잡고 있어 생성 비용이 크므로 스레드별로 재사용한다.
+ */
+@Component
+public class ContentCodec {
+
+    static final byte MARKER = (byte) 0xFF;
+    static final byte CODEC_DEFLATE = 1;
+    private static final int HEADER_BYTES = 2 + Integer.BYTES;
+
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private final ContentCompressionProperties properties;
+    private final ThreadLocal<Deflater> deflater;
+
+    public ContentCodec(ContentCompressionProperties properties) {
+        this.properties = properties;
+        this.deflater = ThreadLocal.withInitial(() -> new Deflater(properties.getLevel(), true));
+    }
+
+    // ==================== 인코딩 ====================
+
+    /**
+     * 저장할 바이트로 변환 (임계값 이상이고 충분히 줄어들 때만 압축)
+     */
+    public byte[] encode(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (!properties.isEnabled() || raw.length < properties.getMinBytes()) {
+            return raw;
+        }
+
+        Deflater deflater = this.deflater.get();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+
+        // 최소 절감률을 넘는 크기까지만 써 본다 -> 넘으면 그 자리에서 포기하고 원본 저장
+        int limit = (int) (raw.length * (1 - properties.getMinSavings()));
+        byte[] out = new byte[limit];
+        int written = HEADER_BYTES;
+        while (!deflater.finished() && written < limit) {
+            written += deflater.deflate(out, written, limit - written);
+        }
+        if (!deflater.finished()) {
+            return raw;
+        }
+
+        ByteBuffer.wrap(out).put(MARKER).put(CODEC_DEFLATE).putInt(raw.length);
+        return Arrays.copyOf(out, written);
+    }
+
+    // ==================== 디코딩 ====================
+
+    /**
+     * 저장된 바이트를 본문으로 복원
+     */
+    public static String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        if (stored[1] != CODEC_DEFLATE) {
+            throw new IllegalStateException("지원하지 않는 content 압축 코덱입니다: " + stored[1]);
+        }
+
+        int length = ByteBuffer.wrap(stored, 2, Integer.BYTES).getInt();
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(stored, HEADER_BYTES, stored.length - HEADER_BYTES);
+        byte[] raw = new byte[length];
+        try {
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalStateException("압축된 content가 손상되었습니다 (" + read + "/" + length + " bytes)");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 content가 손상되었습니다.", e);
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    public static boolean isCompressed(byte[] stored) {
+        return stored.length >= HEADER_BYTES && stored[0] == MARKER;
+    }
+
+    /**
+     * 통계/벤치마크용: 저장 바이트로 원본 크기를 계산 (압축을 풀지 않음)
+     */
+    public static int originalLength(byte[] stored) {
+        return isCompressed(stored) ? ByteBuffer.wrap(stored, 2, Integer.BYTES).getInt() : stored.length;
+    }
+}
@@ -0,0 +1,25 @@
+package com.study.my_spring_study_diary.global.compression;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 학습 내용(content) 저장 시 압축 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.content-compression")
+public class ContentCompressionProperties {
+
+    private boolean enabled = true;
+
+    // UTF-8로 이 바이트 수 이상인 본문만 압축 (짧은 글은 압축 이득보다 헤더/CPU 비용이 큼)
+    private int minBytes = 512;
+
+    // Deflate 압축 레벨 (1 = 빠름 ~ 9 = 작게)
+    private int level = 6;
+
+    // 압축 결과가 원본 대비 이 비율 이상 줄지 않으면 원본 그대로 저장 (이미 압축된 데이터 등)
+    private double minSavings = 0.1;
+}
@@ -0,0 +1,51 @@
+package com.study.my_spring_study_diary.global.concurrent;
+
+import com.study.my_spring_study_diary.global.datasource.ClientIdentityFilter;
+import com.study.my_spring_study_diary.global.datasource.ReadYourWritesTracker;
+import com.study.my_spring_study_diary.global.timeout.QueryDeadline;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 조회 요청 합치기 구성
+ * <p>
+ * diary.coalescing.enabled=false 이면 합치지 않고 그대로 호출한다.
+ * 읽기/쓰기 분리 구성에서 primary로 읽어야 하는 호출(쓰기 직후 구간의 클라이언트, 트랜잭션 안의 조회)은
+ * replica 결과를 받지 않도록 합치지 않는다.
+ * leader가 자기 요청 기한을 넘겨(또는 watchdog에 취소되어) 실패하면 follower는 그 504를 받지 않고
+ * 자기 기한 안에서 다시 조회한다. 문장 타임아웃처럼 모두에게 같은 실패는 그대로 전달한다.
+ */
+@Configuration
+public class CoalescingConfig {
+
+    @Bean
+    public SingleFlight studyLogReadFlight(
+            CoalescingProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker
+    ) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        SingleFlight singleFlight = new SingleFlight(properties.getFollowerTimeout(), properties.isEnabled(),
+                () -> TransactionSynchronizationManager.isActualTransactionActive()
+                        || (tracker != null && tracker.isSticky(ClientIdentityFilter.currentClientId())),
+                CoalescingConfig::isLeaderDeadlineFailure);
+        Gauge.builder("diary.coalescing.in_flight", singleFlight, SingleFlight::inFlightCount)
+                .description("진행 중인 합쳐진 조회 수")
+                .register(meterRegistry);
+        return singleFlight;
+    }
+
+    // leader 스레드에서 평가되므로 QueryDeadline.current()는 leader의 기한이다
+    private static boolean isLeaderDeadlineFailure(Throwable e) {
+        if (!(e instanceof QueryTimeoutException)) {
+            return false;
+        }
+        QueryDeadline deadline = QueryDeadline.current();
+        return deadline != null && (deadline.isExpired() || deadline.isCancelled());
+    }
+}
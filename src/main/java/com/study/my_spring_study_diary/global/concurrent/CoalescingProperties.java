@@ -0,0 +1,21 @@
+package com.study.my_spring_study_diary.global.concurrent;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 동일 조회 요청 합치기(single-flight) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    // 앞선 호출의 결과를 기다리는 최대 시간. 넘으면 직접 조회한다
+    private Duration followerTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,111 @@
+package com.study.my_spring_study_diary.global.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자 / 다중 소비자)
+ * <p>
+ * - 생산자는 AtomicLong으로 순번(sequence)을 하나 받아 해당 칸에 (순번, 값)을 기록한다. 잠금 없음.
+ * - 소비자는 각자 커서(마지막으로 읽은 순번)를 들고 read()로 그 다음부터 읽는다. 버퍼는 소비자를 모른다.
+ * - 버퍼가 한 바퀴 돌아 아직 읽지 않은 칸을 덮어쓰면, 그 소비자는 {@link ReadResult#overrun()}을 받는다.
+ *   느린 소비자 때문에 생산자가 기다리거나 메모리가 늘어나는 일은 없다.
+ * <p>
+ * 순번은 1부터 시작한다. 커서 0은 "아무것도 읽지 않음"을 뜻한다.
+ */
+public class EventRingBuffer<T> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Entry<T>> slots;
+    private final AtomicLong lastClaimed = new AtomicLong();
+
+    /**
+     * @param capacity 칸 수 (2의 거듭제곱으로 올림)
+     */
+    public EventRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * 값을 기록하고 부여된 순번을 돌려준다
+     */
+    public long publish(T value) {
+        long sequence = lastClaimed.incrementAndGet();
+        slots.set(index(sequence), new Entry<>(sequence, value));
+        return sequence;
+    }
+
+    /**
+     * cursor 다음 순번부터 최대 maxItems개를 읽는다
+     * <p>
+     * 아직 기록 중인 칸을 만나면 거기서 멈추고(다음 호출에서 이어 읽음),
+     * 읽으려던 칸이 이미 덮어써졌으면 overrun을 돌려준다.
+     */
+    public ReadResult<T> read(long cursor, int maxItems) {
+        long last = lastClaimed.get();
+        if (last - cursor > capacity) {
+            return ReadResult.lost(cursor);     // cursor + 1 번 칸이 이미 다음 바퀴에 덮어써짐
+        }
+        long end = Math.min(last, cursor + maxItems);
+
+        List<Entry<T>> items = new ArrayList<>((int) Math.max(0, end - cursor));
+        long next = cursor + 1;
+        while (next <= end) {
+            Entry<T> entry = slots.get(index(next));
+            if (entry == null || entry.sequence() < next) {
+                break;  // 생산자가 순번만 받고 아직 기록하지 않음
+            }
+            if (entry.sequence() > next) {
+                return ReadResult.lost(cursor);     // 읽기 전에 덮어써짐
+            }
+            items.add(entry);
+            next++;
+        }
+        return new ReadResult<>(items, next - 1, false);
+    }
+
+    /**
+     * 이 순번 다음부터 빠짐없이 읽을 수 있는지 (재접속 시 Last-Event-ID 확인용)
+     */
+    public boolean canResumeFrom(long cursor) {
+        long last = lastClaimed.get();
+        return cursor >= 0 && cursor <= last && last - cursor <= capacity;
+    }
+
+    /**
+     * 마지막으로 부여된 순번 (새 구독자의 시작 커서)
+     */
+    public long lastSequence() {
+        return lastClaimed.get();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    public record Entry<T>(long sequence, T value) {
+    }
+
+    /**
+     * @param items   읽은 항목 (순번 순)
+     * @param cursor  다음 read()에 넘길 커서
+     * @param overrun 읽지 못한 항목이 덮어써져 이어 읽을 수 없음
+     */
+    public record ReadResult<T>(List<Entry<T>> items, long cursor, boolean overrun) {
+        static <T> ReadResult<T> lost(long cursor) {
+            return new ReadResult<>(List.of(), cursor, true);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.study.my_spring_study_diary.global.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 키로 동시에 들어온 호출을 하나로 합친다 (single-flight)
+ * <p>
+ * - 처음 들어온 호출(leader)이 실제로 실행하고, 그동안 같은 키로 들어온 호출(follower)은 그 결과를 함께 받는다.
+ * - 키 항목은 leader의 호출이 끝나는 즉시(성공/실패 모두) 제거된다. 결과를 캐시하지 않으므로
+ *   호출이 끝난 뒤 들어온 요청은 새로 조회한다.
+ * - leader가 예외로 끝나면 기다리던 follower도 같은 예외를 받는다.
+ *   단, leaderOnlyFailure가 참인 예외(leader 자신의 요청 기한 초과처럼 leader에게만 해당하는 실패)는
+ *   전달하지 않고, follower가 자기 기한 안에서 직접 다시 호출한다.
+ * - follower는 followerTimeout까지만 기다리고, 넘으면 합치기를 포기하고 직접 호출한다.
+ * - bypass가 참인 호출은 합치지 않는다. 키가 같아도 읽는 곳(primary/replica)이 다른 호출,
+ *   예를 들어 쓰기 직후 primary에서 읽어야 하는 클라이언트나 트랜잭션 안의 조회가 남의 결과를 받지 않게 한다.
+ * <p>
+ * 결과 객체는 여러 호출자가 공유하므로 호출자는 결과를 수정하면 안 된다.
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long followerTimeoutNanos;
+    private final boolean enabled;
+    private final BooleanSupplier bypass;
+    private final Predicate<Throwable> leaderOnlyFailure;
+
+    public SingleFlight(Duration followerTimeout) {
+        this(followerTimeout, true);
+    }
+
+    public SingleFlight(Duration followerTimeout, boolean enabled) {
+        this(followerTimeout, enabled, () -> false);
+    }
+
+    public SingleFlight(Duration followerTimeout, boolean enabled, BooleanSupplier bypass) {
+        this(followerTimeout, enabled, bypass, e -> false);
+    }
+
+    /**
+     * @param leaderOnlyFailure leader 스레드에서 leader의 예외를 받아 평가한다. 참이면 follower에게 전달하지 않는다
+     */
+    public SingleFlight(Duration followerTimeout, boolean enabled, BooleanSupplier bypass,
+                        Predicate<Throwable> leaderOnlyFailure) {
+        this.followerTimeoutNanos = followerTimeout.toNanos();
+        this.enabled = enabled;
+        this.bypass = bypass;
+        this.leaderOnlyFailure = leaderOnlyFailure;
+    }
+
+    /**
+     * 메서드 이름과 인자로 키를 만든다 (null 인자 허용)
+     */
+    public static Object key(String method, Object... args) {
+        List<Object> parts = new ArrayList<>(args.length + 1);
+        parts.add(method);
+        parts.addAll(Arrays.asList(args));
+        return parts;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> call) {
+        if (!enabled || bypass.getAsBoolean()) {
+            return call.get();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing == null) {
+            return runAsLeader(key, mine, call);
+        }
+        return (T) await(existing, call);
+    }
+
+    private <T> T runAsLeader(Object key, CompletableFuture<Object> mine, Supplier<T> call) {
+        try {
+            T result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(leaderOnlyFailure.test(e) ? new LeaderOnlyFailure(e) : e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> leader, Supplier<?> call) {
+        try {
+            return leader.get(followerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof LeaderOnlyFailure) {
+                // leader에게만 해당하는 실패 (예: leader의 요청 기한 초과): 이 호출의 조건으로 다시 조회
+                return call.get();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            // leader가 느리면 기다리지 않고 직접 조회 (leader의 결과는 다른 follower가 계속 기다릴 수 있음)
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("조회 결과를 기다리는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * follower에게 전달하지 않을 leader의 실패 표시 (스택 트레이스는 원래 예외에 있으므로 만들지 않는다)
+     */
+    private static final class LeaderOnlyFailure extends RuntimeException {
+        private LeaderOnlyFailure(Throwable cause) {
+            super(cause.getMessage(), cause, false, false);
+        }
+    }
+
+    /**
+     * 현재 진행 중인 키 개수 (메트릭/테스트용)
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,52 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청한 클라이언트의 식별자를 현재 스레드에 기록하는 필터
+ * <p>
+ * 식별 헤더(기본: X-Client-Id)가 있으면 그 값을, 없으면 원격 IP를 사용한다.
+ * ReplicaRoutingStudyLogDao가 read-your-writes 판단에 사용한다.
+ */
+public class ClientIdentityFilter extends OncePerRequestFilter {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT_ID = new ThreadLocal<>();
+
+    private final String clientIdHeader;
+
+    public ClientIdentityFilter(String clientIdHeader) {
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    /**
+     * 현재 요청의 클라이언트 식별자 (요청 스레드가 아니면 null)
+     */
+    public static String currentClientId() {
+        return CURRENT_CLIENT_ID.get();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String clientId = request.getHeader(clientIdHeader);
+        if (clientId == null || clientId.isBlank()) {
+            clientId = request.getRemoteAddr();
+        }
+
+        CURRENT_CLIENT_ID.set(clientId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT_CLIENT_ID.remove();
+        }
+    }
+}
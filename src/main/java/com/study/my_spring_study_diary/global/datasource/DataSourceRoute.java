@@ -0,0 +1,41 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 DataSource 라우팅 대상
+ * <p>
+ * JdbcTemplate은 호출할 때마다 커넥션을 얻기 때문에,
+ * 호출 직전에 대상을 지정해두면 ReplicationRoutingDataSource가 그 대상의 풀에서 커넥션을 꺼낸다.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA;
+
+    private static final ThreadLocal<DataSourceRoute> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에 지정된 라우팅 대상 (지정되지 않았으면 PRIMARY)
+     */
+    public static DataSourceRoute current() {
+        DataSourceRoute route = CURRENT.get();
+        return route != null ? route : PRIMARY;
+    }
+
+    /**
+     * 지정한 대상으로 작업을 실행하고, 끝나면 이전 대상으로 되돌립니다.
+     */
+    public <T> T call(Supplier<T> action) {
+        DataSourceRoute previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클라이언트별 마지막 쓰기 시각 기록
+ * <p>
+ * 쓰기 후 stickinessWindow 동안은 같은 클라이언트의 읽기를 primary로 보내
+ * 복제 지연 때문에 방금 쓴 데이터가 안 보이는 문제(read-your-writes 위반)를 막는다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void markWrite(String clientId) {
+        if (clientId == null || windowNanos <= 0) {
+            return;
+        }
+        lastWriteNanos.put(clientId, System.nanoTime());
+        if (lastWriteNanos.size() > PRUNE_THRESHOLD) {
+            prune();
+        }
+    }
+
+    /**
+     * 이 클라이언트가 아직 쓰기 직후 구간에 있는지 확인합니다.
+     */
+    public boolean isSticky(String clientId) {
+        if (clientId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(clientId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(clientId, writtenAt);
+        return false;
+    }
+
+    private void prune() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+}
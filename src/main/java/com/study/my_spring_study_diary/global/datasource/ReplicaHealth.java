@@ -0,0 +1,73 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * replica 가용성 상태
+ * <p>
+ * - 읽기 중 커넥션 오류가 나면 markDown()으로 즉시 사용을 중단한다.
+ * - 중단된 동안에는 healthCheckInterval 마다 최대 한 번, 요청 스레드 하나가 직접 연결을 확인해 복구한다.
+ *   (별도 스케줄러 없이 동작하며, 나머지 요청은 기다리지 않고 primary로 간다)
+ */
+@Slf4j
+public class ReplicaHealth {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource replica;
+    private final long checkIntervalNanos;
+
+    private volatile boolean available = true;
+    private volatile long lastCheckNanos = System.nanoTime();
+    private final AtomicBoolean checking = new AtomicBoolean(false);
+
+    public ReplicaHealth(DataSource replica, Duration checkInterval) {
+        this.replica = replica;
+        this.checkIntervalNanos = checkInterval.toNanos();
+    }
+
+    /**
+     * replica를 사용할 수 있는지 확인합니다.
+     */
+    public boolean isAvailable() {
+        if (available) {
+            return true;
+        }
+        if (System.nanoTime() - lastCheckNanos >= checkIntervalNanos && checking.compareAndSet(false, true)) {
+            try {
+                available = probe();
+                lastCheckNanos = System.nanoTime();
+                if (available) {
+                    log.info("replica 연결이 복구되었습니다.");
+                }
+            } finally {
+                checking.set(false);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * replica 장애를 기록합니다. 다음 확인 시점까지 모든 읽기는 primary로 간다.
+     */
+    public void markDown(Exception cause) {
+        if (available) {
+            log.warn("replica 연결 실패, primary로 전환합니다: {}", cause.getMessage());
+        }
+        available = false;
+        lastCheckNanos = System.nanoTime();
+    }
+
+    private boolean probe() {
+        try (Connection connection = replica.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 분리 DataSource 구성
+ * <p>
+ * diary.datasource.replication.enabled=true 일 때만 동작한다.
+ * - primaryDataSource: 기존 spring.datasource.* 설정으로 만든 쓰기용 풀
+ * - replicaDataSource: diary.datasource.replication.replica.* 설정으로 만든 읽기용 풀
+ * - dataSource(@Primary): 두 풀 사이를 스레드 로컬 값으로 라우팅
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "diary.datasource.replication", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicationProperties properties) {
+        ReplicationProperties.Replica replica = properties.getReplica();
+        if (replica.getUrl() == null || replica.getUrl().isBlank()) {
+            throw new IllegalStateException("diary.datasource.replication.replica.url 설정이 필요합니다.");
+        }
+
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+        dataSource.setPoolName(replica.getPoolName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setMinimumIdle(replica.getMinimumIdle());
+        dataSource.setConnectionTimeout(replica.getConnectionTimeout());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        return new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    @Bean
+    public ReplicaHealth replicaHealth(HikariDataSource replicaDataSource, ReplicationProperties properties) {
+        return new ReplicaHealth(replicaDataSource, properties.getHealthCheckInterval());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicationProperties properties) {
+        return new ReadYourWritesTracker(properties.getStickinessWindow());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClientIdentityFilter> clientIdentityFilter(ReplicationProperties properties) {
+        FilterRegistrationBean<ClientIdentityFilter> registration =
+                new FilterRegistrationBean<>(new ClientIdentityFilter(properties.getClientIdHeader()));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,45 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(Replica) 라우팅 설정
+ * <p>
+ * primary 연결 정보는 기존 spring.datasource.* 를 그대로 사용하고,
+ * replica 연결 정보만 diary.datasource.replication.replica.* 로 추가합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.datasource.replication")
+public class ReplicationProperties {
+
+    private boolean enabled = false;
+
+    // 쓰기 직후 같은 클라이언트의 읽기를 primary로 보내는 시간 (복제 지연 대비)
+    private Duration stickinessWindow = Duration.ofSeconds(3);
+
+    // replica 장애 후 다시 연결을 시도하기까지의 최소 간격
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // 클라이언트 식별 헤더 (없으면 원격 IP 사용)
+    private String clientIdHeader = "X-Client-Id";
+
+    private Replica replica = new Replica();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 5;
+        private long connectionTimeout = 3_000;     // replica는 빨리 실패하고 primary로 넘어감
+        private String poolName = "StudyDiaryReplicaHikariCP";
+    }
+}
@@ -0,0 +1,28 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * primary / replica 커넥션 풀 중 하나로 커넥션 요청을 보내는 DataSource
+ * <p>
+ * 라우팅 대상은 DataSourceRoute 의 스레드 로컬 값으로 결정되며, 지정이 없으면 primary를 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primary,
+                DataSourceRoute.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return DataSourceRoute.current();
+    }
+}
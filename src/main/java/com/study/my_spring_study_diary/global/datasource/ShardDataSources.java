@@ -0,0 +1,29 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.List;
+
+/**
+ * 샤드 번호 순서대로의 샤드별 커넥션 풀 묶음
+ * <p>
+ * List&lt;HikariDataSource&gt; 를 그대로 Bean으로 등록하면 다른 HikariDataSource Bean과 섞여 주입되므로 감싸서 등록한다.
+ * 컨텍스트 종료 시 close()로 모든 풀을 닫는다.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<HikariDataSource> dataSources;
+
+    public ShardDataSources(List<HikariDataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+
+    public List<HikariDataSource> get() {
+        return dataSources;
+    }
+
+    @Override
+    public void close() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
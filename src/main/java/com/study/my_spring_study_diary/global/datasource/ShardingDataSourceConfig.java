@@ -0,0 +1,89 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.ShardedStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.timeout.StatementTimeouts;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 샤딩 DataSource 구성
+ * <p>
+ * diary.datasource.sharding.enabled=true 일 때만 동작한다.
+ * 샤드마다 HikariCP 풀과 MySQLStudyLogDaoImpl을 하나씩 만들고, 이를 묶은 ShardedStudyLogDao를 @Primary로 등록한다.
+ * 기존 spring.datasource.* 는 시드 적재 등 샤드와 무관한 용도로 그대로 남는다.
+ * (읽기/쓰기 분리 diary.datasource.replication 과 함께 켤 수 없다)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "diary.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+    @Bean
+    public ShardDataSources shardDataSources(ShardingProperties properties, ReplicationProperties replication) {
+        if (replication.isEnabled()) {
+            throw new IllegalStateException("샤딩과 읽기/쓰기 분리는 함께 사용할 수 없습니다.");
+        }
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("diary.datasource.sharding.shards 설정이 필요합니다.");
+        }
+
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .driverClassName(shard.getDriverClassName())
+                    .build();
+            dataSource.setPoolName("StudyDiaryShard" + i + "HikariCP");
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            dataSource.setMinimumIdle(shard.getMinimumIdle());
+            dataSource.setConnectionTimeout(shard.getConnectionTimeout());
+            dataSources.add(dataSource);
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardScatterExecutor(ShardingProperties properties) {
+        int threads = properties.getScatterThreads() > 0
+                ? properties.getScatterThreads()
+                : properties.getShards().size() * 4;
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    @Primary
+    public ShardedStudyLogDao shardedStudyLogDao(
+            ShardDataSources shardDataSources,
+            ExecutorService shardScatterExecutor,
+            ContentCodec contentCodec,
+            StatementTimeouts statementTimeouts
+    ) {
+        List<StudyLogDao> shards = new ArrayList<>();
+        for (HikariDataSource dataSource : shardDataSources.get()) {
+            shards.add(new MySQLStudyLogDaoImpl(new JdbcTemplate(dataSource), contentCodec, statementTimeouts));
+        }
+        return new ShardedStudyLogDao(shards, shardScatterExecutor);
+    }
+}
@@ -0,0 +1,39 @@
+package com.study.my_spring_study_diary.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 작성자(owner_id) 기준 수평 샤딩 설정
+ * <p>
+ * shards 목록의 순서가 곧 샤드 번호이다. 데이터가 들어간 뒤에는 순서를 바꾸거나 중간 샤드를 빼면 안 된다.
+ * (샤드를 늘리면 작성자별 샤드 위치가 바뀌므로 데이터 재배치가 필요하다)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.datasource.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    // 여러 샤드에 동시에 보내는 scatter 쿼리용 스레드 수 (0이면 샤드 수 * 4)
+    private int scatterThreads = 0;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        private long connectionTimeout = 3_000;
+    }
+}
@@ -1,10 +1,14 @@
 package com.study.my_spring_study_diary.global.exception;
 
 import com.study.my_spring_study_diary.global.common.ApiResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 /**
  * 전역 예외 처리기
@@ -34,6 +38,96 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("STUDY_LOG_NOT_FOUND", e.getMessage()));
     }
 
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleImportJobNotFoundException(
+            ImportJobNotFoundException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("IMPORT_JOB_NOT_FOUND", e.getMessage()));
+    }
+
+    // If-Match 조건 불일치: 클라이언트가 가진 버전이 이미 낡음
+    @ExceptionHandler(StudyLogVersionMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleStudyLogVersionMismatchException(
+            StudyLogVersionMismatchException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(ApiResponse.error("PRECONDITION_FAILED", e.getMessage()));
+    }
+
+    // 동시 수정 충돌: 읽은 뒤 저장하기 전에 다른 요청이 먼저 수정함
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("CONFLICT", "다른 요청이 먼저 학습 일지를 수정했습니다. 다시 조회한 뒤 수정해 주세요."));
+    }
+
+    // 같은 멱등성 키의 앞선 요청이 아직 처리 중 (대기 시간 초과)
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyInProgressException(
+            IdempotencyKeyInProgressException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("IDEMPOTENCY_KEY_IN_PROGRESS", e.getMessage()));
+    }
+
+    // 이미 쓰인 멱등성 키를 다른 본문과 함께 보냄
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyMismatchException(
+            IdempotencyKeyMismatchException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_CONTENT)
+                .body(ApiResponse.error("IDEMPOTENCY_KEY_MISMATCH", e.getMessage()));
+    }
+
+    // 멱등성 키를 붙인 요청 본문이 diary.idempotency.max-request-bytes 보다 큼
+    @ExceptionHandler(RequestBodyTooLargeException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRequestBodyTooLargeException(
+            RequestBodyTooLargeException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.CONTENT_TOO_LARGE)
+                .body(ApiResponse.error("REQUEST_TOO_LARGE", e.getMessage()));
+    }
+
+    // 업로드 파일이 spring.servlet.multipart.max-file-size 보다 큼
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.CONTENT_TOO_LARGE)
+                .body(ApiResponse.error("FILE_TOO_LARGE", "업로드 파일이 허용 크기를 초과했습니다."));
+    }
+
+    // 유입 제어에 의한 거절: 클라이언트가 Retry-After 뒤에 다시 시도하도록 안내
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceOverloadedException(
+            ServiceOverloadedException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error("SERVICE_OVERLOADED", e.getMessage()));
+    }
+
+    // 문장 타임아웃 또는 요청 기한 초과로 중단된 쿼리
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleQueryTimeoutException(
+            QueryTimeoutException e
+    ) {
+        return ResponseEntity
+                .status(HttpStatus.GATEWAY_TIMEOUT)
+                .body(ApiResponse.error("QUERY_TIMEOUT", "조회 시간이 초과되었습니다. 검색 조건을 좁혀 다시 시도해 주세요."));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleException(
             Exception e
@@ -0,0 +1,10 @@
+package com.study.my_spring_study_diary.global.exception;
+
+/**
+ * 같은 멱등성 키의 앞선 요청이 아직 처리 중일 때 (대기 시간 초과, 409 Conflict)
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException() {
+        super("같은 Idempotency-Key의 요청이 아직 처리 중입니다. 잠시 뒤 같은 키로 다시 시도해 주세요.");
+    }
+}
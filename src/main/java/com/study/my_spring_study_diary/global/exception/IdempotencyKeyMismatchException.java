@@ -0,0 +1,10 @@
+package com.study.my_spring_study_diary.global.exception;
+
+/**
+ * 이미 쓰인 멱등성 키를 다른 요청 본문과 함께 보냈을 때 (422 Unprocessable Content)
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException() {
+        super("이미 다른 요청에 사용된 Idempotency-Key입니다. 새 요청에는 새 키를 사용해 주세요.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.study.my_spring_study_diary.global.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String jobId) {
+        super(String.format("해당 가져오기 작업을 찾을 수 없습니다. (jobId: %s)", jobId));
+    }
+}
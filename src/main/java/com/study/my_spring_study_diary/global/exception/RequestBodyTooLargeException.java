@@ -0,0 +1,10 @@
+package com.study.my_spring_study_diary.global.exception;
+
+/**
+ * 멱등성 키를 붙인 요청 본문이 diary.idempotency.max-request-bytes 보다 클 때 (413 Content Too Large)
+ */
+public class RequestBodyTooLargeException extends RuntimeException {
+    public RequestBodyTooLargeException(long maxBytes) {
+        super("요청 본문이 허용 크기(" + maxBytes + "바이트)를 초과했습니다. 일괄 등록은 나누어 보내 주세요.");
+    }
+}
@@ -0,0 +1,16 @@
+package com.study.my_spring_study_diary.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 유입 제어에 의해 요청이 거절될 때 발생 (503 Service Unavailable + Retry-After)
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    @Getter
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String endpoint, String reason, long retryAfterSeconds) {
+        super(String.format("요청이 많아 잠시 처리할 수 없습니다. (endpoint: %s, reason: %s)", endpoint, reason));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
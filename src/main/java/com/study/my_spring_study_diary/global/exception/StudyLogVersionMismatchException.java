@@ -0,0 +1,19 @@
+package com.study.my_spring_study_diary.global.exception;
+
+/**
+ * If-Match로 보낸 버전이 현재 학습 일지의 버전과 다를 때 (412 Precondition Failed)
+ */
+public class StudyLogVersionMismatchException extends RuntimeException {
+    public StudyLogVersionMismatchException(Long id, long expected, long current) {
+        super(String.format("학습 일지가 그 사이 수정되었습니다. 다시 조회한 뒤 수정해 주세요. (id: %d, If-Match: %d, 현재 버전: %d)",
+                id, expected, current));
+    }
+
+    /**
+     * 약한 ETag(W/...)로 보낸 If-Match: 강한 비교만 허용하므로 버전과 상관없이 일치하지 않는다 (RFC 9110 13.1.1)
+     */
+    public StudyLogVersionMismatchException(Long id, String weakETag) {
+        super(String.format("If-Match에는 약한 ETag를 쓸 수 없습니다. 응답으로 받은 ETag를 그대로 보내 주세요. (id: %d, If-Match: %s)",
+                id, weakETag));
+    }
+}
@@ -0,0 +1,47 @@
+package com.study.my_spring_study_diary.global.idempotency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+/**
+ * 생성 API 멱등성 키 구성
+ * <p>
+ * diary.idempotency.enabled=true(기본값) 일 때 diary.idempotency.paths 의 POST 요청에 필터를 건다.
+ * 응답은 기본 DataSource(spring.datasource)의 idempotency_keys 테이블에 저장한다.
+ * 상태는 /actuator/metrics/diary.idempotency.* 로 확인할 수 있다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "diary.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        IdempotencyStore store = new IdempotencyStore(jdbcTemplate, properties);
+        Gauge.builder("diary.idempotency.cached", store, IdempotencyStore::cachedCount)
+                .description("메모리에 보관 중인 멱등성 키 응답 수")
+                .register(meterRegistry);
+        Gauge.builder("diary.idempotency.in_flight", store, IdempotencyStore::inFlightCount)
+                .description("처리 중인 멱등성 키 요청 수")
+                .register(meterRegistry);
+        return store;
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            IdempotencyProperties properties,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver
+    ) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyStore, properties, exceptionResolver));
+        registration.addUrlPatterns(properties.getPaths().toArray(String[]::new));
+        return registration;
+    }
+}
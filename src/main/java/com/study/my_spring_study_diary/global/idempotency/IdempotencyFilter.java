@@ -0,0 +1,221 @@
+package com.study.my_spring_study_diary.global.idempotency;
+
+import com.study.my_spring_study_diary.global.exception.RequestBodyTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * 생성 API의 Idempotency-Key 처리 필터
+ * <p>
+ * 헤더가 있는 POST 요청은 (메서드 + 경로 + 키)로 IdempotencyStore를 선점한 뒤에만 컨트롤러로 보낸다.
+ * - 이미 저장된 응답이 있으면 컨트롤러/DAO를 거치지 않고 그대로 다시 보낸다 (Idempotent-Replayed: true)
+ * - 2xx 응답만 저장한다. 검증 실패나 503(유입 제어) 같은 응답은 선점을 풀어 재시도가 새로 실행되게 한다
+ * - 같은 키에 다른 본문이면 422, 앞선 요청이 끝나기를 기다리다 시간을 넘기면 409
+ * - 해시를 위해 본문을 미리 읽으므로 maxRequestBytes를 넘는 본문은 키를 선점하기 전에 413
+ *   (필터는 DispatcherServlet 바깥이라 HandlerExceptionResolver로 GlobalExceptionHandler에 넘긴다)
+ * 헤더가 없는 요청은 그대로 통과한다.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final String headerName;
+    private final Set<String> paths;
+    private final int maxRequestBytes;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, HandlerExceptionResolver exceptionResolver) {
+        this.store = store;
+        this.headerName = properties.getHeaderName();
+        this.paths = Set.copyOf(properties.getPaths());
+        this.maxRequestBytes = properties.getMaxRequestBytes();
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(headerName) == null
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String key = request.getHeader(headerName);
+        byte[] body;
+        String keyHash;
+        String requestHash;
+        IdempotentResponse stored;
+        try {
+            if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+                throw new IllegalArgumentException(headerName + " 헤더는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+            }
+            body = readBody(request);
+            keyHash = sha256(request.getMethod() + " " + request.getRequestURI() + " " + key);
+            requestHash = sha256(body);
+            stored = store.begin(keyHash, requestHash);
+        } catch (RuntimeException e) {
+            if (exceptionResolver.resolveException(request, response, null, e) == null) {
+                throw e;
+            }
+            return;
+        }
+
+        if (stored != null) {
+            replay(stored, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper captured = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), captured);
+            int status = captured.getStatus();
+            if (status >= 200 && status < 300 && !request.isAsyncStarted()) {
+                store.complete(keyHash, requestHash, status, captured.getContentType(),
+                        captured.getHeader(HttpHeaders.ETAG), captured.getContentAsByteArray());
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(keyHash);
+            }
+            captured.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 본문을 maxRequestBytes까지만 읽는다.
+     * Content-Length가 상한을 넘으면 읽지 않고, 길이를 알 수 없는(chunked) 본문은 상한 + 1바이트에서 멈춘다.
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            throw new RequestBodyTooLargeException(maxRequestBytes);
+        }
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        if (body.length > maxRequestBytes) {
+            throw new RequestBodyTooLargeException(maxRequestBytes);
+        }
+        return body;
+    }
+
+    private static void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, stored.eTag());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.body() != null ? stored.body() : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static String sha256(String text) {
+        return sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 해시를 위해 미리 읽은 본문을 컨트롤러가 다시 읽을 수 있게 돌려주는 요청 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문은 이미 메모리에 있으므로 등록 즉시 남은 데이터와 끝을 알린다
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.study.my_spring_study_diary.global.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성 API 멱등성 키(Idempotency-Key) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    private String headerName = "Idempotency-Key";
+
+    // 멱등성 키를 받는 POST 경로
+    private List<String> paths = new ArrayList<>(List.of("/api/v1/logs", "/api/v1/logs/batch"));
+
+    // 응답을 보관하는 기간 (이 시간이 지난 같은 키는 새 요청으로 처리)
+    private Duration ttl = Duration.ofHours(24);
+
+    // 메모리에 두는 응답 수 (넘으면 오래 안 쓴 것부터 빼고, DB 테이블에서 다시 읽는다)
+    private int maxEntries = 10_000;
+
+    // 해시를 위해 미리 읽는 요청 본문의 최대 크기. 넘으면 키를 선점하지 않고 413
+    // (일괄 등록 최대 500건 × 제목 100자 + 내용 1,000자, 문자당 JSON 이스케이프 최대 6바이트 ≈ 3.3MB)
+    private int maxRequestBytes = 4 * 1024 * 1024;
+
+    // 이보다 큰 응답 본문은 메모리에 두지 않고 DB 테이블에만 저장
+    private int maxCachedResponseBytes = 64 * 1024;
+
+    // 같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간. 넘으면 409
+    private Duration waitTimeout = Duration.ofSeconds(5);
+
+    // 처리 중 선점의 유효 시간. 선점한 인스턴스가 응답 없이 죽으면 이 시간 뒤 다른 요청이 이어받는다
+    private Duration lockTimeout = Duration.ofSeconds(30);
+
+    // 다른 인스턴스가 처리 중인 키를 DB에서 다시 확인하는 간격
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    // 만료된 행 정리 주기 (선점할 때 주기가 지났으면 함께 정리)
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,303 @@
+package com.study.my_spring_study_diary.global.idempotency;
+
+import com.study.my_spring_study_diary.global.exception.IdempotencyKeyInProgressException;
+import com.study.my_spring_study_diary.global.exception.IdempotencyKeyMismatchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 멱등성 키별 최초 응답 저장소
+ * <p>
+ * 같은 키의 요청은 한 번만 실행하고, 그 뒤의 재시도에는 저장한 응답을 그대로 돌려준다.
+ * - 메모리: 최근 응답 maxEntries개 (LRU + TTL). 같은 인스턴스의 재시도는 DB를 읽지 않는다
+ * - DB(idempotency_keys): 모든 응답과 처리 중 선점. 재시작 후나 다른 인스턴스로 간 재시도도 중복 INSERT 하지 않는다
+ * - 동시에 들어온 같은 키: 같은 인스턴스면 앞선 요청의 결과를 기다리고(single-flight),
+ *   다른 인스턴스가 처리 중이면 DB 행을 pollInterval 간격으로 다시 읽는다. waitTimeout을 넘으면 409
+ * - 앞선 요청이 실패(2xx가 아님)하면 선점을 풀어 기다리던 요청이 새로 실행한다
+ */
+@Slf4j
+public class IdempotencyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+    private final Clock clock;
+
+    private final Map<String, IdempotentResponse> cache;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeMillis = new AtomicLong();
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this(jdbcTemplate, properties, Clock.systemUTC());
+    }
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        int maxEntries = properties.getMaxEntries();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 처리 중인 요청의 본문 해시와 결과 (결과가 null이면 실패해서 선점을 놓음)
+     */
+    private record InFlight(String requestHash, CompletableFuture<IdempotentResponse> result) {
+    }
+
+    // ==================== 선점 ====================
+
+    /**
+     * 키를 선점하거나 저장된 응답을 돌려준다
+     *
+     * @return 저장된 응답 (재시도), null이면 이 호출이 선점했으므로 요청을 실행한 뒤 complete 또는 release를 불러야 한다
+     * @throws IdempotencyKeyMismatchException   같은 키로 다른 본문을 보냈을 때
+     * @throws IdempotencyKeyInProgressException 앞선 요청을 waitTimeout 안에 끝까지 기다리지 못했을 때
+     */
+    public IdempotentResponse begin(String keyHash, String requestHash) {
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            IdempotentResponse cached = cached(keyHash);
+            if (cached != null) {
+                return verified(cached, requestHash);
+            }
+
+            InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+            InFlight existing = inFlight.putIfAbsent(keyHash, mine);
+            if (existing != null) {
+                if (!existing.requestHash().equals(requestHash)) {
+                    throw new IdempotencyKeyMismatchException();
+                }
+                IdempotentResponse result = await(existing, deadline);
+                if (result != null) {
+                    return result;
+                }
+                continue;   // 앞선 요청이 실패함 -> 다시 선점 시도
+            }
+
+            try {
+                IdempotentResponse stored = claimInDatabase(keyHash, requestHash, deadline);
+                if (stored != null) {
+                    remember(keyHash, stored);
+                    finish(keyHash, mine, stored);
+                }
+                return stored;
+            } catch (RuntimeException | Error e) {
+                finish(keyHash, mine, null);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 선점한 요청의 응답을 저장하고 기다리던 요청에 넘긴다
+     * <p>
+     * DB 기록이 실패해도 요청은 이미 실행됐으므로 예외를 던지지 않는다. (메모리에는 남아 이 인스턴스의 재시도는 막는다)
+     */
+    public IdempotentResponse complete(String keyHash, String requestHash, int status, String contentType, String eTag, byte[] body) {
+        IdempotentResponse response = new IdempotentResponse(requestHash, status, contentType, eTag, body,
+                clock.instant().plus(properties.getTtl()));
+        try {
+            jdbcTemplate.update("""
+                            UPDATE idempotency_keys
+                            SET status_code = ?, content_type = ?, etag = ?, response_body = ?, expires_at = ?
+                            WHERE key_hash = ?
+                            """,
+                    status, contentType, eTag, body, Timestamp.from(response.expiresAt()), keyHash);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 응답을 DB에 저장하지 못했습니다. (key: {})", keyHash, e);
+        }
+        remember(keyHash, response);
+        finish(keyHash, inFlight.get(keyHash), response);
+        return response;
+    }
+
+    /**
+     * 요청이 실패했을 때 선점을 푼다 (같은 키의 재시도가 새로 실행된다)
+     */
+    public void release(String keyHash) {
+        try {
+            jdbcTemplate.update("DELETE FROM idempotency_keys WHERE key_hash = ? AND status_code IS NULL", keyHash);
+        } catch (DataAccessException e) {
+            log.warn("멱등성 키 선점을 풀지 못했습니다. lockTimeout 뒤에 다시 쓸 수 있습니다. (key: {})", keyHash, e);
+        }
+        finish(keyHash, inFlight.get(keyHash), null);
+    }
+
+    public int cachedCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    // ==================== DB ====================
+
+    /**
+     * DB 행으로 선점한다 (null이면 선점 성공, 아니면 저장된 응답)
+     */
+    private IdempotentResponse claimInDatabase(String keyHash, String requestHash, long deadline) {
+        while (true) {
+            Instant now = clock.instant();
+            purgeExpiredIfDue(now);
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO idempotency_keys (key_hash, request_hash, locked_until, expires_at) VALUES (?, ?, ?, ?)",
+                        keyHash, requestHash,
+                        Timestamp.from(now.plus(properties.getLockTimeout())), Timestamp.from(now.plus(properties.getTtl())));
+                return null;
+            } catch (DuplicateKeyException e) {
+                // 이미 있는 키: 아래에서 상태 확인
+            }
+
+            List<Row> rows = jdbcTemplate.query("""
+                            SELECT request_hash, status_code, content_type, etag, response_body, locked_until, expires_at
+                            FROM idempotency_keys WHERE key_hash = ?
+                            """,
+                    (rs, rowNum) -> new Row(
+                            rs.getString("request_hash"),
+                            (Integer) rs.getObject("status_code"),
+                            rs.getString("content_type"),
+                            rs.getString("etag"),
+                            rs.getBytes("response_body"),
+                            rs.getTimestamp("locked_until").toInstant(),
+                            rs.getTimestamp("expires_at").toInstant()),
+                    keyHash);
+            if (rows.isEmpty()) {
+                continue;   // 그 사이 풀리거나 정리됨
+            }
+            Row row = rows.get(0);
+            if (row.expiresAt().isBefore(now)) {
+                jdbcTemplate.update("DELETE FROM idempotency_keys WHERE key_hash = ? AND expires_at < ?", keyHash, Timestamp.from(now));
+                continue;
+            }
+            if (!row.requestHash().equals(requestHash)) {
+                throw new IdempotencyKeyMismatchException();
+            }
+            if (row.statusCode() != null) {
+                return new IdempotentResponse(row.requestHash(), row.statusCode(), row.contentType(), row.eTag(),
+                        row.body(), row.expiresAt());
+            }
+            // 처리 중이던 인스턴스가 응답 없이 사라짐 -> 선점을 이어받는다
+            if (row.lockedUntil().isBefore(now)) {
+                int taken = jdbcTemplate.update("""
+                                UPDATE idempotency_keys SET locked_until = ?
+                                WHERE key_hash = ? AND status_code IS NULL AND locked_until < ?
+                                """,
+                        Timestamp.from(now.plus(properties.getLockTimeout())), keyHash, Timestamp.from(now));
+                if (taken == 1) {
+                    return null;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IdempotencyKeyInProgressException();
+            }
+            sleep(properties.getPollInterval().toMillis());
+        }
+    }
+
+    private record Row(String requestHash, Integer statusCode, String contentType, String eTag, byte[] body,
+                       Instant lockedUntil, Instant expiresAt) {
+    }
+
+    /**
+     * purgeInterval마다 한 번, 선점하는 요청 하나가 만료된 행을 지운다
+     */
+    private void purgeExpiredIfDue(Instant now) {
+        long due = nextPurgeMillis.get();
+        long nowMillis = now.toEpochMilli();
+        if (nowMillis < due || !nextPurgeMillis.compareAndSet(due, nowMillis + properties.getPurgeInterval().toMillis())) {
+            return;
+        }
+        try {
+            int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", Timestamp.from(now));
+            if (purged > 0) {
+                log.debug("만료된 멱등성 키 {}건 정리", purged);
+            }
+        } catch (DataAccessException e) {
+            log.warn("만료된 멱등성 키를 정리하지 못했습니다.", e);
+        }
+    }
+
+    // ==================== 메모리 ====================
+
+    private IdempotentResponse cached(String keyHash) {
+        synchronized (cache) {
+            IdempotentResponse response = cache.get(keyHash);
+            if (response != null && response.expiresAt().isBefore(clock.instant())) {
+                cache.remove(keyHash);
+                return null;
+            }
+            return response;
+        }
+    }
+
+    private void remember(String keyHash, IdempotentResponse response) {
+        if (response.body() != null && response.body().length > properties.getMaxCachedResponseBytes()) {
+            return;
+        }
+        synchronized (cache) {
+            cache.put(keyHash, response);
+        }
+    }
+
+    private static IdempotentResponse verified(IdempotentResponse response, String requestHash) {
+        if (!response.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException();
+        }
+        return response;
+    }
+
+    private void finish(String keyHash, InFlight flight, IdempotentResponse result) {
+        if (flight != null) {
+            inFlight.remove(keyHash, flight);
+            flight.result().complete(result);
+        }
+    }
+
+    private static IdempotentResponse await(InFlight flight, long deadline) {
+        try {
+            return flight.result().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException();
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.my_spring_study_diary.global.idempotency;
+
+import java.time.Instant;
+
+/**
+ * 멱등성 키로 저장한 최초 응답 (재시도 요청에 그대로 다시 보낸다)
+ *
+ * @param requestHash 최초 요청 본문의 SHA-256
+ * @param status      응답 상태 코드 (2xx만 저장)
+ * @param contentType 응답 Content-Type (JSON / CBOR)
+ * @param eTag        응답 ETag (없으면 null)
+ * @param body        응답 본문
+ * @param expiresAt   만료 시각
+ */
+public record IdempotentResponse(
+        String requestHash,
+        int status,
+        String contentType,
+        String eTag,
+        byte[] body,
+        Instant expiresAt
+) {
+}
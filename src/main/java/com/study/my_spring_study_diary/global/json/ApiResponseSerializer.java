@@ -0,0 +1,68 @@
+package com.study.my_spring_study_diary.global.json;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.List;
+
+/**
+ * ApiResponse 직렬화기 ({"success", "data", "error"} 순서)
+ * <p>
+ * data가 학습 일지 응답/페이지/목록이면 전용 직렬화기를 바로 호출해 직렬화기 조회를 건너뛴다.
+ */
+@SuppressWarnings("rawtypes")
+public class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString ERROR = new SerializedString("error");
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+
+    private final PageSerializer pageSerializer = new PageSerializer();
+
+    public ApiResponseSerializer() {
+        super(ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(value, 3);
+        gen.writeName(SUCCESS);
+        gen.writeBoolean(value.isSuccess());
+
+        gen.writeName(DATA);
+        Object data = value.getData();
+        if (data == null) {
+            gen.writeNull();
+        } else if (data instanceof StudyLogResponse response) {
+            StudyLogResponseSerializer.write(response, gen);
+        } else if (data instanceof Page page) {
+            pageSerializer.serialize(page, gen, ctxt);
+        } else if (data instanceof List<?> list) {
+            PageSerializer.writeElements(list, gen, ctxt);
+        } else {
+            ctxt.writeValue(gen, data);
+        }
+
+        gen.writeName(ERROR);
+        ApiResponse.ErrorInfo error = value.getError();
+        if (error == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject(error, 2);
+            gen.writeName(CODE);
+            gen.writeString(error.getCode());
+            gen.writeName(MESSAGE);
+            gen.writeString(error.getMessage());
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+}
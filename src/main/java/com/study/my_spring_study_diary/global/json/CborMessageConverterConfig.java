@@ -0,0 +1,25 @@
+package com.study.my_spring_study_diary.global.json;
+
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+/**
+ * CBOR(application/cbor) 응답/요청 본문 지원
+ * <p>
+ * 내부 서비스처럼 호출이 잦은 클라이언트는 Accept / Content-Type 을 application/cbor 로 보내면
+ * JSON과 같은 DTO 구조를 더 작은 바이너리로 주고받는다. 헤더가 없거나 JSON이면 기존과 같다.
+ * <p>
+ * 기본 CBOR 컨버터는 별도 매퍼를 만들기 때문에, Spring Boot가 구성한 CBORMapper
+ * (전용 직렬화기 모듈과 spring.jackson.* 설정이 적용된 매퍼)를 쓰는 컨버터로 바꿔 끼운다.
+ */
+@Configuration
+public class CborMessageConverterConfig {
+
+    @Bean
+    public ServerHttpMessageConvertersCustomizer cborMessageConverterCustomizer(CBORMapper cborMapper) {
+        return builder -> builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper));
+    }
+}
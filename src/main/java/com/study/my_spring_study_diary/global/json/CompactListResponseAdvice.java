@@ -0,0 +1,94 @@
+package com.study.my_spring_study_diary.global.json;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.CompactStudyLogList;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 목록 응답 압축 모드 (opt-in)
+ * <p>
+ * 반환 타입이 ApiResponse&lt;List&lt;StudyLogResponse&gt;&gt; 또는 ApiResponse&lt;Page&lt;StudyLogResponse&gt;&gt; 인
+ * 엔드포인트에 ?view=compact 를 붙이면 data를 CompactStudyLogList로 바꿔 응답한다.
+ * 파라미터가 없으면 기존 응답 그대로이며, 컨트롤러는 압축 모드를 알 필요가 없다.
+ * <pre>
+ * GET /api/v1/logs/page?page=0&amp;size=50&amp;view=compact
+ * GET /api/v1/logs/search?category=SPRING&amp;view=compact
+ * </pre>
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "diary.json", name = "compact-lists", havingValue = "true", matchIfMissing = true)
+public class CompactListResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String VIEW_PARAMETER = "view";
+    public static final String COMPACT_VIEW = "compact";
+
+    // 핸들러 메서드별 반환 타입 판정 결과 (요청마다 제네릭을 다시 풀지 않도록)
+    private final Map<Method, Boolean> listEndpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        Method method = returnType.getMethod();
+        return method != null && listEndpoints.computeIfAbsent(method, CompactListResponseAdvice::returnsStudyLogList);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || !apiResponse.isSuccess() || !isCompactRequested(request)) {
+            return body;
+        }
+        Object data = apiResponse.getData();
+        if (data instanceof Page<?> page) {
+            return ApiResponse.success(CompactStudyLogList.of(CompactListResponseAdvice.<Page<StudyLogResponse>>cast(page)));
+        }
+        if (data instanceof List<?> list) {
+            return ApiResponse.success(CompactStudyLogList.of(CompactListResponseAdvice.<List<StudyLogResponse>>cast(list)));
+        }
+        return body;
+    }
+
+    private static boolean isCompactRequested(ServerHttpRequest request) {
+        return request instanceof ServletServerHttpRequest servletRequest
+                && COMPACT_VIEW.equalsIgnoreCase(servletRequest.getServletRequest().getParameter(VIEW_PARAMETER));
+    }
+
+    /**
+     * (ResponseEntity&lt;)ApiResponse&lt;List|Page&lt;StudyLogResponse&gt;&gt;(&gt;) 인지 확인
+     */
+    static boolean returnsStudyLogList(Method method) {
+        ResolvableType type = ResolvableType.forMethodReturnType(method);
+        if (HttpEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.as(HttpEntity.class).getGeneric(0);
+        }
+        if (!ApiResponse.class.equals(type.toClass())) {
+            return false;
+        }
+        ResolvableType data = type.getGeneric(0);
+        Class<?> container = data.toClass();
+        return (List.class.equals(container) || Page.class.equals(container))
+                && StudyLogResponse.class.equals(data.getGeneric(0).toClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+}
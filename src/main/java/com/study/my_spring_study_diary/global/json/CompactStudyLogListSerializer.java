@@ -0,0 +1,190 @@
+package com.study.my_spring_study_diary.global.json;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.CompactStudyLogList;
+import com.study.my_spring_study_diary.dto.response.SearchFacetsResponse;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.dto.response.StudyLogSearchPage;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * CompactStudyLogList 직렬화기 (형식은 CompactStudyLogList 참고)
+ * <p>
+ * dictionary와 columns는 응답마다 같으므로 미리 인코딩해 두고, 행은 객체 대신 배열로 써서
+ * 필드 이름과 반복되는 enum 문자열을 아예 출력하지 않는다.
+ * JSON/CBOR 모두 같은 구조로 나간다.
+ */
+public class CompactStudyLogListSerializer extends StdSerializer<CompactStudyLogList> {
+
+    private static final SerializableString COLUMNS = new SerializedString("columns");
+    private static final SerializableString DICTIONARY = new SerializedString("dictionary");
+    private static final SerializableString TIME_ZONE = new SerializedString("timeZone");
+    private static final SerializableString ROWS = new SerializedString("rows");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString UNDERSTANDING = new SerializedString("understanding");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString ICON = new SerializedString("icon");
+    private static final SerializableString EMOJI = new SerializedString("emoji");
+
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString HAS_NEXT = new SerializedString("hasNext");
+    private static final SerializableString HAS_PREVIOUS = new SerializedString("hasPrevious");
+    private static final SerializableString LAST = new SerializedString("last");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString FACETS = new SerializedString("facets");
+
+    // 행 배열의 원소 순서
+    private static final List<SerializableString> COLUMN_NAMES = List.of(
+            new SerializedString("id"), new SerializedString("ownerId"),
+            new SerializedString("title"), new SerializedString("content"),
+            new SerializedString("category"), new SerializedString("understanding"),
+            new SerializedString("studyTime"), new SerializedString("studyDate"),
+            new SerializedString("createdAt"), new SerializedString("updatedAt"));
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Understanding[] UNDERSTANDINGS = Understanding.values();
+    private static final SerializableString[][] CATEGORY_ENTRIES = entries(CATEGORIES.length);
+    private static final SerializableString[][] UNDERSTANDING_ENTRIES = entries(UNDERSTANDINGS.length);
+
+    static {
+        for (Category category : CATEGORIES) {
+            CATEGORY_ENTRIES[category.ordinal()][0] = new SerializedString(category.name());
+            CATEGORY_ENTRIES[category.ordinal()][1] = new SerializedString(category.getIcon());
+        }
+        for (Understanding understanding : UNDERSTANDINGS) {
+            UNDERSTANDING_ENTRIES[understanding.ordinal()][0] = new SerializedString(understanding.name());
+            UNDERSTANDING_ENTRIES[understanding.ordinal()][1] = new SerializedString(understanding.getEmoji());
+        }
+    }
+
+    private final ZoneId zone;
+    private final SerializableString zoneName;
+
+    public CompactStudyLogListSerializer() {
+        super(CompactStudyLogList.class);
+        this.zone = ZoneId.systemDefault();
+        this.zoneName = new SerializedString(zone.getId());
+    }
+
+    @Override
+    public void serialize(CompactStudyLogList value, JsonGenerator gen, SerializationContext ctxt) {
+        Page<StudyLogResponse> page = value.getPage();
+        SearchFacetsResponse facets = page instanceof StudyLogSearchPage searchPage ? searchPage.getFacets() : null;
+        gen.writeStartObject(value, page == null ? 4 : facets == null ? 12 : 13);
+
+        gen.writeName(COLUMNS);
+        gen.writeStartArray(COLUMN_NAMES, COLUMN_NAMES.size());
+        for (SerializableString column : COLUMN_NAMES) {
+            gen.writeString(column);
+        }
+        gen.writeEndArray();
+
+        gen.writeName(DICTIONARY);
+        gen.writeStartObject(null, 2);
+        gen.writeName(CATEGORY);
+        writeEntries(gen, CATEGORY_ENTRIES, ICON);
+        gen.writeName(UNDERSTANDING);
+        writeEntries(gen, UNDERSTANDING_ENTRIES, EMOJI);
+        gen.writeEndObject();
+
+        gen.writeName(TIME_ZONE);
+        gen.writeString(zoneName);
+
+        gen.writeName(ROWS);
+        List<StudyLogResponse> rows = value.getRows();
+        gen.writeStartArray(rows, rows.size());
+        for (StudyLogResponse row : rows) {
+            writeRow(row, gen);
+        }
+        gen.writeEndArray();
+
+        if (page != null) {
+            gen.writeName(PAGE);
+            gen.writeNumber(page.getPage());
+            gen.writeName(SIZE);
+            gen.writeNumber(page.getSize());
+            gen.writeName(TOTAL_ELEMENTS);
+            gen.writeNumber(page.getTotalElements());
+            gen.writeName(FIRST);
+            gen.writeBoolean(page.isFirst());
+            gen.writeName(HAS_NEXT);
+            gen.writeBoolean(page.isHasNext());
+            gen.writeName(HAS_PREVIOUS);
+            gen.writeBoolean(page.isHasPrevious());
+            gen.writeName(LAST);
+            gen.writeBoolean(page.isLast());
+            gen.writeName(TOTAL_PAGES);
+            gen.writeNumber(page.getTotalPages());
+        }
+        if (facets != null) {
+            gen.writeName(FACETS);
+            ctxt.writeValue(gen, facets);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeRow(StudyLogResponse row, JsonGenerator gen) {
+        gen.writeStartArray(row, COLUMN_NAMES.size());
+        JsonWriters.writeNumber(gen, row.getId());
+        JsonWriters.writeNumber(gen, row.getOwnerId());
+        gen.writeString(row.getTitle());
+        gen.writeString(row.getContent());
+        writeOrdinal(gen, row.getCategory() == null ? null : Category.valueOf(row.getCategory()));
+        writeOrdinal(gen, row.getUnderstanding() == null ? null : Understanding.valueOf(row.getUnderstanding()));
+        JsonWriters.writeNumber(gen, row.getStudyTime());
+        if (row.getStudyDate() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(row.getStudyDate().toEpochDay());
+        }
+        writeEpochMillis(gen, row.getCreatedAt());
+        writeEpochMillis(gen, row.getUpdatedAt());
+        gen.writeEndArray();
+    }
+
+    private void writeEpochMillis(JsonGenerator gen, LocalDateTime dateTime) {
+        if (dateTime == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(dateTime.atZone(zone).toInstant().toEpochMilli());
+        }
+    }
+
+    private static void writeOrdinal(JsonGenerator gen, Enum<?> value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.ordinal());
+        }
+    }
+
+    private static void writeEntries(JsonGenerator gen, SerializableString[][] entries, SerializableString symbolName) {
+        gen.writeStartArray(entries, entries.length);
+        for (SerializableString[] entry : entries) {
+            gen.writeStartObject(entry, 2);
+            gen.writeName(NAME);
+            gen.writeString(entry[0]);
+            gen.writeName(symbolName);
+            gen.writeString(entry[1]);
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static SerializableString[][] entries(int size) {
+        return new SerializableString[size][2];
+    }
+}
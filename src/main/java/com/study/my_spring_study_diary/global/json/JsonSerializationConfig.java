@@ -0,0 +1,35 @@
+package com.study.my_spring_study_diary.global.json;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * 학습 일지 응답 전용 직렬화기 등록 (JacksonModule 빈은 Spring Boot가 JsonMapper에 자동 등록)
+ * <p>
+ * diary.json.fast-serializers=false 이면 기존 리플렉션 기반 직렬화로 돌아간다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "diary.json", name = "fast-serializers", havingValue = "true", matchIfMissing = true)
+public class JsonSerializationConfig {
+
+    @Bean
+    public SimpleModule studyLogJsonModule() {
+        return studyLogModule();
+    }
+
+    /**
+     * 벤치마크/테스트에서도 같은 구성을 쓰도록 분리
+     */
+    public static SimpleModule studyLogModule() {
+        SimpleModule module = new SimpleModule("study-log-json");
+        module.addSerializer(StudyLogResponse.class, new StudyLogResponseSerializer());
+        module.addSerializer(Page.class, new PageSerializer());
+        module.addSerializer(ApiResponse.class, new ApiResponseSerializer());
+        return module;
+    }
+}
@@ -0,0 +1,141 @@
+package com.study.my_spring_study_diary.global.json;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 직렬화기들이 함께 쓰는 저수준 쓰기 도구
+ * <p>
+ * - 날짜/시각: DateTimeFormatter 대신 스레드별 char[]에 직접 ISO 형식으로 써서 행마다 생기는 문자열 할당을 없앤다.
+ *   Jackson 기본 직렬화(ISO_LOCAL_DATE / ISO_LOCAL_DATE_TIME)와 같은 결과를 낸다.
+ * - 고정 값(enum 이름, 아이콘 등): 미리 JSON 인코딩해 둔 SerializedString을 그대로 출력한다.
+ */
+final class JsonWriters {
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+
+    private JsonWriters() {
+    }
+
+    /**
+     * 값 목록을 미리 인코딩한 조회표 (키는 enum.name() 등 같은 String 인스턴스라 해시가 캐시되어 있음)
+     */
+    static <E extends Enum<E>> Map<String, SerializableString> preEncode(E[] values, Function<E, String> text) {
+        Map<String, SerializableString> encoded = new HashMap<>();
+        for (E value : values) {
+            encoded.put(text.apply(value), new SerializedString(text.apply(value)));
+        }
+        return Map.copyOf(encoded);
+    }
+
+    static void writeString(JsonGenerator gen, String value, Map<String, SerializableString> preEncoded) {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        SerializableString encoded = preEncoded.get(value);
+        if (encoded != null) {
+            gen.writeString(encoded);
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    static void writeNumber(JsonGenerator gen, Long value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    static void writeNumber(JsonGenerator gen, Integer value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    // ==================== 날짜/시각 ====================
+
+    static void writeDate(JsonGenerator gen, LocalDate date) {
+        if (date == null) {
+            gen.writeNull();
+            return;
+        }
+        if (!fourDigitYear(date.getYear())) {
+            gen.writeString(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int length = date(buffer, 0, date);
+        gen.writeString(buffer, 0, length);
+    }
+
+    static void writeDateTime(JsonGenerator gen, LocalDateTime dateTime) {
+        if (dateTime == null) {
+            gen.writeNull();
+            return;
+        }
+        if (!fourDigitYear(dateTime.getYear())) {
+            gen.writeString(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int pos = date(buffer, 0, dateTime.toLocalDate());
+        buffer[pos++] = 'T';
+        pos = twoDigits(buffer, pos, dateTime.getHour());
+        buffer[pos++] = ':';
+        pos = twoDigits(buffer, pos, dateTime.getMinute());
+        buffer[pos++] = ':';
+        pos = twoDigits(buffer, pos, dateTime.getSecond());
+
+        // ISO_LOCAL_DATE_TIME: 나노초는 필요한 자릿수만 (끝의 0 제거)
+        int nano = dateTime.getNano();
+        if (nano > 0) {
+            buffer[pos++] = '.';
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            for (int i = digits - 1; i >= 0; i--) {
+                buffer[pos + i] = (char) ('0' + nano % 10);
+                nano /= 10;
+            }
+            pos += digits;
+        }
+        gen.writeString(buffer, 0, pos);
+    }
+
+    private static boolean fourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    private static int date(char[] buffer, int pos, LocalDate date) {
+        int year = date.getYear();
+        buffer[pos++] = (char) ('0' + year / 1000);
+        buffer[pos++] = (char) ('0' + year / 100 % 10);
+        buffer[pos++] = (char) ('0' + year / 10 % 10);
+        buffer[pos++] = (char) ('0' + year % 10);
+        buffer[pos++] = '-';
+        pos = twoDigits(buffer, pos, date.getMonthValue());
+        buffer[pos++] = '-';
+        return twoDigits(buffer, pos, date.getDayOfMonth());
+    }
+
+    private static int twoDigits(char[] buffer, int pos, int value) {
+        buffer[pos] = (char) ('0' + value / 10);
+        buffer[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+}
@@ -0,0 +1,84 @@
+package com.study.my_spring_study_diary.global.json;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.SearchFacetsResponse;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.dto.response.StudyLogSearchPage;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.List;
+
+/**
+ * Page 직렬화기
+ * <p>
+ * 필드 순서는 기존 기본 직렬화 결과(content, page, size, totalElements, first, hasNext, hasPrevious, last, totalPages)와 같다.
+ * 검색 결과 페이지(StudyLogSearchPage)는 마지막에 facets를 더한다.
+ * 요소가 StudyLogResponse면 StudyLogResponseSerializer를 바로 호출하고, 그 외 타입은 ObjectMapper에 맡긴다.
+ */
+@SuppressWarnings("rawtypes")
+public class PageSerializer extends StdSerializer<Page> {
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString PAGE = new SerializedString("page");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString HAS_NEXT = new SerializedString("hasNext");
+    private static final SerializableString HAS_PREVIOUS = new SerializedString("hasPrevious");
+    private static final SerializableString LAST = new SerializedString("last");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString FACETS = new SerializedString("facets");
+
+    public PageSerializer() {
+        super(Page.class);
+    }
+
+    @Override
+    public void serialize(Page value, JsonGenerator gen, SerializationContext ctxt) {
+        SearchFacetsResponse facets = value instanceof StudyLogSearchPage searchPage ? searchPage.getFacets() : null;
+        gen.writeStartObject(value, facets == null ? 9 : 10);
+        gen.writeName(CONTENT);
+        writeElements(value.getContent(), gen, ctxt);
+        gen.writeName(PAGE);
+        gen.writeNumber(value.getPage());
+        gen.writeName(SIZE);
+        gen.writeNumber(value.getSize());
+        gen.writeName(TOTAL_ELEMENTS);
+        gen.writeNumber(value.getTotalElements());
+        gen.writeName(FIRST);
+        gen.writeBoolean(value.isFirst());
+        gen.writeName(HAS_NEXT);
+        gen.writeBoolean(value.isHasNext());
+        gen.writeName(HAS_PREVIOUS);
+        gen.writeBoolean(value.isHasPrevious());
+        gen.writeName(LAST);
+        gen.writeBoolean(value.isLast());
+        gen.writeName(TOTAL_PAGES);
+        gen.writeNumber(value.getTotalPages());
+        if (facets != null) {
+            gen.writeName(FACETS);
+            ctxt.writeValue(gen, facets);
+        }
+        gen.writeEndObject();
+    }
+
+    static void writeElements(List<?> elements, JsonGenerator gen, SerializationContext ctxt) {
+        if (elements == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(elements, elements.size());
+        for (Object element : elements) {
+            if (element instanceof StudyLogResponse response) {
+                StudyLogResponseSerializer.write(response, gen);
+            } else {
+                ctxt.writeValue(gen, element);
+            }
+        }
+        gen.writeEndArray();
+    }
+}
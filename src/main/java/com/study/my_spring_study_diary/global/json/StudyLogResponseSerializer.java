@@ -0,0 +1,84 @@
+package com.study.my_spring_study_diary.global.json;
+
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.Map;
+
+/**
+ * StudyLogResponse 직렬화기 (리플렉션 없이 필드를 순서대로 직접 기록)
+ * <p>
+ * 필드 순서와 null 처리는 StudyLogResponse의 @JsonPropertyOrder / 기본 직렬화와 같다.
+ * 필드를 추가하면 여기와 StudyLogJsonSerializersTest의 비교 대상도 함께 바꾼다.
+ */
+public class StudyLogResponseSerializer extends StdSerializer<StudyLogResponse> {
+
+    // 필드 수를 미리 알려 주면 CBOR 등 바이너리 형식은 길이 고정 맵으로 쓴다 (JSON은 영향 없음)
+    private static final int FIELD_COUNT = 12;
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString OWNER_ID = new SerializedString("ownerId");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString CATEGORY_ICON = new SerializedString("categoryIcon");
+    private static final SerializableString UNDERSTANDING = new SerializedString("understanding");
+    private static final SerializableString UNDERSTANDING_EMOJI = new SerializedString("understandingEmoji");
+    private static final SerializableString STUDY_TIME = new SerializedString("studyTime");
+    private static final SerializableString STUDY_DATE = new SerializedString("studyDate");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    // 행마다 반복되는 enum 이름과 아이콘/이모지는 미리 인코딩
+    private static final Map<String, SerializableString> CATEGORY_NAMES = JsonWriters.preEncode(Category.values(), Category::name);
+    private static final Map<String, SerializableString> CATEGORY_ICONS = JsonWriters.preEncode(Category.values(), Category::getIcon);
+    private static final Map<String, SerializableString> UNDERSTANDING_NAMES = JsonWriters.preEncode(Understanding.values(), Understanding::name);
+    private static final Map<String, SerializableString> UNDERSTANDING_EMOJIS = JsonWriters.preEncode(Understanding.values(), Understanding::getEmoji);
+
+    public StudyLogResponseSerializer() {
+        super(StudyLogResponse.class);
+    }
+
+    @Override
+    public void serialize(StudyLogResponse value, JsonGenerator gen, SerializationContext ctxt) {
+        write(value, gen);
+    }
+
+    /**
+     * 페이지/목록 직렬화기가 요소마다 직렬화기를 찾지 않고 바로 호출
+     */
+    static void write(StudyLogResponse value, JsonGenerator gen) {
+        gen.writeStartObject(value, FIELD_COUNT);
+        gen.writeName(ID);
+        JsonWriters.writeNumber(gen, value.getId());
+        gen.writeName(OWNER_ID);
+        JsonWriters.writeNumber(gen, value.getOwnerId());
+        gen.writeName(TITLE);
+        gen.writeString(value.getTitle());
+        gen.writeName(CONTENT);
+        gen.writeString(value.getContent());
+        gen.writeName(CATEGORY);
+        JsonWriters.writeString(gen, value.getCategory(), CATEGORY_NAMES);
+        gen.writeName(CATEGORY_ICON);
+        JsonWriters.writeString(gen, value.getCategoryIcon(), CATEGORY_ICONS);
+        gen.writeName(UNDERSTANDING);
+        JsonWriters.writeString(gen, value.getUnderstanding(), UNDERSTANDING_NAMES);
+        gen.writeName(UNDERSTANDING_EMOJI);
+        JsonWriters.writeString(gen, value.getUnderstandingEmoji(), UNDERSTANDING_EMOJIS);
+        gen.writeName(STUDY_TIME);
+        JsonWriters.writeNumber(gen, value.getStudyTime());
+        gen.writeName(STUDY_DATE);
+        JsonWriters.writeDate(gen, value.getStudyDate());
+        gen.writeName(CREATED_AT);
+        JsonWriters.writeDateTime(gen, value.getCreatedAt());
+        gen.writeName(UPDATED_AT);
+        JsonWriters.writeDateTime(gen, value.getUpdatedAt());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,238 @@
+package com.study.my_spring_study_diary.global.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * study_logs 월 파티션 DDL 계획
+ * <p>
+ * 현재 파티션 목록과 오늘 날짜만으로 실행할 DDL을 만든다. (DB 접근 없음)
+ * <pre>
+ * PARTITION BY RANGE COLUMNS(study_date) (
+ *     PARTITION p_min    VALUES LESS THAN ('2024-01-01'),   -- 관리 범위 이전 데이터
+ *     PARTITION p202401  VALUES LESS THAN ('2024-02-01'),
+ *     ...
+ *     PARTITION p_future VALUES LESS THAN (MAXVALUE)        -- 아직 만들지 않은 달
+ * )
+ * </pre>
+ * RANGE COLUMNS는 컬럼 값을 그대로 비교하므로 study_date = ?, study_date >= ? AND study_date &lt; ? 같은
+ * 조건만으로 옵티마이저가 파티션을 잘라낸다(partition pruning). 컬럼에 함수를 씌우면 잘라내지 못한다.
+ * <p>
+ * MySQL은 모든 UNIQUE 키(PK 포함)에 파티션 컬럼이 있어야 하므로 변환 시 PK를 (id, study_date)로 바꾼다.
+ * <p>
+ * 만료 DDL은 중간에 멈춰도 다음 점검에서 이어서 실행할 수 있도록, 보관 테이블과 p_min의 현재 상태(ExpiryState)를 보고 만든다.
+ */
+public class PartitionPlanner {
+
+    public static final String TABLE = "study_logs";
+    public static final String MIN_PARTITION = "p_min";
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p(\\d{6})");
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final StudyLogPartitionProperties properties;
+
+    public PartitionPlanner(StudyLogPartitionProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 보관(ARCHIVE) 테이블의 현재 상태
+     *
+     * @param partitioned CREATE TABLE ... LIKE 직후처럼 아직 파티션이 남아 있는지
+     * @param hasRows     이미 보관된 행이 있는지 (EXCHANGE가 끝났거나 이전에 보관한 적이 있음)
+     */
+    public record ArchiveTable(boolean partitioned, boolean hasRows) {
+    }
+
+    /**
+     * 만료 처리에 필요한 DB 상태 (StudyLogPartitionManager가 information_schema와 테이블에서 읽어 넘긴다)
+     *
+     * @param minPartitionHasRows p_min에 행이 있는지
+     * @param archiveTables       이미 있는 보관 테이블 (테이블 이름 -> 상태)
+     */
+    public record ExpiryState(boolean minPartitionHasRows, Map<String, ArchiveTable> archiveTables) {
+
+        public static final ExpiryState EMPTY = new ExpiryState(false, Map.of());
+    }
+
+    // ==================== 계획 ====================
+
+    /**
+     * 파티션이 없는 테이블을 월 파티션 테이블로 바꾸는 DDL
+     *
+     * @param oldestDate 테이블에서 가장 오래된 study_date (없으면 null)
+     */
+    public List<String> planConversion(LocalDate oldestDate, LocalDate today) {
+        YearMonth current = YearMonth.from(today);
+        YearMonth first = oldestDate != null ? YearMonth.from(oldestDate) : current;
+        if (properties.getRetentionMonths() > 0) {
+            // 보관 기간 밖의 데이터는 p_min에 모아 둔다 (정기 점검에서 expiryAction대로 비운다)
+            YearMonth retentionStart = current.minusMonths(properties.getRetentionMonths() - 1L);
+            if (first.isBefore(retentionStart)) {
+                first = retentionStart;
+            }
+        }
+        YearMonth last = current.plusMonths(properties.getFutureMonths());
+
+        StringBuilder sql = new StringBuilder()
+                .append("ALTER TABLE ").append(TABLE)
+                .append(" DROP PRIMARY KEY, ADD PRIMARY KEY (id, study_date)")
+                .append(" PARTITION BY RANGE COLUMNS(study_date) (")
+                .append("PARTITION ").append(MIN_PARTITION)
+                .append(" VALUES LESS THAN ('").append(first.atDay(1)).append("')");
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            sql.append(", ").append(monthPartition(month));
+        }
+        sql.append(", PARTITION ").append(FUTURE_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+        return List.of(sql.toString());
+    }
+
+    /**
+     * 보관 테이블이 없고 p_min이 비어 있는 상태로 정기 점검 DDL을 만든다
+     *
+     * @param partitionNames 현재 파티션 이름 (정의 순서)
+     */
+    public List<String> planMaintenance(List<String> partitionNames, LocalDate today) {
+        return planMaintenance(partitionNames, today, ExpiryState.EMPTY);
+    }
+
+    /**
+     * 이미 파티션된 테이블의 정기 점검 DDL
+     * - p_future를 쪼개서 (이번 달 + futureMonths)까지 월 파티션을 만든다
+     * - 보관 기간이 지난 월 파티션을 삭제/보관한다
+     * - 변환 때 p_min에 모인 보관 기간 밖의 행도 같은 방식으로 비운다 (p_min 자체는 가장 낮은 범위라 남긴다)
+     *
+     * @param partitionNames 현재 파티션 이름 (정의 순서)
+     * @param state          p_min과 보관 테이블의 현재 상태
+     */
+    public List<String> planMaintenance(List<String> partitionNames, LocalDate today, ExpiryState state) {
+        if (!partitionNames.contains(FUTURE_PARTITION)) {
+            throw new IllegalStateException(TABLE + " 테이블에 " + FUTURE_PARTITION + " 파티션이 없어 관리할 수 없습니다: " + partitionNames);
+        }
+
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : partitionNames) {
+            parseMonth(name).ifPresent(months::add);
+        }
+
+        YearMonth current = YearMonth.from(today);
+        List<String> statements = new ArrayList<>();
+
+        // 1. 앞으로의 월 파티션 추가
+        YearMonth lastExisting = months.isEmpty() ? current.minusMonths(1) : months.get(months.size() - 1);
+        YearMonth target = current.plusMonths(properties.getFutureMonths());
+        List<YearMonth> toAdd = new ArrayList<>();
+        for (YearMonth month = lastExisting.plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+            toAdd.add(month);
+        }
+        if (!toAdd.isEmpty()) {
+            StringBuilder sql = new StringBuilder()
+                    .append("ALTER TABLE ").append(TABLE)
+                    .append(" REORGANIZE PARTITION ").append(FUTURE_PARTITION).append(" INTO (");
+            for (YearMonth month : toAdd) {
+                sql.append(monthPartition(month)).append(", ");
+            }
+            sql.append("PARTITION ").append(FUTURE_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+            statements.add(sql.toString());
+        }
+
+        // 2. 만료 파티션 정리
+        if (properties.getRetentionMonths() > 0
+                && properties.getExpiryAction() != StudyLogPartitionProperties.ExpiryAction.NONE) {
+            YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths() - 1L);
+            // p_min의 상한은 가장 이른 월 파티션의 시작이므로, 그 달이 보관 기간 안이 아니면 p_min 전체가 만료 대상이다
+            if (partitionNames.contains(MIN_PARTITION) && state.minPartitionHasRows()
+                    && !months.isEmpty() && !months.get(0).isAfter(oldestKept)) {
+                statements.addAll(expireMinPartition(state));
+            }
+            for (YearMonth month : months) {
+                if (month.isBefore(oldestKept)) {
+                    statements.addAll(expire(partitionName(month), state));
+                }
+            }
+        }
+        return statements;
+    }
+
+    // ==================== DDL ====================
+
+    private List<String> expire(String partition, ExpiryState state) {
+        if (properties.getExpiryAction() == StudyLogPartitionProperties.ExpiryAction.DROP) {
+            return List.of("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+        }
+        List<String> statements = new ArrayList<>(archive(partition, state));
+        statements.add("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+        return statements;
+    }
+
+    private List<String> expireMinPartition(ExpiryState state) {
+        if (properties.getExpiryAction() == StudyLogPartitionProperties.ExpiryAction.DROP) {
+            return List.of("ALTER TABLE " + TABLE + " TRUNCATE PARTITION " + MIN_PARTITION);
+        }
+        // EXCHANGE로 옮기면 p_min은 빈 파티션이 되고, 이미 보관된 행이 있어 복사했으면 복사한 뒤 비운다
+        List<String> statements = new ArrayList<>(archive(MIN_PARTITION, state));
+        ArchiveTable table = state.archiveTables().get(archiveTableName(MIN_PARTITION));
+        if (table != null && table.hasRows()) {
+            statements.add("ALTER TABLE " + TABLE + " TRUNCATE PARTITION " + MIN_PARTITION);
+        }
+        return statements;
+    }
+
+    /**
+     * 파티션의 행을 보관 테이블로 옮기는 DDL (중간에 멈춰도 다음 점검에서 다시 실행할 수 있다)
+     * - 보관 테이블이 없으면 만들고, 파티션이 남아 있으면(CREATE 직후 멈춤) 파티션을 없앤다
+     * - 보관 테이블이 비어 있으면 EXCHANGE PARTITION: 데이터 파일을 통째로 맞바꾼다 (행 복사 없음)
+     * - 이미 행이 있으면(EXCHANGE 후 DROP 전에 멈춤 등) 다시 맞바꾸면 보관한 행이 되돌아오므로,
+     *   남은 행만 INSERT IGNORE로 복사한다 (같은 PK는 이미 보관된 행)
+     */
+    private static List<String> archive(String partition, ExpiryState state) {
+        String archive = archiveTableName(partition);
+        ArchiveTable table = state.archiveTables().get(archive);
+        List<String> statements = new ArrayList<>();
+        if (table == null) {
+            statements.add("CREATE TABLE IF NOT EXISTS " + archive + " LIKE " + TABLE);
+        }
+        if (table == null || table.partitioned()) {
+            statements.add("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+        }
+        if (table == null || !table.hasRows()) {
+            statements.add("ALTER TABLE " + TABLE + " EXCHANGE PARTITION " + partition + " WITH TABLE " + archive);
+        } else {
+            statements.add("INSERT IGNORE INTO " + archive + " SELECT * FROM " + TABLE + " PARTITION (" + partition + ")");
+        }
+        return statements;
+    }
+
+    /**
+     * 보관 테이블 이름 (study_logs_archive_ + 파티션 이름)
+     */
+    public static String archiveTableName(String partition) {
+        return TABLE + "_archive_" + partition;
+    }
+
+    private static String monthPartition(YearMonth month) {
+        return "PARTITION " + partitionName(month)
+                + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    public static String partitionName(YearMonth month) {
+        return "p" + month.format(MONTH_NAME);
+    }
+
+    static Optional<YearMonth> parseMonth(String partitionName) {
+        Matcher matcher = MONTH_PARTITION.matcher(partitionName);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.parse(matcher.group(1), MONTH_NAME));
+    }
+}
@@ -0,0 +1,14 @@
+package com.study.my_spring_study_diary.global.partition;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 파티션 관리가 켜졌을 때만 스케줄링을 활성화한다
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "diary.partitioning", name = "enabled", havingValue = "true")
+public class PartitionSchedulingConfig {
+}
@@ -0,0 +1,149 @@
+package com.study.my_spring_study_diary.global.partition;
+
+import com.study.my_spring_study_diary.global.datasource.ShardDataSources;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * study_logs 월 파티션 정기 관리
+ * <p>
+ * diary.partitioning.enabled=true 일 때만 동작한다. (MySQL 전용)
+ * - 파티션이 없는 테이블: convertExisting=true 면 월 파티션 테이블로 변환, 아니면 경고만 남김
+ * - 파티션된 테이블: 앞으로의 월 파티션을 만들고, 보관 기간이 지난 파티션을 삭제/보관
+ * 샤딩 구성이면 모든 샤드에 같은 작업을 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "diary.partitioning", name = "enabled", havingValue = "true")
+public class StudyLogPartitionManager {
+
+    private static final String PARTITIONS_SQL = """
+            SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    private static final String ARCHIVE_TABLES_SQL = """
+            SELECT t.TABLE_NAME,
+                   (SELECT COUNT(*) FROM information_schema.PARTITIONS p
+                    WHERE p.TABLE_SCHEMA = t.TABLE_SCHEMA AND p.TABLE_NAME = t.TABLE_NAME
+                      AND p.PARTITION_NAME IS NOT NULL) AS partition_count
+            FROM information_schema.TABLES t
+            WHERE t.TABLE_SCHEMA = DATABASE() AND t.TABLE_NAME LIKE ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ShardDataSources> shardDataSources;
+    private final StudyLogPartitionProperties properties;
+    private final PartitionPlanner planner;
+
+    public StudyLogPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            ObjectProvider<ShardDataSources> shardDataSources,
+            StudyLogPartitionProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardDataSources = shardDataSources;
+        this.properties = properties;
+        this.planner = new PartitionPlanner(properties);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (properties.isRunOnStartup()) {
+            maintain();
+        }
+    }
+
+    @Scheduled(cron = "${diary.partitioning.cron:0 10 3 * * *}")
+    public void maintain() {
+        for (JdbcTemplate target : targets()) {
+            try {
+                maintain(target, LocalDate.now());
+            } catch (RuntimeException e) {
+                // 한 DB의 실패가 다른 샤드의 점검을 막지 않도록 하고, 다음 주기에 다시 시도한다
+                log.error("study_logs 파티션 점검 실패", e);
+            }
+        }
+    }
+
+    void maintain(JdbcTemplate target, LocalDate today) {
+        List<String> partitions = target.query(PARTITIONS_SQL,
+                (rs, rowNum) -> rs.getString("PARTITION_NAME"), PartitionPlanner.TABLE);
+        List<String> partitionNames = partitions.stream().filter(Objects::nonNull).toList();
+
+        List<String> statements;
+        if (partitionNames.isEmpty()) {
+            if (!properties.isConvertExisting()) {
+                log.warn("study_logs 테이블이 파티션되어 있지 않습니다. diary.partitioning.convert-existing=true 로 변환할 수 있습니다.");
+                return;
+            }
+            LocalDate oldest = target.queryForObject("SELECT MIN(study_date) FROM " + PartitionPlanner.TABLE, LocalDate.class);
+            statements = planner.planConversion(oldest, today);
+        } else {
+            statements = planner.planMaintenance(partitionNames, today, expiryState(target, partitionNames));
+        }
+
+        for (String sql : statements) {
+            if (properties.isDryRun()) {
+                log.info("[dry-run] {}", sql);
+                continue;
+            }
+            long start = System.nanoTime();
+            target.execute(sql);
+            log.info("파티션 DDL 실행 ({} ms): {}", (System.nanoTime() - start) / 1_000_000, sql);
+        }
+    }
+
+    /**
+     * 만료 DDL을 이어서 실행할 수 있도록 p_min과 보관 테이블의 현재 상태를 읽는다
+     */
+    private PartitionPlanner.ExpiryState expiryState(JdbcTemplate target, List<String> partitionNames) {
+        if (properties.getRetentionMonths() <= 0
+                || properties.getExpiryAction() == StudyLogPartitionProperties.ExpiryAction.NONE) {
+            return PartitionPlanner.ExpiryState.EMPTY;
+        }
+        boolean minPartitionHasRows = partitionNames.contains(PartitionPlanner.MIN_PARTITION)
+                && hasRows(target, PartitionPlanner.TABLE + " PARTITION (" + PartitionPlanner.MIN_PARTITION + ")");
+
+        Map<String, PartitionPlanner.ArchiveTable> archiveTables = new HashMap<>();
+        if (properties.getExpiryAction() == StudyLogPartitionProperties.ExpiryAction.ARCHIVE) {
+            String pattern = PartitionPlanner.archiveTableName("").replace("_", "\\_") + "%";
+            // 결과를 읽는 동안 커넥션을 하나 더 잡지 않도록 목록을 먼저 받은 뒤 행 유무를 확인한다
+            Map<String, Boolean> partitioned = new HashMap<>();
+            target.query(ARCHIVE_TABLES_SQL,
+                    rs -> { partitioned.put(rs.getString("TABLE_NAME"), rs.getInt("partition_count") > 0); },
+                    pattern);
+            partitioned.forEach((name, isPartitioned) ->
+                    archiveTables.put(name, new PartitionPlanner.ArchiveTable(isPartitioned, hasRows(target, name))));
+        }
+        return new PartitionPlanner.ExpiryState(minPartitionHasRows, archiveTables);
+    }
+
+    private static boolean hasRows(JdbcTemplate target, String from) {
+        return !target.queryForList("SELECT 1 FROM " + from + " LIMIT 1").isEmpty();
+    }
+
+    private List<JdbcTemplate> targets() {
+        ShardDataSources shards = shardDataSources.getIfAvailable();
+        if (shards == null) {
+            return List.of(jdbcTemplate);
+        }
+        List<JdbcTemplate> targets = new ArrayList<>();
+        shards.get().forEach(dataSource -> targets.add(new JdbcTemplate(dataSource)));
+        return targets;
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.my_spring_study_diary.global.partition;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * study_logs 월 단위 RANGE 파티션 관리 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.partitioning")
+public class StudyLogPartitionProperties {
+
+    private boolean enabled = false;
+
+    // 파티션 점검 주기 (기본: 매일 03:10)
+    private String cron = "0 10 3 * * *";
+
+    // 애플리케이션 시작 직후에도 한 번 점검
+    private boolean runOnStartup = true;
+
+    // 이번 달 이후로 미리 만들어 둘 월 파티션 수
+    private int futureMonths = 3;
+
+    // 보관 기간 (개월, 0이면 만료 없음). 이번 달 기준으로 이보다 오래된 월 파티션이 만료 대상
+    private int retentionMonths = 0;
+
+    // 만료된 파티션 처리 방법
+    private ExpiryAction expiryAction = ExpiryAction.NONE;
+
+    // 아직 파티션이 없는 테이블을 월 파티션 테이블로 변환할지 여부 (큰 테이블은 오래 걸리므로 기본 off)
+    private boolean convertExisting = false;
+
+    // true면 DDL을 실행하지 않고 로그로만 남긴다 (운영 적용 전 검토용)
+    private boolean dryRun = false;
+
+    public enum ExpiryAction {
+        NONE,       // 만료 파티션을 그대로 둔다
+        DROP,       // 파티션을 삭제한다 (데이터 삭제)
+        ARCHIVE     // study_logs_archive_pYYYYMM 테이블로 옮긴 뒤 파티션을 삭제한다
+    }
+}
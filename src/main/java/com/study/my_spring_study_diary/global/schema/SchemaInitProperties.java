@@ -0,0 +1,30 @@
+package com.study.my_spring_study_diary.global.schema;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스키마 버전 기반 초기화 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.schema-init")
+public class SchemaInitProperties {
+
+    private boolean enabled = false;
+
+    private List<String> schemaLocations = new ArrayList<>(List.of("classpath:db/schema.sql"));
+
+    // 처음 초기화할 때만 실행 (스키마가 바뀌어도 다시 넣지 않음)
+    private List<String> dataLocations = new ArrayList<>(List.of("classpath:db/data.sql"));
+
+    // 비워 두면 스키마 스크립트 내용의 해시를 버전으로 사용
+    private String version;
+
+    // 적용한 버전을 기록하는 테이블
+    private String versionTable = "diary_schema_version";
+}
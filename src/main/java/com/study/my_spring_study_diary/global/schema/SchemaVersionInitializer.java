@@ -0,0 +1,159 @@
+package com.study.my_spring_study_diary.global.schema;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 스키마 버전이 바뀌었을 때만 스키마/데이터 스크립트를 실행하는 초기화기
+ * <p>
+ * spring.sql.init.mode=always 는 기동할 때마다 모든 스크립트를 다시 실행한다.
+ * 이 초기화기는 버전 테이블 한 행만 읽고, 기록된 버전이 기대 버전과 같으면 바로 끝난다.
+ * - 기대 버전: diary.schema-init.version, 없으면 스키마 스크립트 내용의 SHA-256 앞 12자리
+ * - 버전이 다르면 스키마 스크립트를 다시 실행 (스크립트는 IF NOT EXISTS로 재실행 가능해야 한다)
+ * - 데이터 스크립트는 버전 기록이 없을 때(최초 초기화)만 실행 -> 스키마가 바뀌어도 시드 행이 중복되지 않음
+ * - MySQL이면 GET_LOCK으로 여러 인스턴스가 동시에 기동해도 한 곳에서만 실행
+ * <p>
+ * AOT 처리 시 조건부 빈은 빌드 시점에 고정되므로, 이 빈은 항상 등록하고 enabled는 실행 시점에 확인한다.
+ */
+@Slf4j
+@Component
+public class SchemaVersionInitializer implements InitializingBean {
+
+    private static final String LOCK_NAME = "diary_schema_init";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private final DataSource dataSource;
+    private final ResourceLoader resourceLoader;
+    private final SchemaInitProperties properties;
+
+    public SchemaVersionInitializer(DataSource dataSource, ResourceLoader resourceLoader, SchemaInitProperties properties) {
+        this.dataSource = dataSource;
+        this.resourceLoader = resourceLoader;
+        this.properties = properties;
+    }
+
+    /**
+     * 초기화 결과
+     */
+    public enum Outcome {
+        DISABLED, UP_TO_DATE, INITIALIZED, UPGRADED
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        initialize();
+    }
+
+    public Outcome initialize() throws SQLException {
+        if (!properties.isEnabled()) {
+            return Outcome.DISABLED;
+        }
+        List<Resource> schemaScripts = resolve(properties.getSchemaLocations());
+        String expected = properties.getVersion() != null && !properties.getVersion().isBlank()
+                ? properties.getVersion()
+                : checksum(schemaScripts);
+
+        // 잠금과 스크립트 실행이 같은 커넥션에서 일어나도록 커넥션 하나로 처리
+        try (Connection connection = dataSource.getConnection()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            String table = properties.getVersionTable();
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table
+                    + " (id INT PRIMARY KEY, version VARCHAR(64) NOT NULL, applied_at TIMESTAMP NOT NULL)");
+
+            if (expected.equals(currentVersion(jdbcTemplate, table))) {
+                log.info("스키마 버전 {} 적용되어 있음, 초기화 생략", expected);
+                return Outcome.UP_TO_DATE;
+            }
+
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            if (mysql && !lock(jdbcTemplate)) {
+                throw new IllegalStateException("스키마 초기화 잠금을 " + LOCK_TIMEOUT_SECONDS + "초 안에 얻지 못했습니다.");
+            }
+            try {
+                // 잠금을 기다리는 동안 다른 인스턴스가 끝냈을 수 있다
+                String current = currentVersion(jdbcTemplate, table);
+                if (expected.equals(current)) {
+                    return Outcome.UP_TO_DATE;
+                }
+
+                schemaScripts.forEach(script -> execute(connection, script));
+                if (current == null) {
+                    resolve(properties.getDataLocations()).forEach(script -> execute(connection, script));
+                }
+
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                if (current == null) {
+                    jdbcTemplate.update("INSERT INTO " + table + " (id, version, applied_at) VALUES (1, ?, ?)", expected, now);
+                } else {
+                    jdbcTemplate.update("UPDATE " + table + " SET version = ?, applied_at = ? WHERE id = 1", expected, now);
+                }
+                log.info("스키마 버전 {} -> {} 적용 완료", current, expected);
+                return current == null ? Outcome.INITIALIZED : Outcome.UPGRADED;
+            } finally {
+                if (mysql) {
+                    jdbcTemplate.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+                }
+            }
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private static void execute(Connection connection, Resource script) {
+        ScriptUtils.executeSqlScript(connection, new EncodedResource(script, StandardCharsets.UTF_8));
+    }
+
+    private static String currentVersion(JdbcTemplate jdbcTemplate, String table) {
+        List<String> versions = jdbcTemplate.queryForList("SELECT version FROM " + table + " WHERE id = 1", String.class);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    private static boolean lock(JdbcTemplate jdbcTemplate) {
+        Integer acquired = jdbcTemplate.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class, LOCK_NAME, LOCK_TIMEOUT_SECONDS);
+        return acquired != null && acquired == 1;
+    }
+
+    private List<Resource> resolve(List<String> locations) {
+        return locations.stream()
+                .map(resourceLoader::getResource)
+                .filter(Resource::exists)
+                .toList();
+    }
+
+    private static String checksum(List<Resource> scripts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Resource script : scripts) {
+                try (InputStream in = script.getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.my_spring_study_diary.global.timeout;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * DAO 작업 하나에 쓰는 JdbcTemplate
+ * <p>
+ * 문장마다 작업별 타임아웃을 걸고, 요청 기한(QueryDeadline)이 있으면 남은 시간으로 더 줄인 뒤 기한에 등록해
+ * 클라이언트가 떠나면 Statement.cancel()로 중단할 수 있게 한다.
+ * 기한 때문에 끝난 쿼리는 드라이버마다 다른 예외 대신 QueryTimeoutException(504)으로 바꾼다.
+ */
+public class DeadlineJdbcTemplate extends JdbcTemplate {
+
+    private final String operation;
+
+    public DeadlineJdbcTemplate(JdbcTemplate base, String operation, Duration statementTimeout) {
+        super(base.getDataSource());
+        setExceptionTranslator(base.getExceptionTranslator());
+        setFetchSize(base.getFetchSize());
+        setMaxRows(base.getMaxRows());
+        setQueryTimeout(toSeconds(statementTimeout));
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        QueryDeadline deadline = QueryDeadline.current();
+        if (deadline == null) {
+            return;
+        }
+        if (deadline.isCancelled() || deadline.isExpired()) {
+            throw new QueryTimeoutException(message(deadline));
+        }
+        int remainingSeconds = toSeconds(Duration.ofMillis(deadline.remainingMillis()));
+        int queryTimeout = getQueryTimeout();
+        if (queryTimeout <= 0 || remainingSeconds < queryTimeout) {
+            stmt.setQueryTimeout(Math.max(1, remainingSeconds));
+        }
+        deadline.register(stmt);
+    }
+
+    @Override
+    protected DataAccessException translateException(String task, String sql, SQLException ex) {
+        QueryDeadline deadline = QueryDeadline.current();
+        if (deadline != null && (deadline.isCancelled() || deadline.isExpired())) {
+            return new QueryTimeoutException(message(deadline), ex);
+        }
+        return super.translateException(task, sql, ex);
+    }
+
+    private String message(QueryDeadline deadline) {
+        String reason = deadline.getCancelReason() != null ? deadline.getCancelReason() : "요청 기한 초과";
+        return "쿼리를 중단했습니다. (" + reason + ", endpoint: " + deadline.getEndpoint() + ", operation: " + operation + ")";
+    }
+
+    /**
+     * JDBC 타임아웃은 초 단위라 올림 (0이면 제한 없음)
+     */
+    private static int toSeconds(Duration duration) {
+        if (duration == null || duration.isZero() || duration.isNegative()) {
+            return 0;
+        }
+        long millis = duration.toMillis();
+        return (int) Math.min(Integer.MAX_VALUE, (millis + 999) / 1000);
+    }
+}
@@ -0,0 +1,143 @@
+package com.study.my_spring_study_diary.global.timeout;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나의 DB 작업 기한과 실행 중인 Statement 목록
+ * <p>
+ * QueryDeadlineInterceptor가 컨트롤러 진입 전에 현재 스레드에 걸고, DeadlineJdbcTemplate이 문장을 만들 때마다 읽는다.
+ * - 남은 시간이 문장 타임아웃보다 짧으면 남은 시간으로 줄인다 (JDBC 타임아웃은 초 단위라 올림)
+ * - 기한이 지났거나 취소된 뒤에는 새 쿼리를 시작하지 않는다
+ * - cancel(): 실행 중인 문장을 Statement.cancel()로 중단한다. 쿼리가 예외로 끝나면 JdbcTemplate이 바로 커넥션을 풀에 돌려준다
+ * 샤드 scatter처럼 다른 스레드에서 쿼리를 실행할 때는 call()로 같은 기한을 넘긴다.
+ */
+@Slf4j
+public final class QueryDeadline {
+
+    private static final ThreadLocal<QueryDeadline> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final long deadlineNanos;
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+    private volatile String cancelReason;
+
+    private QueryDeadline(String endpoint, long deadlineNanos) {
+        this.endpoint = endpoint;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 현재 스레드의 기한 (요청 스레드가 아니거나 기한이 없으면 null)
+     */
+    public static QueryDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 지금부터 timeout 뒤를 기한으로 현재 스레드에 건다 (요청이 끝나면 end()로 뗀다)
+     */
+    public static QueryDeadline start(String endpoint, Duration timeout) {
+        QueryDeadline deadline = new QueryDeadline(endpoint, System.nanoTime() + timeout.toNanos());
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    public void end() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+        statements.clear();
+    }
+
+    /**
+     * 다른 스레드에서 같은 기한으로 작업을 실행하고, 끝나면 이전 상태로 되돌린다
+     */
+    public <T> T call(Supplier<T> action) {
+        QueryDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, Duration.ofNanos(deadlineNanos - System.nanoTime()).toMillis());
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public boolean isCancelled() {
+        return cancelReason != null;
+    }
+
+    /**
+     * 취소된 이유 (취소되지 않았으면 null)
+     */
+    public String getCancelReason() {
+        return cancelReason;
+    }
+
+    void register(Statement statement) throws SQLException {
+        statements.removeIf(QueryDeadline::isClosed);
+        statements.add(statement);
+        // 등록하는 사이에 취소됐으면 이 문장도 바로 중단
+        if (cancelReason != null) {
+            statement.cancel();
+        }
+    }
+
+    /**
+     * 실행 중인 문장을 모두 중단한다 (처음 호출만 효과가 있다)
+     *
+     * @return 이번 호출로 중단한 문장 수
+     */
+    public int cancel(String reason) {
+        synchronized (this) {
+            if (cancelReason != null) {
+                return 0;
+            }
+            cancelReason = reason;
+        }
+        int cancelled = 0;
+        for (Statement statement : statements) {
+            try {
+                if (!statement.isClosed()) {
+                    statement.cancel();
+                    cancelled++;
+                }
+            } catch (SQLException e) {
+                // 그 사이 끝나서 닫힌 문장
+                log.debug("Statement 취소 실패 (endpoint: {})", endpoint, e);
+            }
+        }
+        statements.clear();
+        return cancelled;
+    }
+
+    private static boolean isClosed(Statement statement) {
+        try {
+            return statement.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+}
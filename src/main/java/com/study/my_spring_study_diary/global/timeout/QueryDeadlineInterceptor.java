@@ -0,0 +1,86 @@
+package com.study.my_spring_study_diary.global.timeout;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.time.Duration;
+
+/**
+ * 컨트롤러 진입 전에 요청 기한(QueryDeadline)을 현재 스레드에 거는 인터셉터
+ * <p>
+ * 기한은 엔드포인트(핸들러 메서드 이름)별 설정값이고, 클라이언트가 clientTimeoutHeader로 더 짧은 대기 시간을 알려주면 그 값을 쓴다.
+ * 서블릿 컨테이너는 동기 처리 중에 클라이언트가 연결을 끊어도 알려주지 않으므로(응답을 쓸 때에야 실패한다),
+ * 클라이언트가 밝힌 대기 시간이 지나면 떠난 것으로 보고 QueryWatchdog이 실행 중인 쿼리를 취소한다.
+ * diary.query-timeout.enabled=false 이면 기한을 걸지 않는다.
+ */
+public class QueryDeadlineInterceptor implements HandlerInterceptor {
+
+    private static final String DEADLINE_ATTRIBUTE = QueryDeadlineInterceptor.class.getName() + ".deadline";
+
+    private final QueryTimeoutProperties properties;
+    private final QueryWatchdog watchdog;
+
+    public QueryDeadlineInterceptor(QueryTimeoutProperties properties, QueryWatchdog watchdog) {
+        this.properties = properties;
+        this.watchdog = watchdog;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        // SSE 같은 장기 연결은 쿼리를 실행하지 않는다
+        if (ResponseBodyEmitter.class.isAssignableFrom(handlerMethod.getMethod().getReturnType())) {
+            return true;
+        }
+
+        String endpoint = handlerMethod.getMethod().getName();
+        Duration timeout = timeoutOf(endpoint, request.getHeader(properties.getClientTimeoutHeader()));
+        if (timeout == null) {
+            return true;
+        }
+        QueryDeadline deadline = QueryDeadline.start(endpoint, timeout);
+        request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+        watchdog.watch(deadline);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object deadline = request.getAttribute(DEADLINE_ATTRIBUTE);
+        if (deadline != null) {
+            request.removeAttribute(DEADLINE_ATTRIBUTE);
+            watchdog.unwatch((QueryDeadline) deadline);
+            ((QueryDeadline) deadline).end();
+        }
+    }
+
+    /**
+     * 엔드포인트 기한과 클라이언트 대기 시간 중 짧은 쪽 (둘 다 없으면 null)
+     */
+    public Duration timeoutOf(String endpoint, String clientTimeout) {
+        Duration timeout = properties.getEndpointDeadlines().getOrDefault(endpoint, properties.getRequestDeadline());
+        if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+            timeout = null;
+        }
+        if (clientTimeout == null || clientTimeout.isBlank()) {
+            return timeout;
+        }
+
+        long millis;
+        try {
+            millis = Long.parseLong(clientTimeout.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(properties.getClientTimeoutHeader() + " 헤더는 밀리초 단위의 양수여야 합니다.");
+        }
+        if (millis <= 0) {
+            throw new IllegalArgumentException(properties.getClientTimeoutHeader() + " 헤더는 밀리초 단위의 양수여야 합니다.");
+        }
+        Duration client = Duration.ofMillis(millis);
+        return timeout == null || client.compareTo(timeout) < 0 ? client : timeout;
+    }
+}
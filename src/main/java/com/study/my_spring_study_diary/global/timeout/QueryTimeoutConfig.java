@@ -0,0 +1,48 @@
+package com.study.my_spring_study_diary.global.timeout;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 기한 구성
+ * <p>
+ * /api/v1/logs/** 요청에 기한을 걸고 감시 스레드를 띄운다. DAO 작업별 문장 타임아웃은 StatementTimeouts가 따로 건다.
+ * StatementTimeouts와 마찬가지로 AOT 빌드에서 고정되지 않도록 항상 등록하고,
+ * diary.query-timeout.enabled는 QueryDeadlineInterceptor가 요청마다 확인한다.
+ * 상태는 /actuator/metrics/diary.query_timeout.* 로 확인할 수 있다.
+ */
+@Configuration
+public class QueryTimeoutConfig implements WebMvcConfigurer {
+
+    private final QueryTimeoutProperties properties;
+    private final ObjectProvider<QueryWatchdog> queryWatchdog;
+
+    public QueryTimeoutConfig(QueryTimeoutProperties properties, ObjectProvider<QueryWatchdog> queryWatchdog) {
+        this.properties = properties;
+        this.queryWatchdog = queryWatchdog;
+    }
+
+    @Bean(destroyMethod = "close")
+    public QueryWatchdog queryWatchdog(MeterRegistry meterRegistry) {
+        QueryWatchdog watchdog = new QueryWatchdog(properties.getWatchdogInterval());
+        Gauge.builder("diary.query_timeout.watched", watchdog, QueryWatchdog::watchedCount)
+                .description("기한을 감시 중인 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("diary.query_timeout.cancelled", watchdog, QueryWatchdog::cancelledCount)
+                .description("요청 기한이 지나 취소한 쿼리 수")
+                .register(meterRegistry);
+        return watchdog;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryDeadlineInterceptor(properties, queryWatchdog.getObject()))
+                .addPathPatterns("/api/v1/logs", "/api/v1/logs/**");
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.my_spring_study_diary.global.timeout;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 쿼리 타임아웃 / 요청 기한(deadline) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.query-timeout")
+public class QueryTimeoutProperties {
+
+    private boolean enabled = true;
+
+    // DAO 작업별 기본 문장(Statement) 타임아웃 (0이면 제한 없음)
+    private Duration defaultStatementTimeout = Duration.ofSeconds(10);
+
+    // DAO 작업(MySQLStudyLogDaoImpl 메서드 이름)별 재정의. 예: searchWithPaging: 3s
+    private Map<String, Duration> statementTimeouts = new HashMap<>();
+
+    // 요청 하나가 DB에 쓸 수 있는 기본 시간 (0이면 제한 없음)
+    private Duration requestDeadline = Duration.ofSeconds(15);
+
+    // 엔드포인트(컨트롤러 메서드 이름)별 재정의. 예: searchStudyLogsWithPaging: 5s
+    private Map<String, Duration> endpointDeadlines = new HashMap<>();
+
+    // 클라이언트가 자신이 기다릴 시간(ms)을 알려주는 헤더. 이 시간이 지나면 클라이언트는 떠난 것으로 본다
+    private String clientTimeoutHeader = "X-Request-Timeout-Ms";
+
+    // 기한이 지났거나 취소된 요청의 실행 중 쿼리를 찾는 주기
+    private Duration watchdogInterval = Duration.ofMillis(100);
+}
@@ -0,0 +1,75 @@
+package com.study.my_spring_study_diary.global.timeout;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기한이 지난 요청의 실행 중 쿼리를 취소하는 감시 스레드
+ * <p>
+ * JDBC 문장 타임아웃은 초 단위이고 문장마다 따로 재므로, 요청 기한(클라이언트가 기다리는 시간)과 정확히 맞지 않는다.
+ * 데몬 스레드 하나가 interval마다 감시 중인 기한을 훑어, 지난 기한의 Statement를 cancel() 한다.
+ * 취소된 쿼리는 요청 스레드에서 예외로 끝나고, JdbcTemplate이 그 자리에서 커넥션을 풀에 돌려준다.
+ */
+@Slf4j
+public class QueryWatchdog implements AutoCloseable {
+
+    private final Set<QueryDeadline> watched = ConcurrentHashMap.newKeySet();
+    private final LongAdder cancelledStatements = new LongAdder();
+    private final ScheduledExecutorService scheduler;
+
+    public QueryWatchdog(Duration interval) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "query-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(1, interval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::sweep, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    public void watch(QueryDeadline deadline) {
+        watched.add(deadline);
+    }
+
+    public void unwatch(QueryDeadline deadline) {
+        watched.remove(deadline);
+    }
+
+    public int watchedCount() {
+        return watched.size();
+    }
+
+    public long cancelledCount() {
+        return cancelledStatements.sum();
+    }
+
+    void sweep() {
+        for (QueryDeadline deadline : watched) {
+            if (!deadline.isExpired()) {
+                continue;
+            }
+            watched.remove(deadline);
+            try {
+                int cancelled = deadline.cancel("요청 기한 초과");
+                if (cancelled > 0) {
+                    cancelledStatements.add(cancelled);
+                    log.warn("요청 기한이 지나 실행 중인 쿼리 {}건을 취소했습니다. (endpoint: {})", cancelled, deadline.getEndpoint());
+                }
+            } catch (RuntimeException e) {
+                log.warn("쿼리 취소 실패 (endpoint: {})", deadline.getEndpoint(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
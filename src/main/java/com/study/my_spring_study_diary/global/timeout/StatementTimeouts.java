@@ -0,0 +1,46 @@
+package com.study.my_spring_study_diary.global.timeout;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * DAO 작업 이름별 JdbcTemplate을 만든다
+ * <p>
+ * AOT 빌드에서는 조건부 빈이 빌드 시점에 고정되므로, 항상 등록하고 enabled는 실행 시점에 확인한다.
+ * 꺼져 있으면 원래 JdbcTemplate을 그대로 돌려준다.
+ */
+@Component
+public class StatementTimeouts {
+
+    /**
+     * 타임아웃 없이 원래 JdbcTemplate을 쓰는 설정 (테스트, 벤치마크용)
+     */
+    public static final StatementTimeouts NONE = new StatementTimeouts(disabled());
+
+    private final QueryTimeoutProperties properties;
+
+    @Autowired
+    public StatementTimeouts(QueryTimeoutProperties properties) {
+        this.properties = properties;
+    }
+
+    public JdbcTemplate template(JdbcTemplate base, String operation) {
+        if (!properties.isEnabled()) {
+            return base;
+        }
+        return new DeadlineJdbcTemplate(base, operation, timeoutOf(operation));
+    }
+
+    public Duration timeoutOf(String operation) {
+        return properties.getStatementTimeouts().getOrDefault(operation, properties.getDefaultStatementTimeout());
+    }
+
+    private static QueryTimeoutProperties disabled() {
+        QueryTimeoutProperties properties = new QueryTimeoutProperties();
+        properties.setEnabled(false);
+        return properties;
+    }
+}
@@ -0,0 +1,215 @@
+package com.study.my_spring_study_diary.importer;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV 리더
+ * <p>
+ * - 첫 레코드는 헤더. 열 이름은 대소문자/밑줄을 무시하고 생성 요청 필드에 맞춘다 (study_time == studyTime).
+ *   모르는 열(id, createdAt 등)은 무시한다.
+ * - 큰따옴표로 감싼 값 안의 쉼표/줄바꿈/"" 를 지원한다. 빈 값은 null로 본다.
+ * - 값 변환(숫자, 날짜)은 API 요청 본문과 같은 Jackson 규칙을 쓰기 위해 행을 ObjectNode로 만든 뒤 바인딩한다.
+ */
+class CsvStudyLogRowReader implements StudyLogRowReader {
+
+    private static final int MAX_RECORD_CHARS = 1 << 20;   // 따옴표가 닫히지 않은 파일이 메모리를 다 먹지 않도록
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "ownerid", "ownerId",
+            "title", "title",
+            "content", "content",
+            "category", "category",
+            "understanding", "understanding",
+            "studytime", "studyTime",
+            "studydate", "studyDate");
+
+    private final Reader reader;
+    private final ObjectReader requestReader;
+    private final char[] buffer = new char[64 * 1024];
+    private int position;
+    private int limit;
+    private int pushback = NONE;
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private String[] properties;        // 열 번호 -> 요청 필드 이름 (모르는 열은 null)
+    private long line = 1;              // 지금 읽고 있는 줄 번호
+
+    CsvStudyLogRowReader(Reader reader, ObjectReader requestReader) {
+        this.reader = reader;
+        this.requestReader = requestReader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (properties == null && !readHeader()) {
+            return null;
+        }
+        while (true) {
+            long start = line;
+            if (!readRecord(start)) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;   // 빈 줄
+            }
+
+            String raw = joinFields();
+            if (fields.size() != properties.length) {
+                return ImportRow.malformed(start, raw,
+                        "열 개수가 헤더와 다릅니다 (헤더 " + properties.length + "개, 행 " + fields.size() + "개)");
+            }
+            ObjectNode node = JsonNodeFactory.instance.objectNode();
+            for (int i = 0; i < properties.length; i++) {
+                if (properties[i] != null && !fields.get(i).isEmpty()) {
+                    node.put(properties[i], fields.get(i));
+                }
+            }
+            try {
+                return ImportRow.parsed(start, raw, requestReader.readValue(node));
+            } catch (JacksonException e) {
+                return ImportRow.malformed(start, raw, StudyLogRowReader.bindingError(e));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private boolean readHeader() throws IOException {
+        int first = read();
+        if (first != '\uFEFF') {    // UTF-8 BOM
+            unread(first);
+        }
+        if (!readRecord(line)) {
+            return false;
+        }
+        properties = new String[fields.size()];
+        boolean known = false;
+        for (int i = 0; i < fields.size(); i++) {
+            String normalized = fields.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "").replace("-", "").replace(" ", "");
+            properties[i] = COLUMNS.get(normalized);
+            known |= properties[i] != null;
+        }
+        if (!known) {
+            throw new IllegalArgumentException("CSV 헤더에서 학습 일지 열을 찾을 수 없습니다: " + joinFields());
+        }
+        return true;
+    }
+
+    /**
+     * 레코드 하나를 fields에 채운다
+     *
+     * @return 읽은 레코드가 있으면 true, 파일 끝이면 false
+     */
+    private boolean readRecord(long start) throws IOException {
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean any = false;
+        int chars = 0;
+
+        while (true) {
+            int c = read();
+            if (c == EOF) {
+                if (quoted) {
+                    throw new IllegalArgumentException("CSV " + start + "행: 따옴표가 닫히지 않은 채 파일이 끝났습니다.");
+                }
+                if (!any) {
+                    return false;
+                }
+                fields.add(field.toString());
+                return true;
+            }
+            any = true;
+            if (++chars > MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException("CSV " + start + "행: 레코드가 너무 깁니다. 따옴표가 닫히지 않았는지 확인하세요.");
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(next);
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread(next);
+                    }
+                }
+                line++;
+                fields.add(field.toString());
+                return true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushback != NONE) {
+            int c = pushback;
+            pushback = NONE;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+
+    /**
+     * 거절 보고서용 원본 (읽은 값을 CSV로 다시 이어 붙임)
+     */
+    private String joinFields() {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                raw.append(',');
+            }
+            RejectedRowReport.appendCsv(raw, fields.get(i));
+        }
+        return raw.toString();
+    }
+}
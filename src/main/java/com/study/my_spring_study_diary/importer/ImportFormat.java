@@ -0,0 +1,35 @@
+package com.study.my_spring_study_diary.importer;
+
+import java.util.Locale;
+
+/**
+ * 가져오기 파일 형식
+ * <p>
+ * - CSV: 첫 줄은 헤더 (title,content,category,understanding,studyTime,studyDate,ownerId, snake_case도 허용)
+ * - NDJSON: 한 줄에 JSON 객체 하나 (POST /api/v1/logs 요청 본문과 같은 구조)
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * 명시한 형식이 있으면 그것을, 없으면 파일 확장자로 판단한다
+     */
+    public static ImportFormat resolve(String format, String fileName) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 가져오기 형식입니다: " + format + " (csv, ndjson)");
+            }
+        }
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("파일 형식을 알 수 없습니다. format 값(csv, ndjson)을 지정하세요: " + fileName);
+    }
+}
@@ -0,0 +1,135 @@
+package com.study.my_spring_study_diary.importer;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가져오기 작업 하나의 진행 상태
+ * <p>
+ * 작업 스레드가 갱신하고 상태 조회 요청이 동시에 읽는다. 카운터는 서로 다른 시점의 값일 수 있다.
+ */
+@Getter
+public class ImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum LoadMethod {
+        JDBC_BATCH,
+        LOAD_DATA_LOCAL_INFILE
+    }
+
+    /**
+     * 상태 응답에 담는 거절 행 (line: 파일의 줄 번호)
+     */
+    public record RejectedRow(long line, String reason) {
+    }
+
+    private final String id;
+    private final ImportFormat format;
+    private final String fileName;
+    private final long totalBytes;
+    private final Path rejectedReport;
+    private final Instant createdAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LoadMethod loadMethod;
+    private volatile String error;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final int rejectedSampleLimit;
+    private final List<RejectedRow> rejectedSamples = new ArrayList<>();
+
+    public ImportJob(String id, ImportFormat format, String fileName, long totalBytes, Path rejectedReport, int rejectedSampleLimit) {
+        this.id = id;
+        this.format = format;
+        this.fileName = fileName;
+        this.totalBytes = totalBytes;
+        this.rejectedReport = rejectedReport;
+        this.rejectedSampleLimit = rejectedSampleLimit;
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getImported() {
+        return imported.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public List<RejectedRow> getRejectedSamples() {
+        synchronized (rejectedSamples) {
+            return List.copyOf(rejectedSamples);
+        }
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // ==================== 작업 스레드에서 갱신 ====================
+
+    void start(LoadMethod loadMethod) {
+        this.loadMethod = loadMethod;
+        this.startedAt = Instant.now();
+        this.status = Status.RUNNING;
+    }
+
+    void switchLoadMethod(LoadMethod loadMethod) {
+        this.loadMethod = loadMethod;
+    }
+
+    void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void addImported(long rows) {
+        imported.addAndGet(rows);
+    }
+
+    void reject(long line, String reason) {
+        rejected.incrementAndGet();
+        synchronized (rejectedSamples) {
+            if (rejectedSamples.size() < rejectedSampleLimit) {
+                rejectedSamples.add(new RejectedRow(line, reason));
+            }
+        }
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+}
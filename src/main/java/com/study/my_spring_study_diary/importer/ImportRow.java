@@ -0,0 +1,22 @@
+package com.study.my_spring_study_diary.importer;
+
+import com.study.my_spring_study_diary.dto.request.StudyLogCreateRequest;
+
+/**
+ * 파일에서 읽은 행 하나
+ *
+ * @param line    행이 시작하는 줄 번호 (1부터, CSV 헤더 포함)
+ * @param raw     원본 텍스트 (거절 보고서용)
+ * @param request 변환된 생성 요청 (형식 오류면 null)
+ * @param error   형식 오류 메시지 (정상이면 null)
+ */
+record ImportRow(long line, String raw, StudyLogCreateRequest request, String error) {
+
+    static ImportRow parsed(long line, String raw, StudyLogCreateRequest request) {
+        return new ImportRow(line, raw, request, null);
+    }
+
+    static ImportRow malformed(long line, String raw, String error) {
+        return new ImportRow(line, raw, null, error);
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.my_spring_study_diary.importer;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * NDJSON(JSON Lines) 리더: 한 줄 = 생성 요청 JSON 객체 하나, 빈 줄은 건너뛴다
+ */
+class NdjsonStudyLogRowReader implements StudyLogRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader requestReader;
+    private long line;
+
+    NdjsonStudyLogRowReader(Reader reader, ObjectReader requestReader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+        this.requestReader = requestReader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (line == 1 && text.startsWith("\uFEFF")) {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return ImportRow.parsed(line, text, requestReader.readValue(text));
+            } catch (JacksonException e) {
+                return ImportRow.malformed(line, text, StudyLogRowReader.bindingError(e));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
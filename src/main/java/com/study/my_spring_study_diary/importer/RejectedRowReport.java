@@ -0,0 +1,69 @@
+package com.study.my_spring_study_diary.importer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 거절된 행 보고서 (CSV: line,reason,raw)
+ * <p>
+ * 첫 거절 행이 나올 때 파일을 만든다. 거절이 없으면 파일도 없다.
+ */
+class RejectedRowReport implements Closeable {
+
+    private static final int MAX_RAW_CHARS = 2_000;
+
+    private final Path path;
+    private BufferedWriter writer;
+
+    RejectedRowReport(Path path) {
+        this.path = path;
+    }
+
+    void write(long line, String reason, String raw) throws IOException {
+        if (writer == null) {
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+            writer.write("line,reason,raw\n");
+        }
+        StringBuilder row = new StringBuilder();
+        row.append(line).append(',');
+        appendCsv(row, reason);
+        row.append(',');
+        appendCsv(row, raw.length() <= MAX_RAW_CHARS ? raw : raw.substring(0, MAX_RAW_CHARS) + "...");
+        writer.write(row.append('\n').toString());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    /**
+     * 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸서 붙인다
+     */
+    static void appendCsv(StringBuilder target, String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            target.append(value);
+            return;
+        }
+        target.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                target.append('"');
+            }
+            target.append(c);
+        }
+        target.append('"');
+    }
+}
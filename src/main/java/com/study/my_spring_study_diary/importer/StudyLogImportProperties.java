@@ -0,0 +1,29 @@
+package com.study.my_spring_study_diary.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 학습 일지 대량 가져오기 설정 (diary.import.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.import")
+public class StudyLogImportProperties {
+
+    private int batchSize = 1_000;                  // JDBC 배치 INSERT 한 번에 보낼 행 수
+    private boolean loadDataLocalInfile = false;    // MySQL LOAD DATA LOCAL INFILE 사용 (접속 URL에 allowLoadLocalInfile=true 필요)
+    private int loadDataBatchSize = 50_000;         // LOAD DATA 한 번에 적재할 행 수
+    private Path workDirectory = Path.of(System.getProperty("java.io.tmpdir"), "study-log-import");
+    private int maxConcurrentJobs = 2;              // 동시에 실행할 가져오기 작업 수 (나머지는 대기)
+    private int rejectedSamples = 20;               // 작업 상태 응답에 담을 거절 행 수 (전체는 보고서 파일)
+    private Duration jobRetention = Duration.ofHours(6);    // 끝난 작업 상태/보고서 보관 기간
+
+    // 커맨드라인 가져오기 (--spring.profiles.active=import)
+    private Path file;
+    private String format;                          // 비우면 확장자로 판단
+}
@@ -0,0 +1,56 @@
+package com.study.my_spring_study_diary.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * 커맨드라인 가져오기 모드
+ * <p>
+ * import 프로파일로 실행하면 웹 서버 없이 로컬 파일 하나를 가져오고 종료합니다.
+ * 예시:
+ *   ./gradlew importStudyLogs -PimportArgs="--diary.import.file=/data/notes.csv"
+ *   java -jar app.jar --spring.profiles.active=import --diary.import.file=notes.ndjson --diary.import.load-data-local-infile=true
+ */
+@Slf4j
+@Component
+@Profile("import")
+public class StudyLogImportRunner implements ApplicationRunner {
+
+    private final StudyLogImporter studyLogImporter;
+    private final StudyLogImportProperties properties;
+
+    public StudyLogImportRunner(StudyLogImporter studyLogImporter, StudyLogImportProperties properties) {
+        this.studyLogImporter = studyLogImporter;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        Path file = properties.getFile();
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("가져올 파일을 diary.import.file로 지정하세요: " + file);
+        }
+        ImportFormat format = ImportFormat.resolve(properties.getFormat(), file.getFileName().toString());
+        Path workDirectory = Files.createDirectories(properties.getWorkDirectory());
+        String jobId = UUID.randomUUID().toString();
+
+        ImportJob job = new ImportJob(jobId, format, file.toString(), Files.size(file),
+                workDirectory.resolve(jobId + "-rejected.csv"), properties.getRejectedSamples());
+        studyLogImporter.run(job, file);
+
+        if (job.getRejected() > 0) {
+            log.info("거절된 행 {} 건 - 보고서: {}", job.getRejected(), job.getRejectedReport());
+        }
+        if (job.getStatus() == ImportJob.Status.FAILED) {
+            throw new IllegalStateException("학습 일지 가져오기 실패: " + job.getError());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.study.my_spring_study_diary.importer;
+
+import com.study.my_spring_study_diary.global.exception.ImportJobNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 파일 가져오기 작업 관리
+ * <p>
+ * 업로드 본문은 메모리에 올리지 않고 작업 디렉터리에 그대로 내려받은 뒤,
+ * 전용 스레드 풀(maxConcurrentJobs)에서 StudyLogImporter로 적재한다.
+ * 작업 상태는 이 인스턴스 메모리에만 있으므로 재시작하면 사라진다 (이미 적재된 행은 남음).
+ */
+@Slf4j
+@Service
+public class StudyLogImportService {
+
+    private final StudyLogImporter importer;
+    private final StudyLogImportProperties properties;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public StudyLogImportService(StudyLogImporter importer, StudyLogImportProperties properties) {
+        this.importer = importer;
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getMaxConcurrentJobs()), runnable -> {
+            Thread thread = new Thread(runnable, "study-log-import-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 업로드 파일을 저장하고 가져오기 작업을 대기열에 넣는다
+     *
+     * @param format 비우면 파일 확장자로 판단
+     */
+    public ImportJob submit(MultipartFile file, String format) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("가져올 파일이 비어 있습니다.");
+        }
+        ImportFormat importFormat = ImportFormat.resolve(format, file.getOriginalFilename());
+        evictExpiredJobs();
+
+        String jobId = UUID.randomUUID().toString();
+        Path upload = workDirectory().resolve(jobId + ".upload");
+        try {
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일을 저장할 수 없습니다.", e);
+        }
+
+        ImportJob job = new ImportJob(jobId, importFormat, file.getOriginalFilename(), file.getSize(),
+                workDirectory().resolve(jobId + "-rejected.csv"), properties.getRejectedSamples());
+        jobs.put(jobId, job);
+        executor.execute(() -> {
+            try {
+                importer.run(job, upload);
+            } finally {
+                deleteQuietly(upload);
+            }
+        });
+        return job;
+    }
+
+    public ImportJob getJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 거절 행 보고서 파일 (거절이 없거나 아직 만들어지지 않았으면 null)
+     */
+    public Path getRejectedReport(String jobId) {
+        Path report = getJob(jobId).getRejectedReport();
+        return Files.exists(report) ? report : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private Path workDirectory() {
+        try {
+            return Files.createDirectories(properties.getWorkDirectory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("가져오기 작업 디렉터리를 만들 수 없습니다: " + properties.getWorkDirectory(), e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 끝난 작업과 보고서 삭제
+     */
+    private void evictExpiredJobs() {
+        Instant threshold = Instant.now().minus(properties.getJobRetention());
+        jobs.values().removeIf(job -> {
+            if (job.isFinished() && job.getFinishedAt().isBefore(threshold)) {
+                deleteQuietly(job.getRejectedReport());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("가져오기 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.study.my_spring_study_diary.importer;
+
+import com.study.my_spring_study_diary.dao.ShardedStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dto.request.StudyLogCreateRequest;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import com.study.my_spring_study_diary.service.StudyLogService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학습 일지 대량 가져오기 실행기 (API 작업과 커맨드라인이 함께 사용)
+ * <p>
+ * 파일 읽기 -> 행 검증(StudyLogService와 같은 규칙) -> 묶음 적재를 한 스레드에서 흘려보낸다.
+ * 메모리에는 적재 대기 중인 한 묶음만 둔다.
+ * <p>
+ * 적재 방법
+ * - JDBC_BATCH: StudyLogDao.saveAll() (batchSize 단위, 샤딩/읽기 분리 구성에서도 동작)
+ * - LOAD_DATA_LOCAL_INFILE: loadDataLocalInfile=true 이고 단일 MySQL일 때 (loadDataBatchSize 단위)
+ * <p>
+ * 묶음마다 커밋되므로 중간에 실패하면 그 앞 묶음까지는 남는다. imported 값으로 어디까지 들어갔는지 알 수 있다.
+ */
+@Slf4j
+@Component
+public class StudyLogImporter {
+
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = 5_000_000_000L;
+
+    private final StudyLogService studyLogService;
+    private final StudyLogDao studyLogDao;
+    private final MySqlLoadDataLoader loadDataLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudyLogImportProperties properties;
+    private final ObjectReader requestReader;
+
+    public StudyLogImporter(
+            StudyLogService studyLogService,
+            StudyLogDao studyLogDao,
+            MySqlLoadDataLoader loadDataLoader,
+            ApplicationEventPublisher eventPublisher,
+            StudyLogImportProperties properties,
+            JsonMapper jsonMapper
+    ) {
+        this.studyLogService = studyLogService;
+        this.studyLogDao = studyLogDao;
+        this.loadDataLoader = loadDataLoader;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        // API 요청 본문과 같은 매퍼 설정으로 바인딩
+        this.requestReader = jsonMapper.readerFor(StudyLogCreateRequest.class);
+    }
+
+    /**
+     * 파일 하나를 끝까지 가져온다 (호출한 스레드에서 실행, 결과는 job에 기록)
+     */
+    public void run(ImportJob job, Path file) {
+        if (properties.getBatchSize() < 1 || properties.getLoadDataBatchSize() < 1) {
+            throw new IllegalArgumentException("batchSize, loadDataBatchSize는 1 이상이어야 합니다.");
+        }
+        boolean loadData = useLoadData();
+        job.start(loadData ? ImportJob.LoadMethod.LOAD_DATA_LOCAL_INFILE : ImportJob.LoadMethod.JDBC_BATCH);
+        log.info("학습 일지 가져오기 시작 - job: {}, file: {}, format: {}, {} bytes, method: {}",
+                job.getId(), job.getFileName(), job.getFormat(), job.getTotalBytes(), job.getLoadMethod());
+
+        long startNanos = System.nanoTime();
+        try (InputStream input = new ProgressInputStream(Files.newInputStream(file), job);
+             StudyLogRowReader rows = StudyLogRowReader.open(job.getFormat(),
+                     new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024), requestReader);
+             RejectedRowReport report = new RejectedRowReport(job.getRejectedReport())) {
+
+            List<StudyLog> batch = new ArrayList<>();
+            long nextLog = startNanos + PROGRESS_LOG_INTERVAL_NANOS;
+            ImportRow row;
+            while ((row = rows.next()) != null) {
+                job.rowRead();
+                StudyLog studyLog = toStudyLog(row, job, report);
+                if (studyLog != null) {
+                    batch.add(studyLog);
+                }
+                if (batch.size() >= batchSize(job)) {
+                    flush(batch, job);
+                }
+                if (System.nanoTime() >= nextLog) {
+                    logProgress(job, startNanos);
+                    nextLog = System.nanoTime() + PROGRESS_LOG_INTERVAL_NANOS;
+                }
+            }
+            flush(batch, job);
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            log.error("학습 일지 가져오기 실패 - job: {}, 적재 {} 건에서 중단", job.getId(), job.getImported(), e);
+            job.fail(e instanceof IllegalArgumentException ? e.getMessage() : e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+
+        logProgress(job, startNanos);
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private boolean useLoadData() {
+        if (!properties.isLoadDataLocalInfile()) {
+            return false;
+        }
+        if (studyLogDao instanceof ShardedStudyLogDao) {
+            log.warn("샤딩 구성에서는 LOAD DATA를 쓰지 않고 샤드별 JDBC 배치로 적재합니다.");
+            return false;
+        }
+        if (!loadDataLoader.isMySql()) {
+            log.warn("MySQL이 아니므로 LOAD DATA 대신 JDBC 배치로 적재합니다.");
+            return false;
+        }
+        return true;
+    }
+
+    private int batchSize(ImportJob job) {
+        return job.getLoadMethod() == ImportJob.LoadMethod.LOAD_DATA_LOCAL_INFILE
+                ? properties.getLoadDataBatchSize()
+                : properties.getBatchSize();
+    }
+
+    /**
+     * 형식 오류/검증 실패면 보고서에 남기고 null
+     */
+    private StudyLog toStudyLog(ImportRow row, ImportJob job, RejectedRowReport report) throws IOException {
+        String reason = row.error();
+        if (reason == null) {
+            try {
+                studyLogService.validateCreateRequest(row.request());
+                return studyLogService.toNewStudyLog(row.request());
+            } catch (IllegalArgumentException e) {
+                reason = e.getMessage();
+            }
+        }
+        job.reject(row.line(), reason);
+        report.write(row.line(), reason, row.raw());
+        return null;
+    }
+
+    private void flush(List<StudyLog> batch, ImportJob job) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int loaded;
+        if (job.getLoadMethod() == ImportJob.LoadMethod.LOAD_DATA_LOCAL_INFILE) {
+            try {
+                loaded = loadDataLoader.load(batch, properties.getWorkDirectory());
+            } catch (DataAccessException e) {
+                // local_infile 비활성 등: 이 묶음부터 JDBC 배치로 전환 (LOAD DATA 한 문장은 실패하면 아무것도 남기지 않음)
+                log.warn("LOAD DATA 적재 실패, JDBC 배치로 전환합니다 - job: {}, 원인: {}", job.getId(), e.getMostSpecificCause().getMessage());
+                job.switchLoadMethod(ImportJob.LoadMethod.JDBC_BATCH);
+                loaded = saveInBatches(batch);
+            }
+        } else {
+            loaded = studyLogDao.saveAll(batch);
+        }
+        job.addImported(loaded);
+        studyLogService.recordImported(batch);
+        batch.clear();
+        eventPublisher.publishEvent(StudyLogChangedEvent.imported());
+    }
+
+    private int saveInBatches(List<StudyLog> studyLogs) {
+        int saved = 0;
+        for (int from = 0; from < studyLogs.size(); from += properties.getBatchSize()) {
+            saved += studyLogDao.saveAll(studyLogs.subList(from, Math.min(from + properties.getBatchSize(), studyLogs.size())));
+        }
+        return saved;
+    }
+
+    private static void logProgress(ImportJob job, long startNanos) {
+        double seconds = Math.max((System.nanoTime() - startNanos) / 1_000_000_000.0, 0.001);
+        log.info("학습 일지 가져오기 {} - job: {}, 읽음 {} 행, 적재 {} 건, 거절 {} 건, {}% ({} rows/s)",
+                job.getStatus(), job.getId(), job.getRowsRead(), job.getImported(), job.getRejected(),
+                job.getTotalBytes() > 0 ? job.getBytesRead() * 100 / job.getTotalBytes() : 100,
+                Math.round(job.getRowsRead() / seconds));
+    }
+
+    /**
+     * 읽은 바이트 수를 작업 진행률에 반영
+     */
+    private static final class ProgressInputStream extends FilterInputStream {
+        private final ImportJob job;
+
+        ProgressInputStream(InputStream in, ImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                job.addBytesRead(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                job.addBytesRead(n);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.study.my_spring_study_diary.importer;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 가져오기 파일을 한 행씩 읽는 스트리밍 리더 (파일 전체를 메모리에 올리지 않음)
+ * <p>
+ * 행 단위 형식 오류는 ImportRow.malformed로 돌려주고 다음 행을 계속 읽는다.
+ * 더 읽을 수 없는 오류(닫히지 않은 따옴표 등)는 IllegalArgumentException으로 작업 전체를 멈춘다.
+ */
+interface StudyLogRowReader extends Closeable {
+
+    /**
+     * @return 다음 행, 파일 끝이면 null
+     */
+    ImportRow next() throws IOException;
+
+    /**
+     * @param requestReader StudyLogCreateRequest용 ObjectReader (API 요청 본문과 같은 바인딩 규칙)
+     */
+    static StudyLogRowReader open(ImportFormat format, Reader reader, ObjectReader requestReader) {
+        return switch (format) {
+            case CSV -> new CsvStudyLogRowReader(reader, requestReader);
+            case NDJSON -> new NdjsonStudyLogRowReader(reader, requestReader);
+        };
+    }
+
+    /**
+     * 값 변환 실패 메시지 (어느 필드인지 + Jackson 원본 메시지 첫 줄)
+     */
+    static String bindingError(JacksonException e) {
+        String message = String.valueOf(e.getOriginalMessage());
+        int newline = message.indexOf('\n');
+        if (newline > 0) {
+            message = message.substring(0, newline);
+        }
+        if (e instanceof DatabindException databind && !databind.getPath().isEmpty()) {
+            String field = databind.getPath().get(databind.getPath().size() - 1).getPropertyName();
+            if (field != null) {
+                return "값 형식이 잘못되었습니다 (" + field + "): " + message;
+            }
+        }
+        return "형식이 잘못되었습니다: " + message;
+    }
+}
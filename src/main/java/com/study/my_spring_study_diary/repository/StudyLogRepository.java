@@ -5,6 +5,14 @@ import com.study.my_spring_study_diary.entity.StudyLog;
 import com.study.my_spring_study_diary.global.common.PageRequest;
 import com.study.my_spring_study_diary.global.common.PageResponse;
 import com.study.my_spring_study_diary.global.exception.InvalidPageRequestException;
+import com.study.my_spring_study_diary.repository.index.StudyLogFacets;
+import com.study.my_spring_study_diary.repository.index.StudyLogFilter;
+import com.study.my_spring_study_diary.repository.index.StudyLogIndex;
+import com.study.my_spring_study_diary.repository.index.StudyLogSortIndex;
+import com.study.my_spring_study_diary.repository.persistence.SnapshotStore;
+import com.study.my_spring_study_diary.repository.persistence.StudyLogCodec;
+import com.study.my_spring_study_diary.repository.persistence.StudyLogJournal;
+import com.study.my_spring_study_diary.repository.persistence.StudyLogPersistenceProperties;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.springframework.stereotype.Repository;
@@ -24,6 +32,16 @@ import java.util.stream.Collectors;
  * <p>
  * 실제 프로젝트에서는 JPA, MyBatis 등을 사용하지만,
  * 이번 강의에서는 Map을 사용하여 데이터를 저장합니다.
+ * <p>
+ * diary.repository.persistence.enabled=true 이면 변경 연산을 WAL(StudyLogJournal)에 기록하고
+ * 시작할 때 마지막 스냅샷 + 그 뒤의 WAL을 재생해 Map을 복원합니다.
+ * 변경 연산은 writeLock 안에서 Map 변경과 WAL 기록을 함께 해서, 기록 순서가 적용 순서와 같도록 합니다.
+ * <p>
+ * 카테고리 / 이해도 / 학습 월 / 학습 시간 구간은 비트맵 색인(StudyLogIndex)으로도 관리해서,
+ * 여러 조건을 섞은 필터와 건수, 항목별 개수를 Map 전체를 훑지 않고 비트 연산으로 구합니다.
+ * 페이징 정렬 기준(title / studyTime / studyDate / createdAt)마다 정렬 색인(StudyLogSortIndex)도 두어,
+ * 페이지 조회 때 전체를 정렬하지 않고 필요한 구간만 걷습니다.
+ * 색인은 Map을 바꾸는 모든 경로(WAL 재생 포함)에서 함께 갱신합니다.
  */
 @Repository // Spring Bean으로 등록!
 public class StudyLogRepository {
@@ -34,6 +52,22 @@ public class StudyLogRepository {
     // ID 자동 증가를 위한 시퀀스
     private final AtomicLong sequence = new AtomicLong(1);
 
+    // 다중 조건 필터용 비트맵 색인
+    private final StudyLogIndex index = new StudyLogIndex();
+
+    // 페이징 정렬 기준별 정렬 색인
+    private final StudyLogSortIndex sortIndex = new StudyLogSortIndex();
+
+    // 변경 연산 + WAL 기록 + 스냅샷 직렬화를 묶는 잠금
+    private final Object writeLock = new Object();
+
+    // 영속화가 꺼져 있으면 null
+    private final StudyLogJournal journal;
+
+    public StudyLogRepository(StudyLogPersistenceProperties persistenceProperties) {
+        this.journal = persistenceProperties.isEnabled() ? new StudyLogJournal(persistenceProperties) : null;
+    }
+
     // ========== Create ==========
 
     /**
@@ -43,12 +77,19 @@ public class StudyLogRepository {
      * @return 저장된 학습 일지 (ID 포합)
      */
     public StudyLog save(StudyLog studyLog) {
-        // ID가 없으면 새로운 ID 부여
-        if (studyLog.getId() == null) {
-            studyLog.setId(sequence.getAndIncrement());
+        long lsn;
+        synchronized (writeLock) {
+            // ID가 없으면 새로운 ID 부여
+            if (studyLog.getId() == null) {
+                studyLog.setId(sequence.getAndIncrement());
+            }
+            // WAL에 먼저 기록한 뒤 Map에 저장 (기록에 실패하면 Map도 바뀌지 않음)
+            lsn = appendToJournal(StudyLogCodec.encodeWrite(StudyLogCodec.Operation.SAVE, studyLog));
+            database.put(studyLog.getId(), studyLog);
+            index.put(studyLog);
+            sortIndex.put(studyLog);
         }
-        // Map에 저장
-        database.put(studyLog.getId(), studyLog);
+        awaitDurable(lsn);
         return studyLog;
     }
 
@@ -60,9 +101,7 @@ public class StudyLogRepository {
      * @return 모든 학습 일지 리스트
      */
     public List<StudyLog> findAll() {
-        return database.values().stream()
-                .sorted(Comparator.comparing(StudyLog::getCreatedAt))
-                .collect(Collectors.toList());
+        return new ArrayList<>(sortIndex.page(StudyLogSortIndex.SortKey.CREATED_AT, true, 0, Integer.MAX_VALUE));
     }
 
     /**
@@ -77,20 +116,42 @@ public class StudyLogRepository {
 
     // 날짜로 학습 일지 조회
     public List<StudyLog> findByStudyDate(LocalDate date) {
-        return database.values().stream()
-                .filter(log -> log.getStudyDate().equals(date))
-                .sorted(Comparator.comparing(StudyLog::getCreatedAt))
+        return index.findIncludingDeleted(StudyLogFilter.studyDateBetween(date, date)).stream()
+                .sorted(Comparator.comparing(StudyLog::getCreatedAt).thenComparing(StudyLog::getId))
                 .collect(Collectors.toList());
     }
 
     // 카테고리로 학습 일지 조회
     public List<StudyLog> findByCategory(Category category) {
-        return database.values().stream()
-                .filter(log -> log.getCategory().equals(category))
-                .sorted(Comparator.comparing(StudyLog::getCreatedAt))
+        return index.findIncludingDeleted(StudyLogFilter.categories(category)).stream()
+                .sorted(Comparator.comparing(StudyLog::getCreatedAt).thenComparing(StudyLog::getId))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 여러 조건을 섞은 필터로 조회 (삭제되지 않은 일지만, 학습 날짜 최신순)
+     *
+     * @param filter 카테고리 / 이해도 / 학습 날짜 / 학습 시간 조건의 AND, OR, NOT 조합
+     * @return 필터에 맞는 학습 일지 리스트
+     */
+    public List<StudyLog> findByFilter(StudyLogFilter filter) {
+        return index.find(filter);
+    }
+
+    /**
+     * 필터에 맞는 학습 일지 수 (목록을 만들지 않고 비트 수만 센다)
+     */
+    public long countByFilter(StudyLogFilter filter) {
+        return index.count(filter);
+    }
+
+    /**
+     * 필터 결과의 카테고리 / 이해도 / 학습 시간 구간별 개수
+     */
+    public StudyLogFacets facets(StudyLogFilter filter) {
+        return index.facets(filter);
+    }
+
     /**
      * 페이징 처리된 학습 일지 조회
      *
@@ -98,22 +159,12 @@ public class StudyLogRepository {
      * @return 페이징 처리된 결과
      */
     public PageResponse<StudyLog> findAllWithPaging(PageRequest pageRequest) {
-        // 1. 전체 데이터를 정렬
-        List<StudyLog> allLogs = database.values().stream()
-                .sorted((a, b) -> {
-                    // 정렬 기준에 따라 정렬
-                    int result = switch (pageRequest.getSortBy()) {
-                        case "title" -> a.getTitle().compareTo(b.getTitle());
-                        case "studyTime" -> a.getStudyTime().compareTo(b.getStudyTime());
-                        case "studyDate" -> a.getStudyDate().compareTo(b.getStudyDate());
-                        default -> a.getCreatedAt().compareTo(b.getCreatedAt());
-                    };
-                    // 정렬 방향 적용
-                    return "ASC".equals(pageRequest.getSortDirection()) ? result : -result;
-                })
-                .toList();
-        // 2. 전체 개수
-        long totalElements = allLogs.size();
+        // 1. 전체 개수 (정렬은 정렬 색인이 유지)
+        long totalElements = sortIndex.size();
+
+        // 2. 정렬 기준
+        StudyLogSortIndex.SortKey sortKey = StudyLogSortIndex.SortKey.from(pageRequest.getSortBy());
+        boolean ascending = "ASC".equals(pageRequest.getSortDirection());
 
         // 3. 총 페이지 수 계산
         int totalPages = calculateTotalPages(totalElements, pageRequest.getSize());
@@ -129,11 +180,8 @@ public class StudyLogRepository {
             throw new InvalidPageRequestException(requestedPage, totalPages);
         }
 
-        // 5. 페이징 적용
-        int start = pageRequest.getOffset();
-        int end = Math.min(start + pageRequest.getSize(), allLogs.size());
-
-        List<StudyLog> pagedLogs = allLogs.subList(start, end);
+        // 5. 페이징 적용 (색인에서 요청 구간만 꺼냄)
+        List<StudyLog> pagedLogs = sortIndex.page(sortKey, ascending, pageRequest.getOffset(), pageRequest.getSize());
 
         // 6. PageResponse 생성
         return PageResponse.of(
@@ -153,8 +201,7 @@ public class StudyLogRepository {
      */
     public PageResponse<StudyLog> findByCategoryWithPaging(Category category, PageRequest pageRequest) {
         // 1. 카테고리로 필터링 및 정렬
-        List<StudyLog> filteredLogs = database.values().stream()
-                .filter(log -> log.getCategory() == category)
+        List<StudyLog> filteredLogs = index.findIncludingDeleted(StudyLogFilter.categories(category)).stream()
                 .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
                 .toList();
 
@@ -212,10 +259,17 @@ public class StudyLogRepository {
         if (studyLog.getId() == null) {
             throw new IllegalArgumentException("수정할 학습 일지의 ID가 없습니다.");
         }
-        if (!database.containsKey(studyLog.getId())) {
-            throw new IllegalArgumentException("해당 학습 일지를 찾을 수 없습니다. (id: " + studyLog.getId() + ")");
+        long lsn;
+        synchronized (writeLock) {
+            if (!database.containsKey(studyLog.getId())) {
+                throw new IllegalArgumentException("해당 학습 일지를 찾을 수 없습니다. (id: " + studyLog.getId() + ")");
+            }
+            lsn = appendToJournal(StudyLogCodec.encodeWrite(StudyLogCodec.Operation.UPDATE, studyLog));
+            database.put(studyLog.getId(), studyLog);
+            index.put(studyLog);
+            sortIndex.put(studyLog);
         }
-        database.put(studyLog.getId(), studyLog);
+        awaitDurable(lsn);
         return studyLog;
     }
 
@@ -228,9 +282,19 @@ public class StudyLogRepository {
      * @return 삭제 성공 여부 (true: 삭제됨, false: 해당 ID 없음)
      */
     public boolean deleteById(Long id) {
-        // Map.remove()는 삭제된 값을 반환, 없으면 null 반환
-        StudyLog removed = database.remove(id);
-        return removed != null;
+        long lsn;
+        synchronized (writeLock) {
+            // Map.remove()는 삭제된 값을 반환, 없으면 null 반환
+            StudyLog removed = database.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            index.remove(id);
+            sortIndex.remove(id);
+            lsn = appendToJournal(StudyLogCodec.encodeId(StudyLogCodec.Operation.DELETE, id, null));
+        }
+        awaitDurable(lsn);
+        return true;
     }
 
     /**
@@ -238,8 +302,16 @@ public class StudyLogRepository {
      * @return 삭제된 학습일지 수
      */
     public int deleteAll() {
-        int count = database.size();
-        database.clear();
+        int count;
+        long lsn;
+        synchronized (writeLock) {
+            count = database.size();
+            database.clear();
+            index.clear();
+            sortIndex.clear();
+            lsn = appendToJournal(StudyLogCodec.encodeClear());
+        }
+        awaitDurable(lsn);
         return count;
     }
 
@@ -266,13 +338,19 @@ public class StudyLogRepository {
 
     // Soft Delete
     public boolean softDeleteById(Long id) {
-        StudyLog studyLog = database.get(id);
-        if (studyLog == null || studyLog.isDeleted()) {
-            return false;
+        long lsn;
+        synchronized (writeLock) {
+            StudyLog studyLog = database.get(id);
+            if (studyLog == null || studyLog.isDeleted()) {
+                return false;
+            }
+
+            studyLog.setDeleted(true);
+            studyLog.setDeletedAt(LocalDateTime.now());
+            index.setDeleted(id, true);
+            lsn = appendToJournal(StudyLogCodec.encodeId(StudyLogCodec.Operation.SOFT_DELETE, id, studyLog.getDeletedAt()));
         }
-
-        studyLog.setDeleted(true);
-        studyLog.setDeletedAt(LocalDateTime.now());
+        awaitDurable(lsn);
         return true;
     }
 
@@ -286,16 +364,104 @@ public class StudyLogRepository {
 
     // 삭제된 데이터 복구
     public boolean restore(Long id) {
-        StudyLog studyLog = database.get(id);
-        if (studyLog == null || !studyLog.isDeleted()) {
-            return false;
+        long lsn;
+        synchronized (writeLock) {
+            StudyLog studyLog = database.get(id);
+            if (studyLog == null || !studyLog.isDeleted()) {
+                return false;
+            }
+
+            studyLog.setDeleted(false);
+            studyLog.setDeletedAt(null);
+            index.setDeleted(id, false);
+            lsn = appendToJournal(StudyLogCodec.encodeId(StudyLogCodec.Operation.RESTORE, id, null));
         }
-
-        studyLog.setDeleted(false);
-        studyLog.setDeletedAt(null);
+        awaitDurable(lsn);
         return true;
     }
 
+    // ========== 영속화 (WAL / 스냅샷) ==========
+
+    /**
+     * 현재 상태를 스냅샷으로 기록하고 그 이전 WAL 세그먼트를 정리합니다.
+     * 직렬화만 잠금 안에서 하고, 파일 기록은 잠금 밖에서 합니다.
+     */
+    public void snapshot() {
+        if (journal == null) {
+            return;
+        }
+        long lsn;
+        byte[] body;
+        synchronized (writeLock) {
+            lsn = journal.beginSnapshot();
+            body = SnapshotStore.encode(lsn, sequence.get(), database.values());
+        }
+        journal.completeSnapshot(lsn, body);
+    }
+
+    private long appendToJournal(byte[] record) {
+        return journal != null ? journal.append(record) : 0L;
+    }
+
+    private void awaitDurable(long lsn) {
+        if (journal != null) {
+            journal.awaitDurable(lsn);
+        }
+    }
+
+    /**
+     * 스냅샷 적용 후 WAL 레코드를 하나씩 Map에 다시 적용
+     */
+    private void recover() {
+        StudyLogJournal.Recovery recovery = journal.recover(
+                snapshot -> {
+                    snapshot.studyLogs().forEach(studyLog -> {
+                        database.put(studyLog.getId(), studyLog);
+                        index.put(studyLog);
+                        sortIndex.put(studyLog);
+                    });
+                    sequence.set(snapshot.sequence());
+                },
+                this::apply);
+        System.out.println("  - 복구: 스냅샷 " + (recovery.fromSnapshot() ? recovery.snapshotEntries() + "건" : "없음")
+                + " + WAL 재생 " + recovery.replayedRecords() + "건");
+    }
+
+    private void apply(StudyLogCodec.Record record) {
+        switch (record.operation()) {
+            case SAVE, UPDATE -> {
+                StudyLog studyLog = record.studyLog();
+                database.put(studyLog.getId(), studyLog);
+                index.put(studyLog);
+                sortIndex.put(studyLog);
+                // 재생한 ID 다음부터 부여
+                if (studyLog.getId() >= sequence.get()) {
+                    sequence.set(studyLog.getId() + 1);
+                }
+            }
+            case DELETE -> {
+                database.remove(record.id());
+                index.remove(record.id());
+                sortIndex.remove(record.id());
+            }
+            case SOFT_DELETE -> Optional.ofNullable(database.get(record.id())).ifPresent(studyLog -> {
+                studyLog.setDeleted(true);
+                studyLog.setDeletedAt(record.deletedAt());
+                index.setDeleted(record.id(), true);
+            });
+            case RESTORE -> Optional.ofNullable(database.get(record.id())).ifPresent(studyLog -> {
+                studyLog.setDeleted(false);
+                studyLog.setDeletedAt(null);
+                index.setDeleted(record.id(), false);
+            });
+            case CLEAR -> {
+                database.clear();
+                index.clear();
+                sortIndex.clear();
+            }
+        }
+    }
+
     // ========== 생명주기 콜백 ==========
 
     @PostConstruct
@@ -304,6 +470,11 @@ public class StudyLogRepository {
         System.out.println("🚀 StudyLogRepository 초기화 완료!");
         System.out.println("  - 데이터 저장소(Map) 준비됨");
         System.out.println("  - ID 생성기 준비됨");
+        if (journal != null) {
+            recover();
+            journal.start(this::snapshot);
+            System.out.println("  - 복원된 데이터 수: " + database.size() + "개");
+        }
         System.out.println("========================================");
     }
 
@@ -313,7 +484,15 @@ public class StudyLogRepository {
         System.out.println("🔚 StudyLogRepository 정리 중...");
         System.out.println("  - 저장된 데이터 수: " + database.size() + "개");
         System.out.println("  - 마지막 ID: " + (sequence.get() - 1));
+        if (journal != null) {
+            // 다음 시작 때 재생할 WAL을 줄이도록 스냅샷을 남기고 닫는다
+            journal.runSnapshot();
+            journal.close();
+            System.out.println("  - 스냅샷 저장 완료");
+        }
         database.clear();   // 데이터 정리
+        index.clear();
+        sortIndex.clear();
         System.out.println("  - 데이터 정리 완료!");
         System.out.println("========================================");
     }
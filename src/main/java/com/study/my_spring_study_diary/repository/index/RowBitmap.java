@@ -0,0 +1,243 @@
+package com.study.my_spring_study_diary.repository.index;
+
+import java.util.Arrays;
+
+/**
+ * 행 번호(ordinal) 집합을 담는 압축 비트맵
+ * <p>
+ * 행 번호 공간을 1024비트(long 16개) 블록으로 나누고, 비트가 하나도 없는 블록은 만들지 않는다(null).
+ * 월 비트맵처럼 행이 한쪽에 몰린 집합은 해당 블록만 차지하고, 카테고리처럼 고르게 퍼진 집합은 일반 비트맵과 같다.
+ * AND / OR / ANDNOT과 개수 세기는 블록 단위로 건너뛰며 long 단위 비트 연산으로 한다.
+ * <p>
+ * and/or/andNot은 새 비트맵을 돌려주고 피연산자는 바꾸지 않는다 (색인이 가진 비트맵을 그대로 넘겨도 안전).
+ * 동기화하지 않으므로 StudyLogIndex의 잠금 안에서만 쓴다.
+ */
+public final class RowBitmap {
+
+    private static final int BLOCK_SHIFT = 10;
+    private static final int WORDS_PER_BLOCK = 1 << (BLOCK_SHIFT - 6);
+    private static final long[][] NO_BLOCKS = new long[0][];
+
+    private long[][] blocks;
+
+    public RowBitmap() {
+        this.blocks = NO_BLOCKS;
+    }
+
+    private RowBitmap(long[][] blocks) {
+        this.blocks = blocks;
+    }
+
+    // ==================== 단건 ====================
+
+    public void set(int row) {
+        int block = row >>> BLOCK_SHIFT;
+        if (block >= blocks.length) {
+            blocks = Arrays.copyOf(blocks, Math.max(block + 1, blocks.length * 2));
+        }
+        long[] words = blocks[block];
+        if (words == null) {
+            words = new long[WORDS_PER_BLOCK];
+            blocks[block] = words;
+        }
+        words[(row >>> 6) & (WORDS_PER_BLOCK - 1)] |= 1L << row;
+    }
+
+    public void clear(int row) {
+        int block = row >>> BLOCK_SHIFT;
+        if (block >= blocks.length || blocks[block] == null) {
+            return;
+        }
+        long[] words = blocks[block];
+        words[(row >>> 6) & (WORDS_PER_BLOCK - 1)] &= ~(1L << row);
+        if (isZero(words)) {
+            blocks[block] = null;
+        }
+    }
+
+    public boolean get(int row) {
+        int block = row >>> BLOCK_SHIFT;
+        if (block >= blocks.length || blocks[block] == null) {
+            return false;
+        }
+        return (blocks[block][(row >>> 6) & (WORDS_PER_BLOCK - 1)] & (1L << row)) != 0;
+    }
+
+    // ==================== 집합 연산 ====================
+
+    public RowBitmap and(RowBitmap other) {
+        int length = Math.min(blocks.length, other.blocks.length);
+        long[][] result = new long[length][];
+        for (int block = 0; block < length; block++) {
+            long[] a = blocks[block];
+            long[] b = other.blocks[block];
+            if (a == null || b == null) {
+                continue;
+            }
+            long[] words = new long[WORDS_PER_BLOCK];
+            long any = 0;
+            for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+                words[i] = a[i] & b[i];
+                any |= words[i];
+            }
+            if (any != 0) {
+                result[block] = words;
+            }
+        }
+        return new RowBitmap(result);
+    }
+
+    public RowBitmap or(RowBitmap other) {
+        int length = Math.max(blocks.length, other.blocks.length);
+        long[][] result = new long[length][];
+        for (int block = 0; block < length; block++) {
+            long[] a = block < blocks.length ? blocks[block] : null;
+            long[] b = block < other.blocks.length ? other.blocks[block] : null;
+            if (a == null && b == null) {
+                continue;
+            }
+            if (a == null || b == null) {
+                result[block] = (a != null ? a : b).clone();
+                continue;
+            }
+            long[] words = new long[WORDS_PER_BLOCK];
+            for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+                words[i] = a[i] | b[i];
+            }
+            result[block] = words;
+        }
+        return new RowBitmap(result);
+    }
+
+    public RowBitmap andNot(RowBitmap other) {
+        long[][] result = new long[blocks.length][];
+        for (int block = 0; block < blocks.length; block++) {
+            long[] a = blocks[block];
+            if (a == null) {
+                continue;
+            }
+            long[] b = block < other.blocks.length ? other.blocks[block] : null;
+            if (b == null) {
+                result[block] = a.clone();
+                continue;
+            }
+            long[] words = new long[WORDS_PER_BLOCK];
+            long any = 0;
+            for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+                words[i] = a[i] & ~b[i];
+                any |= words[i];
+            }
+            if (any != 0) {
+                result[block] = words;
+            }
+        }
+        return new RowBitmap(result);
+    }
+
+    /**
+     * 이 비트맵에 other를 합친다 (이 비트맵을 바꾼다, 평가 중 만든 임시 비트맵에만 쓴다)
+     */
+    public void orWith(RowBitmap other) {
+        if (other.blocks.length > blocks.length) {
+            blocks = Arrays.copyOf(blocks, other.blocks.length);
+        }
+        for (int block = 0; block < other.blocks.length; block++) {
+            long[] b = other.blocks[block];
+            if (b == null) {
+                continue;
+            }
+            long[] a = blocks[block];
+            if (a == null) {
+                blocks[block] = b.clone();
+                continue;
+            }
+            for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+                a[i] |= b[i];
+            }
+        }
+    }
+
+    /**
+     * 교집합의 크기 (패싯 개수 세기용, 새 비트맵을 만들지 않음)
+     */
+    public int andCardinality(RowBitmap other) {
+        int length = Math.min(blocks.length, other.blocks.length);
+        int count = 0;
+        for (int block = 0; block < length; block++) {
+            long[] a = blocks[block];
+            long[] b = other.blocks[block];
+            if (a == null || b == null) {
+                continue;
+            }
+            for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+                count += Long.bitCount(a[i] & b[i]);
+            }
+        }
+        return count;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (long[] words : blocks) {
+            if (words != null) {
+                for (long word : words) {
+                    count += Long.bitCount(word);
+                }
+            }
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        for (long[] words : blocks) {
+            if (words != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * from 이상인 첫 번째 행 번호 (없으면 -1)
+     */
+    public int nextSetBit(int from) {
+        int block = from >>> BLOCK_SHIFT;
+        int word = (from >>> 6) & (WORDS_PER_BLOCK - 1);
+        long mask = -1L << from;
+        for (; block < blocks.length; block++, word = 0, mask = -1L) {
+            long[] words = blocks[block];
+            if (words == null) {
+                continue;
+            }
+            for (; word < WORDS_PER_BLOCK; word++, mask = -1L) {
+                long bits = words[word] & mask;
+                if (bits != 0) {
+                    return (block << BLOCK_SHIFT) + (word << 6) + Long.numberOfTrailingZeros(bits);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 실제로 할당된 블록 수 (메모리 사용량 확인용)
+     */
+    public int allocatedBlocks() {
+        int count = 0;
+        for (long[] words : blocks) {
+            if (words != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isZero(long[] words) {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package com.study.my_spring_study_diary.repository.index;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.util.Map;
+
+/**
+ * 필터 결과의 항목별 개수
+ *
+ * @param total         필터에 맞는 전체 건수
+ * @param categories    카테고리별 건수
+ * @param understandings 이해도별 건수
+ * @param studyTimes    학습 시간 구간별 건수
+ */
+public record StudyLogFacets(
+        long total,
+        Map<Category, Long> categories,
+        Map<Understanding, Long> understandings,
+        Map<StudyTimeBucket, Long> studyTimes
+) {
+}
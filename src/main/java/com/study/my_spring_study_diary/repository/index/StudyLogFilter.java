@@ -0,0 +1,129 @@
+package com.study.my_spring_study_diary.repository.index;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 학습 일지 필터 식 (StudyLogIndex가 비트맵 연산으로 평가)
+ * <p>
+ * 잎 조건(카테고리, 이해도, 날짜 범위, 학습 시간 구간)을 and / or / not 으로 자유롭게 묶는다.
+ * <pre>
+ * StudyLogFilter.and(
+ *         StudyLogFilter.categories(Category.JAVA, Category.SPRING),
+ *         StudyLogFilter.or(StudyLogFilter.understandings(Understanding.BAD), StudyLogFilter.studyTimes(StudyTimeBucket.OVER_240)),
+ *         StudyLogFilter.studyDateBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31)))
+ * </pre>
+ * matches()는 같은 조건을 객체 하나에 직접 적용한다 (검증/비교용).
+ */
+public sealed interface StudyLogFilter {
+
+    boolean matches(StudyLog studyLog);
+
+    // ==================== 잎 조건 ====================
+
+    record CategoryIn(Set<Category> categories) implements StudyLogFilter {
+        @Override
+        public boolean matches(StudyLog studyLog) {
+            return categories.contains(studyLog.getCategory());
+        }
+    }
+
+    record UnderstandingIn(Set<Understanding> understandings) implements StudyLogFilter {
+        @Override
+        public boolean matches(StudyLog studyLog) {
+            return understandings.contains(studyLog.getUnderstanding());
+        }
+    }
+
+    /**
+     * 학습 날짜 범위 (양 끝 포함, null이면 그쪽은 열림)
+     */
+    record StudyDateBetween(LocalDate from, LocalDate to) implements StudyLogFilter {
+        @Override
+        public boolean matches(StudyLog studyLog) {
+            LocalDate date = studyLog.getStudyDate();
+            return date != null && (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+        }
+    }
+
+    record StudyTimeIn(Set<StudyTimeBucket> buckets) implements StudyLogFilter {
+        @Override
+        public boolean matches(StudyLog studyLog) {
+            return buckets.contains(StudyTimeBucket.of(studyLog.getStudyTime()));
+        }
+    }
+
+    // ==================== 조합 ====================
+
+    record And(List<StudyLogFilter> filters) implements StudyLogFilter {
+        @Override
+        public boolean matches(StudyLog studyLog) {
+            return filters.stream().allMatch(filter -> filter.matches(studyLog));
+        }
+    }
+
+    record Or(List<StudyLogFilter> filters) implements StudyLogFilter {
+        @Override
+        public boolean matches(StudyLog studyLog) {
+            return filters.stream().anyMatch(filter -> filter.matches(studyLog));
+        }
+    }
+
+    record Not(StudyLogFilter filter) implements StudyLogFilter {
+        @Override
+        public boolean matches(StudyLog studyLog) {
+            return !filter.matches(studyLog);
+        }
+    }
+
+    /**
+     * 조건 없음 (삭제되지 않은 전체)
+     */
+    record All() implements StudyLogFilter {
+        @Override
+        public boolean matches(StudyLog studyLog) {
+            return true;
+        }
+    }
+
+    // ==================== 팩토리 ====================
+
+    static StudyLogFilter all() {
+        return new All();
+    }
+
+    static StudyLogFilter categories(Category... categories) {
+        return new CategoryIn(categories.length == 0 ? EnumSet.noneOf(Category.class) : EnumSet.of(categories[0], categories));
+    }
+
+    static StudyLogFilter understandings(Understanding... understandings) {
+        return new UnderstandingIn(understandings.length == 0
+                ? EnumSet.noneOf(Understanding.class) : EnumSet.of(understandings[0], understandings));
+    }
+
+    static StudyLogFilter studyDateBetween(LocalDate from, LocalDate to) {
+        return new StudyDateBetween(from, to);
+    }
+
+    static StudyLogFilter studyTimes(StudyTimeBucket... buckets) {
+        return new StudyTimeIn(buckets.length == 0 ? EnumSet.noneOf(StudyTimeBucket.class) : EnumSet.of(buckets[0], buckets));
+    }
+
+    static StudyLogFilter and(StudyLogFilter... filters) {
+        return new And(List.of(filters));
+    }
+
+    static StudyLogFilter or(StudyLogFilter... filters) {
+        return new Or(List.of(filters));
+    }
+
+    static StudyLogFilter not(StudyLogFilter filter) {
+        return new Not(filter);
+    }
+}
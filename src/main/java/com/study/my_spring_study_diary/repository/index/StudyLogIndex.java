@@ -0,0 +1,395 @@
+package com.study.my_spring_study_diary.repository.index;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 저장소(StudyLogRepository)의 비트맵 색인
+ * <p>
+ * 학습 일지마다 촘촘한 행 번호(ordinal)를 주고, 값마다 그 값을 가진 행 번호의 비트맵을 둔다.
+ * - 카테고리별 / 이해도별 / 학습 월별 / 학습 시간 구간별 비트맵
+ * - live(저장된 전체), deleted(소프트 삭제) 비트맵
+ * 필터(StudyLogFilter)는 비트맵 AND / OR / ANDNOT으로 평가하고 개수는 popcount로 세므로, 객체를 하나씩 훑지 않는다.
+ * 날짜 범위는 범위에 완전히 들어가는 달의 비트맵을 합치고, 양 끝 달만 행의 날짜를 확인한다.
+ * <p>
+ * 삭제된 행 번호는 다시 쓰므로 행 번호 공간은 저장된 건수 근처로 유지된다.
+ * 수정 시 이전 값의 비트를 지워야 하므로 행마다 색인한 값을 따로 기억한다 (엔티티는 제자리에서 바뀌어 들어온다).
+ */
+public class StudyLogIndex {
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Understanding[] UNDERSTANDINGS = Understanding.values();
+    private static final StudyTimeBucket[] BUCKETS = StudyTimeBucket.values();
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    // 같은 학습 날짜 안의 순서: ID 역순
+    private static final Comparator<StudyLog> SAME_DAY_ORDER = Comparator.comparing(StudyLog::getId, Comparator.reverseOrder());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private StudyLog[] rows = new StudyLog[1024];
+    private int[] categoryOf = new int[1024];
+    private int[] understandingOf = new int[1024];
+    private int[] bucketOf = new int[1024];
+    private int[] epochDayOf = new int[1024];
+    private int[] freeOrdinals = new int[64];
+    private int freeCount;
+    private int nextOrdinal;
+
+    private RowBitmap live = new RowBitmap();
+    private RowBitmap deleted = new RowBitmap();
+    private final RowBitmap[] byCategory = bitmaps(CATEGORIES.length);
+    private final RowBitmap[] byUnderstanding = bitmaps(UNDERSTANDINGS.length);
+    private final RowBitmap[] byBucket = bitmaps(BUCKETS.length);
+    private final NavigableMap<Integer, RowBitmap> byMonth = new TreeMap<>();    // 키: 연 * 12 + (월 - 1)
+
+    // ==================== 갱신 ====================
+
+    /**
+     * 새 학습 일지를 색인하거나, 이미 있는 ID면 값이 바뀐 색인만 고친다
+     */
+    public void put(StudyLog studyLog) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(studyLog.getId());
+            if (existing != null) {
+                unindex(existing);
+                index(existing, studyLog);
+            } else {
+                int ordinal = allocate();
+                ordinals.put(studyLog.getId(), ordinal);
+                index(ordinal, studyLog);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                unindex(ordinal);
+                release(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 소프트 삭제 / 복구 (deleted 비트만 바뀜)
+     */
+    public void setDeleted(Long id, boolean isDeleted) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal == null) {
+                return;
+            }
+            if (isDeleted) {
+                deleted.set(ordinal);
+            } else {
+                deleted.clear(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            Arrays.fill(rows, null);
+            freeCount = 0;
+            nextOrdinal = 0;
+            live = new RowBitmap();
+            deleted = new RowBitmap();
+            Arrays.setAll(byCategory, i -> new RowBitmap());
+            Arrays.setAll(byUnderstanding, i -> new RowBitmap());
+            Arrays.setAll(byBucket, i -> new RowBitmap());
+            byMonth.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 필터에 맞는 학습 일지 (소프트 삭제 제외, 학습 날짜 최신순)
+     */
+    public List<StudyLog> find(StudyLogFilter filter) {
+        return select(filter, false);
+    }
+
+    /**
+     * 소프트 삭제된 학습 일지도 포함 (기존 findByCategory 등의 의미를 유지할 때)
+     */
+    public List<StudyLog> findIncludingDeleted(StudyLogFilter filter) {
+        return select(filter, true);
+    }
+
+    /**
+     * 필터에 맞는 학습 일지 수 (소프트 삭제 제외)
+     */
+    public long count(StudyLogFilter filter) {
+        lock.readLock().lock();
+        try {
+            return evaluate(filter).andNot(deleted).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 결과를 카테고리 / 이해도 / 학습 시간 구간별로 센 값 (패싯 UI의 항목별 개수)
+     */
+    public StudyLogFacets facets(StudyLogFilter filter) {
+        lock.readLock().lock();
+        try {
+            RowBitmap matched = evaluate(filter).andNot(deleted);
+            Map<Category, Long> categories = new EnumMap<>(Category.class);
+            for (Category category : CATEGORIES) {
+                categories.put(category, (long) matched.andCardinality(byCategory[category.ordinal()]));
+            }
+            Map<Understanding, Long> understandings = new EnumMap<>(Understanding.class);
+            for (Understanding understanding : UNDERSTANDINGS) {
+                understandings.put(understanding, (long) matched.andCardinality(byUnderstanding[understanding.ordinal()]));
+            }
+            Map<StudyTimeBucket, Long> studyTimes = new EnumMap<>(StudyTimeBucket.class);
+            for (StudyTimeBucket bucket : BUCKETS) {
+                studyTimes.put(bucket, (long) matched.andCardinality(byBucket[bucket.ordinal()]));
+            }
+            return new StudyLogFacets(matched.cardinality(), categories, understandings, studyTimes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 학습 날짜 최신순, 같은 날이면 ID 역순 (MySQL DAO 목록과 같음, 날짜 없는 일지는 맨 뒤)
+     * <p>
+     * (epoch day, 행 번호)를 long 하나로 묶어 기본형 정렬하고, 같은 날짜 구간만 ID로 다시 정렬한다.
+     */
+    private List<StudyLog> select(StudyLogFilter filter, boolean includeDeleted) {
+        List<StudyLog> result;
+        lock.readLock().lock();
+        try {
+            RowBitmap matched = evaluate(filter);
+            if (!includeDeleted) {
+                matched = matched.andNot(deleted);
+            }
+            long[] keys = new long[matched.cardinality()];
+            int n = 0;
+            for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+                keys[n++] = ((long) epochDayOf[row] << 32) | row;
+            }
+            Arrays.sort(keys);
+            result = new ArrayList<>(n);
+            for (int i = n - 1; i >= 0; i--) {
+                result.add(rows[(int) keys[i]]);
+            }
+            // result[j]는 keys[n - 1 - j]
+            for (int from = 0; from < n; ) {
+                long day = keys[n - 1 - from] >> 32;
+                int to = from + 1;
+                while (to < n && keys[n - 1 - to] >> 32 == day) {
+                    to++;
+                }
+                if (to - from > 1) {
+                    result.subList(from, to).sort(SAME_DAY_ORDER);
+                }
+                from = to;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // ==================== 필터 평가 ====================
+
+    /**
+     * 필터 식을 비트맵으로 바꾼다 (읽기 잠금 안에서 호출, 돌려준 비트맵은 바꾸지 않는다)
+     */
+    private RowBitmap evaluate(StudyLogFilter filter) {
+        if (filter instanceof StudyLogFilter.All) {
+            return live;
+        }
+        if (filter instanceof StudyLogFilter.CategoryIn in) {
+            return union(byCategory, in.categories().stream().mapToInt(Enum::ordinal).toArray());
+        }
+        if (filter instanceof StudyLogFilter.UnderstandingIn in) {
+            return union(byUnderstanding, in.understandings().stream().mapToInt(Enum::ordinal).toArray());
+        }
+        if (filter instanceof StudyLogFilter.StudyTimeIn in) {
+            return union(byBucket, in.buckets().stream().mapToInt(Enum::ordinal).toArray());
+        }
+        if (filter instanceof StudyLogFilter.StudyDateBetween between) {
+            return dateRange(between.from(), between.to());
+        }
+        if (filter instanceof StudyLogFilter.And and) {
+            RowBitmap result = live;
+            for (StudyLogFilter child : and.filters()) {
+                result = result.and(evaluate(child));
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+        if (filter instanceof StudyLogFilter.Or or) {
+            RowBitmap result = new RowBitmap();
+            for (StudyLogFilter child : or.filters()) {
+                result.orWith(evaluate(child));
+            }
+            return result;
+        }
+        if (filter instanceof StudyLogFilter.Not not) {
+            return live.andNot(evaluate(not.filter()));
+        }
+        throw new IllegalArgumentException("지원하지 않는 필터입니다: " + filter);
+    }
+
+    private static RowBitmap union(RowBitmap[] bitmaps, int[] ordinals) {
+        if (ordinals.length == 1) {
+            return bitmaps[ordinals[0]];
+        }
+        RowBitmap result = new RowBitmap();
+        for (int ordinal : ordinals) {
+            result.orWith(bitmaps[ordinal]);
+        }
+        return result;
+    }
+
+    private RowBitmap dateRange(LocalDate from, LocalDate to) {
+        if (byMonth.isEmpty()) {
+            return new RowBitmap();
+        }
+        int fromMonth = from == null ? byMonth.firstKey() : monthKey(from);
+        int toMonth = to == null ? byMonth.lastKey() : monthKey(to);
+        long fromDay = from == null ? Long.MIN_VALUE : from.toEpochDay();
+        long toDay = to == null ? Long.MAX_VALUE : to.toEpochDay();
+
+        RowBitmap result = new RowBitmap();
+        if (fromMonth > toMonth) {
+            return result;
+        }
+        for (Map.Entry<Integer, RowBitmap> entry : byMonth.subMap(fromMonth, true, toMonth, true).entrySet()) {
+            int month = entry.getKey();
+            boolean partial = (from != null && month == fromMonth && from.getDayOfMonth() != 1)
+                    || (to != null && month == toMonth && to.getDayOfMonth() != to.lengthOfMonth());
+            if (!partial) {
+                result.orWith(entry.getValue());
+                continue;
+            }
+            // 양 끝 달: 그 달에 속한 행만 날짜를 확인
+            RowBitmap monthRows = entry.getValue();
+            for (int row = monthRows.nextSetBit(0); row >= 0; row = monthRows.nextSetBit(row + 1)) {
+                int day = epochDayOf[row];
+                if (day >= fromDay && day <= toDay) {
+                    result.set(row);
+                }
+            }
+        }
+        return result;
+    }
+
+    // ==================== 내부 ====================
+
+    private void index(int ordinal, StudyLog studyLog) {
+        ensureCapacity(ordinal + 1);
+        rows[ordinal] = studyLog;
+        live.set(ordinal);
+        if (studyLog.isDeleted()) {
+            deleted.set(ordinal);
+        }
+
+        categoryOf[ordinal] = studyLog.getCategory() == null ? -1 : studyLog.getCategory().ordinal();
+        understandingOf[ordinal] = studyLog.getUnderstanding() == null ? -1 : studyLog.getUnderstanding().ordinal();
+        bucketOf[ordinal] = StudyTimeBucket.of(studyLog.getStudyTime()).ordinal();
+        epochDayOf[ordinal] = studyLog.getStudyDate() == null ? NO_DATE : (int) studyLog.getStudyDate().toEpochDay();
+
+        if (categoryOf[ordinal] >= 0) {
+            byCategory[categoryOf[ordinal]].set(ordinal);
+        }
+        if (understandingOf[ordinal] >= 0) {
+            byUnderstanding[understandingOf[ordinal]].set(ordinal);
+        }
+        byBucket[bucketOf[ordinal]].set(ordinal);
+        if (epochDayOf[ordinal] != NO_DATE) {
+            byMonth.computeIfAbsent(monthKey(studyLog.getStudyDate()), key -> new RowBitmap()).set(ordinal);
+        }
+    }
+
+    private void unindex(int ordinal) {
+        live.clear(ordinal);
+        deleted.clear(ordinal);
+        if (categoryOf[ordinal] >= 0) {
+            byCategory[categoryOf[ordinal]].clear(ordinal);
+        }
+        if (understandingOf[ordinal] >= 0) {
+            byUnderstanding[understandingOf[ordinal]].clear(ordinal);
+        }
+        byBucket[bucketOf[ordinal]].clear(ordinal);
+        if (epochDayOf[ordinal] != NO_DATE) {
+            int month = monthKey(LocalDate.ofEpochDay(epochDayOf[ordinal]));
+            RowBitmap monthRows = byMonth.get(month);
+            monthRows.clear(ordinal);
+            if (monthRows.isEmpty()) {
+                byMonth.remove(month);
+            }
+        }
+        rows[ordinal] = null;
+    }
+
+    private int allocate() {
+        return freeCount > 0 ? freeOrdinals[--freeCount] : nextOrdinal++;
+    }
+
+    private void release(int ordinal) {
+        if (freeCount == freeOrdinals.length) {
+            freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+        }
+        freeOrdinals[freeCount++] = ordinal;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= rows.length) {
+            return;
+        }
+        int length = Math.max(capacity, rows.length * 2);
+        rows = Arrays.copyOf(rows, length);
+        categoryOf = Arrays.copyOf(categoryOf, length);
+        understandingOf = Arrays.copyOf(understandingOf, length);
+        bucketOf = Arrays.copyOf(bucketOf, length);
+        epochDayOf = Arrays.copyOf(epochDayOf, length);
+    }
+
+    private static int monthKey(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private static RowBitmap[] bitmaps(int count) {
+        RowBitmap[] bitmaps = new RowBitmap[count];
+        Arrays.setAll(bitmaps, i -> new RowBitmap());
+        return bitmaps;
+    }
+}
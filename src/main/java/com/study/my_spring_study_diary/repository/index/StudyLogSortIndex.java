@@ -0,0 +1,188 @@
+package com.study.my_spring_study_diary.repository.index;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 메모리 저장소(StudyLogRepository)의 정렬 색인
+ * <p>
+ * PageRequest.sortBy로 고를 수 있는 정렬 기준(title, studyTime, studyDate, createdAt)마다
+ * (정렬 값, ID) 순으로 정렬된 집합을 유지한다. 같은 값이면 ID 오름차순이라 순서가 항상 정해진다.
+ * 페이지 조회는 전체를 복사해 정렬하지 않고 집합을 걸으며, 가까운 쪽 끝에서 출발하므로
+ * 비용은 min(offset, 전체 - offset) + size에 비례한다.
+ * <p>
+ * 엔티티는 제자리에서 바뀐 뒤 들어오므로, 지울 때 쓰도록 ID마다 색인에 넣었던 정렬 값을 따로 기억한다.
+ */
+public class StudyLogSortIndex {
+
+    /**
+     * 정렬 기준 (알 수 없는 값은 createdAt, 기존 동작과 같음)
+     */
+    public enum SortKey {
+        TITLE("title", StudyLog::getTitle),
+        STUDY_TIME("studyTime", StudyLog::getStudyTime),
+        STUDY_DATE("studyDate", StudyLog::getStudyDate),
+        CREATED_AT("createdAt", StudyLog::getCreatedAt);
+
+        private final String property;
+        private final Function<StudyLog, Comparable<?>> extractor;
+
+        SortKey(String property, Function<StudyLog, Comparable<?>> extractor) {
+            this.property = property;
+            this.extractor = extractor;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public static SortKey from(String property) {
+            for (SortKey key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            return CREATED_AT;
+        }
+    }
+
+    /**
+     * 정렬 집합의 원소 (정렬 값은 넣을 때 복사해 둔 값)
+     */
+    private record Entry(Comparable<Object> value, long id, StudyLog studyLog) {
+    }
+
+    // 정렬 값(null이 먼저) -> ID
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+            .comparing(Entry::value, Comparator.nullsFirst(Comparator.<Comparable<Object>>naturalOrder()))
+            .thenComparingLong(Entry::id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<SortKey, NavigableSet<Entry>> sorted = new EnumMap<>(SortKey.class);
+    private final Map<Long, Entry[]> entriesById = new HashMap<>();
+
+    public StudyLogSortIndex() {
+        for (SortKey key : SortKey.values()) {
+            sorted.put(key, new TreeSet<>(ENTRY_ORDER));
+        }
+    }
+
+    // ==================== 갱신 ====================
+
+    /**
+     * 새 학습 일지를 넣거나, 이미 있는 ID면 이전 정렬 값을 지우고 다시 넣는다
+     */
+    public void put(StudyLog studyLog) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(studyLog.getId());
+            Entry[] entries = new Entry[SortKey.values().length];
+            for (SortKey key : SortKey.values()) {
+                Entry entry = new Entry(value(key, studyLog), studyLog.getId(), studyLog);
+                entries[key.ordinal()] = entry;
+                sorted.get(key).add(entry);
+            }
+            entriesById.put(studyLog.getId(), entries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            sorted.values().forEach(NavigableSet::clear);
+            entriesById.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entriesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 정렬된 순서의 [offset, offset + size) 구간
+     *
+     * @param ascending true면 오름차순, false면 내림차순
+     */
+    public List<StudyLog> page(SortKey key, boolean ascending, int offset, int size) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<Entry> entries = sorted.get(key);
+            int total = entries.size();
+            if (offset < 0 || size <= 0 || offset >= total) {
+                return List.of();
+            }
+            int count = Math.min(size, total - offset);
+            int fromOtherEnd = total - offset - count;
+
+            // 요청 방향으로 offset만큼 건너뛰는 것과 반대 방향 끝에서 건너뛰는 것 중 짧은 쪽
+            if (offset <= fromOtherEnd) {
+                return walk(ascending ? entries.iterator() : entries.descendingIterator(), offset, count);
+            }
+            List<StudyLog> page = walk(ascending ? entries.descendingIterator() : entries.iterator(), fromOtherEnd, count);
+            Collections.reverse(page);
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    private void removeLocked(Long id) {
+        Entry[] entries = entriesById.remove(id);
+        if (entries == null) {
+            return;
+        }
+        for (SortKey key : SortKey.values()) {
+            sorted.get(key).remove(entries[key.ordinal()]);
+        }
+    }
+
+    private static List<StudyLog> walk(Iterator<Entry> iterator, int skip, int count) {
+        for (int i = 0; i < skip; i++) {
+            iterator.next();
+        }
+        List<StudyLog> page = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            page.add(iterator.next().studyLog());
+        }
+        return page;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> value(SortKey key, StudyLog studyLog) {
+        return (Comparable<Object>) key.extractor.apply(studyLog);
+    }
+}
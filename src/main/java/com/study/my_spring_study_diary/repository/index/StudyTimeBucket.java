@@ -0,0 +1,45 @@
+package com.study.my_spring_study_diary.repository.index;
+
+/**
+ * 학습 시간 구간 (패싯 필터용)
+ * <p>
+ * 구간은 [min, max) 분 단위이며 마지막 구간은 상한이 없다.
+ */
+public enum StudyTimeBucket {
+    UNDER_30(0, 30),
+    UNDER_60(30, 60),
+    UNDER_120(60, 120),
+    UNDER_240(120, 240),
+    OVER_240(240, Integer.MAX_VALUE);
+
+    private static final StudyTimeBucket[] VALUES = values();
+
+    private final int minMinutes;
+    private final int maxMinutes;
+
+    StudyTimeBucket(int minMinutes, int maxMinutes) {
+        this.minMinutes = minMinutes;
+        this.maxMinutes = maxMinutes;
+    }
+
+    public int getMinMinutes() {
+        return minMinutes;
+    }
+
+    public int getMaxMinutes() {
+        return maxMinutes;
+    }
+
+    /**
+     * 학습 시간이 속한 구간 (null / 음수는 첫 구간)
+     */
+    public static StudyTimeBucket of(Integer studyTime) {
+        int minutes = studyTime == null ? 0 : studyTime;
+        for (StudyTimeBucket bucket : VALUES) {
+            if (minutes < bucket.maxMinutes) {
+                return bucket;
+            }
+        }
+        return OVER_240;
+    }
+}
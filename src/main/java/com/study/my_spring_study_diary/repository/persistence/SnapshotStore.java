@@ -0,0 +1,191 @@
+package com.study.my_spring_study_diary.repository.persistence;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 압축(compacted) 스냅샷 파일
+ * <p>
+ * snapshot-{LSN}.snap = [본문 길이 int][CRC32C int][본문]
+ * 본문 = [포맷 버전][LSN][다음 ID 시퀀스][건수][학습 일지...]
+ * - 그 시점의 최종 상태만 담는다. 삭제된 일지나 여러 번 수정된 기록은 남지 않는다.
+ * - 임시 파일에 쓰고 fsync 한 뒤 rename 하므로, 중간에 죽어도 이전 스냅샷은 그대로 남는다.
+ * - 새 스냅샷이 자리 잡으면 이전 스냅샷은 지운다.
+ */
+@Slf4j
+public class SnapshotStore {
+
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+
+    private final Path directory;
+
+    public SnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 스냅샷 내용
+     *
+     * @param lsn      이 위치 앞의 WAL 레코드는 모두 반영됨
+     * @param sequence 다음에 부여할 ID
+     */
+    public record Snapshot(long lsn, long sequence, List<StudyLog> studyLogs) {
+    }
+
+    /**
+     * 학습 일지 목록을 스냅샷 본문으로 직렬화 (저장소 잠금 안에서 호출해 일관된 시점을 만든다)
+     */
+    public static byte[] encode(long lsn, long sequence, Collection<StudyLog> studyLogs) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(1024, studyLogs.size() * 256));
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(StudyLogCodec.FORMAT_VERSION);
+            out.writeLong(lsn);
+            out.writeLong(sequence);
+            out.writeInt(studyLogs.size());
+            for (StudyLog studyLog : studyLogs) {
+                StudyLogCodec.writeStudyLog(out, studyLog);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 스냅샷 파일 기록 (임시 파일 -> fsync -> rename), 이전 스냅샷 삭제
+     */
+    public void write(long lsn, byte[] body) {
+        Path target = snapshotPath(lsn);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(WriteAheadLog.HEADER_BYTES);
+            header.putInt(body.length).putInt(WriteAheadLog.crc(body)).flip();
+            ByteBuffer content = ByteBuffer.wrap(body);
+            while (header.hasRemaining() || content.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, content});
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 기록 실패: " + temp, e);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 교체 실패: " + target, e);
+        }
+
+        for (long older : snapshotLsns()) {
+            if (older < lsn) {
+                try {
+                    Files.deleteIfExists(snapshotPath(older));
+                } catch (IOException e) {
+                    log.warn("이전 스냅샷 삭제 실패: {}", snapshotPath(older), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 가장 최근의 온전한 스냅샷 (CRC가 맞지 않으면 그 이전 것을 시도)
+     */
+    public Optional<Snapshot> loadLatest() {
+        List<Long> lsns = snapshotLsns();
+        for (int i = lsns.size() - 1; i >= 0; i--) {
+            Path path = snapshotPath(lsns.get(i));
+            try {
+                Optional<Snapshot> snapshot = read(path);
+                if (snapshot.isPresent()) {
+                    return snapshot;
+                }
+                log.warn("손상된 스냅샷을 건너뜁니다: {}", path.getFileName());
+            } catch (IOException e) {
+                log.warn("스냅샷을 읽을 수 없습니다: {}", path.getFileName(), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private Optional<Snapshot> read(Path path) throws IOException {
+        byte[] file = Files.readAllBytes(path);
+        if (file.length < WriteAheadLog.HEADER_BYTES) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(file);
+        int length = buffer.getInt();
+        int crc = buffer.getInt();
+        if (length != file.length - WriteAheadLog.HEADER_BYTES) {
+            return Optional.empty();
+        }
+        byte[] body = new byte[length];
+        buffer.get(body);
+        if (WriteAheadLog.crc(body) != crc) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            int version = in.readInt();
+            if (version != StudyLogCodec.FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 스냅샷 포맷 버전입니다: " + version);
+            }
+            long lsn = in.readLong();
+            long sequence = in.readLong();
+            int count = in.readInt();
+            List<StudyLog> studyLogs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                studyLogs.add(StudyLogCodec.readStudyLog(in));
+            }
+            return Optional.of(new Snapshot(lsn, sequence, studyLogs));
+        }
+    }
+
+    private List<Long> snapshotLsns() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path snapshotPath(long lsn) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, lsn, SUFFIX));
+    }
+
+    /**
+     * rename 자체가 디스크에 남도록 디렉터리도 fsync (지원하지 않는 OS에서는 무시)
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("디렉터리 fsync 미지원: {}", directory);
+        }
+    }
+}
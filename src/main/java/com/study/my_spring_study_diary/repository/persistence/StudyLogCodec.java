@@ -0,0 +1,174 @@
+package com.study.my_spring_study_diary.repository.persistence;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * WAL 레코드 / 스냅샷 항목의 바이너리 인코딩
+ * <p>
+ * 레코드 = [연산 1바이트][연산별 본문]
+ * - SAVE, UPDATE: 학습 일지 전체
+ * - DELETE, RESTORE: id
+ * - SOFT_DELETE: id, 삭제 시각
+ * - CLEAR: 본문 없음
+ * 필드 순서를 바꾸면 기존 파일을 읽을 수 없으므로 새 필드는 맨 뒤에 추가하고 FORMAT_VERSION을 올린다.
+ */
+public final class StudyLogCodec {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private StudyLogCodec() {
+    }
+
+    public enum Operation {
+        SAVE, UPDATE, DELETE, SOFT_DELETE, RESTORE, CLEAR
+    }
+
+    /**
+     * 디코딩된 WAL 레코드 (연산에 따라 studyLog 또는 id만 채워짐)
+     */
+    public record Record(Operation operation, StudyLog studyLog, Long id, LocalDateTime deletedAt) {
+    }
+
+    // ==================== 인코딩 ====================
+
+    public static byte[] encodeWrite(Operation operation, StudyLog studyLog) {
+        return encode(out -> {
+            out.writeByte(operation.ordinal());
+            writeStudyLog(out, studyLog);
+        });
+    }
+
+    public static byte[] encodeId(Operation operation, long id, LocalDateTime deletedAt) {
+        return encode(out -> {
+            out.writeByte(operation.ordinal());
+            out.writeLong(id);
+            if (operation == Operation.SOFT_DELETE) {
+                writeDateTime(out, deletedAt);
+            }
+        });
+    }
+
+    public static byte[] encodeClear() {
+        return new byte[]{(byte) Operation.CLEAR.ordinal()};
+    }
+
+    public static Record decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            Operation operation = Operation.values()[in.readUnsignedByte()];
+            return switch (operation) {
+                case SAVE, UPDATE -> new Record(operation, readStudyLog(in), null, null);
+                case DELETE, RESTORE -> new Record(operation, null, in.readLong(), null);
+                case SOFT_DELETE -> new Record(operation, null, in.readLong(), readDateTime(in));
+                case CLEAR -> new Record(operation, null, null, null);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==================== 학습 일지 ====================
+
+    public static void writeStudyLog(DataOutputStream out, StudyLog studyLog) throws IOException {
+        out.writeLong(studyLog.getId());
+        writeNullableLong(out, studyLog.getOwnerId());
+        writeNullableString(out, studyLog.getTitle());
+        writeNullableString(out, studyLog.getContent());
+        writeNullableString(out, studyLog.getCategory() != null ? studyLog.getCategory().name() : null);
+        writeNullableString(out, studyLog.getUnderstanding() != null ? studyLog.getUnderstanding().name() : null);
+        writeNullableLong(out, studyLog.getStudyTime() != null ? studyLog.getStudyTime().longValue() : null);
+        writeNullableLong(out, studyLog.getStudyDate() != null ? studyLog.getStudyDate().toEpochDay() : null);
+        writeDateTime(out, studyLog.getCreatedAt());
+        writeDateTime(out, studyLog.getUpdatedAt());
+        out.writeBoolean(studyLog.isDeleted());
+        writeDateTime(out, studyLog.getDeletedAt());
+    }
+
+    public static StudyLog readStudyLog(DataInputStream in) throws IOException {
+        StudyLog studyLog = new StudyLog();
+        studyLog.setId(in.readLong());
+        studyLog.setOwnerId(readNullableLong(in));
+        studyLog.setTitle(readNullableString(in));
+        studyLog.setContent(readNullableString(in));
+        String category = readNullableString(in);
+        studyLog.setCategory(category != null ? Category.valueOf(category) : null);
+        String understanding = readNullableString(in);
+        studyLog.setUnderstanding(understanding != null ? Understanding.valueOf(understanding) : null);
+        Long studyTime = readNullableLong(in);
+        studyLog.setStudyTime(studyTime != null ? studyTime.intValue() : null);
+        Long studyDate = readNullableLong(in);
+        studyLog.setStudyDate(studyDate != null ? LocalDate.ofEpochDay(studyDate) : null);
+        studyLog.setCreatedAt(readDateTime(in));
+        studyLog.setUpdatedAt(readDateTime(in));
+        studyLog.setDeleted(in.readBoolean());
+        studyLog.setDeletedAt(readDateTime(in));
+        return studyLog;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long seconds = in.readLong();
+        int nanos = in.readInt();
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
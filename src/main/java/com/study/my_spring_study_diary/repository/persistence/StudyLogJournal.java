@@ -0,0 +1,200 @@
+package com.study.my_spring_study_diary.repository.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * StudyLogRepository의 WAL + 스냅샷 관리
+ * <p>
+ * 쓰기 흐름 (저장소가 호출)
+ * 1. 저장소 잠금 안에서 Map 변경과 append() -> 기록 순서 = 적용 순서
+ * 2. 잠금을 푼 뒤 awaitDurable() -> fsync 정책에 따라 디스크에 내려갈 때까지 대기
+ * <p>
+ * fsync 정책
+ * - EVERY_WRITE: append() 안에서 바로 fsync (잠금 안이므로 쓰기가 fsync 단위로 직렬화됨)
+ * - GROUP: fsync는 한 번에 하나만. 진행 중인 fsync를 기다리던 쓰기들은 다음 fsync 한 번에 함께 내려간다.
+ * - PERIODIC: 기다리지 않음. fsyncInterval마다 백그라운드에서 fsync.
+ * <p>
+ * 스냅샷: 기록이 snapshotEveryRecords개 쌓이거나 snapshotInterval이 지나면 백그라운드에서
+ * 저장소의 snapshotAction을 실행한다. 저장소는 잠금 안에서 상태를 직렬화하고 beginSnapshot()으로 LSN을 받은 뒤,
+ * 잠금 밖에서 completeSnapshot()을 호출한다.
+ */
+@Slf4j
+public class StudyLogJournal implements AutoCloseable {
+
+    private final StudyLogPersistenceProperties properties;
+    private final WriteAheadLog wal;
+    private final SnapshotStore snapshots;
+    private final ScheduledExecutorService background;
+    private final ReentrantLock fsyncLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final AtomicInteger recordsSinceSnapshot = new AtomicInteger();
+
+    private volatile long durableLsn;
+    private volatile Runnable snapshotAction;
+
+    public StudyLogJournal(StudyLogPersistenceProperties properties) {
+        this.properties = properties;
+        try {
+            Files.createDirectories(properties.getDirectory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("저장소 디렉터리를 만들 수 없습니다: " + properties.getDirectory(), e);
+        }
+        this.wal = new WriteAheadLog(properties.getDirectory(), properties.getSegmentSize());
+        this.snapshots = new SnapshotStore(properties.getDirectory());
+        this.background = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "study-log-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 복구 결과
+     */
+    public record Recovery(boolean fromSnapshot, int snapshotEntries, int replayedRecords) {
+    }
+
+    // ==================== 복구 ====================
+
+    /**
+     * 마지막 스냅샷을 적용하고 그 뒤의 WAL 레코드를 순서대로 재생
+     */
+    public Recovery recover(Consumer<SnapshotStore.Snapshot> onSnapshot, Consumer<StudyLogCodec.Record> onRecord) {
+        SnapshotStore.Snapshot snapshot = snapshots.loadLatest().orElse(null);
+        long fromLsn = 0;
+        if (snapshot != null) {
+            onSnapshot.accept(snapshot);
+            fromLsn = snapshot.lsn();
+        }
+        int replayed = wal.replay(fromLsn, (lsn, body) -> onRecord.accept(StudyLogCodec.decode(body)));
+        durableLsn = wal.currentLsn();
+        recordsSinceSnapshot.set(replayed);
+        return new Recovery(snapshot != null, snapshot != null ? snapshot.studyLogs().size() : 0, replayed);
+    }
+
+    /**
+     * 백그라운드 fsync/스냅샷 시작 (복구 이후)
+     */
+    public void start(Runnable snapshotAction) {
+        this.snapshotAction = snapshotAction;
+        if (properties.getFsyncPolicy() == StudyLogPersistenceProperties.FsyncPolicy.PERIODIC) {
+            long interval = Math.max(1, properties.getFsyncInterval().toMillis());
+            background.scheduleWithFixedDelay(this::forceQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        long snapshotInterval = properties.getSnapshotInterval().toMillis();
+        if (snapshotInterval > 0) {
+            background.scheduleWithFixedDelay(this::runSnapshot, snapshotInterval, snapshotInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ==================== 쓰기 ====================
+
+    /**
+     * 레코드 기록 (저장소 잠금 안에서 호출)
+     *
+     * @return 레코드 끝 LSN (awaitDurable에 넘김)
+     */
+    public long append(byte[] record) {
+        long end = wal.append(record) + WriteAheadLog.HEADER_BYTES + record.length;
+        if (properties.getFsyncPolicy() == StudyLogPersistenceProperties.FsyncPolicy.EVERY_WRITE) {
+            durableLsn = wal.force();
+        }
+        int threshold = properties.getSnapshotEveryRecords();
+        if (threshold > 0 && recordsSinceSnapshot.incrementAndGet() == threshold) {
+            background.execute(this::runSnapshot);
+        }
+        return end;
+    }
+
+    /**
+     * end 위치까지 디스크에 내려갈 때까지 대기 (저장소 잠금 밖에서 호출)
+     */
+    public void awaitDurable(long end) {
+        if (properties.getFsyncPolicy() != StudyLogPersistenceProperties.FsyncPolicy.GROUP || durableLsn >= end) {
+            return;
+        }
+        fsyncLock.lock();
+        try {
+            // 잠금을 기다리는 동안 앞선 fsync가 이 기록까지 내렸을 수 있다
+            if (durableLsn < end) {
+                durableLsn = wal.force();
+            }
+        } finally {
+            fsyncLock.unlock();
+        }
+    }
+
+    // ==================== 스냅샷 ====================
+
+    /**
+     * 스냅샷 시작점 확정 (저장소 잠금 안에서 호출)
+     * <p>
+     * 이후 기록은 새 세그먼트에 쓰이므로, 스냅샷이 디스크에 남으면 이전 세그먼트를 통째로 지울 수 있다.
+     *
+     * @return 스냅샷 LSN (이 위치 앞의 기록은 스냅샷에 포함)
+     */
+    public long beginSnapshot() {
+        wal.roll();
+        recordsSinceSnapshot.set(0);
+        return wal.currentLsn();
+    }
+
+    /**
+     * 스냅샷 파일 기록 후 필요 없어진 WAL 세그먼트 삭제 (저장소 잠금 밖에서 호출)
+     */
+    public void completeSnapshot(long lsn, byte[] body) {
+        snapshots.write(lsn, body);
+        int deleted = wal.deleteSegmentsBefore(lsn);
+        log.info("학습 일지 스냅샷 기록 (lsn={}, {} bytes, 삭제한 WAL 세그먼트 {}개)", lsn, body.length, deleted);
+    }
+
+    /**
+     * 스냅샷을 한 번에 하나만 실행 (이미 진행 중이면 건너뜀)
+     */
+    public boolean runSnapshot() {
+        Runnable action = snapshotAction;
+        if (action == null || !snapshotLock.tryLock()) {
+            return false;
+        }
+        try {
+            action.run();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("학습 일지 스냅샷 실패", e);
+            return false;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        background.shutdownNow();
+        try {
+            background.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        wal.close();
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private void forceQuietly() {
+        try {
+            durableLsn = wal.force();
+        } catch (RuntimeException e) {
+            log.error("WAL fsync 실패", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.my_spring_study_diary.repository.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 메모리 저장소(StudyLogRepository) 영속화 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.repository.persistence")
+public class StudyLogPersistenceProperties {
+
+    private boolean enabled = false;
+
+    // WAL 세그먼트와 스냅샷을 두는 디렉터리
+    private Path directory = Path.of("data", "study-log-store");
+
+    // WAL 세그먼트 파일 하나의 크기 (메모리 매핑 단위)
+    private int segmentSize = 64 * 1024 * 1024;
+
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.GROUP;
+
+    // PERIODIC 정책의 fsync 주기 (장애 시 최대 이만큼의 쓰기가 유실될 수 있음)
+    private Duration fsyncInterval = Duration.ofMillis(200);
+
+    // 마지막 스냅샷 이후 이만큼 기록이 쌓이면 스냅샷 (0이면 개수 기준 없음)
+    private int snapshotEveryRecords = 50_000;
+
+    // 스냅샷 주기 (0이면 시간 기준 없음)
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+
+    public enum FsyncPolicy {
+        EVERY_WRITE,    // 쓰기마다 fsync 후 반환 (가장 안전, 가장 느림)
+        GROUP,          // fsync 하는 동안 들어온 쓰기를 모아 다음 fsync 한 번으로 내림, 각 쓰기는 fsync 후 반환 (group commit)
+        PERIODIC        // fsync를 기다리지 않고 반환, 주기적으로 fsync (장애 시 마지막 주기만큼 유실 가능)
+    }
+}
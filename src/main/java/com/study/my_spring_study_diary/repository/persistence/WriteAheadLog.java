@@ -0,0 +1,268 @@
+package com.study.my_spring_study_diary.repository.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑 세그먼트 기반 추가 전용(append-only) 로그
+ * <p>
+ * 세그먼트 파일: wal-{시작 LSN}.log, 크기는 segmentSize로 고정해 한 번 매핑한 뒤 그대로 쓴다.
+ * 레코드 = [본문 길이 int][CRC32C int][본문]
+ * - LSN(log sequence number)은 로그 전체에서의 바이트 위치다. 세그먼트 시작 LSN + 세그먼트 안의 위치.
+ * - 레코드가 현재 세그먼트에 들어가지 않으면 남은 공간은 0으로 둔 채 다음 세그먼트로 넘어간다.
+ *   읽을 때 길이 0을 만나면 그 세그먼트는 끝이다.
+ * - 쓰다가 죽어 잘린 레코드(torn write)는 길이가 남은 공간보다 크거나 CRC가 맞지 않는다.
+ *   복구 시 그 지점부터 뒤는 버리고 0으로 지운 뒤 이어 쓴다.
+ * <p>
+ * 쓰기 순서는 외부(StudyLogJournal)에서 정한다. force()는 fsync 스레드에서 쓰기와 동시에 불릴 수 있다.
+ */
+@Slf4j
+public class WriteAheadLog implements AutoCloseable {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private Segment active;
+
+    public WriteAheadLog(Path directory, int segmentSize) {
+        if (segmentSize <= HEADER_BYTES) {
+            throw new IllegalArgumentException("WAL 세그먼트 크기가 너무 작습니다: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    // ==================== 복구 ====================
+
+    /**
+     * fromLsn 이후의 레코드를 순서대로 넘겨주고, 마지막 유효 레코드 뒤에 이어 쓸 준비를 한다.
+     *
+     * @param fromLsn  이 위치보다 앞의 레코드는 건너뜀 (스냅샷에 이미 반영된 부분)
+     * @param consumer (레코드 시작 LSN, 본문)
+     * @return 재생한 레코드 수
+     */
+    public int replay(long fromLsn, BiConsumer<Long, byte[]> consumer) {
+        List<Long> bases = segmentBases();
+        int replayed = 0;
+        for (int i = 0; i < bases.size(); i++) {
+            boolean last = i == bases.size() - 1;
+            Segment segment = Segment.open(segmentPath(bases.get(i)), bases.get(i), segmentSize);
+            MappedByteBuffer buffer = segment.buffer;
+            int position = 0;
+            while (position + HEADER_BYTES <= segmentSize) {
+                int length = buffer.getInt(position);
+                if (length == 0) {
+                    break;
+                }
+                if (length < 0 || length > segmentSize - position - HEADER_BYTES) {
+                    break;
+                }
+                byte[] body = new byte[length];
+                buffer.get(position + HEADER_BYTES, body);
+                if (crc(body) != buffer.getInt(position + Integer.BYTES)) {
+                    break;
+                }
+                long lsn = segment.base + position;
+                if (lsn >= fromLsn) {
+                    consumer.accept(lsn, body);
+                    replayed++;
+                }
+                position += HEADER_BYTES + length;
+            }
+
+            if (position + HEADER_BYTES <= segmentSize && buffer.getInt(position) != 0) {
+                // 잘린 레코드 -> 뒤를 지워서 새 레코드 뒤에 옛 조각이 레코드처럼 읽히지 않게 한다
+                log.warn("WAL 끝의 손상된 레코드를 버립니다 (segment={}, offset={})", segment.path.getFileName(), position);
+                zero(buffer, position);
+            }
+            if (last) {
+                segment.position = position;
+                active = segment;
+            } else {
+                segment.close();
+            }
+        }
+        if (active == null) {
+            active = Segment.open(segmentPath(0), 0, segmentSize);
+        }
+        return replayed;
+    }
+
+    // ==================== 쓰기 ====================
+
+    /**
+     * 레코드 추가 (fsync는 하지 않음)
+     *
+     * @return 레코드 시작 LSN
+     */
+    public synchronized long append(byte[] body) {
+        int required = HEADER_BYTES + body.length;
+        if (required > segmentSize) {
+            throw new IllegalArgumentException("WAL 레코드가 세그먼트보다 큽니다: " + required + " bytes");
+        }
+        if (active.position + required > segmentSize) {
+            roll();
+        }
+        Segment segment = active;
+        int position = segment.position;
+        // 본문과 CRC를 먼저 쓰고 길이를 마지막에 써서, 길이가 보이면 나머지도 쓰여 있도록 한다
+        segment.buffer.put(position + HEADER_BYTES, body);
+        segment.buffer.putInt(position + Integer.BYTES, crc(body));
+        segment.buffer.putInt(position, body.length);
+        segment.position = position + required;
+        return segment.base + position;
+    }
+
+    /**
+     * 지금까지 쓴 레코드를 디스크에 내린다
+     *
+     * @return 디스크에 내려간 위치 (이 LSN 앞까지 durable)
+     */
+    public long force() {
+        Segment segment;
+        int position;
+        synchronized (this) {
+            segment = active;
+            position = segment.position;
+        }
+        segment.buffer.force(0, position);
+        return segment.base + position;
+    }
+
+    /**
+     * 다음 레코드가 쓰일 위치
+     */
+    public synchronized long currentLsn() {
+        return active.base + active.position;
+    }
+
+    /**
+     * 새 세그먼트로 넘어간다 (스냅샷 직후, 이전 세그먼트들을 지울 수 있게)
+     */
+    public synchronized void roll() {
+        Segment previous = active;
+        if (previous.position == 0) {
+            return;     // 비어 있는 세그먼트는 그대로 사용
+        }
+        previous.buffer.force(0, previous.position);
+        active = Segment.open(segmentPath(previous.base + previous.position), previous.base + previous.position, segmentSize);
+        previous.close();
+    }
+
+    /**
+     * lsn 앞의 레코드만 담긴 세그먼트 파일 삭제 (스냅샷이 디스크에 남은 뒤에만 호출)
+     */
+    public int deleteSegmentsBefore(long lsn) {
+        int deleted = 0;
+        for (long base : segmentBases()) {
+            if (base >= active.base || base >= lsn) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(segmentPath(base));
+                deleted++;
+            } catch (IOException e) {
+                log.warn("WAL 세그먼트 삭제 실패: {}", segmentPath(base), e);
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void close() {
+        if (active != null) {
+            active.buffer.force(0, active.position);
+            active.close();
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private List<Long> segmentBases() {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Long> bases = new ArrayList<>();
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .forEach(name -> bases.add(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()))));
+            bases.sort(null);
+            return bases;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long base) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, base, SUFFIX));
+    }
+
+    private static void zero(MappedByteBuffer buffer, int from) {
+        int i = from;
+        for (; i + Long.BYTES <= buffer.capacity(); i += Long.BYTES) {
+            buffer.putLong(i, 0L);
+        }
+        for (; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force(from, buffer.capacity() - from);
+    }
+
+    static int crc(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 매핑된 세그먼트 파일 하나
+     */
+    private static final class Segment {
+        private final Path path;
+        private final long base;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+
+        private Segment(Path path, long base, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.base = base;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, long base, int size) {
+            try {
+                FileChannel channel = FileChannel.open(path,
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                // 세그먼트 크기보다 작게 남은 파일도 같은 크기로 매핑 (늘어난 부분은 0)
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                return new Segment(path, base, channel, buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException("WAL 세그먼트를 열 수 없습니다: " + path, e);
+            }
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("WAL 세그먼트 닫기 실패: {}", path, e);
+            }
+        }
+    }
+}
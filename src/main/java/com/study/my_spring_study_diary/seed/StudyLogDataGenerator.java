@@ -0,0 +1,147 @@
+package com.study.my_spring_study_diary.seed;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 학습 일지 테스트 데이터 생성기
+ * <p>
+ * - 한 번에 한 행씩 생성하므로 수백만 건도 메모리에 쌓지 않고 흘려보낼 수 있다.
+ * - SplittableRandom을 시드로 초기화하므로 같은 설정이면 같은 순서로 같은 데이터가 나온다.
+ * - 종료 날짜를 지정하지 않으면 "오늘"을 사용하므로, 날짜까지 재현하려면 dates.end를 지정해야 한다.
+ */
+public class StudyLogDataGenerator {
+
+    private static final String[] KOREAN_WORDS = {
+            "스프링", "자바", "빈", "의존성", "주입", "트랜잭션", "인덱스", "쿼리", "최적화", "알고리즘",
+            "정렬", "탐색", "그래프", "동적계획법", "네트워크", "프로토콜", "캐시", "스레드", "동시성", "메모리",
+            "가비지컬렉션", "컬렉션", "스트림", "람다", "제네릭", "예외", "테스트", "리팩터링", "설계", "패턴",
+            "학습했다", "정리했다", "복습했다", "이해했다", "실습했다", "어려웠다", "개념", "원리", "예제", "구현"
+    };
+
+    private static final String[] ENGLISH_WORDS = {
+            "spring", "java", "bean", "dependency", "injection", "transaction", "index", "query", "tuning", "algorithm",
+            "sort", "search", "graph", "dynamic", "programming", "network", "protocol", "cache", "thread", "concurrency",
+            "memory", "garbage", "collector", "collection", "stream", "lambda", "generics", "exception", "test", "refactor",
+            "design", "pattern", "learned", "reviewed", "practiced", "implemented", "concept", "principle", "example", "note"
+    };
+
+    private final SplittableRandom random;
+    private final StudyLogSeedProperties properties;
+
+    private final Category[] categories;
+    private final int[] categoryCumulativeWeights;
+    private final Understanding[] understandings;
+    private final int[] understandingCumulativeWeights;
+
+    private final LocalDate endDate;
+    private final long dateSpanDays;
+
+    public StudyLogDataGenerator(StudyLogSeedProperties properties) {
+        this.properties = properties;
+        this.random = new SplittableRandom(properties.getRandomSeed());
+
+        this.categories = Category.values();
+        this.categoryCumulativeWeights = cumulativeWeights(categories, properties.getCategoryWeights());
+        this.understandings = Understanding.values();
+        this.understandingCumulativeWeights = cumulativeWeights(understandings, properties.getUnderstandingWeights());
+
+        StudyLogSeedProperties.Dates dates = properties.getDates();
+        this.endDate = dates.getEnd() != null ? dates.getEnd() : LocalDate.now();
+        if (dates.getStart().isAfter(endDate)) {
+            throw new IllegalArgumentException("시작 날짜가 종료 날짜보다 늦을 수 없습니다: " + dates.getStart());
+        }
+        this.dateSpanDays = ChronoUnit.DAYS.between(dates.getStart(), endDate);
+    }
+
+    /**
+     * 다음 학습 일지 한 건을 생성합니다. (ID는 비워둠)
+     */
+    public StudyLog next() {
+        StudyLogSeedProperties.Text text = properties.getText();
+        boolean korean = random.nextDouble() < text.getKoreanRatio();
+
+        StudyLog studyLog = new StudyLog();
+        studyLog.setTitle(randomText(korean, text.getTitleMinLength(), text.getTitleMaxLength()));
+        studyLog.setContent(randomText(korean, text.getContentMinLength(), text.getContentMaxLength()));
+        studyLog.setCategory(pick(categories, categoryCumulativeWeights));
+        studyLog.setUnderstanding(pick(understandings, understandingCumulativeWeights));
+        studyLog.setStudyTime(nextStudyTime());
+        studyLog.setStudyDate(nextStudyDate());
+        studyLog.setOwnerId(properties.getOwners() > 0
+                ? 1L + random.nextInt(properties.getOwners())
+                : StudyLog.UNASSIGNED_OWNER_ID);
+        return studyLog;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * 로그 정규 분포로 학습 시간을 뽑고 [min, max] 범위로 자릅니다.
+     */
+    private int nextStudyTime() {
+        StudyLogSeedProperties.StudyTime studyTime = properties.getStudyTime();
+        double value = Math.exp(Math.log(studyTime.getMedian()) + studyTime.getSigma() * random.nextGaussian());
+        long minutes = Math.round(value);
+        return (int) Math.max(studyTime.getMin(), Math.min(studyTime.getMax(), minutes));
+    }
+
+    /**
+     * u^(1/bias) 변환으로 최근 날짜 쪽으로 치우친 날짜를 뽑습니다. (bias = 1.0 이면 균등 분포)
+     */
+    private LocalDate nextStudyDate() {
+        double bias = Math.max(properties.getDates().getRecencyBias(), 0.01);
+        double u = Math.pow(random.nextDouble(), 1.0 / bias);
+        long daysBeforeEnd = (long) Math.floor((1.0 - u) * (dateSpanDays + 1));
+        return endDate.minusDays(Math.min(daysBeforeEnd, dateSpanDays));
+    }
+
+    private String randomText(boolean korean, int minLength, int maxLength) {
+        String[] words = korean ? KOREAN_WORDS : ENGLISH_WORDS;
+        int targetLength = minLength >= maxLength ? minLength : random.nextInt(minLength, maxLength + 1);
+
+        StringBuilder builder = new StringBuilder(targetLength + 16);
+        while (builder.length() < targetLength) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(words[random.nextInt(words.length)]);
+        }
+        builder.setLength(targetLength);
+        return builder.toString().strip();
+    }
+
+    private <E> E pick(E[] values, int[] cumulativeWeights) {
+        int total = cumulativeWeights[cumulativeWeights.length - 1];
+        int r = random.nextInt(total);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static <E extends Enum<E>> int[] cumulativeWeights(E[] values, Map<E, Integer> weights) {
+        int[] cumulative = new int[values.length];
+        int sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            Integer weight = weights.get(values[i]);
+            if (weight != null && weight < 0) {
+                throw new IllegalArgumentException("가중치는 음수일 수 없습니다: " + values[i]);
+            }
+            sum += weight != null ? weight : 0;
+            cumulative[i] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("가중치 합이 0입니다: " + values[0].getDeclaringClass().getSimpleName());
+        }
+        return cumulative;
+    }
+}
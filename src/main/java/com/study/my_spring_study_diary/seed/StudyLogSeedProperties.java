@@ -0,0 +1,99 @@
+package com.study.my_spring_study_diary.seed;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 대용량 테스트 데이터 생성 설정
+ * <p>
+ * application-seed.yaml 의 diary.seed.* 값이 바인딩됩니다.
+ * 같은 randomSeed와 같은 설정이면 항상 같은 데이터가 생성됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.seed")
+public class StudyLogSeedProperties {
+
+    private long rows = 1_000_000;          // 생성할 전체 행 수
+    private int batchSize = 1_000;          // 한 번에 INSERT 할 행 수
+    private long randomSeed = 20250101L;    // 재현 가능한 결과를 위한 시드
+    private boolean truncate = false;       // 생성 전에 기존 데이터 삭제 여부
+    private int owners = 50;                // 작성자 수 (owner_id 1 ~ owners 균등 분포, 0이면 모두 미지정)
+
+    // 카테고리 분포 (가중치, 합이 100일 필요는 없음)
+    private Map<Category, Integer> categoryWeights = defaultCategoryWeights();
+
+    // 이해도 분포 (가중치)
+    private Map<Understanding, Integer> understandingWeights = defaultUnderstandingWeights();
+
+    private StudyTime studyTime = new StudyTime();
+    private Dates dates = new Dates();
+    private Text text = new Text();
+
+    /**
+     * 학습 시간 분포 (분 단위, 로그 정규 분포)
+     */
+    @Getter
+    @Setter
+    public static class StudyTime {
+        private int min = 10;           // 최소 학습 시간
+        private int max = 480;          // 최대 학습 시간
+        private int median = 60;        // 중앙값
+        private double sigma = 0.6;     // 퍼짐 정도 (클수록 긴 꼬리)
+    }
+
+    /**
+     * 학습 날짜 분포
+     */
+    @Getter
+    @Setter
+    public static class Dates {
+        private LocalDate start = LocalDate.of(2020, 1, 1);  // 시작 날짜
+        private LocalDate end;                               // 종료 날짜 (null이면 오늘)
+        private double recencyBias = 1.0;                    // 1.0 = 균등, 1보다 크면 최근 날짜에 몰림
+    }
+
+    /**
+     * 제목/내용 텍스트 분포
+     */
+    @Getter
+    @Setter
+    public static class Text {
+        private double koreanRatio = 0.7;       // 한국어 텍스트 비율 (0.0 ~ 1.0)
+        private int titleMinLength = 5;
+        private int titleMaxLength = 60;        // 서비스 검증 규칙: 100자 이하
+        private int contentMinLength = 20;
+        private int contentMaxLength = 1_000;   // 서비스 검증 규칙: 1,000자 이하
+    }
+
+    private static Map<Category, Integer> defaultCategoryWeights() {
+        Map<Category, Integer> weights = new EnumMap<>(Category.class);
+        weights.put(Category.JAVA, 25);
+        weights.put(Category.SPRING, 25);
+        weights.put(Category.JPA, 10);
+        weights.put(Category.DATABASE, 12);
+        weights.put(Category.ALGORITHM, 12);
+        weights.put(Category.CS, 5);
+        weights.put(Category.NETWORK, 5);
+        weights.put(Category.GIT, 3);
+        weights.put(Category.ETC, 3);
+        return weights;
+    }
+
+    private static Map<Understanding, Integer> defaultUnderstandingWeights() {
+        Map<Understanding, Integer> weights = new EnumMap<>(Understanding.class);
+        weights.put(Understanding.VERY_GOOD, 10);
+        weights.put(Understanding.GOOD, 35);
+        weights.put(Understanding.NORMAL, 35);
+        weights.put(Understanding.BAD, 15);
+        weights.put(Understanding.VERY_BAD, 5);
+        return weights;
+    }
+}
@@ -0,0 +1,41 @@
+package com.study.my_spring_study_diary.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커맨드라인 데이터 적재 모드
+ * <p>
+ * seed 프로파일로 실행하면 웹 서버 없이 데이터만 적재하고 종료합니다.
+ * 예시:
+ *   ./gradlew seedDatabase -PseedArgs="--diary.seed.rows=5000000 --diary.seed.random-seed=42"
+ *   java -jar app.jar --spring.profiles.active=seed --diary.seed.rows=1000000
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class StudyLogSeedRunner implements ApplicationRunner {
+
+    private final StudyLogSeeder studyLogSeeder;
+    private final StudyLogSeedProperties properties;
+
+    public StudyLogSeedRunner(StudyLogSeeder studyLogSeeder, StudyLogSeedProperties properties) {
+        this.studyLogSeeder = studyLogSeeder;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("학습 일지 데이터 적재 시작 - rows: {}, batchSize: {}, seed: {}",
+                properties.getRows(), properties.getBatchSize(), properties.getRandomSeed());
+
+        long startNanos = System.nanoTime();
+        long inserted = studyLogSeeder.seed(properties);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        log.info("학습 일지 데이터 적재 완료 - {} 건, {} ms", inserted, elapsedMillis);
+    }
+}
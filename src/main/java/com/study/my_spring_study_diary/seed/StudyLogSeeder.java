@@ -0,0 +1,90 @@
+package com.study.my_spring_study_diary.seed;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성기에서 만든 학습 일지를 배치 INSERT로 흘려 넣는 적재기
+ * <p>
+ * - batchSize 만큼만 메모리에 모았다가 JdbcTemplate.batchUpdate()로 한 번에 전송한다.
+ * - MySQL은 rewriteBatchedStatements=true 일 때 배치가 multi-row INSERT로 바뀌어 훨씬 빠르다.
+ */
+@Slf4j
+@Component
+public class StudyLogSeeder {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO study_logs (owner_id, title, content, category, understanding, study_time, study_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ContentCodec contentCodec;
+
+    public StudyLogSeeder(JdbcTemplate jdbcTemplate, ContentCodec contentCodec) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contentCodec = contentCodec;
+    }
+
+    /**
+     * 설정에 따라 데이터를 생성하고 적재합니다.
+     *
+     * @return 적재된 행 수
+     */
+    public long seed(StudyLogSeedProperties properties) {
+        if (properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다.");
+        }
+
+        if (properties.isTruncate()) {
+            jdbcTemplate.update("DELETE FROM study_logs");
+            log.info("기존 학습 일지를 삭제했습니다.");
+        }
+
+        StudyLogDataGenerator generator = new StudyLogDataGenerator(properties);
+        List<StudyLog> batch = new ArrayList<>(properties.getBatchSize());
+
+        long startNanos = System.nanoTime();
+        long inserted = 0;
+        long nextReport = Math.max(properties.getRows() / 20, properties.getBatchSize());
+
+        while (inserted < properties.getRows()) {
+            int chunkSize = (int) Math.min(properties.getBatchSize(), properties.getRows() - inserted);
+            batch.clear();
+            for (int i = 0; i < chunkSize; i++) {
+                batch.add(generator.next());
+            }
+
+            insertBatch(batch);
+            inserted += chunkSize;
+
+            if (inserted >= nextReport || inserted == properties.getRows()) {
+                double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+                log.info("학습 일지 적재 중: {}/{} 건 ({} rows/s)",
+                        inserted, properties.getRows(), Math.round(inserted / Math.max(seconds, 0.001)));
+                nextReport += Math.max(properties.getRows() / 20, properties.getBatchSize());
+            }
+        }
+
+        return inserted;
+    }
+
+    private void insertBatch(List<StudyLog> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, studyLog) -> {
+            ps.setLong(1, studyLog.getOwnerId());
+            ps.setString(2, studyLog.getTitle());
+            ps.setBytes(3, contentCodec.encode(studyLog.getContent()));
+            ps.setString(4, studyLog.getCategory().name());
+            ps.setString(5, studyLog.getUnderstanding().name());
+            ps.setInt(6, studyLog.getStudyTime());
+            ps.setDate(7, Date.valueOf(studyLog.getStudyDate()));
+        });
+    }
+}
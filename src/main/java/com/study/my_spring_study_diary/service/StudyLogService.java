@@ -1,20 +1,38 @@
 package com.study.my_spring_study_diary.service;
 
+import com.study.my_spring_study_diary.common.CursorPage;
 import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dao.StudyLogCursor;
 import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogSort;
 import com.study.my_spring_study_diary.dto.request.StudyLogCreateRequest;
 import com.study.my_spring_study_diary.dto.request.StudyLogUpdateRequest;
+import com.study.my_spring_study_diary.dto.response.ActivityHeatmapResponse;
+import com.study.my_spring_study_diary.dto.response.SearchFacetsResponse;
 import com.study.my_spring_study_diary.dto.response.StudyLogDeleteResponse;
 import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.dto.response.StudyLogSearchPage;
+import com.study.my_spring_study_diary.dto.response.StudyStreakResponse;
+import com.study.my_spring_study_diary.dto.response.StudyTimePercentilesResponse;
+import com.study.my_spring_study_diary.dto.response.StudyTimeRangeResponse;
 import com.study.my_spring_study_diary.entity.Category;
 import com.study.my_spring_study_diary.entity.StudyLog;
 import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
 import com.study.my_spring_study_diary.global.common.PageRequest;
 import com.study.my_spring_study_diary.global.common.PageResponse;
+import com.study.my_spring_study_diary.global.concurrent.SingleFlight;
 import com.study.my_spring_study_diary.global.exception.StudyLogNotFoundException;
+import com.study.my_spring_study_diary.global.exception.StudyLogVersionMismatchException;
+import com.study.my_spring_study_diary.stats.StudyActivityIndex;
+import com.study.my_spring_study_diary.stats.StudyTimeQuantileIndex;
+import com.study.my_spring_study_diary.stats.StudyTimeRangeIndex;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,10 +57,32 @@ public class StudyLogService {
     // DIP 준수: 인터페이스에만 의존
     private final StudyLogDao studyLogDao;
 
+    // 동시에 들어온 동일한 조회(같은 메서드 + 같은 인자)를 DAO 호출 하나로 합친다
+    // 결과 Entity는 여러 요청이 공유하므로 읽기만 하고, 정렬이 필요하면 복사본을 만든다
+    private final SingleFlight readFlight;
+
+    // 쓰기 성공 후 변경 이벤트 발행 (SSE 스트림 등이 구독)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 날짜별 학습 활동 (히트맵/연속 학습일): 쓰기마다 갱신, 시작 시 집계 쿼리 한 번으로 재구성
+    private final StudyActivityIndex activityIndex;
+
+    // 날짜 구간 학습 시간 합계 (카테고리별 Fenwick 트리): 활동 색인과 같은 시점에 갱신/재구성
+    private final StudyTimeRangeIndex studyTimeIndex;
+
+    // 학습 시간 분위수 (날짜별 스케치): 활동 색인과 같은 시점에 갱신/재구성
+    private final StudyTimeQuantileIndex quantileIndex;
+
     // 페이징 관련 상수
     private static final int DEFAULT_PAGE_SIZE = 10;
     private static final int MAX_PAGE_SIZE = 100;
 
+    // 일괄 생성 한 번에 받을 최대 건수
+    private static final int MAX_BATCH_SIZE = 500;
+
+    // 분위수 창의 최대 일수 (약 10년)
+    private static final int MAX_PERCENTILE_WINDOW_DAYS = 3660;
+
     /**
      * 생성자 주입 (Constructor Injection)
      * <p>
@@ -50,8 +90,20 @@ public class StudyLogService {
      * 현재는 MapStudyLogRepository가 주입됨
      * 향후 MySQLStudyLogDaoImpl 등올 쉽게 교체 가능
      */
-    public StudyLogService(StudyLogDao studyLogDao) {
+    public StudyLogService(
+            StudyLogDao studyLogDao,
+            SingleFlight readFlight,
+            ApplicationEventPublisher eventPublisher,
+            StudyActivityIndex activityIndex,
+            StudyTimeRangeIndex studyTimeIndex,
+            StudyTimeQuantileIndex quantileIndex
+    ) {
         this.studyLogDao = studyLogDao;
+        this.readFlight = readFlight;
+        this.eventPublisher = eventPublisher;
+        this.activityIndex = activityIndex;
+        this.studyTimeIndex = studyTimeIndex;
+        this.quantileIndex = quantileIndex;
     }
 
     // ==================== CREATE ====================
@@ -67,21 +119,76 @@ public class StudyLogService {
         validateCreateRequest(request);
 
         // 2. DTO -> Entity 변환
+        StudyLog studyLog = toNewStudyLog(request);
+
+        // 3. 저장
+        StudyLog savedStudyLog = studyLogDao.save(studyLog);
+
+        // 4. Entity -> Response DTO 변환 후 활동 색인 갱신, 변경 이벤트 발행
+        activityIndex.add(savedStudyLog.getOwnerId(), savedStudyLog.getStudyDate(), savedStudyLog.getStudyTime());
+        studyTimeIndex.add(savedStudyLog.getCategory(), savedStudyLog.getStudyDate(), savedStudyLog.getStudyTime());
+        quantileIndex.add(savedStudyLog.getCategory(), savedStudyLog.getUnderstanding(), savedStudyLog.getStudyDate(), savedStudyLog.getStudyTime());
+        StudyLogResponse response = StudyLogResponse.from(savedStudyLog);
+        eventPublisher.publishEvent(StudyLogChangedEvent.created(response));
+        return response;
+    }
+
+    /**
+     * 학습 일지 일괄 생성
+     * <p>
+     * 모든 요청을 먼저 검증하고, 하나라도 잘못되면 아무것도 저장하지 않는다.
+     *
+     * @param requests 생성 요청 DTO 목록
+     * @return 생성된 학습 일지 응답 DTO 목록 (요청 순서)
+     */
+    public List<StudyLogResponse> createStudyLogs(List<StudyLogCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("생성할 학습 일지가 없습니다.");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 학습 일지는 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                validateCreateRequest(requests.get(i));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("[" + i + "] " + e.getMessage());
+            }
+        }
+
+        List<StudyLogResponse> responses = new ArrayList<>(requests.size());
+        for (StudyLogCreateRequest request : requests) {
+            responses.add(createStudyLog(request));
+        }
+        return responses;
+    }
+
+    /**
+     * 생성 요청 DTO -> 저장 전 Entity 변환 (validateCreateRequest를 통과한 요청)
+     * <p>
+     * 대량 가져오기(StudyLogImporter)도 같은 규칙으로 변환한다.
+     */
+    public StudyLog toNewStudyLog(StudyLogCreateRequest request) {
         StudyLog studyLog = new StudyLog(
                 null,   // ID는 Repository에서 자동 생성
                 request.getTitle(),
                 request.getContent(),
-                Category.valueOf(request.getCategory()),
-                Understanding.valueOf(request.getUnderstanding()),
+                parseCategory(request.getCategory()),
+                parseUnderstanding(request.getUnderstanding()),
                 request.getStudyTime(),
                 request.getStudyDate() != null ? request.getStudyDate() : LocalDate.now()
         );
+        studyLog.setOwnerId(request.getOwnerId() != null ? request.getOwnerId() : StudyLog.UNASSIGNED_OWNER_ID);
+        return studyLog;
+    }
 
-        // 3. 저장
-        StudyLog savedStudyLog = studyLogDao.save(studyLog);
-
-        // 4. Entity -> Response DTO 변환 후 반환
-        return StudyLogResponse.from(savedStudyLog);
+    /**
+     * 대량 가져오기로 적재된 묶음을 활동/학습 시간 색인에 반영 (StudyLogImporter가 묶음마다 호출)
+     */
+    public void recordImported(List<StudyLog> studyLogs) {
+        activityIndex.addAll(studyLogs);
+        studyTimeIndex.addAll(studyLogs);
+        quantileIndex.addAll(studyLogs);
     }
 
     // ==================== READ ====================
@@ -93,7 +200,7 @@ public class StudyLogService {
      */
     public List<StudyLogResponse> getAllStudyLogs() {
         // 1. Repository에서 모든 학습 일지 조회
-        List<StudyLog> studyLogs = studyLogDao.findAll();
+        List<StudyLog> studyLogs = readFlight.execute(SingleFlight.key("findAll"), studyLogDao::findAll);
 
         // 2. Entity 리스트 -> Response DTO 리스트로 변환
         return studyLogs.stream()
@@ -110,7 +217,7 @@ public class StudyLogService {
     public StudyLogResponse getStudyLogById(Long id) {
         // 1. Repository에서 ID로 조회
         // 2. 존재 하지 않으면 예외 처리
-        StudyLog studyLog = studyLogDao.findById(id)
+        StudyLog studyLog = readFlight.execute(SingleFlight.key("findById", id), () -> studyLogDao.findById(id))
                 .orElseThrow(() -> new IllegalArgumentException(
                         "해당 학습 일지를 찾을 수 없습니다. (id: " + id + ")"
                 ));
@@ -120,7 +227,8 @@ public class StudyLogService {
 
     // 날짜별 학습 일지 조회
     public List<StudyLogResponse> getStudyLogsByDate(LocalDate date) {
-        List<StudyLog> studyLogs = studyLogDao.findByStudyDate(date);
+        List<StudyLog> studyLogs = readFlight.execute(
+                SingleFlight.key("findByStudyDate", date), () -> studyLogDao.findByStudyDate(date));
 
         return studyLogs.stream()
                 .map(StudyLogResponse::from)
@@ -138,7 +246,9 @@ public class StudyLogService {
             );
         }
 
-        List<StudyLog> studyLogs = studyLogDao.findByCategory(category);
+        Category target = category;
+        List<StudyLog> studyLogs = readFlight.execute(
+                SingleFlight.key("findByCategory", target), () -> studyLogDao.findByCategory(target));
 
         return studyLogs.stream()
                 .map(StudyLogResponse::from)
@@ -147,43 +257,24 @@ public class StudyLogService {
 
     /**
      * 페이징 처리된 학습 일지 목록 조회
-     * 주의: 현재는 DB가 페이징을 직접 지원하지 않으므로 메모리에서 처리
-     * TODO: 시제 프로덕션에서는 DB 레벨 페이징 구현 필요
+     * <p>
+     * 정렬(sortBy / sortDirection)은 DAO가 정렬 기준별 인덱스 순서로 읽어 처리한다. (전체를 읽어 메모리에서 정렬하지 않음)
      */
     public PageResponse<StudyLogResponse> getStudyLogWithPaging(PageRequest pageRequest) {
-        // 1. 전체 데이터 조회
-        List<StudyLog> allLogs = studyLogDao.findAll();
-
-        // 2. 정렬 처리
-        allLogs.sort((a, b) -> {
-            int result = switch (pageRequest.getSortBy()) {
-                case "title" -> a.getTitle().compareTo(b.getTitle());
-                case "studyTime" -> a.getStudyTime().compareTo(b.getStudyTime());
-                case "studyDate" -> a.getStudyDate().compareTo(b.getStudyDate());
-                default -> a.getCreatedAt().compareTo(b.getCreatedAt());
-            };
-            return "ASC".equals(pageRequest.getSortDirection()) ? result : - result;
-        });
-
-        // 3. 페이징 처리
-        long totalElements = allLogs.size();
-        int start = pageRequest.getOffset();
-        int end = Math.min(start + pageRequest.getSize(), allLogs.size());
-
-        List<StudyLog> pagedLogs = allLogs.subList(start, end);
-
-        // 4. DTO 변환
-        List<StudyLogResponse> responses = pagedLogs.stream()
+        StudyLogSort sort = StudyLogSort.of(pageRequest.getSortBy(), pageRequest.getSortDirection());
+        int page = pageRequest.getPage();
+        int size = pageRequest.getSize();
+
+        Page<StudyLog> studyLogPage = readFlight.execute(
+                SingleFlight.key("findAllWithPaging", page, size, sort),
+                () -> studyLogDao.findAllWithPaging(page, size, sort));
+
+        // DTO 변환
+        List<StudyLogResponse> responses = studyLogPage.getContent().stream()
                 .map(StudyLogResponse::from)
                 .collect(Collectors.toList());
 
-        // 5. PageResponse 생성
-        return PageResponse.of(
-                responses,
-                pageRequest.getPage(),
-                pageRequest.getSize(),
-                totalElements
-        );
+        return PageResponse.of(responses, page, size, studyLogPage.getTotalElements());
     }
 
     /**
@@ -199,30 +290,21 @@ public class StudyLogService {
             throw new IllegalArgumentException("유효하지 않은 카테고리: " + categoryName);
         }
 
-        // 카테고리로 필터링
-        List<StudyLog> filteredLogs = studyLogDao.findByCategory(category);
-
-        // 정렬
-        filteredLogs.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+        StudyLogSort sort = StudyLogSort.of(pageRequest.getSortBy(), pageRequest.getSortDirection());
+        String target = category.name();
+        int page = pageRequest.getPage();
+        int size = pageRequest.getSize();
 
-        // 페이징 처리
-        long totalElements = filteredLogs.size();
-        int start = pageRequest.getOffset();
-        int end = Math.min(start + pageRequest.getSize(), filteredLogs.size());
-
-        List<StudyLog> pagedLogs = filteredLogs.subList(start, end);
+        Page<StudyLog> studyLogPage = readFlight.execute(
+                SingleFlight.key("findByCategoryWithPaging", target, page, size, sort),
+                () -> studyLogDao.findByCategoryWithPaging(target, page, size, sort));
 
         // DTO 변환
-        List<StudyLogResponse> responses = pagedLogs.stream()
+        List<StudyLogResponse> responses = studyLogPage.getContent().stream()
                 .map(StudyLogResponse::from)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(
-                responses,
-                pageRequest.getPage(),
-                pageRequest.getSize(),
-                totalElements
-        );
+        return PageResponse.of(responses, page, size, studyLogPage.getTotalElements());
     }
 
     // ==================== UPDATE ====================
@@ -235,12 +317,33 @@ public class StudyLogService {
      * @return 수정된 학습 일지 응답
      */
     public StudyLogResponse updateStudyLog(Long id, StudyLogUpdateRequest request) {
+        return updateStudyLog(id, request, null);
+    }
+
+    /**
+     * 학습 일지 수정 (버전 조건부)
+     * <p>
+     * 저장은 읽은 버전이 그대로일 때만 반영된다. (DAO의 compare-and-set)
+     * - expectedVersion이 있으면(If-Match) 조회한 버전과 다르거나, 저장 직전에 다른 요청이 먼저 수정했을 때
+     *   StudyLogVersionMismatchException (412)
+     * - expectedVersion이 없으면 조회와 저장 사이에 끼어든 수정만 OptimisticLockingFailureException (409)
+     * 어느 쪽이든 충돌하면 색인과 이벤트는 건드리지 않는다.
+     *
+     * @param id 수정할 학습 일지 id
+     * @param request 수정 요청 데이터
+     * @param expectedVersion 클라이언트가 마지막으로 본 버전 (null이면 검사하지 않음)
+     * @return 수정된 학습 일지 응답
+     */
+    public StudyLogResponse updateStudyLog(Long id, StudyLogUpdateRequest request, Long expectedVersion) {
         Objects.requireNonNull(id);
         Objects.requireNonNull(request);
 
-        // 1. 기존 학습 일지 조회
-        StudyLog studyLog = studyLogDao.findById(id)
+        // 1. 기존 학습 일지 조회 (다시 쓸 행이므로 replica가 아닌 primary에서)
+        StudyLog studyLog = studyLogDao.findByIdForWrite(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 학습 일지를 찾을 수 없습니다. (id: " + id + ")"));
+        if (expectedVersion != null && expectedVersion != studyLog.getVersion()) {
+            throw new StudyLogVersionMismatchException(id, expectedVersion, studyLog.getVersion());
+        }
 
         // 2. 수정할 내용이 있는지 확인
         if (request.hashNoUpdates()) {
@@ -269,7 +372,11 @@ public class StudyLogService {
             }
         }
 
-        // 5. Entity 업데이트 (null이 아닌 값만 반영)
+        // 5. Entity 업데이트 (null이 아닌 값만 반영, 색인에서 뺄 수정 전 카테고리/이해도/날짜/시간은 남겨 둔다)
+        Category previousCategory = studyLog.getCategory();
+        Understanding previousUnderstanding = studyLog.getUnderstanding();
+        LocalDate previousDate = studyLog.getStudyDate();
+        Integer previousTime = studyLog.getStudyTime();
         studyLog.update(
                 request.getTitle(),
                 request.getContent(),
@@ -279,9 +386,28 @@ public class StudyLogService {
                 request.getStudyDate()
         );
 
-        // 6. 저장 및 응답 반환
-        StudyLog updatedStudyLog = studyLogDao.update(studyLog);
-        return StudyLogResponse.from(updatedStudyLog);
+        // 6. 저장 및 응답 반환 (조회한 버전 그대로일 때만 저장됨)
+        long readVersion = studyLog.getVersion();
+        StudyLog updatedStudyLog;
+        try {
+            updatedStudyLog = studyLogDao.update(studyLog);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                long currentVersion = studyLogDao.findByIdForWrite(id).map(StudyLog::getVersion).orElse(readVersion + 1);
+                throw new StudyLogVersionMismatchException(id, expectedVersion, currentVersion);
+            }
+            throw e;
+        }
+        activityIndex.remove(studyLog.getOwnerId(), previousDate, previousTime);
+        activityIndex.add(updatedStudyLog.getOwnerId(), updatedStudyLog.getStudyDate(), updatedStudyLog.getStudyTime());
+        studyTimeIndex.remove(previousCategory, previousDate, previousTime);
+        studyTimeIndex.add(updatedStudyLog.getCategory(), updatedStudyLog.getStudyDate(), updatedStudyLog.getStudyTime());
+        quantileIndex.remove(previousCategory, previousUnderstanding, previousDate, previousTime);
+        quantileIndex.add(updatedStudyLog.getCategory(), updatedStudyLog.getUnderstanding(),
+                updatedStudyLog.getStudyDate(), updatedStudyLog.getStudyTime());
+        StudyLogResponse response = StudyLogResponse.from(updatedStudyLog);
+        eventPublisher.publishEvent(StudyLogChangedEvent.updated(response));
+        return response;
     }
 
     // ==================== Validation ====================
@@ -289,7 +415,7 @@ public class StudyLogService {
     /**
      * 생성 요청 유효성 검증
      */
-    private void validateCreateRequest(StudyLogCreateRequest request) {
+    public void validateCreateRequest(StudyLogCreateRequest request) {
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
             throw new IllegalArgumentException("학습 주제는 필수입니다.");
         }
@@ -309,6 +435,10 @@ public class StudyLogService {
         if (request.getStudyTime() == null || request.getStudyTime() < 1) {
             throw new IllegalArgumentException("학습 시간은 1분 이상이어야 합니다.");
         }
+
+        if (request.getOwnerId() != null && request.getOwnerId() < 0) {
+            throw new IllegalArgumentException("작성자 ID는 0 이상이어야 합니다.");
+        }
     }
 
     /**
@@ -343,6 +473,28 @@ public class StudyLogService {
         }
     }
 
+    private static Category parseCategory(String category) {
+        if (category == null) {
+            throw new IllegalArgumentException("카테고리는 필수입니다.");
+        }
+        try {
+            return Category.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 카테고리입니다: " + category);
+        }
+    }
+
+    private static Understanding parseUnderstanding(String understanding) {
+        if (understanding == null) {
+            throw new IllegalArgumentException("이해도는 필수입니다.");
+        }
+        try {
+            return Understanding.valueOf(understanding.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 이해도입니다: " + understanding);
+        }
+    }
+
     // ==================== DELETE ====================
 
     /**
@@ -353,13 +505,18 @@ public class StudyLogService {
      * @throws StudyLogNotFoundException 해당 ID의 학습 일지가 없는 경우
      */
     public StudyLogDeleteResponse deleteStudyLog(Long id) {
-        // 1. 존재 여부 확인
-        if (!studyLogDao.existsById(id)) {
-            throw new StudyLogNotFoundException(id);
-        }
+        // 1. 존재 여부 확인 (이벤트에 작성자를 싣기 위해 행을 조회)
+        StudyLog studyLog = studyLogDao.findByIdForWrite(id)
+                .orElseThrow(() -> new StudyLogNotFoundException(id));
 
         // 2. 삭제 수행
         boolean isDeleted = studyLogDao.deleteById(id);
+        if (isDeleted) {
+            activityIndex.remove(studyLog.getOwnerId(), studyLog.getStudyDate(), studyLog.getStudyTime());
+            studyTimeIndex.remove(studyLog.getCategory(), studyLog.getStudyDate(), studyLog.getStudyTime());
+            quantileIndex.remove(studyLog.getCategory(), studyLog.getUnderstanding(), studyLog.getStudyDate(), studyLog.getStudyTime());
+            eventPublisher.publishEvent(StudyLogChangedEvent.deleted(id, studyLog.getOwnerId()));
+        }
 
         // 3. 삭제 결과 반환
         return StudyLogDeleteResponse.of(id);
@@ -373,6 +530,10 @@ public class StudyLogService {
     public Map<String, Object> deleteAllStudyLogs() {
         long deletedCount = studyLogDao.count();
         studyLogDao.deleteAll();
+        activityIndex.clear();
+        studyTimeIndex.clear();
+        quantileIndex.clear();
+        eventPublisher.publishEvent(StudyLogChangedEvent.cleared());
         return Map.of(
                 "message", "전체 학습 일지가 성공적으로 삭제되었습니다.",
                 "deletedCount", deletedCount
@@ -385,7 +546,73 @@ public class StudyLogService {
      * @return 학습 일지 총 개수
      */
     public long getStudyLogCount() {
-        return studyLogDao.count();
+        return readFlight.execute(SingleFlight.key("count"), studyLogDao::count);
+    }
+
+    // ==================== STATISTICS ====================
+
+    /**
+     * 연간 학습 히트맵 (날짜별 학습 시간/일지 수)
+     *
+     * @param ownerId 작성자 ID (null이면 전체)
+     * @param year    연도 (null이면 올해)
+     */
+    public ActivityHeatmapResponse getActivityHeatmap(Long ownerId, Integer year) {
+        int targetYear = year != null ? year : LocalDate.now().getYear();
+        if (targetYear < 1 || targetYear > 9999) {
+            throw new IllegalArgumentException("유효하지 않은 연도입니다: " + year);
+        }
+        return ActivityHeatmapResponse.of(ownerId, activityIndex.year(ownerId, targetYear));
+    }
+
+    /**
+     * 현재/최장 연속 학습일
+     *
+     * @param ownerId 작성자 ID (null이면 전체)
+     */
+    public StudyStreakResponse getStudyStreaks(Long ownerId) {
+        LocalDate today = LocalDate.now();
+        return StudyStreakResponse.of(ownerId, today, activityIndex.streaks(ownerId, today));
+    }
+
+    /**
+     * 날짜 구간 학습 시간 합계 (from ~ to 양 끝 포함, O(log n))
+     *
+     * @param categoryName 카테고리 (null이면 전체 + 카테고리별 내역)
+     */
+    public StudyTimeRangeResponse getStudyTimeInRange(LocalDate from, LocalDate to, String categoryName) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 시작일과 종료일은 필수입니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다. (from: " + from + ", to: " + to + ")");
+        }
+        Category category = null;
+        if (categoryName != null && !categoryName.isBlank()) {
+            try {
+                category = Category.valueOf(categoryName.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("유효하지 않은 카테고리입니다: " + categoryName);
+            }
+        }
+        return StudyTimeRangeResponse.of(category, from, to,
+                studyTimeIndex.sum(category, from, to),
+                category == null ? studyTimeIndex.sumByCategory(from, to) : null);
+    }
+
+    /**
+     * 학습 시간 분위수 (p50 / p90 / p99), to를 끝으로 하는 최근 days일 창
+     *
+     * @param days 창 크기 (1 ~ 3660일)
+     * @param to   창의 마지막 날 (null이면 오늘)
+     */
+    public StudyTimePercentilesResponse getStudyTimePercentiles(int days, LocalDate to) {
+        if (days < 1 || days > MAX_PERCENTILE_WINDOW_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + MAX_PERCENTILE_WINDOW_DAYS + "일 이하여야 합니다: " + days);
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = end.minusDays(days - 1L);
+        return StudyTimePercentilesResponse.of(start, end, quantileIndex.quantiles(start, end));
     }
 
     // ==================== PAGING ====================
@@ -398,12 +625,27 @@ public class StudyLogService {
      * @return 페이징된 학습 일지 응답
      */
     public Page<StudyLogResponse> getStudyLogWithPaging(int page, int size) {
+        return getStudyLogWithPaging(page, size, null, null);
+    }
+
+    /**
+     * 전체 학습 일지 페이징 조회 (정렬 지정)
+     *
+     * @param sortBy        정렬 기준 (studyDate, createdAt, title, studyTime / 비어 있으면 studyDate)
+     * @param sortDirection 정렬 방향 (ASC, DESC / 비어 있으면 DESC)
+     */
+    public Page<StudyLogResponse> getStudyLogWithPaging(int page, int size, String sortBy, String sortDirection) {
         // 파라미터 유효성 검증
         page = Math.max(0, page);   // 음수 방지
         size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);  // 1 ~ 100범위
+        StudyLogSort sort = StudyLogSort.of(sortBy, sortDirection);
 
         // DAO에서 페이징된 Entity 조회
-        Page<StudyLog> studyLogPage = studyLogDao.findAllWithPaging(page, size);
+        int pageNumber = page;
+        int pageSize = size;
+        Page<StudyLog> studyLogPage = readFlight.execute(
+                SingleFlight.key("findAllWithPaging", pageNumber, pageSize, sort),
+                () -> studyLogDao.findAllWithPaging(pageNumber, pageSize, sort));
 
         // Entity -> DTO 변환
         List<StudyLogResponse> content = studyLogPage.getContent().stream()
@@ -423,9 +665,19 @@ public class StudyLogService {
      * @return 페이징된 학습 일지 응답
      */
     public Page<StudyLogResponse> getStudyLogsByCategoryWithPaging(String categoryStr, int page, int size) {
+        return getStudyLogsByCategoryWithPaging(categoryStr, page, size, null, null);
+    }
+
+    /**
+     * 카테고리별 학습 일지 페이징 조회 (정렬 지정)
+     */
+    public Page<StudyLogResponse> getStudyLogsByCategoryWithPaging(
+            String categoryStr, int page, int size, String sortBy, String sortDirection
+    ) {
         // 파라미터 유효성 검증
         page = Math.max(0, page);   // 음수 방지
         size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);  // 1 ~ 100범위
+        StudyLogSort sort = StudyLogSort.of(sortBy, sortDirection);
 
         // 카테고리 유효성 검증
         if (categoryStr == null || categoryStr.isBlank()) {
@@ -433,7 +685,12 @@ public class StudyLogService {
         }
 
         // DAO에서 페이징된 Entity 조회
-        Page<StudyLog> studyLogPage = studyLogDao.findByCategoryWithPaging(categoryStr.toUpperCase(), page, size);
+        String category = categoryStr.toUpperCase();
+        int pageNumber = page;
+        int pageSize = size;
+        Page<StudyLog> studyLogPage = readFlight.execute(
+                SingleFlight.key("findByCategoryWithPaging", category, pageNumber, pageSize, sort),
+                () -> studyLogDao.findByCategoryWithPaging(category, pageNumber, pageSize, sort));
 
         // Entity -> DTO 변환
         List<StudyLogResponse> content = studyLogPage.getContent().stream()
@@ -444,6 +701,37 @@ public class StudyLogService {
         return new Page<>(content, page, size, studyLogPage.getTotalElements());
     }
 
+    /**
+     * 작성자별 학습 일지 페이징 조회
+     *
+     * @param ownerId 작성자 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 페이징된 학습 일지 응답
+     */
+    public Page<StudyLogResponse> getStudyLogsByOwnerWithPaging(Long ownerId, int page, int size) {
+        // 파라미터 유효성 검증
+        if (ownerId == null || ownerId < 0) {
+            throw new IllegalArgumentException("작성자 ID는 0 이상이어야 합니다.");
+        }
+        page = Math.max(0, page);   // 음수 방지
+        size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);  // 1 ~ 100범위
+
+        // DAO에서 페이징된 Entity 조회
+        int pageNumber = page;
+        int pageSize = size;
+        Page<StudyLog> studyLogPage = readFlight.execute(
+                SingleFlight.key("findByOwnerWithPaging", ownerId, pageNumber, pageSize),
+                () -> studyLogDao.findByOwnerWithPaging(ownerId, pageNumber, pageSize));
+
+        // Entity -> DTO 변환
+        List<StudyLogResponse> content = studyLogPage.getContent().stream()
+                .map(StudyLogResponse::from)
+                .collect(Collectors.toList());
+
+        return new Page<>(content, page, size, studyLogPage.getTotalElements());
+    }
+
     public Page<StudyLogResponse> searchStudyLogsWithPaging(
             String titleKeyword,
             String categoryStr,
@@ -451,10 +739,45 @@ public class StudyLogService {
             LocalDate endDate,
             int page,
             int size
+    ) {
+        return searchStudyLogsWithPaging(titleKeyword, categoryStr, startDate, endDate, page, size, null, null, false);
+    }
+
+    /**
+     * 검색 + (선택) 패싯
+     * <p>
+     * includeFacets이면 같은 조건의 GROUP BY 집계 한 번으로 카테고리 / 이해도 / 월별 개수를 함께 돌려준다 (StudyLogSearchPage).
+     */
+    public Page<StudyLogResponse> searchStudyLogsWithPaging(
+            String titleKeyword,
+            String categoryStr,
+            LocalDate startDate,
+            LocalDate endDate,
+            int page,
+            int size,
+            boolean includeFacets
+    ) {
+        return searchStudyLogsWithPaging(titleKeyword, categoryStr, startDate, endDate, page, size, null, null, includeFacets);
+    }
+
+    /**
+     * 검색 + 정렬 지정 + (선택) 패싯
+     */
+    public Page<StudyLogResponse> searchStudyLogsWithPaging(
+            String titleKeyword,
+            String categoryStr,
+            LocalDate startDate,
+            LocalDate endDate,
+            int page,
+            int size,
+            String sortBy,
+            String sortDirection,
+            boolean includeFacets
     ) {
         // 파라미터 유효성 검증
         page = Math.max(0, page);   // 음수 방지
         size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);  // 1 ~ 100범위
+        StudyLogSort sort = StudyLogSort.of(sortBy, sortDirection);
 
         // 카테고리 문자열을 대문자로 변환 (유효성 검증은 DAO에서 처리)
         String category = null;
@@ -463,15 +786,65 @@ public class StudyLogService {
         }
 
         // DAO에서 페이징된 Entity 조회
-        Page<StudyLog> studyLogPage = studyLogDao.searchWithPaging(
-                titleKeyword, category, startDate, endDate, page, size);
+        String categoryName = category;
+        int pageNumber = page;
+        int pageSize = size;
+        Page<StudyLog> studyLogPage = readFlight.execute(
+                SingleFlight.key("searchWithPaging", titleKeyword, categoryName, startDate, endDate, pageNumber, pageSize, sort),
+                () -> studyLogDao.searchWithPaging(titleKeyword, categoryName, startDate, endDate, pageNumber, pageSize, sort));
 
         // Entity -> DTO 변환
         List<StudyLogResponse> content = studyLogPage.getContent().stream()
                 .map(StudyLogResponse::from)
                 .collect(Collectors.toList());
 
+        if (includeFacets) {
+            SearchFacetsResponse facets = SearchFacetsResponse.from(readFlight.execute(
+                    SingleFlight.key("searchFacets", titleKeyword, categoryName, startDate, endDate),
+                    () -> studyLogDao.searchFacets(titleKeyword, categoryName, startDate, endDate)));
+            return new StudyLogSearchPage(content, page, size, studyLogPage.getTotalElements(), facets);
+        }
+
         // Page<Entity>를 Page<DTO)로 변환하여 반환
         return new Page<>(content, page, size, studyLogPage.getTotalElements());
     }
+
+    /**
+     * 검색 조건 + 정렬 기준별 커서(keyset) 페이징
+     * <p>
+     * 정렬 인덱스를 커서 위치부터 size + 1건만 읽어 다음 페이지가 있는지까지 판단한다. (COUNT / OFFSET 없음)
+     *
+     * @param cursor 직전 응답의 nextCursor (비어 있으면 첫 페이지, 다른 정렬로 만든 커서면 IllegalArgumentException)
+     */
+    public CursorPage<StudyLogResponse> getStudyLogsByCursor(
+            String titleKeyword,
+            String categoryStr,
+            LocalDate startDate,
+            LocalDate endDate,
+            String sortBy,
+            String sortDirection,
+            String cursor,
+            int size
+    ) {
+        // 파라미터 유효성 검증
+        size = Math.min(Math.max(1, size), MAX_PAGE_SIZE);  // 1 ~ 100범위
+        StudyLogSort sort = StudyLogSort.of(sortBy, sortDirection);
+        StudyLogCursor after = cursor == null || cursor.isBlank() ? null : StudyLogCursor.decode(cursor, sort);
+        String category = categoryStr == null || categoryStr.isBlank() ? null : categoryStr.toUpperCase();
+
+        int limit = size + 1;
+        List<StudyLog> studyLogs = readFlight.execute(
+                SingleFlight.key("searchAfter", titleKeyword, category, startDate, endDate, sort, cursor, limit),
+                () -> studyLogDao.searchAfter(titleKeyword, category, startDate, endDate, sort, after, limit));
+
+        // size + 1번째 행이 있으면 다음 페이지가 있다 -> size번째 행이 다음 커서
+        boolean hasNext = studyLogs.size() > size;
+        List<StudyLog> pageLogs = hasNext ? studyLogs.subList(0, size) : studyLogs;
+        String nextCursor = hasNext ? StudyLogCursor.after(sort, pageLogs.get(size - 1)).encode() : null;
+
+        List<StudyLogResponse> content = pageLogs.stream()
+                .map(StudyLogResponse::from)
+                .collect(Collectors.toList());
+        return new CursorPage<>(content, size, sort.key().getProperty(), sort.direction(), nextCursor);
+    }
 }
@@ -0,0 +1,102 @@
+package com.study.my_spring_study_diary.stats;
+
+/**
+ * epoch day로 색인하는 Fenwick 트리 (Binary Indexed Tree)
+ * <p>
+ * 한 날짜 값 더하기와 임의 구간 합을 모두 O(log n)에 한다 (n = 다루는 날짜 범위의 일수).
+ * 범위 밖의 날짜가 들어오면 범위를 두 배씩 넓히고, 날짜별 값 배열로 트리를 O(n)에 다시 만든다.
+ * <p>
+ * 동기화하지 않으므로 StudyTimeRangeIndex의 잠금 안에서만 쓴다.
+ */
+final class FenwickTree {
+
+    private static final int INITIAL_DAYS = 1024;
+
+    private int origin;             // values[0]의 epoch day
+    private long[] values = new long[0];  // 날짜별 값 (범위를 넓힐 때 트리를 다시 만드는 데 씀)
+    private long[] tree = new long[1];    // 1부터 시작하는 Fenwick 배열
+
+    void add(long epochDay, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        int index = ensureIndex(epochDay);
+        values[index] += delta;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * from ~ to (양 끝 포함) 구간 합, 범위 밖은 0으로 본다
+     */
+    long sum(long fromDay, long toDay) {
+        if (values.length == 0 || fromDay > toDay) {
+            return 0;
+        }
+        long last = (long) origin + values.length - 1;
+        if (toDay < origin || fromDay > last) {
+            return 0;
+        }
+        int from = (int) (Math.max(fromDay, origin) - origin);
+        int to = (int) (Math.min(toDay, last) - origin);
+        return prefix(to) - (from == 0 ? 0 : prefix(from - 1));
+    }
+
+    void clear() {
+        values = new long[0];
+        tree = new long[1];
+    }
+
+    /**
+     * values[0..index] 합
+     */
+    private long prefix(int index) {
+        long sum = 0;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private int ensureIndex(long epochDay) {
+        if (values.length == 0) {
+            origin = Math.toIntExact(epochDay - INITIAL_DAYS / 2);
+            values = new long[INITIAL_DAYS];
+            tree = new long[INITIAL_DAYS + 1];
+            return (int) (epochDay - origin);
+        }
+        long index = epochDay - origin;
+        if (index >= 0 && index < values.length) {
+            return (int) index;
+        }
+        // 모자란 쪽으로 (필요하면 여러 번) 두 배씩 넓힌다
+        long newOrigin = origin;
+        long newLength = values.length;
+        while (epochDay < newOrigin || epochDay >= newOrigin + newLength) {
+            if (epochDay < newOrigin) {
+                newOrigin -= newLength;
+            }
+            newLength *= 2;
+        }
+        long[] grown = new long[Math.toIntExact(newLength)];
+        int shift = (int) (origin - newOrigin);
+        System.arraycopy(values, 0, grown, shift, values.length);
+        origin = Math.toIntExact(newOrigin);
+        values = grown;
+        tree = build(grown);
+        return (int) (epochDay - origin);
+    }
+
+    private static long[] build(long[] values) {
+        long[] tree = new long[values.length + 1];
+        System.arraycopy(values, 0, tree, 1, values.length);
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,133 @@
+package com.study.my_spring_study_diary.stats;
+
+import java.util.Arrays;
+
+/**
+ * 상대 오차를 보장하는 스트리밍 분위수 스케치 (DDSketch 방식의 로그 구간 히스토그램)
+ * <p>
+ * 양수 x를 구간 번호 i = ceil(log_γ x) (γ = (1 + α) / (1 - α))에 세어 두고,
+ * 분위수를 물으면 그 순위가 속한 구간의 대표값 2γ^i / (γ + 1)을 돌려준다.
+ * 대표값은 같은 순위의 실제 값 x와 |x̂ - x| ≤ α·x 를 만족한다 (α = relativeAccuracy).
+ * <p>
+ * - 병합: 같은 α의 스케치끼리 구간별 개수를 더하면 된다 (날짜별 스케치를 창 단위로 합칠 때 사용)
+ * - 삭제: 개수를 빼면 된다 (t-digest와 달리 수정/삭제를 그대로 반영할 수 있음)
+ * - 크기: 값의 범위에만 비례 (α = 1%, 1분 ~ 24시간이면 구간 약 370개), 기록 건수와 무관
+ * 0 이하의 값은 별도 칸에 세고 분위수 0으로 본다.
+ * <p>
+ * 동기화하지 않으므로 StudyTimeQuantileIndex의 잠금 안에서만 쓴다.
+ */
+public final class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private long zeroCount;
+    private int offset;                 // counts[0]의 구간 번호
+    private long[] counts = new long[0];
+    private long count;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("상대 오차는 0과 1 사이여야 합니다: " + relativeAccuracy);
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    public double relativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 값을 n번 더한다 (n이 음수면 그만큼 뺀다)
+     */
+    public void add(double value, long n) {
+        if (n == 0) {
+            return;
+        }
+        if (value <= 0) {
+            zeroCount = Math.max(0, zeroCount + n);
+        } else {
+            int index = index(value);
+            ensure(index);
+            counts[index - offset] = Math.max(0, counts[index - offset] + n);
+        }
+        count = Math.max(0, count + n);
+    }
+
+    /**
+     * other의 개수를 이 스케치에 더한다 (상대 오차가 같아야 함)
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("상대 오차가 다른 스케치는 합칠 수 없습니다.");
+        }
+        if (other.counts.length > 0) {
+            ensure(other.offset);
+            ensure(other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * q 분위수 (0 ≤ q ≤ 1, 비어 있으면 NaN)
+     * <p>
+     * 순위 floor(q·(n - 1))의 값이 속한 구간의 대표값
+     */
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("분위는 0과 1 사이여야 합니다: " + q);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                return 2 * Math.pow(gamma, offset + i) / (gamma + 1);
+            }
+        }
+        // 개수가 어긋난 경우(있어서는 안 됨)에는 가장 큰 구간
+        return 2 * Math.pow(gamma, offset + counts.length - 1) / (gamma + 1);
+    }
+
+    private int index(double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private void ensure(int index) {
+        if (counts.length == 0) {
+            offset = index;
+            counts = new long[8];
+            return;
+        }
+        if (index < offset) {
+            int grow = Math.max(offset - index, counts.length / 2);
+            long[] grown = new long[counts.length + grow];
+            System.arraycopy(counts, 0, grown, grow, counts.length);
+            counts = grown;
+            offset -= grow;
+        } else if (index >= offset + counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index - offset + 1, counts.length + counts.length / 2));
+        }
+    }
+}
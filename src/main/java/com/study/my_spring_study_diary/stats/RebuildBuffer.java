@@ -0,0 +1,58 @@
+package com.study.my_spring_study_diary.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 색인을 재구성하는 동안 들어온 변경을 모아 두었다가 새 내용 위에 다시 적용한다
+ * <p>
+ * 재구성에 쓰는 GROUP BY 집계는 쿼리 시작 시점의 스냅샷이라, 집계가 도는 동안(최대 문장 타임아웃) 반영된
+ * 생성/수정/삭제는 빠져 있다. 집계 직전에 begin()으로 기록을 시작하고, 집계 결과로 색인을 바꾼 뒤 replay()로
+ * 그동안의 변경을 다시 적용해 잃지 않게 한다.
+ * - 재구성 중 전체 삭제(clear)가 있으면 집계 결과는 버리고 그 뒤의 변경만 적용한다
+ * - begin()과 집계 스냅샷 사이에 커밋된 쓰기는 집계와 기록 양쪽에 들어가 두 번 셀 수 있다 (그 틈은 쿼리 시작까지의 시간)
+ * <p>
+ * 동기화하지 않으므로 색인의 쓰기 잠금 안에서만 쓴다.
+ */
+final class RebuildBuffer {
+
+    private List<Runnable> changes;     // null이면 기록하지 않음
+    private boolean cleared;
+
+    void begin() {
+        changes = new ArrayList<>();
+        cleared = false;
+    }
+
+    void record(Runnable change) {
+        if (changes != null) {
+            changes.add(change);
+        }
+    }
+
+    void clear() {
+        if (changes != null) {
+            changes.clear();
+            cleared = true;
+        }
+    }
+
+    /**
+     * 재구성 중 전체 삭제가 있어 집계 결과를 버려야 하는지
+     */
+    boolean discardSnapshot() {
+        return cleared;
+    }
+
+    void replay() {
+        if (changes != null) {
+            changes.forEach(Runnable::run);
+        }
+        abort();
+    }
+
+    void abort() {
+        changes = null;
+        cleared = false;
+    }
+}
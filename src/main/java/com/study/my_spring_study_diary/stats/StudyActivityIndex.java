@@ -0,0 +1,380 @@
+package com.study.my_spring_study_diary.stats;
+
+import com.study.my_spring_study_diary.dao.DailyStudyActivity;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 날짜별 학습 활동 색인 (잔디/히트맵, 연속 학습일 계산용)
+ * <p>
+ * 작성자마다, 그리고 전체 합계로 연도별 칸을 둔다.
+ * - 하루 1비트: 그날 학습 일지가 하나라도 있으면 1 (BitSet, 연중 일자 = 비트 번호)
+ * - 하루 학습 시간 합계(분)와 일지 수
+ * 연속 학습일은 nextClearBit / previousClearBit 같은 비트 연산으로 구하므로 조회 비용은 일수에 비례하고
+ * DB를 읽지 않는다.
+ * <p>
+ * StudyLogService가 생성/수정/삭제 때 갱신하고, StudyStatsIndexInitializer가 요청을 받기 전에 DAO의 GROUP BY 집계 한 번으로 다시 만든다.
+ * 재구성이 성공하기 전까지 isReady()는 false다.
+ * 한 인스턴스 안의 변경만 반영하므로 여러 인스턴스로 띄우면 다른 인스턴스의 쓰기는 재시작 전까지 보이지 않는다.
+ */
+@Component
+public class StudyActivityIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ActivityCalendar total = new ActivityCalendar();
+    private final Map<Long, ActivityCalendar> byOwner = new HashMap<>();
+    private final RebuildBuffer rebuildBuffer = new RebuildBuffer();
+    private volatile boolean ready;
+
+    // ==================== 갱신 ====================
+
+    public void add(Long ownerId, LocalDate studyDate, Integer studyTime) {
+        apply(ownerId, studyDate, 1, minutes(studyTime));
+    }
+
+    public void remove(Long ownerId, LocalDate studyDate, Integer studyTime) {
+        apply(ownerId, studyDate, -1, -minutes(studyTime));
+    }
+
+    public void addAll(List<StudyLog> studyLogs) {
+        lock.writeLock().lock();
+        try {
+            for (StudyLog studyLog : studyLogs) {
+                record(studyLog.getOwnerId(), studyLog.getStudyDate(), 1, minutes(studyLog.getStudyTime()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구성 집계를 시작하기 직전에 부른다. 이후의 변경을 rebuild() 때 다시 적용하도록 기록한다
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildBuffer.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 집계가 실패하면 기록을 멈춘다 (색인은 그대로 두고 isReady()는 false로 남음)
+     */
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildBuffer.abort();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 집계 결과로 색인 전체를 새로 만들고 (기존 내용은 버림), beginRebuild() 뒤에 들어온 변경을 다시 적용한다
+     */
+    public void rebuild(List<DailyStudyActivity> activities) {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            if (!rebuildBuffer.discardSnapshot()) {
+                for (DailyStudyActivity activity : activities) {
+                    applyLocked(activity.ownerId(), activity.studyDate(), activity.logCount(), activity.totalMinutes());
+                }
+            }
+            rebuildBuffer.replay();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            rebuildBuffer.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 집계로 한 번이라도 다시 만들어졌는지 (false면 이후 쓰기만 반영된 부분 색인)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 한 해의 날짜별 학습 시간/일지 수
+     *
+     * @param ownerId 작성자 ID (null이면 전체)
+     */
+    public YearActivity year(Long ownerId, int year) {
+        lock.readLock().lock();
+        try {
+            ActivityCalendar calendar = calendar(ownerId);
+            Days days = calendar == null ? null : calendar.years.get(year);
+            int length = Year.of(year).length();
+            if (days == null) {
+                return new YearActivity(year, new int[length], new int[length], 0, 0, 0);
+            }
+            long totalMinutes = 0;
+            int totalLogs = 0;
+            for (int day = days.active.nextSetBit(0); day >= 0; day = days.active.nextSetBit(day + 1)) {
+                totalMinutes += days.minutes[day];
+                totalLogs += days.counts[day];
+            }
+            return new YearActivity(year,
+                    Arrays.copyOf(days.minutes, length),
+                    Arrays.copyOf(days.counts, length),
+                    days.active.cardinality(), totalMinutes, totalLogs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재/최장 연속 학습일
+     * <p>
+     * 오늘 아직 기록이 없어도 어제까지 이어졌다면 현재 연속 기록은 유지된 것으로 본다.
+     *
+     * @param ownerId 작성자 ID (null이면 전체)
+     * @param today   기준일
+     */
+    public Streaks streaks(Long ownerId, LocalDate today) {
+        lock.readLock().lock();
+        try {
+            ActivityCalendar calendar = calendar(ownerId);
+            if (calendar == null || calendar.years.isEmpty()) {
+                return new Streaks(0, 0, null, null, null);
+            }
+            Longest longest = calendar.longest();
+            return new Streaks(
+                    currentStreak(calendar.years, today),
+                    longest.length(),
+                    longest.start(),
+                    longest.end(),
+                    calendar.lastActiveDate());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    private void apply(Long ownerId, LocalDate studyDate, int logDelta, long minuteDelta) {
+        lock.writeLock().lock();
+        try {
+            record(ownerId, studyDate, logDelta, minuteDelta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void record(Long ownerId, LocalDate studyDate, int logDelta, long minuteDelta) {
+        applyLocked(ownerId, studyDate, logDelta, minuteDelta);
+        rebuildBuffer.record(() -> applyLocked(ownerId, studyDate, logDelta, minuteDelta));
+    }
+
+    private void applyLocked(Long ownerId, LocalDate studyDate, int logDelta, long minuteDelta) {
+        if (studyDate == null) {
+            return;
+        }
+        total.apply(studyDate, logDelta, minuteDelta);
+        Long owner = ownerId == null ? StudyLog.UNASSIGNED_OWNER_ID : ownerId;
+        ActivityCalendar calendar = byOwner.computeIfAbsent(owner, id -> new ActivityCalendar());
+        calendar.apply(studyDate, logDelta, minuteDelta);
+        if (calendar.years.isEmpty()) {
+            byOwner.remove(owner);
+        }
+    }
+
+    private void clearLocked() {
+        total = new ActivityCalendar();
+        byOwner.clear();
+    }
+
+    private ActivityCalendar calendar(Long ownerId) {
+        return ownerId == null ? total : byOwner.get(ownerId);
+    }
+
+    private static long minutes(Integer studyTime) {
+        return studyTime == null ? 0 : studyTime;
+    }
+
+    /**
+     * today(기록이 없으면 어제)부터 거꾸로 비어 있는 날을 만날 때까지 센다. 연도 경계는 이전 해 칸으로 넘어간다.
+     */
+    private static int currentStreak(NavigableMap<Integer, Days> years, LocalDate today) {
+        LocalDate from = isActive(years, today) ? today : today.minusDays(1);
+        int year = from.getYear();
+        int day = from.getDayOfYear() - 1;
+        int streak = 0;
+        while (true) {
+            Days days = years.get(year);
+            if (days == null || !days.active.get(day)) {
+                return streak;
+            }
+            int clear = days.active.previousClearBit(day);
+            streak += day - clear;
+            if (clear >= 0) {
+                return streak;
+            }
+            year--;
+            day = Year.of(year).length() - 1;
+        }
+    }
+
+    private static boolean isActive(NavigableMap<Integer, Days> years, LocalDate date) {
+        Days days = years.get(date.getYear());
+        return days != null && days.active.get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * 연도 하나의 칸 (윤년을 위해 366칸)
+     */
+    private static final class Days {
+        private final BitSet active = new BitSet(366);
+        private final int[] minutes = new int[366];
+        private final int[] counts = new int[366];
+    }
+
+    /**
+     * 작성자 한 명(또는 전체)의 연도별 칸 + 최장 연속 기록 캐시
+     */
+    private static final class ActivityCalendar {
+        private final NavigableMap<Integer, Days> years = new TreeMap<>();
+
+        // 최장 연속 기록은 활동 날짜가 새로 생기거나 사라질 때만 다시 계산 (null = 다시 계산 필요)
+        private Longest longest;
+
+        void apply(LocalDate date, int logDelta, long minuteDelta) {
+            int year = date.getYear();
+            int day = date.getDayOfYear() - 1;
+            Days days = years.computeIfAbsent(year, y -> new Days());
+            boolean wasActive = days.active.get(day);
+            days.counts[day] = Math.max(0, days.counts[day] + logDelta);
+            days.minutes[day] = (int) Math.max(0, days.minutes[day] + minuteDelta);
+            boolean active = days.counts[day] > 0;
+            if (active != wasActive) {
+                days.active.set(day, active);
+                longest = null;
+                if (!active) {
+                    days.minutes[day] = 0;
+                    if (days.active.isEmpty()) {
+                        years.remove(year);
+                    }
+                }
+            }
+        }
+
+        LocalDate lastActiveDate() {
+            Map.Entry<Integer, Days> last = years.lastEntry();
+            int day = last.getValue().active.previousSetBit(365);
+            return LocalDate.ofYearDay(last.getKey(), day + 1);
+        }
+
+        /**
+         * 연도 순서로 1이 이어진 구간을 찾는다. 12월 31일과 다음 해 1월 1일이 모두 1이면 구간을 이어 붙인다.
+         * <p>
+         * 읽기 잠금 아래에서 여러 조회가 동시에 부를 수 있어 캐시 채우기만 동기화한다.
+         */
+        synchronized Longest longest() {
+            if (longest != null) {
+                return longest;
+            }
+            int best = 0;
+            LocalDate bestStart = null;
+            LocalDate bestEnd = null;
+
+            int run = 0;                    // 직전 해 마지막 날까지 이어진 구간 길이
+            LocalDate runStart = null;
+            Integer previousYear = null;
+            for (Map.Entry<Integer, Days> entry : years.entrySet()) {
+                int year = entry.getKey();
+                BitSet active = entry.getValue().active;
+                int length = Year.of(year).length();
+                if (previousYear == null || previousYear != year - 1) {
+                    run = 0;
+                }
+                int start = active.nextSetBit(0);
+                while (start >= 0 && start < length) {
+                    int end = active.nextClearBit(start);     // 구간 끝 다음 칸
+                    LocalDate segmentStart;
+                    int total;
+                    if (start == 0 && run > 0) {
+                        total = run + end;
+                        segmentStart = runStart;
+                    } else {
+                        total = end - start;
+                        segmentStart = LocalDate.ofYearDay(year, start + 1);
+                    }
+                    if (total > best) {
+                        best = total;
+                        bestStart = segmentStart;
+                        bestEnd = LocalDate.ofYearDay(year, end);
+                    }
+                    if (end >= length) {
+                        run = total;
+                        runStart = segmentStart;
+                    }
+                    start = active.nextSetBit(end);
+                }
+                if (!active.get(length - 1)) {
+                    run = 0;
+                }
+                previousYear = year;
+            }
+
+            longest = new Longest(best, bestStart, bestEnd);
+            return longest;
+        }
+    }
+
+    private record Longest(int length, LocalDate start, LocalDate end) {
+    }
+
+    // ==================== 결과 ====================
+
+    /**
+     * 한 해의 날짜별 활동 (배열 위치 = 1월 1일부터의 일수)
+     */
+    public record YearActivity(
+            int year,
+            int[] minutes,
+            int[] logCounts,
+            int activeDays,
+            long totalMinutes,
+            int totalLogs
+    ) {
+    }
+
+    /**
+     * 연속 학습일 (기록이 없으면 0과 null)
+     */
+    public record Streaks(
+            int current,
+            int longest,
+            LocalDate longestStart,
+            LocalDate longestEnd,
+            LocalDate lastActiveDate
+    ) {
+    }
+}
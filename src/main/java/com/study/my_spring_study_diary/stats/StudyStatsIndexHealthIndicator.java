@@ -0,0 +1,38 @@
+package com.study.my_spring_study_diary.stats;
+
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통계 색인 준비 상태 (/actuator/health의 studyStatsIndex)
+ * <p>
+ * 재구성하지 못한 색인이 있으면 OUT_OF_SERVICE. 그동안 히트맵/연속 학습일/구간 합계/분위수는 DB의 일부만 반영한다.
+ */
+@Component
+public class StudyStatsIndexHealthIndicator implements HealthIndicator {
+
+    private final StudyStatsIndexInitializer initializer;
+
+    public StudyStatsIndexHealthIndicator(StudyStatsIndexInitializer initializer) {
+        this.initializer = initializer;
+    }
+
+    @Override
+    public Health health() {
+        StudyStatsIndexInitializer.RebuildStatus status = initializer.status();
+        if (status.isReady()) {
+            return Health.up().build();
+        }
+        Health.Builder builder = Health.outOfService()
+                .withDetail("pending", status.pending())
+                .withDetail("failedAttempts", status.failedAttempts());
+        if (status.lastError() != null) {
+            builder.withDetail("lastError", status.lastError());
+        }
+        if (status.nextRetryAt() != null) {
+            builder.withDetail("nextRetryAt", status.nextRetryAt());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,156 @@
+package com.study.my_spring_study_diary.stats;
+
+import com.study.my_spring_study_diary.dao.DailyCategoryStudyTime;
+import com.study.my_spring_study_diary.dao.DailyStudyActivity;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyTimeDistribution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * 통계 색인을 DB의 GROUP BY 집계로 다시 만드는 단계 (색인들이 함께 쓰는 하나의 재구성 단계)
+ * <p>
+ * - 모든 싱글턴이 만들어진 직후(afterSingletonsInstantiated), 내장 웹 서버가 요청을 받기 전에 만든다.
+ *   요청이 없으므로 집계 스냅샷과 색인 사이에 빠지는 쓰기가 없다.
+ * - 실패한 색인은 빈(또는 이후 쓰기만 반영된) 상태로 두고 isReady()=false, 뒤에서 대기 시간을 두 배씩 늘리며 다시 만든다.
+ *   이때는 요청을 받는 중이므로 집계하는 동안의 변경은 색인이 기록해 두었다가 바꾼 뒤 다시 적용한다.
+ * - 재구성 상태는 status()로 내보내고, StudyStatsIndexHealthIndicator가 health에 OUT_OF_SERVICE로 알린다.
+ */
+@Slf4j
+@Component
+public class StudyStatsIndexInitializer implements SmartInitializingSingleton, DisposableBean {
+
+    private final List<Target> targets = new ArrayList<>();
+    private final Duration maxDelay;
+    private Duration nextDelay;
+    private volatile ScheduledExecutorService retryScheduler;
+    private volatile RebuildStatus status;
+
+    public StudyStatsIndexInitializer(
+            StudyLogDao studyLogDao,
+            StudyActivityIndex activityIndex,
+            StudyTimeRangeIndex studyTimeIndex,
+            StudyTimeQuantileIndex quantileIndex,
+            StudyStatsProperties properties
+    ) {
+        this.nextDelay = properties.getRebuildRetryInitialDelay();
+        this.maxDelay = properties.getRebuildRetryMaxDelay();
+        targets.add(new Target("학습 활동 색인", activityIndex::beginRebuild, () -> {
+            List<DailyStudyActivity> activities = studyLogDao.aggregateDailyActivity();
+            activityIndex.rebuild(activities);
+            return activities.size();
+        }, activityIndex::abortRebuild, activityIndex::isReady));
+        targets.add(new Target("학습 시간 구간 색인", studyTimeIndex::beginRebuild, () -> {
+            List<DailyCategoryStudyTime> aggregates = studyLogDao.aggregateDailyStudyTimeByCategory();
+            studyTimeIndex.rebuild(aggregates);
+            return aggregates.size();
+        }, studyTimeIndex::abortRebuild, studyTimeIndex::isReady));
+        targets.add(new Target("학습 시간 분위수 색인", quantileIndex::beginRebuild, () -> {
+            List<StudyTimeDistribution> distribution = studyLogDao.aggregateStudyTimeDistribution();
+            quantileIndex.rebuild(distribution);
+            return distribution.size();
+        }, quantileIndex::abortRebuild, quantileIndex::isReady));
+        this.status = new RebuildStatus(pendingNames(), 0, null, null);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildPending();
+    }
+
+    /**
+     * 아직 만들지 못한 색인을 다시 만들고, 남은 색인이 있으면 다음 시도를 예약한다
+     */
+    synchronized void rebuildPending() {
+        String lastError = status.lastError();
+        for (Target target : targets) {
+            if (target.ready().getAsBoolean()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            target.begin().run();
+            try {
+                int groups = target.rebuild().getAsInt();
+                log.info("{} 구성 완료 - {} 개 묶음, {} ms", target.name(), groups, (System.nanoTime() - start) / 1_000_000);
+            } catch (RuntimeException e) {
+                target.abort().run();
+                lastError = target.name() + ": " + e.getMessage();
+                log.error("{}을 만들지 못했습니다. 다시 만들 때까지 이후 쓰기만 반영합니다.", target.name(), e);
+            }
+        }
+
+        List<String> pending = pendingNames();
+        if (pending.isEmpty()) {
+            status = new RebuildStatus(pending, status.failedAttempts(), null, null);
+            return;
+        }
+        Duration delay = nextDelay;
+        nextDelay = delay.multipliedBy(2).compareTo(maxDelay) > 0 ? maxDelay : delay.multipliedBy(2);
+        status = new RebuildStatus(pending, status.failedAttempts() + 1, lastError, Instant.now().plus(delay));
+        log.warn("{} 재구성을 {}초 뒤 다시 시도합니다. ({}번째 실패)", pending, delay.toSeconds(), status.failedAttempts());
+        ScheduledExecutorService scheduler = scheduler();
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::rebuildPending, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public RebuildStatus status() {
+        return status;
+    }
+
+    @Override
+    public void destroy() {
+        ScheduledExecutorService scheduler = retryScheduler;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private List<String> pendingNames() {
+        return targets.stream().filter(target -> !target.ready().getAsBoolean()).map(Target::name).toList();
+    }
+
+    private ScheduledExecutorService scheduler() {
+        if (retryScheduler == null) {
+            retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "stats-index-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return retryScheduler;
+    }
+
+    /**
+     * 색인 하나의 재구성 방법 (rebuild는 집계한 묶음 수를 돌려줌)
+     */
+    private record Target(String name, Runnable begin, IntSupplier rebuild, Runnable abort, BooleanSupplier ready) {
+    }
+
+    /**
+     * 재구성 상태
+     *
+     * @param pending        아직 만들지 못한 색인 (비면 모두 준비됨)
+     * @param failedAttempts 재구성이 실패한 횟수 (누적)
+     * @param lastError      마지막 실패 원인
+     * @param nextRetryAt    다음 재시도 시각
+     */
+    public record RebuildStatus(List<String> pending, int failedAttempts, String lastError, Instant nextRetryAt) {
+
+        public boolean isReady() {
+            return pending.isEmpty();
+        }
+    }
+}
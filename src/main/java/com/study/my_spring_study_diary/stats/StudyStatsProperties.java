@@ -0,0 +1,22 @@
+package com.study.my_spring_study_diary.stats;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 통계 색인(활동 / 학습 시간 구간 / 분위수) 재구성 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "diary.stats")
+public class StudyStatsProperties {
+
+    // 시작할 때 재구성에 실패한 색인을 다시 만드는 첫 대기 시간 (실패할 때마다 두 배)
+    private Duration rebuildRetryInitialDelay = Duration.ofSeconds(5);
+
+    // 재시도 대기 시간의 상한
+    private Duration rebuildRetryMaxDelay = Duration.ofMinutes(5);
+}
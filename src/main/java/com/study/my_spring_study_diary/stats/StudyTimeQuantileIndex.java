@@ -0,0 +1,242 @@
+package com.study.my_spring_study_diary.stats;
+
+import com.study.my_spring_study_diary.dao.StudyTimeDistribution;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 학습 시간 분위수 색인 (카테고리별 / 이해도별 p50, p90, p99)
+ * <p>
+ * 카테고리, 이해도, 전체마다 날짜별 QuantileSketch를 두고, 조회할 때 창(from ~ to)에 든 날짜의 스케치만 합쳐 분위수를 구한다.
+ * SQL로 정확한 분위수를 구하려면 구간 전체를 정렬해야 하지만, 여기서는 창의 일수 x 스케치 크기만큼만 더한다.
+ * 분위수는 같은 순위의 실제 학습 시간 대비 상대 오차 RELATIVE_ACCURACY 이내다.
+ * <p>
+ * StudyLogService가 생성/수정/삭제 때 갱신하고(스케치는 개수를 빼는 것으로 삭제를 반영),
+ * StudyStatsIndexInitializer가 요청을 받기 전에 DAO의 GROUP BY 집계 한 번으로 다시 만든다.
+ * 재구성에 성공하기 전의 스케치는 일부 기록만 담고 있어 quantiles()의 complete가 false다.
+ * StudyActivityIndex와 마찬가지로 한 인스턴스 안의 변경만 반영한다.
+ */
+@Component
+public class StudyTimeQuantileIndex {
+
+    /**
+     * 분위수 상대 오차 (1%)
+     */
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Understanding[] UNDERSTANDINGS = Understanding.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 날짜(epoch day)별 스케치, 비면 지운다
+    private final NavigableMap<Long, QuantileSketch> total = new TreeMap<>();
+    private final List<NavigableMap<Long, QuantileSketch>> byCategory = days(CATEGORIES.length);
+    private final List<NavigableMap<Long, QuantileSketch>> byUnderstanding = days(UNDERSTANDINGS.length);
+    private final RebuildBuffer rebuildBuffer = new RebuildBuffer();
+    private volatile boolean ready;
+
+    // ==================== 갱신 ====================
+
+    public void add(Category category, Understanding understanding, LocalDate studyDate, Integer studyTime) {
+        apply(category, understanding, studyDate, studyTime, 1);
+    }
+
+    public void remove(Category category, Understanding understanding, LocalDate studyDate, Integer studyTime) {
+        apply(category, understanding, studyDate, studyTime, -1);
+    }
+
+    public void addAll(List<StudyLog> studyLogs) {
+        lock.writeLock().lock();
+        try {
+            for (StudyLog studyLog : studyLogs) {
+                record(studyLog.getCategory(), studyLog.getUnderstanding(), studyLog.getStudyDate(), studyLog.getStudyTime(), 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구성 집계를 시작하기 직전에 부른다 (StudyActivityIndex.beginRebuild()와 같음)
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildBuffer.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildBuffer.abort();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 집계 결과로 색인 전체를 새로 만들고 (기존 내용은 버림), beginRebuild() 뒤에 들어온 변경을 다시 적용한다
+     */
+    public void rebuild(List<StudyTimeDistribution> distribution) {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            if (!rebuildBuffer.discardSnapshot()) {
+                for (StudyTimeDistribution row : distribution) {
+                    applyLocked(row.category(), row.understanding(), row.studyDate(), row.studyTime(), row.count());
+                }
+            }
+            rebuildBuffer.replay();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            rebuildBuffer.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 집계로 한 번이라도 다시 만들어졌는지
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * from ~ to (양 끝 포함) 창의 전체 / 카테고리별 / 이해도별 분위수
+     */
+    public WindowQuantiles quantiles(LocalDate from, LocalDate to) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        lock.readLock().lock();
+        try {
+            Map<Category, Estimate> categories = new EnumMap<>(Category.class);
+            for (Category category : CATEGORIES) {
+                categories.put(category, estimate(byCategory.get(category.ordinal()), fromDay, toDay));
+            }
+            Map<Understanding, Estimate> understandings = new EnumMap<>(Understanding.class);
+            for (Understanding understanding : UNDERSTANDINGS) {
+                understandings.put(understanding, estimate(byUnderstanding.get(understanding.ordinal()), fromDay, toDay));
+            }
+            return new WindowQuantiles(estimate(total, fromDay, toDay), categories, understandings, ready);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    private void apply(Category category, Understanding understanding, LocalDate studyDate, Integer studyTime, long n) {
+        lock.writeLock().lock();
+        try {
+            record(category, understanding, studyDate, studyTime, n);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void record(Category category, Understanding understanding, LocalDate studyDate, Integer studyTime, long n) {
+        applyLocked(category, understanding, studyDate, studyTime, n);
+        rebuildBuffer.record(() -> applyLocked(category, understanding, studyDate, studyTime, n));
+    }
+
+    private void applyLocked(Category category, Understanding understanding, LocalDate studyDate, Integer studyTime, long n) {
+        if (studyDate == null || studyTime == null) {
+            return;
+        }
+        long day = studyDate.toEpochDay();
+        add(total, day, studyTime, n);
+        if (category != null) {
+            add(byCategory.get(category.ordinal()), day, studyTime, n);
+        }
+        if (understanding != null) {
+            add(byUnderstanding.get(understanding.ordinal()), day, studyTime, n);
+        }
+    }
+
+    private static void add(NavigableMap<Long, QuantileSketch> days, long day, int studyTime, long n) {
+        QuantileSketch sketch = days.get(day);
+        if (sketch == null) {
+            if (n < 0) {
+                return;
+            }
+            sketch = new QuantileSketch(RELATIVE_ACCURACY);
+            days.put(day, sketch);
+        }
+        sketch.add(studyTime, n);
+        if (sketch.isEmpty()) {
+            days.remove(day);
+        }
+    }
+
+    private static Estimate estimate(NavigableMap<Long, QuantileSketch> days, long fromDay, long toDay) {
+        QuantileSketch merged = new QuantileSketch(RELATIVE_ACCURACY);
+        for (QuantileSketch sketch : days.subMap(fromDay, true, toDay, true).values()) {
+            merged.merge(sketch);
+        }
+        if (merged.isEmpty()) {
+            return new Estimate(0, null, null, null);
+        }
+        return new Estimate(merged.count(), merged.quantile(0.5), merged.quantile(0.9), merged.quantile(0.99));
+    }
+
+    private void clearLocked() {
+        total.clear();
+        byCategory.forEach(Map::clear);
+        byUnderstanding.forEach(Map::clear);
+    }
+
+    private static List<NavigableMap<Long, QuantileSketch>> days(int count) {
+        List<NavigableMap<Long, QuantileSketch>> days = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            days.add(new TreeMap<>());
+        }
+        return days;
+    }
+
+    // ==================== 결과 ====================
+
+    /**
+     * 분위수 추정값 (기록이 없으면 count 0, 분위수 null)
+     */
+    public record Estimate(long count, Double p50, Double p90, Double p99) {
+    }
+
+    /**
+     * 창의 분위수
+     *
+     * @param complete DB 집계로 재구성된 뒤의 값인지 (false면 일부 기록만 담은 스케치라 오차 한계가 성립하지 않음)
+     */
+    public record WindowQuantiles(
+            Estimate total,
+            Map<Category, Estimate> categories,
+            Map<Understanding, Estimate> understandings,
+            boolean complete
+    ) {
+    }
+}
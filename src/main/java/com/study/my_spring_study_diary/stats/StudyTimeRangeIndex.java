@@ -0,0 +1,216 @@
+package com.study.my_spring_study_diary.stats;
+
+import com.study.my_spring_study_diary.dao.DailyCategoryStudyTime;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 날짜 구간 학습 시간 합계 색인 ("A일 ~ B일 사이 학습 시간" 위젯용)
+ * <p>
+ * 카테고리마다, 그리고 전체 합계로 epoch day를 색인으로 하는 Fenwick 트리를 학습 시간(분)과 일지 수 두 개씩 둔다.
+ * 쓰기 반영과 임의 구간 합 조회가 모두 O(log n)이라 구간이 길어도 비용이 늘지 않고 DB를 읽지 않는다.
+ * <p>
+ * StudyLogService가 생성/수정/삭제 때 갱신하고, StudyStatsIndexInitializer가 요청을 받기 전에 DAO의 GROUP BY 집계 한 번으로 다시 만든다.
+ * StudyActivityIndex와 마찬가지로 한 인스턴스 안의 변경만 반영한다.
+ */
+@Component
+public class StudyTimeRangeIndex {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final FenwickTree totalMinutes = new FenwickTree();
+    private final FenwickTree totalLogs = new FenwickTree();
+    private final FenwickTree[] minutesByCategory = trees();
+    private final FenwickTree[] logsByCategory = trees();
+    private final RebuildBuffer rebuildBuffer = new RebuildBuffer();
+    private volatile boolean ready;
+
+    // ==================== 갱신 ====================
+
+    public void add(Category category, LocalDate studyDate, Integer studyTime) {
+        apply(category, studyDate, 1, minutes(studyTime));
+    }
+
+    public void remove(Category category, LocalDate studyDate, Integer studyTime) {
+        apply(category, studyDate, -1, -minutes(studyTime));
+    }
+
+    public void addAll(List<StudyLog> studyLogs) {
+        lock.writeLock().lock();
+        try {
+            for (StudyLog studyLog : studyLogs) {
+                record(studyLog.getCategory(), studyLog.getStudyDate(), 1, minutes(studyLog.getStudyTime()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구성 집계를 시작하기 직전에 부른다 (StudyActivityIndex.beginRebuild()와 같음)
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildBuffer.begin();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildBuffer.abort();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 집계 결과로 색인 전체를 새로 만들고 (기존 내용은 버림), beginRebuild() 뒤에 들어온 변경을 다시 적용한다
+     */
+    public void rebuild(List<DailyCategoryStudyTime> aggregates) {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            if (!rebuildBuffer.discardSnapshot()) {
+                for (DailyCategoryStudyTime aggregate : aggregates) {
+                    applyLocked(aggregate.category(), aggregate.studyDate(), aggregate.logCount(), aggregate.totalMinutes());
+                }
+            }
+            rebuildBuffer.replay();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            rebuildBuffer.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 집계로 한 번이라도 다시 만들어졌는지 (false면 구간 합계는 이후 쓰기만 반영)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * from ~ to (양 끝 포함) 학습 시간/일지 수 합계
+     *
+     * @param category 카테고리 (null이면 전체)
+     */
+    public RangeSum sum(Category category, LocalDate from, LocalDate to) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        lock.readLock().lock();
+        try {
+            if (category == null) {
+                return new RangeSum(totalMinutes.sum(fromDay, toDay), totalLogs.sum(fromDay, toDay));
+            }
+            int index = category.ordinal();
+            return new RangeSum(minutesByCategory[index].sum(fromDay, toDay), logsByCategory[index].sum(fromDay, toDay));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * from ~ to 카테고리별 합계 (카테고리 수 x O(log n), 한 잠금 안에서 읽어 합계와 어긋나지 않음)
+     */
+    public Map<Category, RangeSum> sumByCategory(LocalDate from, LocalDate to) {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        Map<Category, RangeSum> sums = new EnumMap<>(Category.class);
+        lock.readLock().lock();
+        try {
+            for (Category category : CATEGORIES) {
+                int index = category.ordinal();
+                sums.put(category, new RangeSum(minutesByCategory[index].sum(fromDay, toDay), logsByCategory[index].sum(fromDay, toDay)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return sums;
+    }
+
+    // ==================== 내부 ====================
+
+    private void apply(Category category, LocalDate studyDate, int logDelta, long minuteDelta) {
+        lock.writeLock().lock();
+        try {
+            record(category, studyDate, logDelta, minuteDelta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void record(Category category, LocalDate studyDate, long logDelta, long minuteDelta) {
+        applyLocked(category, studyDate, logDelta, minuteDelta);
+        rebuildBuffer.record(() -> applyLocked(category, studyDate, logDelta, minuteDelta));
+    }
+
+    private void applyLocked(Category category, LocalDate studyDate, long logDelta, long minuteDelta) {
+        if (studyDate == null) {
+            return;
+        }
+        long day = studyDate.toEpochDay();
+        totalMinutes.add(day, minuteDelta);
+        totalLogs.add(day, logDelta);
+        if (category != null) {
+            minutesByCategory[category.ordinal()].add(day, minuteDelta);
+            logsByCategory[category.ordinal()].add(day, logDelta);
+        }
+    }
+
+    private void clearLocked() {
+        totalMinutes.clear();
+        totalLogs.clear();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            minutesByCategory[i].clear();
+            logsByCategory[i].clear();
+        }
+    }
+
+    private static long minutes(Integer studyTime) {
+        return studyTime == null ? 0 : studyTime;
+    }
+
+    private static FenwickTree[] trees() {
+        FenwickTree[] trees = new FenwickTree[CATEGORIES.length];
+        for (int i = 0; i < trees.length; i++) {
+            trees[i] = new FenwickTree();
+        }
+        return trees;
+    }
+
+    // ==================== 결과 ====================
+
+    /**
+     * 구간 합계
+     *
+     * @param minutes 학습 시간 합계 (분)
+     * @param logs    학습 일지 수
+     */
+    public record RangeSum(long minutes, long logs) {
+    }
+}
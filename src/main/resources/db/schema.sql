@@ -4,21 +4,118 @@ CREATE DATABASE IF NOT EXISTS diary_db CHARACTER SET utf8mb4 COLLATE utf8mb4_uni
 -- 데이터베이스 사용
 USE diary_db;
 
--- 학습 일지 테이블 생성
+-- 학습 일지 테이블 생성 (diary.schema-init 이 버전이 바뀔 때 다시 실행하므로 재실행해도 안전해야 한다)
 CREATE TABLE IF NOT EXISTS study_logs (
     id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '학습 일지 ID',
+    owner_id BIGINT NOT NULL DEFAULT 0 COMMENT '작성자(팀/사용자) ID (0 = 미지정)',
     title VARCHAR(100) NOT NULL COMMENT '학습 주제',
-    content TEXT NOT NULL COMMENT '학습 내용',
+    content MEDIUMBLOB NOT NULL COMMENT '학습 내용 (UTF-8, 긴 본문은 0xFF 마커 + Deflate 압축)',
     category VARCHAR(50) NOT NULL COMMENT '카테고리 (JAVA, SPRING, DATABASE, ALGORITHM, ETC)',
     understanding VARCHAR(20) NOT NULL COMMENT '이해도 (VERY_GOOD, GOOD, NORMAL, BAD, VERY_BAD)',
     study_time INT NOT NULL COMMENT '학습 시간 (분)',
     study_date DATE NOT NULL COMMENT '학습 날짜',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시'
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 잠금 버전 (수정할 때마다 1 증가)',
+    -- 인덱스 (CREATE INDEX는 IF NOT EXISTS가 없어 재실행하면 실패하므로 테이블 정의에 포함)
+    INDEX idx_study_logs_category (category),
+    INDEX idx_study_logs_study_date (study_date),
+    INDEX idx_study_logs_understanding (understanding),
+    INDEX idx_study_logs_created_at (created_at),
+    INDEX idx_study_logs_owner_date (owner_id, study_date, id),
+    -- 정렬 기준별 인덱스 (StudyLogSortKey, 끝에 id까지 포함해 ORDER BY와 커서 조건을 인덱스 순서로 처리)
+    INDEX idx_study_logs_title (title, id),
+    INDEX idx_study_logs_study_time (study_time, study_date, id),
+    -- 카테고리로 거른 페이징/검색용 (category = ? 뒤에 정렬 컬럼이 이어져 filesort 없이 읽는다)
+    INDEX idx_study_logs_category_study_date (category, study_date, id),
+    INDEX idx_study_logs_category_created_at (category, created_at, id),
+    INDEX idx_study_logs_category_title (category, title, id),
+    INDEX idx_study_logs_category_study_time (category, study_time, study_date, id)
 ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '학습 일지 테이블';
 
--- 인덱스 생성
-CREATE INDEX idx_study_logs_category ON study_logs(category);
-CREATE INDEX idx_study_logs_study_date ON study_logs(study_date);
-CREATE INDEX idx_study_logs_understanding ON study_logs(understanding);
-CREATE INDEX idx_study_logs_created_at ON study_logs(created_at);
+-- content TEXT -> MEDIUMBLOB 전환 (압축 저장 도입 이전 테이블용, 기존 행은 UTF-8 원본 그대로 읽힌다)
+ALTER TABLE study_logs MODIFY content MEDIUMBLOB NOT NULL COMMENT '학습 내용 (UTF-8, 긴 본문은 0xFF 마커 + Deflate 압축)';
+
+-- 작성자 컬럼과 작성자별 조회 인덱스를 기존 테이블에 추가 (기존 행은 0 = 미지정, 샤딩을 끈 단일 DB도 INSERT/조회에 사용)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND column_name = 'owner_id') = 0,
+              'ALTER TABLE study_logs ADD COLUMN owner_id BIGINT NOT NULL DEFAULT 0 COMMENT ''작성자(팀/사용자) ID (0 = 미지정)'' AFTER id', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND index_name = 'idx_study_logs_owner_date') = 0,
+              'ALTER TABLE study_logs ADD INDEX idx_study_logs_owner_date (owner_id, study_date, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 낙관적 잠금 버전 컬럼을 기존 테이블에 추가 (기존 행은 0에서 시작)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND column_name = 'version') = 0,
+              'ALTER TABLE study_logs ADD COLUMN version BIGINT NOT NULL DEFAULT 0 COMMENT ''낙관적 잠금 버전 (수정할 때마다 1 증가)'' AFTER updated_at', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 정렬 기준별 인덱스를 기존 테이블에 추가 (MySQL에는 ADD INDEX IF NOT EXISTS가 없어 information_schema로 확인 후 실행)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND index_name = 'idx_study_logs_title') = 0,
+              'ALTER TABLE study_logs ADD INDEX idx_study_logs_title (title, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND index_name = 'idx_study_logs_study_time') = 0,
+              'ALTER TABLE study_logs ADD INDEX idx_study_logs_study_time (study_time, study_date, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 카테고리 + 정렬 기준 인덱스를 기존 테이블에 추가
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND index_name = 'idx_study_logs_category_study_date') = 0,
+              'ALTER TABLE study_logs ADD INDEX idx_study_logs_category_study_date (category, study_date, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND index_name = 'idx_study_logs_category_created_at') = 0,
+              'ALTER TABLE study_logs ADD INDEX idx_study_logs_category_created_at (category, created_at, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND index_name = 'idx_study_logs_category_title') = 0,
+              'ALTER TABLE study_logs ADD INDEX idx_study_logs_category_title (category, title, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'study_logs' AND index_name = 'idx_study_logs_category_study_time') = 0,
+              'ALTER TABLE study_logs ADD INDEX idx_study_logs_category_study_time (category, study_time, study_date, id)', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 멱등성 키 (POST /api/v1/logs, /api/v1/logs/batch 의 Idempotency-Key 헤더, IdempotencyStore)
+-- 처리 중이면 status_code가 NULL이고 locked_until까지 다른 인스턴스가 가져가지 못한다. expires_at이 지나면 정리된다.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    key_hash CHAR(64) NOT NULL PRIMARY KEY COMMENT 'SHA-256(HTTP 메서드 + 경로 + 멱등성 키)',
+    request_hash CHAR(64) NOT NULL COMMENT '요청 본문 SHA-256 (같은 키로 다른 본문을 보내면 거절)',
+    status_code INT NULL COMMENT '저장된 응답 상태 코드 (NULL = 처리 중)',
+    content_type VARCHAR(100) NULL COMMENT '저장된 응답 Content-Type',
+    etag VARCHAR(100) NULL COMMENT '저장된 응답 ETag',
+    response_body MEDIUMBLOB NULL COMMENT '저장된 응답 본문',
+    locked_until DATETIME(3) NOT NULL COMMENT '처리 중 선점 만료 시각 (넘으면 다른 요청이 이어받음)',
+    expires_at DATETIME(3) NOT NULL COMMENT '키 만료 시각',
+    INDEX idx_idempotency_keys_expires_at (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '멱등성 키 응답 저장소';
+
+-- 월 단위 RANGE 파티션은 diary.partitioning.* 설정으로 StudyLogPartitionManager가 관리한다
+-- (변환 시 PK가 (id, study_date)로 바뀌고 p_min / pYYYYMM / p_future 파티션이 만들어진다)
@@ -0,0 +1,158 @@
+package com.study.my_spring_study_diary.perf.compression;
+
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import com.study.my_spring_study_diary.seed.StudyLogDataGenerator;
+import com.study.my_spring_study_diary.seed.StudyLogSeedProperties;
+import org.HdrHistogram.Histogram;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * content 압축 저장: 압축률과 CPU 비용 측정
+ * <p>
+ * 본문 종류별로 같은 표본을 만들어 ContentCodec.encode / decode 시간을 재고 저장 크기를 비교한다.
+ * - seed: 시드 생성기의 일반 학습 메모 (StudyLogDataGenerator, 대부분 임계값 미만이라 원본 저장)
+ * - code: 붙여 넣은 Java 코드 조각
+ * - log : 붙여 넣은 애플리케이션 로그
+ * <pre>
+ * ./gradlew compressionBenchmark -PbenchArgs="--samples=2000 --iterations=20 --level=6 --min-bytes=512"
+ * </pre>
+ */
+public class ContentCompressionBenchmarkMain {
+
+    public static void main(String[] args) {
+        int samples = 2_000;
+        int iterations = 20;
+        ContentCompressionProperties properties = new ContentCompressionProperties();
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = eq > 0 ? arg.substring(0, eq) : arg;
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (key) {
+                case "--samples" -> samples = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                case "--level" -> properties.setLevel(Integer.parseInt(value));
+                case "--min-bytes" -> properties.setMinBytes(Integer.parseInt(value));
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+
+        ContentCodec codec = new ContentCodec(properties);
+        Map<String, List<String>> corpora = new LinkedHashMap<>();
+        corpora.put("seed", seedContents(samples));
+        corpora.put("code", pasted(samples, ContentCompressionBenchmarkMain::codeSnippet));
+        corpora.put("log", pasted(samples, ContentCompressionBenchmarkMain::logSnippet));
+
+        System.out.printf("level=%d, min-bytes=%d, samples=%d, iterations=%d%n%n",
+                properties.getLevel(), properties.getMinBytes(), samples, iterations);
+        System.out.printf("%-5s %10s %10s %7s %9s %12s %12s %12s %12s%n",
+                "kind", "raw KB", "stored KB", "ratio", "압축 비율", "encode p50", "encode p99", "decode p50", "decode p99");
+        for (Map.Entry<String, List<String>> corpus : corpora.entrySet()) {
+            run(corpus.getKey(), corpus.getValue(), codec, iterations);
+        }
+    }
+
+    private static void run(String kind, List<String> contents, ContentCodec codec, int iterations) {
+        List<byte[]> stored = new ArrayList<>(contents.size());
+        long rawBytes = 0;
+        long storedBytes = 0;
+        int compressed = 0;
+        for (String content : contents) {
+            byte[] encoded = codec.encode(content);
+            stored.add(encoded);
+            rawBytes += content.getBytes(StandardCharsets.UTF_8).length;
+            storedBytes += encoded.length;
+            compressed += ContentCodec.isCompressed(encoded) ? 1 : 0;
+        }
+
+        // 워밍업 (JIT) 후 측정
+        for (int i = 0; i < 3; i++) {
+            contents.forEach(codec::encode);
+            stored.forEach(ContentCodec::decode);
+        }
+        Histogram encode = new Histogram(3);
+        Histogram decode = new Histogram(3);
+        long sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            for (int j = 0; j < contents.size(); j++) {
+                long start = System.nanoTime();
+                sink += codec.encode(contents.get(j)).length;
+                long middle = System.nanoTime();
+                sink += ContentCodec.decode(stored.get(j)).length();
+                long end = System.nanoTime();
+                encode.recordValue(middle - start);
+                decode.recordValue(end - middle);
+            }
+        }
+
+        System.out.printf("%-5s %10.1f %10.1f %6.2fx %8.0f%% %10.1fus %10.1fus %10.1fus %10.1fus%n",
+                kind, rawBytes / 1024.0, storedBytes / 1024.0, (double) rawBytes / storedBytes,
+                100.0 * compressed / contents.size(),
+                encode.getValueAtPercentile(50) / 1000.0, encode.getValueAtPercentile(99) / 1000.0,
+                decode.getValueAtPercentile(50) / 1000.0, decode.getValueAtPercentile(99) / 1000.0);
+        if (sink == 42) {
+            System.out.println();   // 결과를 쓰는 척해서 JIT가 호출을 없애지 못하게 함
+        }
+    }
+
+    private static List<String> seedContents(int samples) {
+        StudyLogDataGenerator generator = new StudyLogDataGenerator(new StudyLogSeedProperties());
+        List<String> contents = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            contents.add(generator.next().getContent());
+        }
+        return contents;
+    }
+
+    private interface Snippet {
+        String line(SplittableRandom random, int index);
+    }
+
+    /**
+     * 0.5KB ~ 16KB 길이로 줄을 이어 붙인 본문
+     */
+    private static List<String> pasted(int samples, Snippet snippet) {
+        SplittableRandom random = new SplittableRandom(20250101L);
+        List<String> contents = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            int targetBytes = 512 + random.nextInt(16 * 1024 - 512);
+            StringBuilder builder = new StringBuilder(targetBytes);
+            for (int line = 0; builder.length() < targetBytes; line++) {
+                builder.append(snippet.line(random, line)).append('\n');
+            }
+            contents.add(builder.toString());
+        }
+        return contents;
+    }
+
+    private static final String[] TYPES = {"String", "Long", "StudyLog", "List<StudyLog>", "Optional<StudyLog>", "int"};
+    private static final String[] NAMES = {"studyLog", "ownerId", "content", "page", "result", "category", "size"};
+    private static final String[] LEVELS = {"INFO ", "DEBUG", "WARN ", "ERROR"};
+    private static final String[] LOGGERS = {"c.s.m.service.StudyLogService", "o.s.jdbc.core.JdbcTemplate",
+            "com.zaxxer.hikari.pool.HikariPool", "c.s.m.dao.MySQLStudyLogDaoImpl"};
+
+    private static String codeSnippet(SplittableRandom random, int index) {
+        String type = TYPES[random.nextInt(TYPES.length)];
+        String name = NAMES[random.nextInt(NAMES.length)];
+        return switch (index % 4) {
+            case 0 -> "    public " + type + " get" + Character.toUpperCase(name.charAt(0)) + name.substring(1) + "() {";
+            case 1 -> "        " + type + " " + name + index + " = studyLogDao.findById(" + random.nextInt(100_000) + "L);";
+            case 2 -> "        // " + name + " 값을 검증한다 (" + random.nextInt(1000) + ")";
+            default -> "        return " + name + index + ";\n    }";
+        };
+    }
+
+    private static String logSnippet(SplittableRandom random, int index) {
+        return String.format("2025-01-%02d 10:%02d:%02d.%03d %s %d --- [nio-8081-exec-%d] %-40s : 요청 처리 완료 id=%d elapsed=%dms",
+                1 + random.nextInt(28), random.nextInt(60), random.nextInt(60), random.nextInt(1000),
+                LEVELS[random.nextInt(LEVELS.length)], 4000 + random.nextInt(100), 1 + random.nextInt(20),
+                LOGGERS[random.nextInt(LOGGERS.length)], random.nextInt(1_000_000), random.nextInt(500));
+    }
+}
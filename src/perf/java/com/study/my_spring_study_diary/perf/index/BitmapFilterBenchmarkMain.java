@@ -0,0 +1,114 @@
+package com.study.my_spring_study_diary.perf.index;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.repository.StudyLogRepository;
+import com.study.my_spring_study_diary.repository.index.StudyLogFilter;
+import com.study.my_spring_study_diary.repository.index.StudyTimeBucket;
+import com.study.my_spring_study_diary.repository.persistence.StudyLogPersistenceProperties;
+import com.study.my_spring_study_diary.seed.StudyLogDataGenerator;
+import com.study.my_spring_study_diary.seed.StudyLogSeedProperties;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 저장소 다중 조건 필터: 비트맵 색인 vs 전체 훑기 비교
+ * <p>
+ * 같은 필터로 건수 세기(count)와 목록 조회(find)를 각각 비트맵 색인과, 저장한 일지 전체를 matches()로 훑는 스트림으로 실행한다.
+ * 훑기 쪽은 정렬하지 않으므로 색인 쪽 find가 정렬까지 하는 만큼 불리한 비교다.
+ * <pre>
+ * ./gradlew bitmapIndexBenchmark -PbenchArgs="--rows=500000 --seconds=3"
+ * </pre>
+ */
+public class BitmapFilterBenchmarkMain {
+
+    public static void main(String[] args) {
+        int rows = 200_000;
+        int seconds = 3;
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = eq > 0 ? arg.substring(0, eq) : arg;
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (key) {
+                case "--rows" -> rows = Integer.parseInt(value.replace("_", ""));
+                case "--seconds" -> seconds = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+
+        StudyLogRepository repository = new StudyLogRepository(new StudyLogPersistenceProperties());
+        StudyLogSeedProperties properties = new StudyLogSeedProperties();
+        properties.getText().setContentMaxLength(50);
+        StudyLogDataGenerator generator = new StudyLogDataGenerator(properties);
+        List<StudyLog> all = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            StudyLog studyLog = generator.next();
+            studyLog.setId(null);
+            studyLog.setCreatedAt(LocalDateTime.now());
+            all.add(repository.save(studyLog));
+        }
+        for (long id = 1; id <= rows; id += 20) {
+            repository.softDeleteById(id);
+        }
+        LocalDate middle = all.get(rows / 2).getStudyDate();
+
+        Map<String, StudyLogFilter> filters = new LinkedHashMap<>();
+        filters.put("category", StudyLogFilter.categories(Category.SPRING));
+        filters.put("3 criteria", StudyLogFilter.and(
+                StudyLogFilter.categories(Category.JAVA, Category.SPRING),
+                StudyLogFilter.understandings(Understanding.BAD, Understanding.VERY_BAD),
+                StudyLogFilter.studyTimes(StudyTimeBucket.UNDER_120, StudyTimeBucket.UNDER_240)));
+        filters.put("quarter", StudyLogFilter.studyDateBetween(middle.minusDays(45), middle.plusDays(45)));
+        filters.put("or + not", StudyLogFilter.and(
+                StudyLogFilter.or(StudyLogFilter.categories(Category.CS), StudyLogFilter.studyTimes(StudyTimeBucket.OVER_240)),
+                StudyLogFilter.not(StudyLogFilter.understandings(Understanding.GOOD))));
+
+        System.out.printf("%n===== Multi-criteria filters (%,d rows, %ds each) =====%n", rows, seconds);
+        System.out.printf("%-12s %8s %14s %14s %14s %14s%n",
+                "filter", "matches", "count scan/s", "count index/s", "find scan/s", "find index/s");
+        for (Map.Entry<String, StudyLogFilter> entry : filters.entrySet()) {
+            StudyLogFilter filter = entry.getValue();
+            System.out.printf("%-12s %8d %14.0f %14.0f %14.0f %14.0f%n",
+                    entry.getKey(),
+                    repository.countByFilter(filter),
+                    throughput(seconds, r -> scan(all, filter).count()),
+                    throughput(seconds, r -> repository.countByFilter(filter)),
+                    throughput(seconds, r -> scan(all, filter).toList().size()),
+                    throughput(seconds, r -> repository.findByFilter(filter).size()));
+        }
+    }
+
+    private static Stream<StudyLog> scan(List<StudyLog> all, StudyLogFilter filter) {
+        return all.stream().filter(studyLog -> !studyLog.isDeleted() && filter.matches(studyLog));
+    }
+
+    /**
+     * 1초 예열 후 주어진 시간 동안 초당 실행 횟수
+     */
+    private static double throughput(int seconds, ToLongFunction<Integer> operation) {
+        long sink = 0;
+        long warmupEnd = System.nanoTime() + 1_000_000_000L;
+        while (System.nanoTime() < warmupEnd) {
+            sink += operation.applyAsLong(0);
+        }
+        long count = 0;
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        while (System.nanoTime() < end) {
+            sink += operation.applyAsLong(0);
+            count++;
+        }
+        if (sink == Long.MIN_VALUE) {
+            System.out.println(sink);
+        }
+        return count / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,107 @@
+package com.study.my_spring_study_diary.perf.json;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.global.json.JsonSerializationConfig;
+import com.study.my_spring_study_diary.seed.StudyLogDataGenerator;
+import com.study.my_spring_study_diary.seed.StudyLogSeedProperties;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 응답 형식 비교: JSON vs CBOR
+ * <p>
+ * 같은 ApiResponse&lt;Page&lt;StudyLogResponse&gt;&gt;에 대해 본문 크기, 서버 쪽 직렬화 속도,
+ * 클라이언트 쪽 파싱(readTree) 속도를 잰다. 두 매퍼 모두 전용 직렬화기 모듈을 쓴다.
+ * <pre>
+ * ./gradlew binaryFormatBenchmark -PbenchArgs="--page-sizes=20,100 --seconds=5"
+ * </pre>
+ */
+public class BinaryFormatBenchmarkMain {
+
+    public static void main(String[] args) {
+        int[] pageSizes = {20, 100};
+        int seconds = 5;
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = eq > 0 ? arg.substring(0, eq) : arg;
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (key) {
+                case "--page-sizes" -> pageSizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--seconds" -> seconds = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+
+        ObjectMapper json = JsonMapper.builder().addModule(JsonSerializationConfig.studyLogModule()).build();
+        ObjectMapper cbor = CBORMapper.builder().addModule(JsonSerializationConfig.studyLogModule()).build();
+
+        List<ApiResponse<Page<StudyLogResponse>>> responses = new ArrayList<>();
+        for (int pageSize : pageSizes) {
+            ApiResponse<Page<StudyLogResponse>> response = page(pageSize);
+            if (!json.readTree(json.writeValueAsBytes(response)).equals(cbor.readTree(cbor.writeValueAsBytes(response)))) {
+                throw new IllegalStateException("JSON과 CBOR 구조가 다릅니다 (rows=" + pageSize + ")");
+            }
+            responses.add(response);
+        }
+
+        // 워밍업 (JIT): 측정 순서에 따라 한쪽만 덜 최적화되지 않도록 모든 조합을 먼저 돌린다
+        for (ApiResponse<Page<StudyLogResponse>> response : responses) {
+            run("json", json, response, 1, false);
+            run("cbor", cbor, response, 1, false);
+        }
+
+        System.out.printf("%-5s %5s %10s %14s %14s%n", "format", "rows", "bytes", "serialize/s", "parse/s");
+        for (ApiResponse<Page<StudyLogResponse>> response : responses) {
+            run("json", json, response, seconds, true);
+            run("cbor", cbor, response, seconds, true);
+        }
+    }
+
+    private static void run(String name, ObjectMapper mapper, ApiResponse<Page<StudyLogResponse>> value, int seconds, boolean print) {
+        byte[] body = mapper.writeValueAsBytes(value);
+        double serialize = throughput(() -> mapper.writeValueAsBytes(value), seconds);
+        double parse = throughput(() -> mapper.readTree(body), seconds);
+        if (print) {
+            System.out.printf("%-5s %5d %10d %14.0f %14.0f%n",
+                    name, value.getData().getContent().size(), body.length, serialize, parse);
+        }
+    }
+
+    private static double throughput(Supplier<?> operation, int seconds) {
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        long ops = 0;
+        while (System.nanoTime() < end) {
+            for (int i = 0; i < 100; i++) {
+                operation.get();
+            }
+            ops += 100;
+        }
+        return ops * 1e9 / (System.nanoTime() - start);
+    }
+
+    private static ApiResponse<Page<StudyLogResponse>> page(int size) {
+        StudyLogDataGenerator generator = new StudyLogDataGenerator(new StudyLogSeedProperties());
+        List<StudyLogResponse> rows = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000);
+        for (int i = 0; i < size; i++) {
+            StudyLog studyLog = generator.next();
+            studyLog.setId((long) i + 1);
+            studyLog.setCreatedAt(now.minusMinutes(i));
+            studyLog.setUpdatedAt(now);
+            rows.add(StudyLogResponse.from(studyLog));
+        }
+        return ApiResponse.success(new Page<>(rows, 0, size, 10_000));
+    }
+}
@@ -0,0 +1,111 @@
+package com.study.my_spring_study_diary.perf.json;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.CompactStudyLogList;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.global.json.JsonSerializationConfig;
+import com.study.my_spring_study_diary.seed.StudyLogDataGenerator;
+import com.study.my_spring_study_diary.seed.StudyLogSeedProperties;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 페이지 응답 JSON 직렬화: 기본(리플렉션 기반 BeanSerializer) vs 전용 직렬화기 vs 압축 목록(?view=compact)
+ * <p>
+ * 같은 ApiResponse&lt;Page&lt;StudyLogResponse&gt;&gt;를 버리는 스트림에 반복해서 쓰고
+ * 초당 직렬화 횟수와 호출당 할당 바이트(현재 스레드 기준)를 비교한다.
+ * <pre>
+ * ./gradlew jsonBenchmark -PbenchArgs="--page-sizes=20,100 --seconds=5"
+ * </pre>
+ */
+public class JsonSerializationBenchmarkMain {
+
+    // writeValue()가 대상 스트림을 닫으므로 close()도 무시하는 버리는 스트림
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    public static void main(String[] args) throws Exception {
+        int[] pageSizes = {20, 100};
+        int seconds = 5;
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = eq > 0 ? arg.substring(0, eq) : arg;
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (key) {
+                case "--page-sizes" -> pageSizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                case "--seconds" -> seconds = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+
+        JsonMapper reflective = JsonMapper.builder().build();
+        JsonMapper streaming = JsonMapper.builder().addModule(JsonSerializationConfig.studyLogModule()).build();
+
+        System.out.printf("%-10s %5s %12s %14s %12s%n", "mapper", "rows", "ops/s", "bytes/op(alloc)", "json bytes");
+        for (int pageSize : pageSizes) {
+            ApiResponse<Page<StudyLogResponse>> response = page(pageSize);
+            if (!reflective.writeValueAsString(response).equals(streaming.writeValueAsString(response))) {
+                throw new IllegalStateException("두 직렬화 결과가 다릅니다 (rows=" + pageSize + ")");
+            }
+            run("reflective", reflective, response, pageSize, seconds);
+            run("streaming", streaming, response, pageSize, seconds);
+            run("compact", streaming, ApiResponse.success(CompactStudyLogList.of(response.getData())), pageSize, seconds);
+        }
+    }
+
+    private static void run(String name, JsonMapper mapper, Object value, int rows, int seconds) throws Exception {
+        // 워밍업 (JIT)
+        long warmupEnd = System.nanoTime() + 2_000_000_000L;
+        while (System.nanoTime() < warmupEnd) {
+            mapper.writeValue(DISCARD, value);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        long ops = 0;
+        while (System.nanoTime() < end) {
+            for (int i = 0; i < 100; i++) {
+                mapper.writeValue(DISCARD, value);
+            }
+            ops += 100;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        System.out.printf("%-10s %5d %12.0f %14d %12d%n",
+                name, rows, ops * 1e9 / elapsed, allocated / ops, mapper.writeValueAsBytes(value).length);
+    }
+
+    private static ApiResponse<Page<StudyLogResponse>> page(int size) {
+        StudyLogDataGenerator generator = new StudyLogDataGenerator(new StudyLogSeedProperties());
+        List<StudyLogResponse> rows = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000);
+        for (int i = 0; i < size; i++) {
+            StudyLog studyLog = generator.next();
+            studyLog.setId((long) i + 1);
+            studyLog.setCreatedAt(now.minusMinutes(i));
+            studyLog.setUpdatedAt(now);
+            rows.add(StudyLogResponse.from(studyLog));
+        }
+        return ApiResponse.success(new Page<>(rows, 0, size, 10_000));
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.my_spring_study_diary.perf.load;
+
+/**
+ * 부하 테스트 대상 StudyLogController 엔드포인트
+ * <p>
+ * key는 --mix 옵션에서 가중치를 지정할 때 사용하는 이름이다.
+ * 예시: --mix=create=10,get=30,page=25,categoryPage=10,search=15,update=7,delete=3
+ */
+public enum Endpoint {
+    CREATE("create", 10),               // POST   /api/v1/logs
+    GET_BY_ID("get", 30),               // GET    /api/v1/logs/{id}
+    PAGE("page", 25),                   // GET    /api/v1/logs/page
+    CATEGORY_PAGE("categoryPage", 10),  // GET    /api/v1/logs/category/{category}/page
+    SEARCH("search", 15),               // GET    /api/v1/logs/search
+    UPDATE("update", 7),                // PUT    /api/v1/logs/{id}
+    DELETE("delete", 3);                // DELETE /api/v1/logs/{id}
+
+    private final String key;
+    private final int defaultWeight;
+
+    Endpoint(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + key);
+    }
+}
@@ -0,0 +1,77 @@
+package com.study.my_spring_study_diary.perf.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 측정 결과
+ * <p>
+ * - responseTime: "보냈어야 할 시각"부터 응답 완료까지 (coordinated omission 보정)
+ * - serviceTime: 실제로 보낸 시각부터 응답 완료까지 (보정 전, 비교용)
+ * 단위는 마이크로초이며 최대 60초까지 유효숫자 3자리로 기록한다.
+ */
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Endpoint endpoint;
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder non2xx = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public EndpointStats(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void record(long intendedStartNanos, long sentNanos, long completedNanos, int status) {
+        responseTime.recordValue(toMicros(completedNanos - intendedStartNanos));
+        serviceTime.recordValue(toMicros(completedNanos - sentNanos));
+        if (status >= 200 && status < 300) {
+            succeeded.increment();
+        } else {
+            non2xx.increment();
+        }
+    }
+
+    public void recordFailure(long intendedStartNanos, long completedNanos) {
+        responseTime.recordValue(toMicros(completedNanos - intendedStartNanos));
+        failed.increment();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(nanos / 1_000, 0), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public Histogram getResponseTime() {
+        return responseTime;
+    }
+
+    public Histogram getServiceTime() {
+        return serviceTime;
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getNon2xx() {
+        return non2xx.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getTotal() {
+        return getSucceeded() + getNon2xx() + getFailed();
+    }
+}
@@ -0,0 +1,158 @@
+package com.study.my_spring_study_diary.perf.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 생성기
+ * <p>
+ * i번째 요청의 "예정 시각"은 start + i / rate 로 미리 정해진다.
+ * 서버가 느려져 디스패처가 늦게 보내더라도 지연 시간은 예정 시각부터 재기 때문에
+ * 응답을 기다리는 동안 보내지 못한 요청의 지연이 결과에서 빠지지 않는다. (coordinated omission 보정)
+ */
+public class LoadGenerator {
+
+    private final LoadTestOptions options;
+    private final StudyLogRequests requests;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final SplittableRandom random;
+
+    public LoadGenerator(LoadTestOptions options, StudyLogRequests requests) {
+        this.options = options;
+        this.requests = requests;
+        this.random = new SplittableRandom(options.getSeed() ^ 0x5DEECE66DL);
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+
+        this.endpoints = Endpoint.values();
+        this.cumulativeWeights = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += Math.max(0, options.getMix().getOrDefault(endpoints[i], 0));
+            cumulativeWeights[i] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("--mix 가중치 합이 0입니다.");
+        }
+    }
+
+    /**
+     * 워밍업 + 측정 구간 동안 부하를 발생시키고 결과를 반환합니다.
+     */
+    public LoadResult run() throws InterruptedException {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(options.getClientThreads());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientExecutor)
+                .build();
+
+        Semaphore inFlight = new Semaphore(options.getMaxInFlight());
+        double nanosPerRequest = 1_000_000_000.0 / options.getRate();
+
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+        long endNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+
+        try {
+            for (long i = 0; ; i++) {
+                long intendedStart = startNanos + (long) (i * nanosPerRequest);
+                if (intendedStart >= endNanos) {
+                    break;
+                }
+                parkUntil(intendedStart);
+
+                Endpoint endpoint = nextEndpoint();
+                HttpRequest request = requests.build(endpoint);
+                EndpointStats endpointStats = intendedStart >= measureStartNanos ? stats.get(endpoint) : null;
+
+                inFlight.acquire();
+                long sentNanos = System.nanoTime();
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                        .whenComplete((response, error) -> {
+                            long completedNanos = System.nanoTime();
+                            inFlight.release();
+                            if (error != null) {
+                                if (endpointStats != null) {
+                                    endpointStats.recordFailure(intendedStart, completedNanos);
+                                }
+                                return;
+                            }
+                            if (endpointStats != null) {
+                                endpointStats.record(intendedStart, sentNanos, completedNanos, response.statusCode());
+                            }
+                            if (response.statusCode() / 100 == 2 && "GET".equals(request.method())) {
+                                requests.registerIds(response.body(), false);
+                            } else if (response.statusCode() == 201) {
+                                requests.registerIds(response.body(), true);
+                            }
+                        });
+            }
+
+            // 남은 요청이 끝날 때까지 대기
+            inFlight.tryAcquire(options.getMaxInFlight(), 60, TimeUnit.SECONDS);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+
+        return new LoadResult(options, stats);
+    }
+
+    /**
+     * 시드 데이터의 ID를 미리 수집해 조회/수정 요청이 처음부터 실제 행을 가리키도록 합니다.
+     */
+    public void primeKnownIds() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            HttpClient client = HttpClient.newBuilder().executor(executor).build();
+            for (int page = 0; page < 10; page++) {
+                HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(requests.baseUrl() + "/page?page=" + page + "&size=100")).GET().build();
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    break;
+                }
+                requests.registerIds(response.body(), false);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.out.println("ID 사전 수집 실패 (무시하고 진행): " + e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Endpoint nextEndpoint() {
+        int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
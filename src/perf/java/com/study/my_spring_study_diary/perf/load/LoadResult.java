@@ -0,0 +1,100 @@
+package com.study.my_spring_study_diary.perf.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 출력
+ * <p>
+ * - 콘솔: 엔드포인트별 처리량과 지연 시간 백분위 표
+ * - {outputDir}/{label}/{endpoint}.hgrm: HdrHistogram 백분위 분포 (HistogramLogAnalyzer 등으로 비교)
+ * - {outputDir}/summary.csv: 실행마다 한 줄씩 누적되어 릴리스/설정 간 비교에 사용
+ */
+public class LoadResult {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private final LoadTestOptions options;
+    private final Map<Endpoint, EndpointStats> stats;
+
+    public LoadResult(LoadTestOptions options, Map<Endpoint, EndpointStats> stats) {
+        this.options = options;
+        this.stats = stats;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n===== Load test: %s (rate=%.0f/s, duration=%ds) =====%n",
+                options.getLabel(), options.getRate(), options.getDurationSeconds());
+        out.printf("%-13s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "non2xx", "failed", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        Histogram total = new Histogram(3);
+        long totalRequests = 0;
+        for (EndpointStats endpointStats : stats.values()) {
+            if (endpointStats.getTotal() == 0) {
+                continue;
+            }
+            printRow(out, endpointStats.getEndpoint().getKey(), endpointStats.getResponseTime(),
+                    endpointStats.getTotal(), endpointStats.getNon2xx(), endpointStats.getFailed());
+            total.add(endpointStats.getResponseTime());
+            totalRequests += endpointStats.getTotal();
+        }
+        printRow(out, "TOTAL", total, totalRequests,
+                stats.values().stream().mapToLong(EndpointStats::getNon2xx).sum(),
+                stats.values().stream().mapToLong(EndpointStats::getFailed).sum());
+        out.println("(지연 시간은 예정 시각 기준으로 보정된 값입니다)");
+    }
+
+    public void write() throws IOException {
+        Path runDir = options.getOutputDir().resolve(options.getLabel());
+        Files.createDirectories(runDir);
+
+        Histogram total = new Histogram(3);
+        for (EndpointStats endpointStats : stats.values()) {
+            if (endpointStats.getTotal() == 0) {
+                continue;
+            }
+            total.add(endpointStats.getResponseTime());
+            writeHistogram(runDir.resolve(endpointStats.getEndpoint().getKey() + ".hgrm"), endpointStats.getResponseTime());
+            writeHistogram(runDir.resolve(endpointStats.getEndpoint().getKey() + "-uncorrected.hgrm"), endpointStats.getServiceTime());
+        }
+        writeHistogram(runDir.resolve("total.hgrm"), total);
+
+        Path summary = options.getOutputDir().resolve("summary.csv");
+        if (Files.notExists(summary)) {
+            Files.writeString(summary, "timestamp,label,rate,duration_s,requests,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms\n",
+                    StandardCharsets.UTF_8);
+        }
+        String line = String.format("%s,%s,%.0f,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                LocalDateTime.now(), options.getLabel(), options.getRate(), options.getDurationSeconds(),
+                total.getTotalCount(), (double) total.getTotalCount() / options.getDurationSeconds(),
+                millis(total, 50), millis(total, 90), millis(total, 99), millis(total, 99.9),
+                total.getMaxValue() / MICROS_PER_MILLI);
+        Files.writeString(summary, line, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private void printRow(PrintStream out, String name, Histogram histogram, long requests, long non2xx, long failed) {
+        out.printf("%-13s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, requests, non2xx, failed, (double) requests / options.getDurationSeconds(),
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static void writeHistogram(Path path, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(path), true, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.study.my_spring_study_diary.perf.load;
+
+import com.study.my_spring_study_diary.MySpringStudyDiaryApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StudyLogController HTTP 부하 테스트 진입점
+ * <p>
+ * --target 을 주지 않으면 같은 JVM 안에서 애플리케이션을 임의 포트로 띄운 뒤 부하를 건다.
+ * 측정 결과를 릴리스/설정 간에 비교하려면 같은 장비에서 --label 만 바꿔 반복 실행한다.
+ * <p>
+ * 예시:
+ *   ./gradlew loadTest -PloadTestArgs="--rate=500 --duration=60 --label=baseline"
+ *   ./gradlew loadTest -PloadTestArgs="--target=http://localhost:8081 --mix=get=70,page=30"
+ *   ./gradlew loadTest -PloadTestArgs="--spring.profiles.active=prod --label=prod-profile"
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.getTarget();
+        if (baseUrl == null) {
+            context = startEmbeddedServer(options);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            System.out.printf("부하 테스트 대상: %s, 요청 믹스: %s%n", baseUrl, options.getMix());
+
+            StudyLogRequests requests = new StudyLogRequests(baseUrl, options.getSeed());
+            LoadGenerator generator = new LoadGenerator(options, requests);
+            generator.primeKnownIds();
+
+            LoadResult result = generator.run();
+            result.print(System.out);
+            result.write();
+            System.out.println("결과 저장 위치: " + options.getOutputDir().toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startEmbeddedServer(LoadTestOptions options) {
+        List<String> serverArgs = new ArrayList<>(options.getServerArgs());
+        // 사용자가 지정하지 않은 경우에만 기본값 추가 (DEBUG SQL 로그는 측정을 왜곡함)
+        addIfAbsent(serverArgs, "--server.port", "0");
+        addIfAbsent(serverArgs, "--logging.level.com.study.my_spring_study_diary", "INFO");
+        addIfAbsent(serverArgs, "--logging.level.org.springframework.jdbc", "INFO");
+        addIfAbsent(serverArgs, "--logging.level.com.zaxxer.hikari", "INFO");
+
+        return new SpringApplicationBuilder(MySpringStudyDiaryApplication.class)
+                .run(serverArgs.toArray(String[]::new));
+    }
+
+    private static void addIfAbsent(List<String> args, String key, String value) {
+        if (args.stream().noneMatch(arg -> arg.startsWith(key + "="))) {
+            args.add(key + "=" + value);
+        }
+    }
+}
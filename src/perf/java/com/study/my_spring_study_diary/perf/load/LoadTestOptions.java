@@ -0,0 +1,114 @@
+package com.study.my_spring_study_diary.perf.load;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 명령행 옵션
+ * <p>
+ * --key=value 형식만 해석하고, 나머지(--spring.* 등)는 내장 서버로 그대로 넘긴다.
+ */
+public class LoadTestOptions {
+
+    private String target;                  // 외부 서버 주소 (없으면 내장 서버 기동)
+    private double rate = 200;              // 초당 요청 수 (고정 도착률)
+    private int durationSeconds = 60;       // 측정 구간 길이
+    private int warmupSeconds = 10;         // 워밍업 구간 길이 (기록하지 않음)
+    private int clientThreads = 16;         // HttpClient 실행 스레드 수
+    private int maxInFlight = 10_000;       // 동시에 대기 가능한 최대 요청 수
+    private long seed = 42;                 // 요청 믹스/파라미터 난수 시드
+    private String label = "run";           // 결과 비교용 이름 (릴리스, 설정 등)
+    private Path outputDir = Path.of("build", "load-test");
+    private final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    private final List<String> serverArgs = new ArrayList<>();
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (Endpoint endpoint : Endpoint.values()) {
+            options.mix.put(endpoint, endpoint.getDefaultWeight());
+        }
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = eq > 0 ? arg.substring(0, eq) : arg;
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+
+            switch (key) {
+                case "--target" -> options.target = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "--rate" -> options.rate = Double.parseDouble(value);
+                case "--duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "--warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "--threads" -> options.clientThreads = Integer.parseInt(value);
+                case "--max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "--seed" -> options.seed = Long.parseLong(value);
+                case "--label" -> options.label = value;
+                case "--output" -> options.outputDir = Path.of(value);
+                case "--mix" -> options.parseMix(value);
+                default -> options.serverArgs.add(arg);
+            }
+        }
+
+        if (options.rate <= 0) {
+            throw new IllegalArgumentException("--rate는 0보다 커야 합니다.");
+        }
+        return options;
+    }
+
+    private void parseMix(String value) {
+        mix.replaceAll((endpoint, weight) -> 0);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("--mix 형식이 잘못되었습니다: " + entry);
+            }
+            mix.put(Endpoint.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getClientThreads() {
+        return clientThreads;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Path getOutputDir() {
+        return outputDir;
+    }
+
+    public Map<Endpoint, Integer> getMix() {
+        return mix;
+    }
+
+    public List<String> getServerArgs() {
+        return serverArgs;
+    }
+}
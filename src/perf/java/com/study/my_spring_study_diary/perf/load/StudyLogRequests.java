@@ -0,0 +1,137 @@
+package com.study.my_spring_study_diary.perf.load;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 엔드포인트별 HTTP 요청 생성기
+ * <p>
+ * - 조회/수정 대상 ID는 "알려진 ID" 링 버퍼에서 무작위로 고른다.
+ * - 삭제는 이 하네스가 생성한 ID만 큐에서 꺼내 쓰므로 시드 데이터를 지우지 않는다.
+ * - 난수 생성은 디스패처 스레드 한 곳에서만 호출된다.
+ */
+public class StudyLogRequests {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] KEYWORDS = {"Spring", "Java", "인덱스", "트랜잭션", "Stream", "알고리즘"};
+    private static final int KNOWN_ID_CAPACITY = 1 << 16;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final SplittableRandom random;
+
+    private final AtomicLongArray knownIds = new AtomicLongArray(KNOWN_ID_CAPACITY);
+    private final AtomicInteger knownIdCount = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Long> deletableIds = new ConcurrentLinkedQueue<>();
+
+    public StudyLogRequests(String baseUrl, long seed) {
+        this.baseUrl = baseUrl + "/api/v1/logs";
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * 엔드포인트에 맞는 요청을 만듭니다. 대상 ID가 필요한데 아직 없으면 목록 조회로 대체합니다.
+     */
+    public HttpRequest build(Endpoint endpoint) {
+        return switch (endpoint) {
+            case CREATE -> jsonRequest(URI.create(baseUrl), "POST", createBody());
+            case GET_BY_ID -> knownIdOrPage(id -> get(baseUrl + "/" + id));
+            case PAGE -> get(baseUrl + "/page?page=" + random.nextInt(5) + "&size=10");
+            case CATEGORY_PAGE -> get(baseUrl + "/category/" + randomCategory() + "/page?page=0&size=10");
+            case SEARCH -> get(baseUrl + "/search?title=" + encode(KEYWORDS[random.nextInt(KEYWORDS.length)])
+                    + "&startDate=" + LocalDate.now().minusDays(30 + random.nextInt(365))
+                    + "&page=0&size=10");
+            case UPDATE -> knownIdOrPage(id -> jsonRequest(URI.create(baseUrl + "/" + id), "PUT", updateBody()));
+            case DELETE -> {
+                Long id = deletableIds.poll();
+                yield id != null ? HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).timeout(REQUEST_TIMEOUT).DELETE().build()
+                        : get(baseUrl + "/page?page=0&size=10");
+            }
+        };
+    }
+
+    /**
+     * 응답에서 ID를 찾아 알려진 ID로 등록합니다. (생성 응답, 목록 응답 모두 사용)
+     */
+    public void registerIds(String body, boolean deletable) {
+        if (body == null) {
+            return;
+        }
+        Matcher matcher = ID_PATTERN.matcher(body);
+        while (matcher.find()) {
+            long id = Long.parseLong(matcher.group(1));
+            int slot = knownIdCount.getAndIncrement() & (KNOWN_ID_CAPACITY - 1);
+            knownIds.set(slot, id);
+            if (deletable) {
+                deletableIds.add(id);
+            }
+        }
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private HttpRequest knownIdOrPage(LongFunction<HttpRequest> factory) {
+        int count = Math.min(knownIdCount.get(), KNOWN_ID_CAPACITY);
+        if (count == 0) {
+            return get(baseUrl + "/page?page=0&size=10");
+        }
+        return factory.apply(knownIds.get(random.nextInt(count)));
+    }
+
+    private HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest jsonRequest(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String createBody() {
+        return """
+                {"ownerId":%d,"title":"부하 테스트 %d","content":"%s","category":"%s","understanding":"%s","studyTime":%d,"studyDate":"%s"}"""
+                .formatted(1 + random.nextInt(50),
+                        random.nextInt(1_000_000),
+                        "Spring Boot 부하 테스트 내용 ".repeat(1 + random.nextInt(20)).strip(),
+                        randomCategory(),
+                        Understanding.values()[random.nextInt(Understanding.values().length)].name(),
+                        10 + random.nextInt(240),
+                        LocalDate.now().minusDays(random.nextInt(365)));
+    }
+
+    private String updateBody() {
+        return """
+                {"studyTime":%d,"understanding":"%s"}"""
+                .formatted(10 + random.nextInt(240),
+                        Understanding.values()[random.nextInt(Understanding.values().length)].name());
+    }
+
+    private String randomCategory() {
+        return Category.values()[random.nextInt(Category.values().length)].name();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
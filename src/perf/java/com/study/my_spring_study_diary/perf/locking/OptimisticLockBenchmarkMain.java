@@ -0,0 +1,227 @@
+package com.study.my_spring_study_diary.perf.locking;
+
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.HdrHistogram.Histogram;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 수정 경합: 잠금 없음 vs 낙관적 잠금(version CAS) vs 비관적 잠금(SELECT ... FOR UPDATE) 비교
+ * <p>
+ * 모든 스레드가 --rows 개의 같은 행 중 하나를 골라 "읽고 study_time을 1 올려 저장"하는 read-modify-write를 반복한다.
+ * 행 수가 적을수록 경합이 심하다. 끝난 뒤 study_time 증가량과 성공 횟수를 비교해 잃어버린 수정(lost update)을 센다.
+ * - none       : 조회 후 버전 조건 없이 UPDATE (이전 동작, 빠르지만 덮어쓰기 발생)
+ * - optimistic : MySQLStudyLogDaoImpl.update (WHERE id = ? AND version = ?), 충돌하면 다시 읽어서 재시도
+ * - pessimistic: 트랜잭션 안에서 SELECT ... FOR UPDATE 후 UPDATE (충돌 대신 행 잠금 대기)
+ * <pre>
+ * ./gradlew optimisticLockBenchmark -PbenchArgs="--threads=16 --rows=4 --seconds=10"
+ * ./gradlew optimisticLockBenchmark -PbenchArgs="--url=jdbc:mysql://localhost:3306/diary_db --password=rootpass --rows=1"
+ * </pre>
+ * --url이 없으면 H2 인메모리 DB(MySQL 모드)에 테이블을 만들어 쓴다. MySQL에서는 기존 study_logs 테이블에
+ * 벤치마크용 행을 넣고 끝나면 지운다.
+ */
+public class OptimisticLockBenchmarkMain {
+
+    private static final String H2_URL = "jdbc:h2:mem:locking;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    private static final String TITLE = "optimistic-lock-bench";
+    private static final String[] STRATEGIES = {"none", "optimistic", "pessimistic"};
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        String user = "root";
+        String password = "";
+        int threads = 8;
+        int rows = 4;
+        int seconds = 5;
+        int warmupSeconds = 1;
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = eq > 0 ? arg.substring(0, eq) : arg;
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (key) {
+                case "--url" -> url = value;
+                case "--user" -> user = value;
+                case "--password" -> password = value;
+                case "--threads" -> threads = Integer.parseInt(value);
+                case "--rows" -> rows = Integer.parseInt(value);
+                case "--seconds" -> seconds = Integer.parseInt(value);
+                case "--warmup" -> warmupSeconds = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+        if (rows < 1 || threads < 1) {
+            throw new IllegalArgumentException("--rows와 --threads는 1 이상이어야 합니다.");
+        }
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url != null ? url : H2_URL);
+        config.setUsername(url != null ? user : "sa");
+        config.setPassword(url != null ? password : "");
+        config.setMaximumPoolSize(threads);
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            if (url == null) {
+                createTable(jdbcTemplate);
+            }
+            MySQLStudyLogDaoImpl dao = new MySQLStudyLogDaoImpl(jdbcTemplate, new ContentCodec(new ContentCompressionProperties()));
+            TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+            System.out.printf("%n===== Read-modify-write contention (%d threads, %d hot rows, %ds) =====%n", threads, rows, seconds);
+            System.out.printf("%-12s %10s %9s %9s %9s %10s %10s%n",
+                    "strategy", "ops/s", "p50(ms)", "p99(ms)", "max(ms)", "conflicts", "lost");
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                for (String strategy : STRATEGIES) {
+                    List<Long> ids = insertHotRows(dao, rows);
+                    try {
+                        Operation operation = operation(strategy, dao, jdbcTemplate, transactionTemplate);
+                        run(executor, threads, ids, operation, warmupSeconds, new Stats());
+                        long before = sumStudyTime(jdbcTemplate);
+                        Stats stats = new Stats();
+                        Histogram histogram = run(executor, threads, ids, operation, seconds, stats);
+                        long lost = stats.successes.sum() - (sumStudyTime(jdbcTemplate) - before);
+                        System.out.printf("%-12s %10.0f %9.3f %9.3f %9.3f %10d %10d%n",
+                                strategy,
+                                stats.successes.sum() / (double) seconds,
+                                histogram.getValueAtPercentile(50) / 1_000.0,
+                                histogram.getValueAtPercentile(99) / 1_000.0,
+                                histogram.getMaxValue() / 1_000.0,
+                                stats.conflicts.sum(),
+                                lost);
+                    } finally {
+                        jdbcTemplate.update("DELETE FROM study_logs WHERE title = ?", TITLE);
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    // ==================== 전략 ====================
+
+    /**
+     * 행 하나에 study_time + 1 을 반영한다 (충돌로 재시도한 횟수는 stats.conflicts)
+     */
+    private interface Operation {
+        void increment(long id, Stats stats);
+    }
+
+    private static Operation operation(String strategy, MySQLStudyLogDaoImpl dao, JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate) {
+        return switch (strategy) {
+            case "none" -> (id, stats) -> {
+                StudyLog studyLog = dao.findById(id).orElseThrow();
+                jdbcTemplate.update("UPDATE study_logs SET study_time = ? WHERE id = ?", studyLog.getStudyTime() + 1, id);
+            };
+            case "optimistic" -> (id, stats) -> {
+                while (true) {
+                    StudyLog studyLog = dao.findById(id).orElseThrow();
+                    studyLog.setStudyTime(studyLog.getStudyTime() + 1);
+                    try {
+                        dao.update(studyLog);
+                        return;
+                    } catch (OptimisticLockingFailureException e) {
+                        stats.conflicts.increment();
+                    }
+                }
+            };
+            case "pessimistic" -> (id, stats) -> transactionTemplate.executeWithoutResult(status -> {
+                Integer studyTime = jdbcTemplate.queryForObject(
+                        "SELECT study_time FROM study_logs WHERE id = ? FOR UPDATE", Integer.class, id);
+                jdbcTemplate.update("UPDATE study_logs SET study_time = ?, version = version + 1 WHERE id = ?", studyTime + 1, id);
+            });
+            default -> throw new IllegalArgumentException("알 수 없는 전략: " + strategy);
+        };
+    }
+
+    // ==================== 실행 ====================
+
+    private static final class Stats {
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+    }
+
+    /**
+     * 스레드마다 정해진 시간 동안 임의의 hot row를 골라 increment 를 반복한다 (재시도까지 포함한 지연 시간을 기록)
+     */
+    private static Histogram run(ExecutorService executor, int threads, List<Long> ids, Operation operation,
+                                 int seconds, Stats stats) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Future<Histogram>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                Histogram histogram = new Histogram(60_000_000L, 3);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    long id = ids.get(random.nextInt(ids.size()));
+                    long start = System.nanoTime();
+                    operation.increment(id, stats);
+                    histogram.recordValue(Math.min((System.nanoTime() - start) / 1_000, histogram.getHighestTrackableValue()));
+                    stats.successes.increment();
+                }
+                return histogram;
+            }));
+        }
+        Histogram total = new Histogram(60_000_000L, 3);
+        for (Future<Histogram> future : futures) {
+            total.add(future.get());
+        }
+        return total;
+    }
+
+    // ==================== 준비 ====================
+
+    private static void createTable(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS study_logs (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    owner_id BIGINT NOT NULL DEFAULT 0,
+                    title VARCHAR(100) NOT NULL,
+                    content MEDIUMBLOB NOT NULL,
+                    category VARCHAR(50) NOT NULL,
+                    understanding VARCHAR(20) NOT NULL,
+                    study_time INT NOT NULL,
+                    study_date DATE NOT NULL,
+                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                    version BIGINT NOT NULL DEFAULT 0
+                )
+                """);
+    }
+
+    private static List<Long> insertHotRows(MySQLStudyLogDaoImpl dao, int rows) {
+        List<Long> ids = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            StudyLog studyLog = new StudyLog(null, TITLE, "동시 수정 벤치마크", Category.JAVA, Understanding.NORMAL,
+                    0, LocalDate.of(2025, 1, 1));
+            ids.add(dao.save(studyLog).getId());
+        }
+        return ids;
+    }
+
+    private static long sumStudyTime(JdbcTemplate jdbcTemplate) {
+        Long sum = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(study_time), 0) FROM study_logs WHERE title = ?", Long.class, TITLE);
+        return sum != null ? sum : 0;
+    }
+}
@@ -0,0 +1,233 @@
+package com.study.my_spring_study_diary.perf.partition;
+
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.seed.StudyLogDataGenerator;
+import com.study.my_spring_study_diary.seed.StudyLogSeedProperties;
+import org.HdrHistogram.Histogram;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 날짜 범위 조회: 일반 테이블 vs 월 RANGE 파티션 테이블 비교 (MySQL 전용)
+ * <p>
+ * 같은 시드로 만든 같은 데이터를 두 테이블에 넣고, DAO와 같은 모양의 쿼리를 같은 순서의 날짜 구간으로 실행한다.
+ * - study_logs_bench_plain: 현재 스키마 (PK id, study_date 인덱스)
+ * - study_logs_bench_part : PK (id, study_date) + PARTITION BY RANGE COLUMNS(study_date) 월 단위
+ * <pre>
+ * ./gradlew partitionBenchmark -PbenchArgs="--url=jdbc:mysql://localhost:3306/diary_db --password=rootpass --rows=2000000"
+ * </pre>
+ * 테이블이 이미 같은 행 수로 채워져 있으면 --reuse 로 적재를 건너뛴다.
+ */
+public class PartitionBenchmarkMain {
+
+    private static final String PLAIN = "study_logs_bench_plain";
+    private static final String PARTITIONED = "study_logs_bench_part";
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    // 구간 이름, 일 수 (1일은 study_date = ? 등호 조건)
+    private static final String[] RANGE_NAMES = {"day", "week", "month", "quarter", "year"};
+    private static final int[] RANGE_DAYS = {1, 7, 31, 92, 365};
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        String user = "root";
+        String password = "";
+        long rows = 1_000_000;
+        int iterations = 200;
+        int warmup = 50;
+        long seed = 20250101L;
+        boolean reuse = false;
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = eq > 0 ? arg.substring(0, eq) : arg;
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (key) {
+                case "--url" -> url = value;
+                case "--user" -> user = value;
+                case "--password" -> password = value;
+                case "--rows" -> rows = Long.parseLong(value.replace("_", ""));
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--reuse" -> reuse = true;
+                default -> throw new IllegalArgumentException("알 수 없는 옵션: " + arg);
+            }
+        }
+        if (url == null) {
+            throw new IllegalArgumentException("--url=jdbc:mysql://... 이 필요합니다.");
+        }
+        if (!url.contains("rewriteBatchedStatements")) {
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            if (!reuse) {
+                createTables(connection);
+                load(connection, rows, seed);
+            }
+
+            System.out.printf("%n===== Date range queries (%,d rows, %d iterations) =====%n", rows, iterations);
+            System.out.printf("%-8s %-12s %9s %9s %9s %9s   %s%n",
+                    "range", "table", "p50(ms)", "p90(ms)", "p99(ms)", "mean(ms)", "partitions read");
+            for (int i = 0; i < RANGE_DAYS.length; i++) {
+                for (String table : List.of(PLAIN, PARTITIONED)) {
+                    // 두 테이블이 같은 날짜 구간 순서를 쓰도록 구간별로 같은 시드 사용
+                    Histogram histogram = run(connection, table, RANGE_DAYS[i], warmup, iterations, new SplittableRandom(seed + i));
+                    System.out.printf("%-8s %-12s %9.2f %9.2f %9.2f %9.2f   %s%n",
+                            RANGE_NAMES[i], table.equals(PLAIN) ? "plain" : "partitioned",
+                            histogram.getValueAtPercentile(50) / 1_000.0,
+                            histogram.getValueAtPercentile(90) / 1_000.0,
+                            histogram.getValueAtPercentile(99) / 1_000.0,
+                            histogram.getMean() / 1_000.0,
+                            explainPartitions(connection, table, RANGE_DAYS[i]));
+                }
+            }
+        }
+    }
+
+    // ==================== 준비 ====================
+
+    private static void createTables(Connection connection) throws SQLException {
+        String columns = """
+                id BIGINT AUTO_INCREMENT,
+                owner_id BIGINT NOT NULL DEFAULT 0,
+                title VARCHAR(100) NOT NULL,
+                content TEXT NOT NULL,
+                category VARCHAR(50) NOT NULL,
+                understanding VARCHAR(20) NOT NULL,
+                study_time INT NOT NULL,
+                study_date DATE NOT NULL,
+                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                """;
+
+        StringBuilder partitions = new StringBuilder("PARTITION p_min VALUES LESS THAN ('" + START + "')");
+        for (YearMonth month = YearMonth.from(START); !month.isAfter(YearMonth.from(END)); month = month.plusMonths(1)) {
+            partitions.append(", PARTITION p").append(month.toString().replace("-", ""))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("')");
+        }
+        partitions.append(", PARTITION p_future VALUES LESS THAN (MAXVALUE)");
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + PLAIN);
+            statement.execute("DROP TABLE IF EXISTS " + PARTITIONED);
+            statement.execute("CREATE TABLE " + PLAIN + " (" + columns
+                    + " PRIMARY KEY (id), INDEX idx_study_date (study_date)) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4");
+            statement.execute("CREATE TABLE " + PARTITIONED + " (" + columns
+                    + " PRIMARY KEY (id, study_date), INDEX idx_study_date (study_date)) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4"
+                    + " PARTITION BY RANGE COLUMNS(study_date) (" + partitions + ")");
+        }
+    }
+
+    private static void load(Connection connection, long rows, long seed) throws SQLException {
+        StudyLogSeedProperties properties = new StudyLogSeedProperties();
+        properties.setRandomSeed(seed);
+        properties.getDates().setStart(START);
+        properties.getDates().setEnd(END);
+        properties.getText().setContentMaxLength(200);  // 날짜 조회 비교가 목적이므로 본문은 짧게
+
+        for (String table : List.of(PLAIN, PARTITIONED)) {
+            StudyLogDataGenerator generator = new StudyLogDataGenerator(properties);
+            long start = System.nanoTime();
+            connection.setAutoCommit(false);
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO " + table
+                    + " (owner_id, title, content, category, understanding, study_time, study_date) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                for (long i = 1; i <= rows; i++) {
+                    StudyLog studyLog = generator.next();
+                    ps.setLong(1, studyLog.getOwnerId());
+                    ps.setString(2, studyLog.getTitle());
+                    ps.setString(3, studyLog.getContent());
+                    ps.setString(4, studyLog.getCategory().name());
+                    ps.setString(5, studyLog.getUnderstanding().name());
+                    ps.setInt(6, studyLog.getStudyTime());
+                    ps.setDate(7, Date.valueOf(studyLog.getStudyDate()));
+                    ps.addBatch();
+                    if (i % 5_000 == 0 || i == rows) {
+                        ps.executeBatch();
+                        connection.commit();
+                    }
+                }
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE " + table);
+            }
+            System.out.printf("%s: %,d rows loaded in %.1fs%n", table, rows, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    // ==================== 측정 ====================
+
+    /**
+     * searchWithPaging 과 같은 COUNT + 첫 페이지 조회 한 쌍을 한 번의 측정으로 본다
+     */
+    private static Histogram run(Connection connection, String table, int days, int warmup, int iterations,
+                                 SplittableRandom random) throws SQLException {
+        Histogram histogram = new Histogram(3);
+        String where = where(days);
+        try (PreparedStatement count = connection.prepareStatement("SELECT COUNT(*) FROM " + table + where);
+             PreparedStatement page = connection.prepareStatement("SELECT * FROM " + table + where
+                     + " ORDER BY study_date DESC, id DESC LIMIT 10")) {
+            long span = ChronoUnit.DAYS.between(START, END) - days;
+            for (int i = 0; i < warmup + iterations; i++) {
+                LocalDate from = START.plusDays(random.nextLong(span));
+                long start = System.nanoTime();
+                bind(count, from, days);
+                drain(count.executeQuery());
+                bind(page, from, days);
+                drain(page.executeQuery());
+                if (i >= warmup) {
+                    histogram.recordValue((System.nanoTime() - start) / 1_000);
+                }
+            }
+        }
+        return histogram;
+    }
+
+    private static String where(int days) {
+        return days == 1 ? " WHERE study_date = ?" : " WHERE study_date >= ? AND study_date < ?";
+    }
+
+    private static void bind(PreparedStatement ps, LocalDate from, int days) throws SQLException {
+        ps.setDate(1, Date.valueOf(from));
+        if (days > 1) {
+            ps.setDate(2, Date.valueOf(from.plusDays(days)));
+        }
+    }
+
+    private static void drain(ResultSet resultSet) throws SQLException {
+        try (resultSet) {
+            while (resultSet.next()) {
+                resultSet.getObject(1);
+            }
+        }
+    }
+
+    private static String explainPartitions(Connection connection, String table, int days) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN SELECT COUNT(*) FROM " + table + where(days))) {
+            bind(ps, LocalDate.of(2024, 6, 10), days);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                List<String> partitions = new ArrayList<>();
+                while (resultSet.next()) {
+                    partitions.add(String.valueOf(resultSet.getString("partitions")));
+                }
+                return String.join(" | ", partitions);
+            }
+        }
+    }
+}
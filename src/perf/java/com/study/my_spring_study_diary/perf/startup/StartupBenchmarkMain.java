@@ -0,0 +1,198 @@
+package com.study.my_spring_study_diary.perf.startup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 기동 시간 벤치마크: 프로세스 시작부터 첫 요청이 2xx로 응답할 때까지 (time-to-first-request)
+ * <p>
+ * 패키징된 jar를 별도 JVM으로 runs번 띄우고, 매번 첫 성공 응답 시각과
+ * Spring이 로그에 남기는 "Started ... in X seconds" 값을 함께 기록한 뒤 종료한다.
+ * 결과는 build/startup-benchmark/startup.csv 에 label과 함께 덧붙여 여러 구성을 비교할 수 있다.
+ * <pre>
+ * ./gradlew bootJar
+ * ./gradlew startupBenchmark -PbenchArgs="--label=baseline"
+ *
+ * ./gradlew cdsArchive -Paot
+ * ./gradlew startupBenchmark -PbenchArgs="--label=prod-aot-cds --jar=build/cds/my-spring-study-diary-0.0.1-SNAPSHOT.jar
+ *     --jvm-arg=-XX:SharedArchiveFile=build/cds/application.jsa --jvm-arg=-Dspring.aot.enabled=true --spring.profiles.active=prod"
+ * </pre>
+ * --key=value 로 해석하지 못한 인자(--spring.* 등)는 애플리케이션 인자로 그대로 넘긴다.
+ */
+public class StartupBenchmarkMain {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    public static void main(String[] args) throws Exception {
+        Path jar = null;
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        int runs = 5;
+        int port = 18081;
+        String path = "/api/v1/logs/page?page=0&size=1";
+        long timeoutSeconds = 120;
+        String label = "run";
+        Path outputDir = Path.of("build", "startup-benchmark");
+        List<String> jvmArgs = new ArrayList<>();
+        List<String> appArgs = new ArrayList<>();
+
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String key = eq > 0 ? arg.substring(0, eq) : arg;
+            String value = eq > 0 ? arg.substring(eq + 1) : "";
+            switch (key) {
+                case "--jar" -> jar = Path.of(value);
+                case "--java" -> java = value;
+                case "--runs" -> runs = Integer.parseInt(value);
+                case "--port" -> port = Integer.parseInt(value);
+                case "--path" -> path = value;
+                case "--timeout" -> timeoutSeconds = Long.parseLong(value);
+                case "--label" -> label = value;
+                case "--output" -> outputDir = Path.of(value);
+                case "--jvm-arg" -> jvmArgs.add(value);
+                default -> appArgs.add(arg);
+            }
+        }
+        if (jar == null) {
+            jar = findBootJar();
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.addAll(appArgs);
+
+        System.out.println("명령: " + String.join(" ", command));
+        URI uri = URI.create("http://localhost:" + port + path);
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+        List<Double> firstRequestMillis = new ArrayList<>();
+        List<Double> reportedMillis = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            Result result = measure(command, jar.toAbsolutePath().getParent(), client, uri, timeoutSeconds);
+            firstRequestMillis.add(result.firstRequestMillis());
+            reportedMillis.add(result.reportedMillis());
+            System.out.printf("[%d/%d] 첫 요청 %.0f ms (Spring 보고 %s)%n", run, runs, result.firstRequestMillis(),
+                    result.reportedMillis() > 0 ? String.format("%.0f ms", result.reportedMillis()) : "없음");
+        }
+
+        List<Double> sorted = new ArrayList<>(firstRequestMillis);
+        sorted.sort(Comparator.naturalOrder());
+        System.out.printf("%n[%s] time-to-first-request: min %.0f ms / median %.0f ms / max %.0f ms%n", label,
+                sorted.get(0), median(sorted), sorted.get(sorted.size() - 1));
+        write(outputDir, label, command, firstRequestMillis, reportedMillis);
+    }
+
+    /**
+     * 한 번 기동해서 첫 성공 응답까지 걸린 시간 측정 후 종료
+     */
+    private static Result measure(List<String> command, Path workingDir, HttpClient client, URI uri, long timeoutSeconds)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .start();
+
+        double[] reported = {-1};
+        Thread reader = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    Matcher matcher = STARTED.matcher(line);
+                    if (matcher.find()) {
+                        reported[0] = Double.parseDouble(matcher.group(1)) * 1000;
+                    }
+                }
+            } catch (IOException ignored) {
+                // 프로세스 종료
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("애플리케이션이 응답 전에 종료되었습니다 (exit=" + process.exitValue() + ")");
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+                        reader.join(200);
+                        return new Result(elapsed, reported[0]);
+                    }
+                } catch (ConnectException | HttpTimeoutException e) {
+                    // 아직 기동 중
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(timeoutSeconds + "초 안에 " + uri + " 가 2xx로 응답하지 않았습니다.");
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static Path findBootJar() throws IOException {
+        Path libs = Path.of("build", "libs");
+        try (Stream<Path> files = Files.list(libs)) {
+            return files.filter(file -> file.toString().endsWith(".jar") && !file.toString().endsWith("-plain.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("build/libs 에 실행 가능한 jar가 없습니다. ./gradlew bootJar 를 먼저 실행하세요."));
+        }
+    }
+
+    private static double median(List<Double> sorted) {
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static void write(Path outputDir, String label, List<String> command,
+                              List<Double> firstRequestMillis, List<Double> reportedMillis) throws IOException {
+        Files.createDirectories(outputDir);
+        Path csv = outputDir.resolve("startup.csv");
+        boolean header = !Files.exists(csv);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            if (header) {
+                out.println("label,run,first_request_ms,spring_reported_ms,command");
+            }
+            for (int i = 0; i < firstRequestMillis.size(); i++) {
+                out.printf("%s,%d,%.1f,%.1f,\"%s\"%n", label, i + 1, firstRequestMillis.get(i), reportedMillis.get(i),
+                        String.join(" ", command));
+            }
+        }
+        System.out.println("결과 기록: " + csv.toAbsolutePath());
+    }
+
+    private record Result(double firstRequestMillis, double reportedMillis) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.global.admission.AdmissionController;
+import com.study.my_spring_study_diary.global.admission.AdmissionProperties;
+import com.study.my_spring_study_diary.global.admission.Bulkhead;
+import com.study.my_spring_study_diary.global.admission.ConnectionPoolMonitor;
+import com.study.my_spring_study_diary.global.admission.EndpointPriority;
+import com.study.my_spring_study_diary.global.admission.PoolPressure;
+import com.study.my_spring_study_diary.global.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControllerTest {
+
+    private MeterRegistry meterRegistry;
+    private AdmissionProperties properties;
+    private FixedPressureMonitor monitor;
+    private AdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new AdmissionProperties();
+        properties.setBulkReadLimit(4);
+        properties.setWriteLimit(1);
+        properties.setWriteQueueTimeout(Duration.ofMillis(10));
+        monitor = new FixedPressureMonitor(properties, meterRegistry);
+        admissionController = new AdmissionController(properties, monitor, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("풀이 포화되면 목록 조회는 거절하고 쓰기는 받는다")
+    void saturated_shedsBulkReads_admitsWrites() {
+        // given
+        monitor.pressure = PoolPressure.SATURATED;
+
+        // when & then
+        assertThatThrownBy(() -> admissionController.admit("getStudyLogWithPaging", EndpointPriority.BULK_READ))
+                .isInstanceOf(ServiceOverloadedException.class);
+        Bulkhead write = admissionController.admit("createStudyLog", EndpointPriority.WRITE);
+        assertThat(write.inFlight()).isEqualTo(1);
+        assertThat(meterRegistry.get("diary.admission.rejected").tag("reason", "pool_saturated").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("풀 압력이 오르면 목록 조회 한도가 절반으로 줄어든다")
+    void elevated_halvesBulkReadLimit() {
+        // given
+        monitor.pressure = PoolPressure.ELEVATED;
+        admissionController.admit("getAllStudyLogs", EndpointPriority.BULK_READ);
+        admissionController.admit("getAllStudyLogs", EndpointPriority.BULK_READ);
+
+        // when & then
+        assertThatThrownBy(() -> admissionController.admit("getAllStudyLogs", EndpointPriority.BULK_READ))
+                .isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    @Test
+    @DisplayName("쓰기 한도가 차면 잠깐 기다린 뒤 거절하고, 자리가 나면 다시 받는다")
+    void writeLimit_releasesPermit() {
+        // given
+        Bulkhead first = admissionController.admit("updateStudyLog", EndpointPriority.WRITE);
+
+        // when & then
+        assertThatThrownBy(() -> admissionController.admit("updateStudyLog", EndpointPriority.WRITE))
+                .isInstanceOf(ServiceOverloadedException.class);
+        admissionController.release(first);
+        assertThat(admissionController.admit("updateStudyLog", EndpointPriority.WRITE).inFlight()).isEqualTo(1);
+    }
+
+    /**
+     * 실제 풀 대신 지정한 압력을 돌려주는 모니터
+     */
+    static class FixedPressureMonitor extends ConnectionPoolMonitor {
+        volatile PoolPressure pressure = PoolPressure.NORMAL;
+
+        FixedPressureMonitor(AdmissionProperties properties, MeterRegistry meterRegistry) {
+            super(List::of, meterRegistry, properties.getPool());
+        }
+
+        @Override
+        public PoolPressure pressure() {
+            return pressure;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodecTest {
+
+    private final ContentCodec codec = new ContentCodec(new ContentCompressionProperties());
+
+    private static String pastedLog(int lines) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            builder.append("2024-03-01 10:15:").append(i % 60)
+                    .append(" INFO  c.s.m.service.StudyLogService : 학습 일지 조회 완료 (id=").append(i).append(")\n");
+        }
+        return builder.toString();
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 긴 본문은 마커와 함께 압축되고, 그대로 복원된다")
+    void longContent_isCompressed() {
+        // given
+        String content = pastedLog(40);
+
+        // when
+        byte[] stored = codec.encode(content);
+
+        // then
+        assertThat(ContentCodec.isCompressed(stored)).isTrue();
+        assertThat(stored.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 3);
+        assertThat(ContentCodec.decode(stored)).isEqualTo(content);
+        assertThat(ContentCodec.originalLength(stored)).isEqualTo(content.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("짧은 본문, 절감률이 기준에 못 미치는 본문, 압축 도입 전의 UTF-8 원본은 그대로 읽힌다")
+    void rawContent_passesThrough() {
+        // given (Base64는 Deflate로 25% 정도만 줄어든다)
+        ContentCompressionProperties strict = new ContentCompressionProperties();
+        strict.setMinSavings(0.5);
+        ContentCodec strictCodec = new ContentCodec(strict);
+        byte[] random = new byte[2048];
+        new Random(1).nextBytes(random);
+        String incompressible = Base64.getEncoder().encodeToString(random);
+        byte[] legacy = "압축 도입 전에 저장된 본문".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] shortStored = codec.encode("짧은 메모");
+        byte[] incompressibleStored = strictCodec.encode(incompressible);
+
+        // then
+        assertThat(ContentCodec.isCompressed(shortStored)).isFalse();
+        assertThat(ContentCodec.isCompressed(incompressibleStored)).isFalse();
+        assertThat(ContentCodec.decode(incompressibleStored)).isEqualTo(incompressible);
+        assertThat(ContentCodec.decode(legacy)).isEqualTo("압축 도입 전에 저장된 본문");
+    }
+
+    @Test
+    @DisplayName("DAO는 긴 본문을 압축해 저장하고, 읽은 엔티티는 본문이 필요할 때 복원한다")
+    void dao_roundTrip() {
+        // given
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("content-" + UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("classpath:db/h2-schema.sql")
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        MySQLStudyLogDaoImpl dao = new MySQLStudyLogDaoImpl(jdbcTemplate, codec);
+        String content = pastedLog(30);
+
+        try {
+            // when
+            StudyLog saved = dao.save(new StudyLog(null, "로그 분석", content, Category.JAVA, Understanding.GOOD, 30,
+                    LocalDate.of(2024, 3, 1)));
+            byte[] stored = jdbcTemplate.queryForObject("SELECT content FROM study_logs WHERE id = ?", byte[].class, saved.getId());
+            StudyLog found = dao.findById(saved.getId()).orElseThrow();
+
+            // then
+            assertThat(ContentCodec.isCompressed(stored)).isTrue();
+            assertThat(found.getContent()).isEqualTo(content);
+        } finally {
+            database.shutdown();
+        }
+    }
+}
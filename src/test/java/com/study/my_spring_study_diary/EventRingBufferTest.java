@@ -0,0 +1,82 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.global.concurrent.EventRingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRingBufferTest {
+
+    @Test
+    @DisplayName("구독자는 자기 커서 다음부터 순서대로 읽는다")
+    void read_fromCursor() {
+        // given
+        EventRingBuffer<String> buffer = new EventRingBuffer<>(8);
+        buffer.publish("a");
+        buffer.publish("b");
+        buffer.publish("c");
+
+        // when
+        EventRingBuffer.ReadResult<String> first = buffer.read(0, 2);
+        EventRingBuffer.ReadResult<String> rest = buffer.read(first.cursor(), 10);
+
+        // then
+        assertThat(first.items()).extracting(EventRingBuffer.Entry::value).containsExactly("a", "b");
+        assertThat(rest.items()).extracting(EventRingBuffer.Entry::value).containsExactly("c");
+        assertThat(rest.cursor()).isEqualTo(3);
+        assertThat(buffer.read(rest.cursor(), 10).items()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼 한 바퀴 이상 뒤처진 구독자는 overrun을 받고, 이어 받기도 불가능하다")
+    void slowReader_overrun() {
+        // given
+        EventRingBuffer<Integer> buffer = new EventRingBuffer<>(4);
+        for (int i = 1; i <= 6; i++) {
+            buffer.publish(i);
+        }
+
+        // when & then
+        assertThat(buffer.read(1, 10).overrun()).isTrue();
+        assertThat(buffer.canResumeFrom(1)).isFalse();
+        assertThat(buffer.canResumeFrom(2)).isTrue();
+        assertThat(buffer.read(2, 10).items()).extracting(EventRingBuffer.Entry::value).containsExactly(3, 4, 5, 6);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 기록해도 순번이 빠지거나 겹치지 않는다")
+    void concurrentPublishers() throws Exception {
+        // given
+        EventRingBuffer<Long> buffer = new EventRingBuffer<>(1 << 14);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    buffer.publish(Thread.currentThread().getId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        List<Long> sequences = new ArrayList<>();
+        long cursor = 0;
+        EventRingBuffer.ReadResult<Long> result;
+        do {
+            result = buffer.read(cursor, 1_000);
+            result.items().forEach(entry -> sequences.add(entry.sequence()));
+            cursor = result.cursor();
+        } while (!result.items().isEmpty());
+        assertThat(sequences).hasSize(8_000).isSorted().doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,315 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.global.exception.IdempotencyKeyInProgressException;
+import com.study.my_spring_study_diary.global.exception.IdempotencyKeyMismatchException;
+import com.study.my_spring_study_diary.global.exception.RequestBodyTooLargeException;
+import com.study.my_spring_study_diary.global.idempotency.IdempotencyFilter;
+import com.study.my_spring_study_diary.global.idempotency.IdempotencyProperties;
+import com.study.my_spring_study_diary.global.idempotency.IdempotencyStore;
+import com.study.my_spring_study_diary.global.idempotency.IdempotentResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * H2 인메모리 DB로 Idempotency-Key 필터와 저장소(메모리 + idempotency_keys 테이블)를 검증한다.
+ */
+class IdempotencyKeyTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private IdempotencyProperties properties;
+    private final List<Exception> resolved = new ArrayList<>();
+    private ExecutorService executor;
+
+    // GlobalExceptionHandler 대신 예외만 기록하고 상태 코드를 정한다
+    private final HandlerExceptionResolver exceptionResolver = (request, response, handler, e) -> {
+        resolved.add(e);
+        response.setStatus(e instanceof IdempotencyKeyMismatchException ? 422 : e instanceof IdempotencyKeyInProgressException ? 409
+                : e instanceof RequestBodyTooLargeException ? 413 : 400);
+        return new ModelAndView();
+    };
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("idempotency-" + UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("classpath:db/h2-schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        properties = new IdempotencyProperties();
+        properties.setWaitTimeout(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        database.shutdown();
+    }
+
+    private static MockHttpServletRequest post(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/logs");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader("Idempotency-Key", key);
+        }
+        return request;
+    }
+
+    /**
+     * 컨트롤러 대신 호출 횟수를 세고, 읽은 본문에 번호를 붙여 201로 응답한다
+     */
+    private static FilterChain creating(AtomicInteger calls) {
+        return (request, response) -> {
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            int call = calls.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(201);
+            ((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, "\"0\"");
+            response.setContentType("application/json");
+            response.getOutputStream().write(("{\"id\":" + call + ",\"echo\":" + body + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    @DisplayName("같은 키의 재시도는 다시 실행하지 않고 최초 응답을 돌려주며, 다른 본문이면 422, 키가 없으면 매번 실행")
+    void filter_replaysFirstResponse() throws Exception {
+        // given
+        IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyStore(jdbcTemplate, properties), properties, exceptionResolver);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(post("key-1", "{\"title\":\"a\"}"), first, creating(calls));
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        filter.doFilter(post("key-1", "{\"title\":\"a\"}"), retry, creating(calls));
+        MockHttpServletResponse reused = new MockHttpServletResponse();
+        filter.doFilter(post("key-1", "{\"title\":\"b\"}"), reused, creating(calls));
+        filter.doFilter(post(null, "{\"title\":\"a\"}"), new MockHttpServletResponse(), creating(calls));
+        filter.doFilter(post(null, "{\"title\":\"a\"}"), new MockHttpServletResponse(), creating(calls));
+
+        // then
+        assertThat(calls).hasValue(3);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).isEqualTo("{\"id\":1,\"echo\":{\"title\":\"a\"}}");
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(HttpHeaders.ETAG)).isEqualTo("\"0\"");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(resolved).singleElement().isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("2xx가 아닌 응답은 저장하지 않아 같은 키의 재시도가 새로 실행된다")
+    void filter_releasesKeyOnFailure() throws Exception {
+        // given
+        IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyStore(jdbcTemplate, properties), properties, exceptionResolver);
+        AtomicInteger calls = new AtomicInteger();
+        FilterChain overloaded = (request, response) -> {
+            calls.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+
+        // when
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(post("key-2", "{}"), rejected, overloaded);
+        MockHttpServletResponse retried = new MockHttpServletResponse();
+        filter.doFilter(post("key-2", "{}"), retried, creating(calls));
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(retried.getStatus()).isEqualTo(201);
+        assertThat(calls).hasValue(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT status_code FROM idempotency_keys", Integer.class)).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("maxRequestBytes를 넘는 본문은 Content-Length가 없어도 키를 선점하지 않고 413, 상한 이하는 그대로 처리된다")
+    void filter_rejectsOversizedBody() throws Exception {
+        // given
+        properties.setMaxRequestBytes(16);
+        IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyStore(jdbcTemplate, properties), properties, exceptionResolver);
+        AtomicInteger calls = new AtomicInteger();
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/v1/logs") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setContent("{\"title\":\"abcdefgh\"}".getBytes(StandardCharsets.UTF_8));
+        chunked.addHeader("Idempotency-Key", "key-big");
+
+        // when
+        MockHttpServletResponse declared = new MockHttpServletResponse();
+        filter.doFilter(post("key-big", "{\"title\":\"abcdefgh\"}"), declared, creating(calls));
+        MockHttpServletResponse streamed = new MockHttpServletResponse();
+        filter.doFilter(chunked, streamed, creating(calls));
+        MockHttpServletResponse fits = new MockHttpServletResponse();
+        filter.doFilter(post("key-big", "{\"title\":\"abc\"}"), fits, creating(calls));
+
+        // then
+        assertThat(declared.getStatus()).isEqualTo(413);
+        assertThat(streamed.getStatus()).isEqualTo(413);
+        assertThat(resolved).hasSize(2).allSatisfy(e -> assertThat(e).isInstanceOf(RequestBodyTooLargeException.class));
+        assertThat(fits.getStatus()).isEqualTo(201);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("미리 읽은 본문은 ReadListener로도 읽을 수 있다 (등록 즉시 onDataAvailable → onAllDataRead)")
+    void filter_cachedBodySupportsReadListener() throws Exception {
+        // given
+        IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyStore(jdbcTemplate, properties), properties, exceptionResolver);
+        StringBuilder events = new StringBuilder();
+        FilterChain listening = (request, response) -> {
+            ServletInputStream input = request.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.append("data:").append(new String(input.readAllBytes(), StandardCharsets.UTF_8)).append(' ');
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.append("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.append("error");
+                }
+            });
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // when
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(post("key-listener", "{\"title\":\"a\"}"), response, listening);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(events).hasToString("data:{\"title\":\"a\"} done");
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 요청은 앞선 요청이 끝나기를 기다렸다가 같은 응답을 받는다")
+    void filter_concurrentDuplicatesWaitForFirst() throws Exception {
+        // given
+        IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyStore(jdbcTemplate, properties), properties, exceptionResolver);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            entered.countDown();
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            creating(calls).doFilter(request, response);
+        };
+        executor = Executors.newFixedThreadPool(4);
+
+        // when
+        MockHttpServletResponse leader = new MockHttpServletResponse();
+        Future<?> first = executor.submit(() -> {
+            filter.doFilter(post("key-3", "{}"), leader, slow);
+            return null;
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        List<MockHttpServletResponse> followers = new ArrayList<>();
+        List<Future<?>> waiting = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse follower = new MockHttpServletResponse();
+            followers.add(follower);
+            waiting.add(executor.submit(() -> {
+                filter.doFilter(post("key-3", "{}"), follower, slow);
+                return null;
+            }));
+        }
+        Thread.sleep(100);
+        proceed.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        for (Future<?> future : waiting) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(followers).allSatisfy(follower -> {
+            assertThat(follower.getStatus()).isEqualTo(201);
+            assertThat(follower.getContentAsString()).isEqualTo(leader.getContentAsString());
+        });
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 키는 DB에서 읽어 돌려주고, 응답 없이 사라진 선점은 lockTimeout 뒤에, 만료된 키는 TTL 뒤에 새로 실행된다")
+    void store_fallsBackToDatabase() {
+        // given: 같은 DB를 쓰는 두 인스턴스 (두 번째는 시계가 앞서 있음)
+        properties.setLockTimeout(Duration.ofSeconds(30));
+        properties.setTtl(Duration.ofHours(1));
+        properties.setWaitTimeout(Duration.ofMillis(200));
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        IdempotencyStore first = new IdempotencyStore(jdbcTemplate, properties, Clock.fixed(now, ZoneOffset.UTC));
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+        // when & then: 완료된 응답은 다른 인스턴스도 DB에서 읽는다
+        assertThat(first.begin("done", "h1")).isNull();
+        first.complete("done", "h1", 201, "application/json", "\"0\"", body);
+        IdempotencyStore restarted = new IdempotencyStore(jdbcTemplate, properties, Clock.fixed(now.plusSeconds(1), ZoneOffset.UTC));
+        IdempotentResponse replayed = restarted.begin("done", "h1");
+        assertThat(replayed.status()).isEqualTo(201);
+        assertThat(replayed.body()).isEqualTo(body);
+        assertThat(replayed.eTag()).isEqualTo("\"0\"");
+        assertThatThrownBy(() -> restarted.begin("done", "h2")).isInstanceOf(IdempotencyKeyMismatchException.class);
+
+        // 다른 인스턴스가 처리 중이면 기다리다 409, 선점이 만료되면 이어받는다
+        assertThat(first.begin("crashed", "h1")).isNull();
+        assertThatThrownBy(() -> restarted.begin("crashed", "h1")).isInstanceOf(IdempotencyKeyInProgressException.class);
+        IdempotencyStore later = new IdempotencyStore(jdbcTemplate, properties, Clock.fixed(now.plusSeconds(31), ZoneOffset.UTC));
+        assertThat(later.begin("crashed", "h1")).isNull();
+
+        // TTL이 지난 키는 새 요청으로 처리
+        IdempotencyStore nextDay = new IdempotencyStore(jdbcTemplate, properties, Clock.fixed(now.plus(Duration.ofDays(1)), ZoneOffset.UTC));
+        assertThat(nextDay.begin("done", "h2")).isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Integer.class)).isEqualTo(1);
+    }
+}
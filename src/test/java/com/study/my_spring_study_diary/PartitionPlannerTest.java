@@ -0,0 +1,141 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.global.partition.PartitionPlanner;
+import com.study.my_spring_study_diary.global.partition.PartitionPlanner.ArchiveTable;
+import com.study.my_spring_study_diary.global.partition.PartitionPlanner.ExpiryState;
+import com.study.my_spring_study_diary.global.partition.StudyLogPartitionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionPlannerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 15);
+
+    private PartitionPlanner planner(int futureMonths, int retentionMonths, StudyLogPartitionProperties.ExpiryAction action) {
+        StudyLogPartitionProperties properties = new StudyLogPartitionProperties();
+        properties.setFutureMonths(futureMonths);
+        properties.setRetentionMonths(retentionMonths);
+        properties.setExpiryAction(action);
+        return new PartitionPlanner(properties);
+    }
+
+    @Test
+    @DisplayName("기존 테이블 변환은 가장 오래된 달부터 미래 파티션까지 월 단위로 나눈다")
+    void conversion_coversOldestToFutureMonths() {
+        // given
+        PartitionPlanner planner = planner(2, 0, StudyLogPartitionProperties.ExpiryAction.NONE);
+
+        // when
+        List<String> statements = planner.planConversion(LocalDate.of(2024, 1, 20), TODAY);
+
+        // then
+        assertThat(statements).containsExactly(
+                "ALTER TABLE study_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, study_date)"
+                        + " PARTITION BY RANGE COLUMNS(study_date) ("
+                        + "PARTITION p_min VALUES LESS THAN ('2024-01-01'), "
+                        + "PARTITION p202401 VALUES LESS THAN ('2024-02-01'), "
+                        + "PARTITION p202402 VALUES LESS THAN ('2024-03-01'), "
+                        + "PARTITION p202403 VALUES LESS THAN ('2024-04-01'), "
+                        + "PARTITION p202404 VALUES LESS THAN ('2024-05-01'), "
+                        + "PARTITION p202405 VALUES LESS THAN ('2024-06-01'), "
+                        + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("정기 점검은 모자란 미래 파티션을 p_future에서 쪼개고 만료 파티션을 보관한다")
+    void maintenance_addsFutureAndArchivesExpired() {
+        // given
+        PartitionPlanner planner = planner(2, 2, StudyLogPartitionProperties.ExpiryAction.ARCHIVE);
+        List<String> existing = List.of("p_min", "p202401", "p202402", "p202403", "p202404", "p_future");
+
+        // when
+        List<String> statements = planner.planMaintenance(existing, TODAY);
+
+        // then
+        assertThat(statements).containsExactly(
+                "ALTER TABLE study_logs REORGANIZE PARTITION p_future INTO ("
+                        + "PARTITION p202405 VALUES LESS THAN ('2024-06-01'), "
+                        + "PARTITION p_future VALUES LESS THAN (MAXVALUE))",
+                "CREATE TABLE IF NOT EXISTS study_logs_archive_p202401 LIKE study_logs",
+                "ALTER TABLE study_logs_archive_p202401 REMOVE PARTITIONING",
+                "ALTER TABLE study_logs EXCHANGE PARTITION p202401 WITH TABLE study_logs_archive_p202401",
+                "ALTER TABLE study_logs DROP PARTITION p202401");
+    }
+
+    @Test
+    @DisplayName("이미 충분한 파티션이 있고 만료가 꺼져 있으면 할 일이 없다")
+    void maintenance_noop() {
+        // given
+        PartitionPlanner planner = planner(1, 0, StudyLogPartitionProperties.ExpiryAction.DROP);
+
+        // when & then
+        assertThat(planner.planMaintenance(List.of("p_min", "p202403", "p202404", "p_future"), TODAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관이 중간에 멈췄으면 남은 단계부터 이어서 실행하고, 이미 보관한 행을 되돌리지 않는다")
+    void archive_resumesInterruptedRun() {
+        // given
+        PartitionPlanner planner = planner(2, 2, StudyLogPartitionProperties.ExpiryAction.ARCHIVE);
+        List<String> existing = List.of("p_min", "p202401", "p202402", "p202403", "p202404", "p202405", "p_future");
+
+        // when: CREATE ... LIKE 직후에 멈춤 (보관 테이블에 파티션이 남아 있음)
+        List<String> afterCreate = planner.planMaintenance(existing, TODAY,
+                new ExpiryState(false, Map.of("study_logs_archive_p202401", new ArchiveTable(true, false))));
+        // when: REMOVE PARTITIONING 후 EXCHANGE 전에 멈춤
+        List<String> afterRemove = planner.planMaintenance(existing, TODAY,
+                new ExpiryState(false, Map.of("study_logs_archive_p202401", new ArchiveTable(false, false))));
+        // when: EXCHANGE 후 DROP 전에 멈춤 (보관 테이블에 행이 있음)
+        List<String> afterExchange = planner.planMaintenance(existing, TODAY,
+                new ExpiryState(false, Map.of("study_logs_archive_p202401", new ArchiveTable(false, true))));
+
+        // then
+        assertThat(afterCreate).containsExactly(
+                "ALTER TABLE study_logs_archive_p202401 REMOVE PARTITIONING",
+                "ALTER TABLE study_logs EXCHANGE PARTITION p202401 WITH TABLE study_logs_archive_p202401",
+                "ALTER TABLE study_logs DROP PARTITION p202401");
+        assertThat(afterRemove).containsExactly(
+                "ALTER TABLE study_logs EXCHANGE PARTITION p202401 WITH TABLE study_logs_archive_p202401",
+                "ALTER TABLE study_logs DROP PARTITION p202401");
+        assertThat(afterExchange).containsExactly(
+                "INSERT IGNORE INTO study_logs_archive_p202401 SELECT * FROM study_logs PARTITION (p202401)",
+                "ALTER TABLE study_logs DROP PARTITION p202401");
+    }
+
+    @Test
+    @DisplayName("변환 때 p_min에 모인 보관 기간 밖의 행도 삭제/보관 방식대로 비운다")
+    void maintenance_expiresMinPartition() {
+        // given
+        List<String> existing = List.of("p_min", "p202402", "p202403", "p202404", "p202405", "p_future");
+        ExpiryState minHasRows = new ExpiryState(true, Map.of());
+
+        // when
+        List<String> dropped = planner(2, 2, StudyLogPartitionProperties.ExpiryAction.DROP)
+                .planMaintenance(existing, TODAY, minHasRows);
+        List<String> archived = planner(2, 2, StudyLogPartitionProperties.ExpiryAction.ARCHIVE)
+                .planMaintenance(existing, TODAY, minHasRows);
+        List<String> archivedAgain = planner(2, 2, StudyLogPartitionProperties.ExpiryAction.ARCHIVE)
+                .planMaintenance(existing, TODAY,
+                        new ExpiryState(true, Map.of("study_logs_archive_p_min", new ArchiveTable(false, true))));
+        List<String> withinRetention = planner(2, 3, StudyLogPartitionProperties.ExpiryAction.DROP)
+                .planMaintenance(List.of("p_min", "p202403", "p202404", "p202405", "p_future"), TODAY, minHasRows);
+
+        // then
+        assertThat(dropped).containsExactly("ALTER TABLE study_logs TRUNCATE PARTITION p_min");
+        assertThat(archived).containsExactly(
+                "CREATE TABLE IF NOT EXISTS study_logs_archive_p_min LIKE study_logs",
+                "ALTER TABLE study_logs_archive_p_min REMOVE PARTITIONING",
+                "ALTER TABLE study_logs EXCHANGE PARTITION p_min WITH TABLE study_logs_archive_p_min");
+        assertThat(archivedAgain).containsExactly(
+                "INSERT IGNORE INTO study_logs_archive_p_min SELECT * FROM study_logs PARTITION (p_min)",
+                "ALTER TABLE study_logs TRUNCATE PARTITION p_min");
+        // p_min의 상한(2024-03-01)이 보관 시작(2024-01)보다 뒤이므로 보관 기간 안의 행이 있을 수 있다
+        assertThat(withinRetention).isEmpty();
+    }
+}
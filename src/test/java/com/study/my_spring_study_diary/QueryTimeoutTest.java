@@ -0,0 +1,237 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.ShardedStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import com.study.my_spring_study_diary.global.timeout.QueryDeadline;
+import com.study.my_spring_study_diary.global.timeout.QueryDeadlineInterceptor;
+import com.study.my_spring_study_diary.global.timeout.QueryTimeoutProperties;
+import com.study.my_spring_study_diary.global.timeout.QueryWatchdog;
+import com.study.my_spring_study_diary.global.timeout.StatementTimeouts;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * H2 인메모리 DB로 DAO 작업별 문장 타임아웃과 요청 기한(QueryDeadline)에 의한 쿼리 취소를 검증한다.
+ */
+class QueryTimeoutTest {
+
+    // H2에서 수 초 이상 걸리는 쿼리
+    private static final String SLOW_SQL = """
+            WITH RECURSIVE t(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM t WHERE n < 100000000)
+            SELECT COUNT(*) FROM t
+            """;
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+    private final List<QueryDeadline> deadlines = new ArrayList<>();
+    private HikariDataSource pool;
+    private QueryWatchdog watchdog;
+    private ExecutorService executor;
+
+    @AfterEach
+    void tearDown() {
+        deadlines.forEach(QueryDeadline::end);
+        if (watchdog != null) {
+            watchdog.close();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (pool != null) {
+            pool.close();
+        }
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    private EmbeddedDatabase newDatabase() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("timeout-" + UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("classpath:db/h2-schema.sql")
+                .build();
+        databases.add(database);
+        return database;
+    }
+
+    private static StatementTimeouts newTimeouts(Map<String, Duration> overrides) {
+        QueryTimeoutProperties properties = new QueryTimeoutProperties();
+        properties.setStatementTimeouts(overrides);
+        return new StatementTimeouts(properties);
+    }
+
+    private static MySQLStudyLogDaoImpl newDao(JdbcTemplate jdbcTemplate) {
+        return new MySQLStudyLogDaoImpl(jdbcTemplate, new ContentCodec(new ContentCompressionProperties()), newTimeouts(Map.of()));
+    }
+
+    private QueryDeadline startDeadline(Duration timeout) {
+        QueryDeadline deadline = QueryDeadline.start("test", timeout);
+        deadlines.add(deadline);
+        return deadline;
+    }
+
+    private static StudyLog newLog() {
+        return new StudyLog(null, "쿼리 타임아웃", "내용", Category.SPRING, Understanding.GOOD, 30, LocalDate.of(2024, 3, 1));
+    }
+
+    private static final StatementCallback<Integer> QUERY_TIMEOUT = statement -> statement.getQueryTimeout();
+
+    @Test
+    @DisplayName("작업별 문장 타임아웃이 걸리고, 요청 기한이 더 짧으면 남은 시간(초 올림)으로 줄어든다")
+    void statementTimeout_perOperationAndShortenedByDeadline() {
+        // given
+        JdbcTemplate base = new JdbcTemplate(newDatabase());
+        StatementTimeouts timeouts = newTimeouts(Map.of("searchWithPaging", Duration.ofSeconds(3)));
+
+        // when
+        JdbcTemplate search = timeouts.template(base, "searchWithPaging");
+        JdbcTemplate findAll = timeouts.template(base, "findAll");
+
+        // then
+        assertThat(search.execute(QUERY_TIMEOUT)).isEqualTo(3);
+        assertThat(findAll.execute(QUERY_TIMEOUT)).isEqualTo(10);
+        assertThat(StatementTimeouts.NONE.template(base, "searchWithPaging")).isSameAs(base);
+
+        startDeadline(Duration.ofMillis(1500));
+        assertThat(search.execute(QUERY_TIMEOUT)).isEqualTo(2);
+        assertThat(findAll.execute(QUERY_TIMEOUT)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기한이 지난 요청은 새 쿼리를 시작하지 않고 QueryTimeoutException")
+    void expiredDeadline_refusesToQuery() throws InterruptedException {
+        // given
+        MySQLStudyLogDaoImpl dao = newDao(new JdbcTemplate(newDatabase()));
+        dao.save(newLog());
+        startDeadline(Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        // when & then
+        assertThatThrownBy(dao::findAll)
+                .isInstanceOf(QueryTimeoutException.class)
+                .hasMessageContaining("operation: findAll");
+    }
+
+    @Test
+    @DisplayName("기한이 지나면 감시 스레드가 실행 중인 Statement를 취소하고 커넥션이 바로 풀로 돌아간다")
+    void watchdog_cancelsRunningStatementAndReleasesConnection() {
+        // given: 커넥션이 하나뿐인 풀
+        EmbeddedDatabase database = newDatabase();
+        HikariConfig config = new HikariConfig();
+        config.setDataSource(database);
+        config.setMaximumPoolSize(1);
+        config.setConnectionTimeout(250);
+        pool = new HikariDataSource(config);
+        JdbcTemplate template = newTimeouts(Map.of()).template(new JdbcTemplate(pool), "searchWithPaging");
+        watchdog = new QueryWatchdog(Duration.ofMillis(20));
+        watchdog.watch(startDeadline(Duration.ofMillis(300)));
+
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> template.queryForObject(SLOW_SQL, Long.class))
+                .isInstanceOf(QueryTimeoutException.class)
+                .hasMessageContaining("요청 기한 초과");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        deadlines.forEach(QueryDeadline::end);
+
+        // then
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(watchdog.cancelledCount()).isEqualTo(1);
+        assertThat(watchdog.watchedCount()).isZero();
+        assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+        assertThat(template.queryForObject("SELECT 1", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("샤드 scatter 스레드에도 요청 기한이 넘어가 모든 샤드의 쿼리가 멈춘다")
+    void sharded_propagatesDeadlineToScatterThreads() throws InterruptedException {
+        // given
+        List<StudyLogDao> shards = List.of(newDao(new JdbcTemplate(newDatabase())), newDao(new JdbcTemplate(newDatabase())));
+        executor = Executors.newFixedThreadPool(shards.size());
+        ShardedStudyLogDao dao = new ShardedStudyLogDao(shards, executor);
+        dao.save(newLog());
+        assertThat(dao.findAll()).hasSize(1);
+
+        // when
+        startDeadline(Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        // then
+        assertThatThrownBy(dao::findAll).isInstanceOf(QueryTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("엔드포인트 기한과 클라이언트가 밝힌 대기 시간 중 짧은 쪽을 쓰고, 잘못된 헤더는 400")
+    void interceptor_usesShorterOfEndpointAndClientTimeout() {
+        // given
+        QueryTimeoutProperties properties = new QueryTimeoutProperties();
+        properties.setEndpointDeadlines(Map.of("searchStudyLogsWithPaging", Duration.ofSeconds(5)));
+        watchdog = new QueryWatchdog(Duration.ofSeconds(1));
+        QueryDeadlineInterceptor interceptor = new QueryDeadlineInterceptor(properties, watchdog);
+
+        // when & then
+        assertThat(interceptor.timeoutOf("searchStudyLogsWithPaging", null)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(interceptor.timeoutOf("getAllStudyLogs", null)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(interceptor.timeoutOf("searchStudyLogsWithPaging", "800")).isEqualTo(Duration.ofMillis(800));
+        assertThat(interceptor.timeoutOf("searchStudyLogsWithPaging", "60000")).isEqualTo(Duration.ofSeconds(5));
+        assertThatThrownBy(() -> interceptor.timeoutOf("getAllStudyLogs", "soon"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> interceptor.timeoutOf("getAllStudyLogs", "0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("enabled는 실행 시점에 요청마다 확인해, 꺼져 있으면 기한을 걸지 않는다")
+    void interceptor_checksEnabledAtRuntime() throws Exception {
+        // given
+        QueryTimeoutProperties properties = new QueryTimeoutProperties();
+        watchdog = new QueryWatchdog(Duration.ofSeconds(1));
+        QueryDeadlineInterceptor interceptor = new QueryDeadlineInterceptor(properties, watchdog);
+        HandlerMethod handler = new HandlerMethod(this, getClass().getDeclaredMethod("interceptor_checksEnabledAtRuntime"));
+        MockHttpServletRequest enabledRequest = new MockHttpServletRequest("GET", "/api/v1/logs");
+        MockHttpServletRequest disabledRequest = new MockHttpServletRequest("GET", "/api/v1/logs");
+
+        // when
+        interceptor.preHandle(enabledRequest, new MockHttpServletResponse(), handler);
+        QueryDeadline enabled = QueryDeadline.current();
+        int watchedWhenEnabled = watchdog.watchedCount();
+        interceptor.afterCompletion(enabledRequest, new MockHttpServletResponse(), handler, null);
+
+        properties.setEnabled(false);
+        interceptor.preHandle(disabledRequest, new MockHttpServletResponse(), handler);
+
+        // then
+        assertThat(enabled).isNotNull();
+        assertThat(watchedWhenEnabled).isEqualTo(1);
+        assertThat(QueryDeadline.current()).isNull();
+        assertThat(watchdog.watchedCount()).isZero();
+    }
+}
@@ -0,0 +1,177 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.ReplicaRoutingStudyLogDao;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import com.study.my_spring_study_diary.global.datasource.ClientIdentityFilter;
+import com.study.my_spring_study_diary.global.datasource.ReadYourWritesTracker;
+import com.study.my_spring_study_diary.global.datasource.ReplicaHealth;
+import com.study.my_spring_study_diary.global.datasource.ReplicationRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB를 primary / replica로 사용해 라우팅을 검증한다.
+ * (실제 복제는 없으므로 어느 DB에 쓰고 읽었는지로 라우팅 결과를 확인)
+ */
+class ReplicaRoutingStudyLogDaoTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private SwitchableDataSource replicaSwitch;
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        replicaSwitch = new SwitchableDataSource(replica);
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    private EmbeddedDatabase h2(String name) {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("classpath:db/h2-schema.sql")
+                .build();
+    }
+
+    private ReplicaRoutingStudyLogDao routingDao(Duration stickinessWindow) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, replicaSwitch);
+        return new ReplicaRoutingStudyLogDao(
+                new MySQLStudyLogDaoImpl(new JdbcTemplate(routing), new ContentCodec(new ContentCompressionProperties())),
+                new ReadYourWritesTracker(stickinessWindow),
+                new ReplicaHealth(replicaSwitch, Duration.ofMinutes(1)));
+    }
+
+    private StudyLog newLog(String title) {
+        return new StudyLog(null, title, "내용", Category.JAVA, Understanding.GOOD, 60, LocalDate.of(2024, 1, 1));
+    }
+
+    private void insertDirectly(JdbcTemplate jdbc, String title) {
+        jdbc.update("INSERT INTO study_logs (title, content, category, understanding, study_time, study_date) "
+                + "VALUES (?, '내용', 'JAVA', 'GOOD', 60, DATE '2024-01-01')", title);
+    }
+
+    @Test
+    @DisplayName("쓰기는 primary, 읽기는 replica로 간다")
+    void writesToPrimary_readsFromReplica() {
+        // given
+        ReplicaRoutingStudyLogDao dao = routingDao(Duration.ZERO);
+        insertDirectly(replicaJdbc, "replica 전용");
+
+        // when
+        dao.save(newLog("primary 저장"));
+
+        // then
+        assertThat(primaryJdbc.queryForObject("SELECT COUNT(*) FROM study_logs", Long.class)).isEqualTo(1);
+        assertThat(replicaJdbc.queryForObject("SELECT COUNT(*) FROM study_logs", Long.class)).isEqualTo(1);
+        assertThat(dao.findAll()).extracting(StudyLog::getTitle).containsExactly("replica 전용");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후에는 같은 클라이언트의 읽기만 primary로 간다")
+    void readYourWrites_withinWindow() throws Exception {
+        // given
+        ReplicaRoutingStudyLogDao dao = routingDao(Duration.ofMinutes(1));
+        ClientIdentityFilter filter = new ClientIdentityFilter("X-Client-Id");
+        List<String> writerReads = new ArrayList<>();
+        List<String> otherReads = new ArrayList<>();
+
+        // when
+        filter.doFilter(requestFrom("client-a"), new MockHttpServletResponse(), (req, res) -> {
+            dao.save(newLog("방금 쓴 글"));
+            dao.findAll().forEach(log -> writerReads.add(log.getTitle()));
+        });
+        filter.doFilter(requestFrom("client-b"), new MockHttpServletResponse(), (req, res) ->
+                dao.findAll().forEach(log -> otherReads.add(log.getTitle())));
+
+        // then
+        assertThat(writerReads).containsExactly("방금 쓴 글");
+        assertThat(otherReads).isEmpty();
+    }
+
+    private MockHttpServletRequest requestFrom(String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/logs");
+        request.addHeader("X-Client-Id", clientId);
+        return request;
+    }
+
+    @Test
+    @DisplayName("수정/삭제 직전의 조회는 sticky가 아니어도 primary에서 읽는다")
+    void findByIdForWrite_readsFromPrimary() {
+        // given: replica에는 같은 id의 낡은 행이 있다
+        ReplicaRoutingStudyLogDao dao = routingDao(Duration.ZERO);
+        insertDirectly(primaryJdbc, "최신 제목");
+        insertDirectly(replicaJdbc, "낡은 제목");
+        Long id = primaryJdbc.queryForObject("SELECT id FROM study_logs", Long.class);
+
+        // when & then
+        assertThat(dao.findById(id)).get().extracting(StudyLog::getTitle).isEqualTo("낡은 제목");
+        assertThat(dao.findByIdForWrite(id)).get().extracting(StudyLog::getTitle).isEqualTo("최신 제목");
+    }
+
+    @Test
+    @DisplayName("replica가 죽으면 primary에서 읽는다")
+    void replicaDown_fallsBackToPrimary() {
+        // given
+        ReplicaRoutingStudyLogDao dao = routingDao(Duration.ZERO);
+        insertDirectly(primaryJdbc, "primary 데이터");
+        replicaSwitch.down = true;
+
+        // when & then
+        assertThat(dao.findAll()).extracting(StudyLog::getTitle).containsExactly("primary 데이터");
+        assertThat(dao.count()).isEqualTo(1);
+    }
+
+    /**
+     * getConnection()을 실패시켜 replica 장애를 흉내 내는 DataSource
+     */
+    static class SwitchableDataSource extends DelegatingDataSource {
+        volatile boolean down = false;
+
+        SwitchableDataSource(EmbeddedDatabase target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("replica is down");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.global.schema.SchemaInitProperties;
+import com.study.my_spring_study_diary.global.schema.SchemaVersionInitializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaVersionInitializerTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SchemaInitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("schema-init-" + UUID.randomUUID() + ";MODE=MySQL")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        properties = new SchemaInitProperties();
+        properties.setEnabled(true);
+        properties.setSchemaLocations(List.of("classpath:db/h2-schema.sql"));
+        properties.setDataLocations(List.of("classpath:db/h2-data.sql"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private SchemaVersionInitializer.Outcome initialize() throws SQLException {
+        return new SchemaVersionInitializer(database, new DefaultResourceLoader(), properties).initialize();
+    }
+
+    private long rows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM study_logs", Long.class);
+    }
+
+    @Test
+    @DisplayName("처음에는 스키마와 데이터를 모두 실행하고, 같은 버전으로 다시 기동하면 아무것도 실행하지 않는다")
+    void firstRun_thenUpToDate() throws SQLException {
+        // when
+        SchemaVersionInitializer.Outcome first = initialize();
+        SchemaVersionInitializer.Outcome second = initialize();
+
+        // then
+        assertThat(first).isEqualTo(SchemaVersionInitializer.Outcome.INITIALIZED);
+        assertThat(second).isEqualTo(SchemaVersionInitializer.Outcome.UP_TO_DATE);
+        assertThat(rows()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 스키마만 다시 실행하고 시드 데이터는 중복해서 넣지 않는다")
+    void versionChange_rerunsSchemaOnly() throws SQLException {
+        // given
+        initialize();
+
+        // when
+        properties.setVersion("v2");
+        SchemaVersionInitializer.Outcome upgraded = initialize();
+
+        // then
+        assertThat(upgraded).isEqualTo(SchemaVersionInitializer.Outcome.UPGRADED);
+        assertThat(rows()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM diary_schema_version WHERE id = 1", String.class))
+                .isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 DB에 접근하지 않는다")
+    void disabled() throws SQLException {
+        // given
+        properties.setEnabled(false);
+
+        // when & then
+        assertThat(initialize()).isEqualTo(SchemaVersionInitializer.Outcome.DISABLED);
+        assertThat(jdbcTemplate.queryForList("SHOW TABLES")).isEmpty();
+    }
+}
@@ -0,0 +1,187 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.ShardedStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2 인메모리 DB 세 개를 샤드로 사용해 라우팅과 scatter-gather 결과를 검증한다.
+ * 기대값은 같은 데이터를 단일 DB처럼 정렬한 결과와 비교한다.
+ */
+class ShardedStudyLogDaoTest {
+
+    private static final int SHARDS = 3;
+    private static final int OWNERS = 12;
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+    private ExecutorService executor;
+    private ShardedStudyLogDao dao;
+
+    @BeforeEach
+    void setUp() {
+        List<StudyLogDao> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .setName("shard" + i + "-" + UUID.randomUUID() + ";MODE=MySQL")
+                    .addScript("classpath:db/h2-schema.sql")
+                    .build();
+            databases.add(database);
+            shards.add(new MySQLStudyLogDaoImpl(new JdbcTemplate(database), new ContentCodec(new ContentCompressionProperties())));
+        }
+        executor = Executors.newFixedThreadPool(SHARDS);
+        dao = new ShardedStudyLogDao(shards, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    /**
+     * 작성자 OWNERS명이 날짜를 섞어 가며 count건을 저장한다 (같은 날짜가 여러 샤드에 걸치도록)
+     */
+    private List<StudyLog> saveLogs(int count) {
+        List<StudyLog> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StudyLog studyLog = new StudyLog(null, "일지 " + i, "내용",
+                    i % 2 == 0 ? Category.JAVA : Category.SPRING, Understanding.GOOD, 30,
+                    LocalDate.of(2024, 1, 1).plusDays(i % 7));
+            studyLog.setOwnerId((long) (1 + i % OWNERS));
+            saved.add(dao.save(studyLog));
+        }
+        return saved;
+    }
+
+    private static List<Long> newestFirstIds(List<StudyLog> logs) {
+        return logs.stream()
+                .sorted(Comparator.comparing(StudyLog::getStudyDate).thenComparing(StudyLog::getId).reversed())
+                .map(StudyLog::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("한 작성자의 일지는 모두 같은 샤드에 저장되고, 전역 ID로 다시 찾을 수 있다")
+    void ownerRouting_andGlobalIds() {
+        // given
+        List<StudyLog> saved = saveLogs(60);
+
+        // when & then
+        for (long ownerId = 1; ownerId <= OWNERS; ownerId++) {
+            int expectedShard = dao.shardOf(ownerId);
+            long rowsInShard = new JdbcTemplate(databases.get(expectedShard))
+                    .queryForObject("SELECT COUNT(*) FROM study_logs WHERE owner_id = ?", Long.class, ownerId);
+            assertThat(rowsInShard).isEqualTo(60 / OWNERS);
+        }
+        assertThat(saved).extracting(StudyLog::getId).doesNotHaveDuplicates();
+        StudyLog any = saved.get(17);
+        assertThat(dao.findById(any.getId())).get()
+                .extracting(StudyLog::getTitle, StudyLog::getOwnerId)
+                .containsExactly("일지 17", any.getOwnerId());
+        assertThat(dao.count()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("여러 샤드에 걸친 페이징은 단일 DB와 같은 순서와 전체 개수를 돌려준다")
+    void crossShardPaging_matchesSingleDatabaseOrder() {
+        // given
+        List<StudyLog> saved = saveLogs(50);
+        List<Long> expected = newestFirstIds(saved);
+
+        // when
+        List<Long> pagedIds = new ArrayList<>();
+        for (int page = 0; page < 6; page++) {
+            Page<StudyLog> result = dao.findAllWithPaging(page, 10);
+            assertThat(result.getTotalElements()).isEqualTo(50);
+            result.getContent().forEach(studyLog -> pagedIds.add(studyLog.getId()));
+        }
+
+        // then
+        assertThat(pagedIds).containsExactlyElementsOf(expected);
+        assertThat(dao.findAll()).extracting(StudyLog::getId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("검색/카테고리 조회도 모든 샤드 결과를 합치고, 작성자 조회는 한 샤드만 본다")
+    void searchAndOwnerPaging() {
+        // given
+        List<StudyLog> saved = saveLogs(40);
+        List<Long> expectedJava = newestFirstIds(saved.stream()
+                .filter(studyLog -> studyLog.getCategory() == Category.JAVA)
+                .toList());
+        List<Long> expectedOwner = newestFirstIds(saved.stream()
+                .filter(studyLog -> studyLog.getOwnerId() == 3L)
+                .toList());
+
+        // when
+        Page<StudyLog> search = dao.searchWithPaging("일지", "JAVA", null, null, 1, 5);
+        Page<StudyLog> owner = dao.findByOwnerWithPaging(3L, 0, 10);
+
+        // then
+        assertThat(search.getTotalElements()).isEqualTo(20);
+        assertThat(search.getContent()).extracting(StudyLog::getId)
+                .containsExactlyElementsOf(expectedJava.subList(5, 10));
+        assertThat(dao.findByCategory(Category.JAVA)).extracting(StudyLog::getId)
+                .containsExactlyElementsOf(expectedJava);
+        assertThat(owner.getContent()).extracting(StudyLog::getId).containsExactlyElementsOf(expectedOwner);
+    }
+
+    @Test
+    @DisplayName("전역 ID로 수정/삭제하면 해당 샤드의 행만 바뀐다")
+    void updateAndDelete_byGlobalId() {
+        // given
+        List<StudyLog> saved = saveLogs(10);
+        StudyLog target = saved.get(4);
+        long globalId = target.getId();
+
+        // when
+        target.update("수정된 제목", null, null, null, null, null);
+        dao.update(target);
+        boolean deleted = dao.deleteById(saved.get(5).getId());
+
+        // then
+        assertThat(target.getId()).isEqualTo(globalId);
+        assertThat(dao.findById(globalId)).get().extracting(StudyLog::getTitle).isEqualTo("수정된 제목");
+        assertThat(deleted).isTrue();
+        assertThat(dao.existsById(saved.get(5).getId())).isFalse();
+        assertThat(dao.count()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("null ID는 다른 DAO와 같이 없는 것으로 처리한다")
+    void nullId_isNotFound() {
+        // given
+        saveLogs(3);
+
+        // when & then
+        assertThat(dao.findById(null)).isEmpty();
+        assertThat(dao.existsById(null)).isFalse();
+        assertThat(dao.deleteById(null)).isFalse();
+        assertThat(dao.count()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,194 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.global.concurrent.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키의 호출은 한 번만 실행되고 결과를 공유한다")
+    void concurrentCalls_shareOneExecution() throws Exception {
+        // given
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object key = SingleFlight.key("findAllWithPaging", 0, 10);
+
+        // when
+        List<Future<String>> results = runConcurrently(() -> singleFlight.execute(key, () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "page-0";
+        }));
+        waitUntil(() -> singleFlight.inFlightCount() == 1);
+        Thread.sleep(100);  // follower들이 합류할 시간
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("page-0");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader의 예외는 follower에게도 전달되고, 끝난 키는 바로 제거된다")
+    void failure_propagatesAndClearsKey() throws Exception {
+        // given
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Object key = SingleFlight.key("searchWithPaging", null, "JAVA", 0, 10);
+
+        // when
+        List<Future<String>> results = runConcurrently(() -> singleFlight.execute(key, () -> {
+            await(release);
+            throw new IllegalArgumentException("DB 오류");
+        }));
+        waitUntil(() -> singleFlight.inFlightCount() == 1);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute(key, () -> "재시도 성공")).isEqualTo("재시도 성공");
+    }
+
+    @Test
+    @DisplayName("leader가 follower 대기 시간보다 오래 걸리면 follower는 직접 호출한다")
+    void slowLeader_followerFallsBack() throws Exception {
+        // given
+        SingleFlight singleFlight = new SingleFlight(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        Object key = SingleFlight.key("count");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(key, () -> {
+                await(release);
+                return "leader";
+            }));
+            waitUntil(() -> singleFlight.inFlightCount() == 1);
+
+            // when
+            String follower = singleFlight.execute(key, () -> "direct");
+
+            // then
+            assertThat(follower).isEqualTo("direct");
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("bypass 대상(쓰기 직후 클라이언트 등)의 호출은 진행 중인 leader의 결과를 받지 않고 직접 호출한다")
+    void bypassedCall_doesNotJoinLeader() throws Exception {
+        // given: 쓰기 직후 클라이언트는 primary에서 읽어야 한다
+        ThreadLocal<Boolean> sticky = ThreadLocal.withInitial(() -> false);
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5), true, sticky::get);
+        CountDownLatch release = new CountDownLatch(1);
+        Object key = SingleFlight.key("findById", 1L);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(key, () -> {
+                await(release);
+                return "replica";
+            }));
+            waitUntil(() -> singleFlight.inFlightCount() == 1);
+
+            // when
+            sticky.set(true);
+            String follower = singleFlight.execute(key, () -> "primary");
+
+            // then
+            assertThat(follower).isEqualTo("primary");
+            assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("replica");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("leader에게만 해당하는 실패(요청 기한 초과 등)는 follower에게 전달되지 않고, follower가 직접 다시 호출한다")
+    void leaderOnlyFailure_followerRetries() throws Exception {
+        // given: leader의 요청 기한 초과를 IllegalStateException으로 흉내 낸다
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5), true, () -> false,
+                e -> e instanceof IllegalStateException);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger followerCalls = new AtomicInteger();
+        Object key = SingleFlight.key("searchWithPaging", null, "JAVA", 0, 10);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(key, () -> {
+                await(release);
+                throw new IllegalStateException("leader 요청 기한 초과");
+            }));
+            waitUntil(() -> singleFlight.inFlightCount() == 1);
+            Future<String> follower = executor.submit(() -> singleFlight.execute(key, () -> {
+                followerCalls.incrementAndGet();
+                return "follower";
+            }));
+            Thread.sleep(100);  // follower가 합류할 시간
+
+            // when
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("follower");
+            assertThat(followerCalls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Future<String>> runConcurrently(Callable<String> task) {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(task));
+        }
+        executor.shutdown();
+        return futures;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.DailyStudyActivity;
+import com.study.my_spring_study_diary.stats.StudyActivityIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyActivityIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 3);
+
+    @Test
+    @DisplayName("연속 학습일은 연도 경계를 넘어 이어지고, 오늘 기록이 없으면 어제까지를 센다")
+    void streaks_crossYearBoundary() {
+        // given: 2024-12-28 ~ 2025-01-02 (6일), 2024-03-01 ~ 03-03 (3일)
+        StudyActivityIndex index = new StudyActivityIndex();
+        for (LocalDate date = LocalDate.of(2024, 12, 28); !date.isAfter(LocalDate.of(2025, 1, 2)); date = date.plusDays(1)) {
+            index.add(1L, date, 30);
+        }
+        index.add(1L, LocalDate.of(2024, 3, 1), 10);
+        index.add(1L, LocalDate.of(2024, 3, 2), 10);
+        index.add(1L, LocalDate.of(2024, 3, 3), 10);
+
+        // when
+        StudyActivityIndex.Streaks streaks = index.streaks(1L, TODAY);
+        index.remove(1L, LocalDate.of(2024, 12, 31), 30);
+        StudyActivityIndex.Streaks broken = index.streaks(1L, TODAY);
+
+        // then
+        assertThat(streaks.current()).isEqualTo(6);
+        assertThat(streaks.longest()).isEqualTo(6);
+        assertThat(streaks.longestStart()).isEqualTo(LocalDate.of(2024, 12, 28));
+        assertThat(streaks.longestEnd()).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(streaks.lastActiveDate()).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(broken.current()).isEqualTo(2);
+        assertThat(broken.longest()).isEqualTo(3);
+        assertThat(broken.longestStart()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(index.streaks(1L, TODAY.plusDays(1)).current()).isZero();
+        assertThat(index.streaks(2L, TODAY).longest()).isZero();
+    }
+
+    @Test
+    @DisplayName("집계로 다시 만든 색인은 작성자별/전체 히트맵을 돌려주고, 같은 날 일지가 모두 지워져야 비트가 꺼진다")
+    void rebuild_thenHeatmap() {
+        // given
+        StudyActivityIndex index = new StudyActivityIndex();
+        index.add(9L, LocalDate.of(2023, 5, 5), 999);     // rebuild 하면 사라짐
+        index.rebuild(List.of(
+                new DailyStudyActivity(1L, LocalDate.of(2024, 1, 1), 2, 90),
+                new DailyStudyActivity(1L, LocalDate.of(2024, 12, 31), 1, 15),
+                new DailyStudyActivity(2L, LocalDate.of(2024, 1, 1), 1, 30)));
+
+        // when
+        index.remove(1L, LocalDate.of(2024, 1, 1), 45);
+        StudyActivityIndex.YearActivity owner = index.year(1L, 2024);
+        StudyActivityIndex.YearActivity all = index.year(null, 2024);
+        index.remove(1L, LocalDate.of(2024, 1, 1), 45);
+        StudyActivityIndex.YearActivity afterDelete = index.year(1L, 2024);
+
+        // then
+        assertThat(owner.minutes()).hasSize(366);
+        assertThat(owner.minutes()[0]).isEqualTo(45);
+        assertThat(owner.logCounts()[0]).isEqualTo(1);
+        assertThat(owner.minutes()[365]).isEqualTo(15);
+        assertThat(owner.activeDays()).isEqualTo(2);
+        assertThat(all.minutes()[0]).isEqualTo(75);
+        assertThat(all.totalLogs()).isEqualTo(3);
+        assertThat(afterDelete.activeDays()).isEqualTo(1);
+        assertThat(afterDelete.minutes()[0]).isZero();
+        assertThat(index.year(9L, 2023).activeDays()).isZero();
+        assertThat(index.year(1L, 2025).minutes()).hasSize(365);
+    }
+
+    @Test
+    @DisplayName("재구성 집계가 도는 동안 들어온 생성/삭제는 집계 결과로 바꾼 뒤 다시 적용되고, 그 사이 전체 삭제가 있으면 집계 결과는 버린다")
+    void rebuild_replaysChangesDuringAggregate() {
+        // given
+        StudyActivityIndex index = new StudyActivityIndex();
+        LocalDate day = LocalDate.of(2024, 6, 1);
+        List<DailyStudyActivity> snapshot = List.of(new DailyStudyActivity(1L, day, 2, 60));
+        assertThat(index.isReady()).isFalse();
+
+        // when: 집계 스냅샷 뒤에 새 일지 하나와 스냅샷에 든 일지 하나의 삭제가 들어옴
+        index.beginRebuild();
+        index.add(1L, day.plusDays(1), 15);
+        index.remove(1L, day, 30);
+        index.rebuild(snapshot);
+        StudyActivityIndex.YearActivity rebuilt = index.year(1L, 2024);
+
+        index.beginRebuild();
+        index.clear();
+        index.add(2L, day, 10);
+        index.rebuild(snapshot);
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(rebuilt.logCounts()[day.getDayOfYear() - 1]).isEqualTo(1);
+        assertThat(rebuilt.minutes()[day.getDayOfYear() - 1]).isEqualTo(30);
+        assertThat(rebuilt.minutes()[day.getDayOfYear()]).isEqualTo(15);
+        assertThat(index.year(1L, 2024).activeDays()).isZero();
+        assertThat(index.year(null, 2024).totalLogs()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임의의 활동 날짜에서 최장/현재 연속 학습일이 날짜를 하나씩 세는 방법과 같다")
+    void streaks_matchBruteForce() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            // given
+            StudyActivityIndex index = new StudyActivityIndex();
+            TreeSet<LocalDate> days = new TreeSet<>();
+            LocalDate from = LocalDate.of(2022, 10, 1);
+            for (int i = 0; i < 900; i++) {
+                if (random.nextInt(10) < 8) {
+                    days.add(from.plusDays(i));
+                    index.add(1L, from.plusDays(i), 20);
+                }
+            }
+            LocalDate today = from.plusDays(random.nextInt(900));
+
+            // when
+            StudyActivityIndex.Streaks streaks = index.streaks(1L, today);
+
+            // then
+            int longest = 0;
+            int run = 0;
+            LocalDate previous = null;
+            for (LocalDate day : days) {
+                run = previous != null && previous.plusDays(1).equals(day) ? run + 1 : 1;
+                longest = Math.max(longest, run);
+                previous = day;
+            }
+            int current = 0;
+            LocalDate cursor = days.contains(today) ? today : today.minusDays(1);
+            while (days.contains(cursor)) {
+                current++;
+                cursor = cursor.minusDays(1);
+            }
+            assertThat(streaks.longest()).isEqualTo(longest);
+            assertThat(streaks.current()).isEqualTo(current);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.repository.StudyLogRepository;
+import com.study.my_spring_study_diary.repository.index.RowBitmap;
+import com.study.my_spring_study_diary.repository.index.StudyLogFacets;
+import com.study.my_spring_study_diary.repository.index.StudyLogFilter;
+import com.study.my_spring_study_diary.repository.index.StudyTimeBucket;
+import com.study.my_spring_study_diary.repository.persistence.StudyLogPersistenceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyLogBitmapIndexTest {
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Understanding[] UNDERSTANDINGS = Understanding.values();
+    private static final StudyTimeBucket[] BUCKETS = StudyTimeBucket.values();
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("블록 압축 비트맵의 AND / OR / ANDNOT / 개수 / 다음 비트가 BitSet과 같다")
+    void rowBitmap_matchesBitSet() {
+        Random random = new Random(11);
+        for (int round = 0; round < 30; round++) {
+            // given: 드문 구간과 빽빽한 구간이 섞이도록 범위를 나눠 채운다
+            BitSet expectedA = new BitSet();
+            BitSet expectedB = new BitSet();
+            RowBitmap a = new RowBitmap();
+            RowBitmap b = new RowBitmap();
+            for (int i = 0; i < 3000; i++) {
+                int row = random.nextBoolean() ? random.nextInt(2048) : random.nextInt(50_000);
+                if (random.nextBoolean()) {
+                    a.set(row);
+                    expectedA.set(row);
+                } else {
+                    b.set(row);
+                    expectedB.set(row);
+                }
+            }
+            for (int i = 0; i < 500; i++) {
+                int row = random.nextInt(50_000);
+                a.clear(row);
+                expectedA.clear(row);
+            }
+
+            // when
+            RowBitmap and = a.and(b);
+            RowBitmap or = a.or(b);
+            RowBitmap andNot = a.andNot(b);
+            RowBitmap orWith = new RowBitmap();
+            orWith.orWith(b);
+            orWith.orWith(a);
+
+            // then
+            BitSet expectedAnd = (BitSet) expectedA.clone();
+            expectedAnd.and(expectedB);
+            BitSet expectedOr = (BitSet) expectedA.clone();
+            expectedOr.or(expectedB);
+            BitSet expectedAndNot = (BitSet) expectedA.clone();
+            expectedAndNot.andNot(expectedB);
+            assertThat(toBitSet(and)).isEqualTo(expectedAnd);
+            assertThat(toBitSet(or)).isEqualTo(expectedOr);
+            assertThat(toBitSet(orWith)).isEqualTo(expectedOr);
+            assertThat(toBitSet(andNot)).isEqualTo(expectedAndNot);
+            assertThat(a.cardinality()).isEqualTo(expectedA.cardinality());
+            assertThat(a.andCardinality(b)).isEqualTo(expectedAnd.cardinality());
+            assertThat(toBitSet(a)).isEqualTo(expectedA);     // 피연산자는 바뀌지 않음
+            int probe = random.nextInt(50_000);
+            assertThat(a.get(probe)).isEqualTo(expectedA.get(probe));
+        }
+        RowBitmap sparse = new RowBitmap();
+        sparse.set(1_000_000);
+        assertThat(sparse.allocatedBlocks()).isEqualTo(1);
+        sparse.clear(1_000_000);
+        assertThat(sparse.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("임의의 필터 조합 결과와 개수가 일지를 하나씩 검사한 결과와 같다 (수정/삭제/소프트 삭제/복구 후에도)")
+    void filters_matchFullScan() {
+        // given
+        Random random = new Random(5);
+        StudyLogRepository repository = new StudyLogRepository(new StudyLogPersistenceProperties());
+        List<StudyLog> saved = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            saved.add(repository.save(randomLog(random)));
+        }
+        for (int i = 0; i < 400; i++) {
+            StudyLog studyLog = saved.get(random.nextInt(saved.size()));
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    StudyLog changed = randomLog(random);
+                    studyLog.update(null, null, changed.getCategory(), changed.getUnderstanding(),
+                            changed.getStudyTime(), changed.getStudyDate());
+                    repository.update(studyLog);
+                }
+                case 1 -> {
+                    repository.deleteById(studyLog.getId());
+                    saved.remove(studyLog);
+                    saved.add(repository.save(randomLog(random)));     // 비워진 행 번호를 다시 쓴다
+                }
+                case 2 -> repository.softDeleteById(studyLog.getId());
+                default -> repository.restore(studyLog.getId());
+            }
+        }
+        List<StudyLog> active = repository.findAllActive();
+
+        for (int round = 0; round < 200; round++) {
+            StudyLogFilter filter = randomFilter(random, 3);
+
+            // when
+            List<StudyLog> found = repository.findByFilter(filter);
+
+            // then
+            List<StudyLog> expected = active.stream().filter(filter::matches).toList();
+            assertThat(found).extracting(StudyLog::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected.stream().map(StudyLog::getId).toList());
+            assertThat(repository.countByFilter(filter)).isEqualTo(expected.size());
+            for (int i = 1; i < found.size(); i++) {
+                StudyLog previous = found.get(i - 1);
+                StudyLog current = found.get(i);
+                assertThat(previous.getStudyDate()).isAfterOrEqualTo(current.getStudyDate());
+                if (previous.getStudyDate().equals(current.getStudyDate())) {
+                    assertThat(previous.getId()).isGreaterThan(current.getId());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("패싯은 필터 결과를 카테고리 / 이해도 / 학습 시간 구간별로 세고, 기존 조회는 소프트 삭제된 일지도 포함한다")
+    void facets_andLegacyQueries() {
+        // given
+        StudyLogRepository repository = new StudyLogRepository(new StudyLogPersistenceProperties());
+        repository.save(new StudyLog(null, "a", "내용", Category.JAVA, Understanding.GOOD, 20, LocalDate.of(2024, 1, 31)));
+        repository.save(new StudyLog(null, "b", "내용", Category.JAVA, Understanding.BAD, 90, LocalDate.of(2024, 2, 1)));
+        repository.save(new StudyLog(null, "c", "내용", Category.SPRING, Understanding.GOOD, 300, LocalDate.of(2024, 2, 29)));
+        repository.save(new StudyLog(null, "d", "내용", Category.JAVA, Understanding.GOOD, 45, LocalDate.of(2024, 3, 1)));
+        repository.softDeleteById(4L);
+
+        // when
+        StudyLogFacets facets = repository.facets(StudyLogFilter.studyDateBetween(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 3, 1)));
+        StudyLogFacets february = repository.facets(StudyLogFilter.and(
+                StudyLogFilter.studyDateBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)),
+                StudyLogFilter.not(StudyLogFilter.categories(Category.SPRING))));
+
+        // then
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.categories()).containsEntry(Category.JAVA, 2L).containsEntry(Category.SPRING, 1L).containsEntry(Category.ETC, 0L);
+        assertThat(facets.understandings()).containsEntry(Understanding.GOOD, 2L).containsEntry(Understanding.BAD, 1L);
+        assertThat(facets.studyTimes()).containsEntry(StudyTimeBucket.UNDER_30, 1L).containsEntry(StudyTimeBucket.UNDER_120, 1L)
+                .containsEntry(StudyTimeBucket.OVER_240, 1L);
+        assertThat(february.total()).isEqualTo(1);
+        assertThat(repository.findByCategory(Category.JAVA)).extracting(StudyLog::getTitle).containsExactly("a", "b", "d");
+        assertThat(repository.findByStudyDate(LocalDate.of(2024, 3, 1))).extracting(StudyLog::getTitle).containsExactly("d");
+        assertThat(repository.findByFilter(StudyLogFilter.all())).extracting(StudyLog::getTitle).containsExactly("c", "b", "a");
+    }
+
+    private static StudyLog randomLog(Random random) {
+        return new StudyLog(null, "제목", "내용",
+                CATEGORIES[random.nextInt(CATEGORIES.length)],
+                UNDERSTANDINGS[random.nextInt(UNDERSTANDINGS.length)],
+                1 + random.nextInt(400),
+                FROM.plusDays(random.nextInt(500)));
+    }
+
+    private static StudyLogFilter randomFilter(Random random, int depth) {
+        int kind = random.nextInt(depth > 0 ? 8 : 4);
+        return switch (kind) {
+            case 0 -> StudyLogFilter.categories(CATEGORIES[random.nextInt(CATEGORIES.length)], CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            case 1 -> StudyLogFilter.understandings(UNDERSTANDINGS[random.nextInt(UNDERSTANDINGS.length)]);
+            case 2 -> StudyLogFilter.studyTimes(BUCKETS[random.nextInt(BUCKETS.length)], BUCKETS[random.nextInt(BUCKETS.length)]);
+            case 3 -> {
+                LocalDate from = random.nextInt(5) == 0 ? null : FROM.plusDays(random.nextInt(520) - 10);
+                LocalDate to = random.nextInt(5) == 0 ? null : FROM.plusDays(random.nextInt(520) - 10);
+                yield StudyLogFilter.studyDateBetween(from, to);
+            }
+            case 4 -> StudyLogFilter.and(randomFilter(random, depth - 1), randomFilter(random, depth - 1));
+            case 5 -> StudyLogFilter.or(randomFilter(random, depth - 1), randomFilter(random, depth - 1), randomFilter(random, depth - 1));
+            case 6 -> StudyLogFilter.not(randomFilter(random, depth - 1));
+            default -> StudyLogFilter.all();
+        };
+    }
+
+    private static BitSet toBitSet(RowBitmap bitmap) {
+        BitSet bits = new BitSet();
+        for (int row = bitmap.nextSetBit(0); row >= 0; row = bitmap.nextSetBit(row + 1)) {
+            bits.set(row);
+        }
+        return bits;
+    }
+}
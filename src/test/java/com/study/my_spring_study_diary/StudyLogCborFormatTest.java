@@ -0,0 +1,73 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.request.StudyLogCreateRequest;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.global.json.JsonSerializationConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CBOR 응답/요청 본문이 JSON과 같은 구조인지 검증한다.
+ */
+class StudyLogCborFormatTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().addModule(JsonSerializationConfig.studyLogModule()).build();
+    private final CBORMapper cborMapper = CBORMapper.builder().addModule(JsonSerializationConfig.studyLogModule()).build();
+
+    @Test
+    @DisplayName("페이지 응답을 CBOR로 쓰면 JSON과 같은 트리가 되고 크기는 더 작다")
+    void pageResponse_sameShapeAsJson() {
+        // given
+        StudyLog studyLog = new StudyLog(1L, "스프링 빈", "빈 생명주기 정리", Category.SPRING, Understanding.GOOD, 60, LocalDate.of(2024, 3, 1));
+        studyLog.setOwnerId(3L);
+        studyLog.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 120_000_000));
+        ApiResponse<Page<StudyLogResponse>> response = ApiResponse.success(
+                new Page<>(List.of(StudyLogResponse.from(studyLog), new StudyLogResponse()), 0, 2, 7));
+
+        // when
+        byte[] json = jsonMapper.writeValueAsBytes(response);
+        byte[] cbor = cborMapper.writeValueAsBytes(response);
+
+        // then
+        assertThat(cborMapper.readTree(cbor)).isEqualTo(jsonMapper.readTree(json));
+        assertThat(cbor.length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("CBOR로 보낸 생성 요청 배열은 JSON 요청과 같은 값으로 읽힌다")
+    void createRequests_readFromCbor() {
+        // given
+        List<Map<String, Object>> body = List.of(
+                Map.of("title", "제목", "content", "내용", "category", "JAVA",
+                        "understanding", "GOOD", "studyTime", 30, "studyDate", "2024-03-01", "ownerId", 5),
+                Map.of("title", "둘째", "category", "SPRING", "understanding", "NORMAL", "studyTime", 10));
+        byte[] cbor = cborMapper.writeValueAsBytes(body);
+
+        // when
+        List<StudyLogCreateRequest> requests = cborMapper.readValue(cbor, new TypeReference<>() {
+        });
+
+        // then
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0))
+                .extracting(StudyLogCreateRequest::getTitle, StudyLogCreateRequest::getCategory,
+                        StudyLogCreateRequest::getStudyTime, StudyLogCreateRequest::getStudyDate, StudyLogCreateRequest::getOwnerId)
+                .containsExactly("제목", "JAVA", 30, LocalDate.of(2024, 3, 1), 5L);
+        assertThat(requests.get(1).getStudyDate()).isNull();
+    }
+}
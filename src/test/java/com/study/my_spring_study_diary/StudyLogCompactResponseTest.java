@@ -0,0 +1,113 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.controller.StudyLogController;
+import com.study.my_spring_study_diary.dto.response.CompactStudyLogList;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.global.json.CompactListResponseAdvice;
+import com.study.my_spring_study_diary.global.json.JsonSerializationConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyLogCompactResponseTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().addModule(JsonSerializationConfig.studyLogModule()).build();
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 0, 0, 1);
+
+    private static StudyLogResponse response(long id, Category category, Understanding understanding) {
+        StudyLog studyLog = new StudyLog(id, "제목 " + id, "내용 " + id, category, understanding, 30, LocalDate.of(2024, 3, 1));
+        studyLog.setOwnerId(3L);
+        studyLog.setCreatedAt(CREATED_AT);
+        studyLog.setUpdatedAt(CREATED_AT.plusSeconds(1));
+        return StudyLogResponse.from(studyLog);
+    }
+
+    @Test
+    @DisplayName("사전은 한 번만 싣고, 행은 ordinal / epoch day / epoch 밀리초 튜플로 보내며 페이지 정보는 유지된다")
+    void compactPage_encodesRowsAsTuples() {
+        // given
+        List<StudyLogResponse> rows = List.of(
+                response(1L, Category.SPRING, Understanding.GOOD),
+                response(2L, Category.ETC, Understanding.VERY_BAD),
+                new StudyLogResponse());
+        Page<StudyLogResponse> page = new Page<>(rows, 1, 3, 10);
+
+        // when
+        JsonNode compact = mapper.readTree(mapper.writeValueAsString(ApiResponse.success(CompactStudyLogList.of(page)))).get("data");
+
+        // then
+        assertThat(compact.get("dictionary").get("category")).hasSize(Category.values().length);
+        assertThat(compact.get("dictionary").get("category").get(Category.SPRING.ordinal()).get("icon").asString())
+                .isEqualTo(Category.SPRING.getIcon());
+        assertThat(compact.get("dictionary").get("understanding").get(Understanding.VERY_BAD.ordinal()).get("name").asString())
+                .isEqualTo("VERY_BAD");
+        long createdAt = CREATED_AT.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertThat(compact.get("timeZone").asString()).isEqualTo(ZoneId.systemDefault().getId());
+        assertThat(compact.get("columns")).hasSize(10);
+        assertThat(compact.get("rows").get(0).toString())
+                .isEqualTo("[1,3,\"제목 1\",\"내용 1\",1,1,30,19783," + createdAt + "," + (createdAt + 1000) + "]");
+        assertThat(compact.get("rows").get(1).get(4).asInt()).isEqualTo(Category.ETC.ordinal());
+        assertThat(compact.get("rows").get(2).toString())
+                .isEqualTo("[null,null,null,null,null,null,null,null,null,null]");
+        assertThat(compact.get("page").asInt()).isEqualTo(1);
+        assertThat(compact.get("totalElements").asLong()).isEqualTo(10);
+        assertThat(compact.get("hasNext").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("?view=compact 요청의 목록 응답만 압축 형식으로 바뀌고, 기존 응답보다 작다")
+    void advice_switchesOnlyListEndpointsWithViewParameter() throws Exception {
+        // given
+        CompactListResponseAdvice advice = new CompactListResponseAdvice();
+        Method pageEndpoint = StudyLogController.class.getMethod("getStudyLogWithPaging", int.class, int.class, String.class, String.class);
+        Method listEndpoint = StudyLogController.class.getMethod("getAllStudyLogs");
+        Method singleEndpoint = StudyLogController.class.getMethod("getStudyLogById", Long.class);
+        List<StudyLogResponse> rows = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rows.add(response(i + 1, Category.values()[i % Category.values().length], Understanding.GOOD));
+        }
+        ApiResponse<Page<StudyLogResponse>> body = ApiResponse.success(new Page<>(rows, 0, 20, 100));
+
+        MockHttpServletRequest compactRequest = new MockHttpServletRequest();
+        compactRequest.setParameter("view", "compact");
+
+        // when
+        Object compact = write(advice, pageEndpoint, body, compactRequest);
+        Object plain = write(advice, pageEndpoint, body, new MockHttpServletRequest());
+
+        // then
+        assertThat(advice.supports(new MethodParameter(pageEndpoint, -1), null)).isTrue();
+        assertThat(advice.supports(new MethodParameter(listEndpoint, -1), null)).isTrue();
+        assertThat(advice.supports(new MethodParameter(singleEndpoint, -1), null)).isFalse();
+        assertThat(((ApiResponse<?>) compact).getData()).isInstanceOf(CompactStudyLogList.class);
+        assertThat(plain).isSameAs(body);
+        assertThat(mapper.writeValueAsBytes(compact).length).isLessThan(mapper.writeValueAsBytes(plain).length);
+    }
+
+    private static Object write(CompactListResponseAdvice advice, Method method, Object body, MockHttpServletRequest request) {
+        return advice.beforeBodyWrite(body, new MethodParameter(method, -1), MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(new MockHttpServletResponse()));
+    }
+}
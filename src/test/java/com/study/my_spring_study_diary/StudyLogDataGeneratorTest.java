@@ -0,0 +1,72 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.seed.StudyLogDataGenerator;
+import com.study.my_spring_study_diary.seed.StudyLogSeedProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyLogDataGeneratorTest {
+
+    private StudyLogSeedProperties properties(long seed) {
+        StudyLogSeedProperties properties = new StudyLogSeedProperties();
+        properties.setRandomSeed(seed);
+        properties.getDates().setStart(LocalDate.of(2024, 1, 1));
+        properties.getDates().setEnd(LocalDate.of(2024, 12, 31));
+        return properties;
+    }
+
+    private List<StudyLog> generate(StudyLogSeedProperties properties, int count) {
+        StudyLogDataGenerator generator = new StudyLogDataGenerator(properties);
+        List<StudyLog> logs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            logs.add(generator.next());
+        }
+        return logs;
+    }
+
+    @Test
+    @DisplayName("같은 시드로 생성하면 같은 데이터가 나온다")
+    void sameSeed_sameRows() {
+        // when
+        List<StudyLog> first = generate(properties(42), 500);
+        List<StudyLog> second = generate(properties(42), 500);
+
+        // then
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i).getTitle()).isEqualTo(first.get(i).getTitle());
+            assertThat(second.get(i).getContent()).isEqualTo(first.get(i).getContent());
+            assertThat(second.get(i).getCategory()).isEqualTo(first.get(i).getCategory());
+            assertThat(second.get(i).getUnderstanding()).isEqualTo(first.get(i).getUnderstanding());
+            assertThat(second.get(i).getStudyTime()).isEqualTo(first.get(i).getStudyTime());
+            assertThat(second.get(i).getStudyDate()).isEqualTo(first.get(i).getStudyDate());
+        }
+    }
+
+    @Test
+    @DisplayName("생성된 데이터는 설정한 범위와 서비스 검증 규칙을 지킨다")
+    void rows_withinConfiguredBounds() {
+        // given
+        StudyLogSeedProperties properties = properties(7);
+        properties.getCategoryWeights().replaceAll((category, weight) -> category == Category.JAVA ? 1 : 0);
+
+        // when
+        List<StudyLog> logs = generate(properties, 2_000);
+
+        // then
+        assertThat(logs).allMatch(log -> log.getCategory() == Category.JAVA);
+        assertThat(logs).allMatch(log -> !log.getTitle().isBlank() && log.getTitle().length() <= 100);
+        assertThat(logs).allMatch(log -> !log.getContent().isBlank() && log.getContent().length() <= 1_000);
+        assertThat(logs).allMatch(log -> log.getStudyTime() >= 10 && log.getStudyTime() <= 480);
+        assertThat(logs).allMatch(log ->
+                !log.getStudyDate().isBefore(LocalDate.of(2024, 1, 1))
+                        && !log.getStudyDate().isAfter(LocalDate.of(2024, 12, 31)));
+    }
+}
@@ -0,0 +1,175 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import com.study.my_spring_study_diary.global.concurrent.SingleFlight;
+import com.study.my_spring_study_diary.importer.ImportFormat;
+import com.study.my_spring_study_diary.importer.ImportJob;
+import com.study.my_spring_study_diary.importer.MySqlLoadDataLoader;
+import com.study.my_spring_study_diary.importer.StudyLogImportProperties;
+import com.study.my_spring_study_diary.importer.StudyLogImporter;
+import com.study.my_spring_study_diary.service.StudyLogService;
+import com.study.my_spring_study_diary.stats.StudyActivityIndex;
+import com.study.my_spring_study_diary.stats.StudyTimeQuantileIndex;
+import com.study.my_spring_study_diary.stats.StudyTimeRangeIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * H2 인메모리 DB에 CSV / NDJSON 파일을 가져와 적재 결과와 거절 보고서를 검증한다.
+ */
+class StudyLogImporterTest {
+
+    @TempDir
+    Path directory;
+
+    private EmbeddedDatabase database;
+    private MySQLStudyLogDaoImpl dao;
+    private StudyLogImporter importer;
+    private final List<StudyLogChangedEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("import-" + UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("classpath:db/h2-schema.sql")
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        ContentCodec codec = new ContentCodec(new ContentCompressionProperties());
+        dao = new MySQLStudyLogDaoImpl(jdbcTemplate, codec);
+
+        StudyLogImportProperties properties = new StudyLogImportProperties();
+        properties.setBatchSize(2);
+        properties.setLoadDataLocalInfile(true);    // H2라서 JDBC 배치로 대체되어야 한다
+        properties.setWorkDirectory(directory);
+
+        StudyLogService service = new StudyLogService(dao, new SingleFlight(Duration.ofSeconds(1)),
+                event -> events.add((StudyLogChangedEvent) event), new StudyActivityIndex(), new StudyTimeRangeIndex(),
+                new StudyTimeQuantileIndex());
+        importer = new StudyLogImporter(service, dao, new MySqlLoadDataLoader(jdbcTemplate, codec),
+                event -> events.add((StudyLogChangedEvent) event), properties, JsonMapper.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private ImportJob run(ImportFormat format, String text) throws IOException {
+        Path file = Files.writeString(directory.resolve("input"), text, StandardCharsets.UTF_8);
+        ImportJob job = new ImportJob("job", format, "input", Files.size(file), directory.resolve("rejected.csv"), 10);
+        importer.run(job, file);
+        return job;
+    }
+
+    @Test
+    @DisplayName("CSV: 따옴표 안의 쉼표/줄바꿈을 읽고, 잘못된 행만 거절한 뒤 나머지를 묶음 단위로 적재한다")
+    void csv_importsValidRowsAndReportsRejected() throws IOException {
+        // given (BOM + snake_case 헤더 + 모르는 열)
+        String csv = "\uFEFFtitle,content,category,understanding,study_time,study_date,owner_id,extra\r\n"
+                + "스프링 빈,\"생명주기, 스코프\n정리\",spring,GOOD,60,2024-03-01,7,x\r\n"
+                + "\"따옴표 \"\"제목\"\"\",내용,JAVA,NORMAL,30,,,\r\n"
+                + "\r\n"
+                + ",제목 없음,JAVA,GOOD,30,2024-03-01,,\r\n"
+                + "카테고리 오류,내용,COOKING,GOOD,30,2024-03-01,,\r\n"
+                + "숫자 오류,내용,JAVA,GOOD,삼십,2024-03-01,,\r\n"
+                + "열 부족,내용\r\n"
+                + "마지막,내용,GIT,BAD,15,2024-03-02,3,\r\n";
+
+        // when
+        ImportJob job = run(ImportFormat.CSV, csv);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+        assertThat(job.getLoadMethod()).isEqualTo(ImportJob.LoadMethod.JDBC_BATCH);
+        assertThat(job.getRowsRead()).isEqualTo(7);
+        assertThat(job.getImported()).isEqualTo(3);
+        assertThat(job.getRejected()).isEqualTo(4);
+        assertThat(job.getBytesRead()).isEqualTo(job.getTotalBytes());
+        assertThat(job.getRejectedSamples()).extracting(ImportJob.RejectedRow::line).containsExactly(6L, 7L, 8L, 9L);
+        assertThat(job.getRejectedSamples()).extracting(ImportJob.RejectedRow::reason)
+                .anySatisfy(reason -> assertThat(reason).isEqualTo("학습 주제는 필수입니다."))
+                .anySatisfy(reason -> assertThat(reason).contains("COOKING"))
+                .anySatisfy(reason -> assertThat(reason).contains("studyTime"))
+                .anySatisfy(reason -> assertThat(reason).contains("열 개수"));
+
+        List<StudyLog> saved = dao.findAll();
+        assertThat(saved).extracting(StudyLog::getTitle).containsExactlyInAnyOrder("스프링 빈", "따옴표 \"제목\"", "마지막");
+        StudyLog spring = saved.stream().filter(log -> log.getTitle().equals("스프링 빈")).findFirst().orElseThrow();
+        assertThat(spring.getContent()).isEqualTo("생명주기, 스코프\n정리");
+        assertThat(spring.getCategory()).isEqualTo(Category.SPRING);
+        assertThat(spring.getOwnerId()).isEqualTo(7L);
+        assertThat(spring.getStudyDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+
+        assertThat(Files.readAllLines(directory.resolve("rejected.csv"))).hasSize(5).first().isEqualTo("line,reason,raw");
+        assertThat(events).hasSize(2).allMatch(event -> event.type() == StudyLogChangedEvent.ChangeType.IMPORTED);
+    }
+
+    @Test
+    @DisplayName("NDJSON: 깨진 줄은 거절하고 나머지 줄은 API 요청 본문과 같은 규칙으로 적재한다")
+    void ndjson_importsValidLines() throws IOException {
+        // given
+        String ndjson = """
+                {"title":"첫째","content":"내용","category":"JPA","understanding":"GOOD","studyTime":20,"studyDate":"2024-01-05"}
+                {"title":"깨진 줄","content":
+                
+                {"title":"둘째","content":"내용","category":"CS","understanding":"VERY_GOOD","studyTime":"45","ownerId":2}
+                {"title":"시간 없음","content":"내용","category":"CS","understanding":"GOOD"}
+                """;
+
+        // when
+        ImportJob job = run(ImportFormat.NDJSON, ndjson);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.COMPLETED);
+        assertThat(job.getImported()).isEqualTo(2);
+        assertThat(job.getRejectedSamples()).extracting(ImportJob.RejectedRow::line).containsExactly(2L, 5L);
+        assertThat(dao.findAll()).extracting(StudyLog::getTitle, StudyLog::getStudyTime)
+                .containsExactlyInAnyOrder(tuple("첫째", 20), tuple("둘째", 45));
+    }
+
+    @Test
+    @DisplayName("CSV 따옴표가 닫히지 않으면 작업이 실패하고, 그 앞 묶음까지는 적재된 채로 남는다")
+    void csv_unterminatedQuote_failsJob() throws IOException {
+        // given
+        String csv = "title,content,category,understanding,studyTime\n"
+                + "하나,내용,JAVA,GOOD,10\n"
+                + "둘,내용,JAVA,GOOD,10\n"
+                + "셋,\"닫히지 않은 내용,JAVA,GOOD,10\n";
+
+        // when
+        ImportJob job = run(ImportFormat.CSV, csv);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ImportJob.Status.FAILED);
+        assertThat(job.getError()).contains("4행", "따옴표");
+        assertThat(job.getImported()).isEqualTo(2);
+        assertThat(dao.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.global.json.JsonSerializationConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전용 직렬화기 결과가 기본(리플렉션 기반) 직렬화와 글자 단위로 같은지 비교한다.
+ */
+class StudyLogJsonSerializersTest {
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper streaming = JsonMapper.builder().addModule(JsonSerializationConfig.studyLogModule()).build();
+
+    private static StudyLogResponse response(long id, String title, String content, LocalDateTime createdAt) {
+        StudyLog studyLog = new StudyLog(id, title, content, Category.SPRING, Understanding.GOOD, 45, LocalDate.of(2024, 3, 1));
+        studyLog.setOwnerId(3L);
+        studyLog.setCreatedAt(createdAt);
+        studyLog.setUpdatedAt(createdAt == null ? null : createdAt.plusSeconds(1));
+        return StudyLogResponse.from(studyLog);
+    }
+
+    private void assertSameJson(Object value) {
+        String expected = reflective.writeValueAsString(value);
+        assertThat(streaming.writeValueAsString(value)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("페이지 응답은 필드 순서, 날짜 형식(나노초 자릿수 포함), 특수 문자 이스케이프까지 기본 직렬화와 같다")
+    void page_matchesReflective() {
+        // given
+        List<StudyLogResponse> rows = List.of(
+                response(1L, "제목 \"따옴표\"", "줄\n바꿈\t탭 \\ 역슬래시 \u0001 😀", LocalDateTime.of(2024, 3, 1, 9, 0)),
+                response(2L, "정각", "내용", LocalDateTime.of(2024, 3, 1, 9, 0, 5)),
+                response(3L, "밀리초", "내용", LocalDateTime.of(2024, 12, 31, 23, 59, 59, 120_000_000)),
+                response(4L, "나노초", "내용", LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123_456_789)),
+                response(5L, "날짜 없음", "내용", null));
+
+        // when & then
+        assertSameJson(ApiResponse.success(new Page<>(rows, 1, 5, 12)));
+        assertSameJson(new Page<>(rows, 0, 5, 5));
+        assertSameJson(ApiResponse.success(new Page<>(List.of(), 0, 10, 0)));
+    }
+
+    @Test
+    @DisplayName("단건/목록/오류 응답과 null 필드도 기본 직렬화와 같다")
+    void singleListAndError_matchReflective() {
+        // given
+        StudyLogResponse single = response(7L, "단건", "내용", LocalDateTime.of(2024, 3, 1, 9, 30, 15, 500_000));
+        StudyLogResponse empty = new StudyLogResponse();
+
+        // when & then
+        assertSameJson(single);
+        assertSameJson(empty);
+        assertSameJson(ApiResponse.success(single));
+        assertSameJson(ApiResponse.success(List.of(single, empty)));
+        assertSameJson(ApiResponse.success(null));
+        assertSameJson(ApiResponse.success(Map.of("deleted", 3)));
+        assertSameJson(ApiResponse.error("INVALID_INPUT", "제목은 \"필수\"입니다"));
+    }
+}
@@ -0,0 +1,197 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.ShardedStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dto.request.StudyLogCreateRequest;
+import com.study.my_spring_study_diary.dto.request.StudyLogUpdateRequest;
+import com.study.my_spring_study_diary.dto.response.StudyLogResponse;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.event.StudyLogChangedEvent;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import com.study.my_spring_study_diary.global.concurrent.SingleFlight;
+import com.study.my_spring_study_diary.global.exception.StudyLogVersionMismatchException;
+import com.study.my_spring_study_diary.service.StudyLogService;
+import com.study.my_spring_study_diary.stats.StudyActivityIndex;
+import com.study.my_spring_study_diary.stats.StudyTimeQuantileIndex;
+import com.study.my_spring_study_diary.stats.StudyTimeRangeIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * H2 인메모리 DB로 version 컬럼 compare-and-set 수정과 If-Match(기대 버전) 처리를 검증한다.
+ */
+class StudyLogOptimisticLockTest {
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+    private final List<StudyLogChangedEvent> events = new ArrayList<>();
+    private ExecutorService executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    private EmbeddedDatabase newDatabase() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("lock-" + UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("classpath:db/h2-schema.sql")
+                .build();
+        databases.add(database);
+        return database;
+    }
+
+    private static MySQLStudyLogDaoImpl newDao(EmbeddedDatabase database) {
+        return new MySQLStudyLogDaoImpl(new JdbcTemplate(database), new ContentCodec(new ContentCompressionProperties()));
+    }
+
+    private StudyLogService newService(StudyLogDao dao) {
+        return new StudyLogService(dao, new SingleFlight(Duration.ofSeconds(1)),
+                event -> events.add((StudyLogChangedEvent) event), new StudyActivityIndex(), new StudyTimeRangeIndex(),
+                new StudyTimeQuantileIndex());
+    }
+
+    private static StudyLog newLog() {
+        return new StudyLog(null, "낙관적 잠금", "내용", Category.SPRING, Understanding.GOOD, 30, LocalDate.of(2024, 3, 1));
+    }
+
+    private static StudyLogCreateRequest newRequestFrom(StudyLog studyLog) {
+        StudyLogCreateRequest request = new StudyLogCreateRequest();
+        request.setTitle(studyLog.getTitle());
+        request.setContent(studyLog.getContent());
+        request.setCategory(studyLog.getCategory().name());
+        request.setUnderstanding(studyLog.getUnderstanding().name());
+        request.setStudyTime(studyLog.getStudyTime());
+        request.setStudyDate(studyLog.getStudyDate());
+        return request;
+    }
+
+    private static StudyLogUpdateRequest studyTime(int minutes) {
+        StudyLogUpdateRequest request = new StudyLogUpdateRequest();
+        request.setStudyTime(minutes);
+        return request;
+    }
+
+    @Test
+    @DisplayName("수정할 때마다 버전이 1씩 오르고, 먼저 읽은 낡은 버전으로 저장하면 OptimisticLockingFailureException")
+    void update_comparesAndSetsVersion() {
+        // given
+        MySQLStudyLogDaoImpl dao = newDao(newDatabase());
+        Long id = dao.save(newLog()).getId();
+        StudyLog first = dao.findById(id).orElseThrow();
+        StudyLog second = dao.findById(id).orElseThrow();
+
+        // when
+        first.setStudyTime(40);
+        dao.update(first);
+        second.setStudyTime(50);
+
+        // then
+        assertThat(first.getVersion()).isEqualTo(1);
+        assertThat(dao.findById(id)).get().extracting(StudyLog::getVersion).isEqualTo(1L);
+        assertThatThrownBy(() -> dao.update(second))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("version: 0");
+        assertThat(dao.findById(id)).get().extracting(StudyLog::getStudyTime).isEqualTo(40);
+
+        StudyLog missing = newLog();
+        missing.setId(999L);
+        assertThatThrownBy(() -> dao.update(missing))
+                .isNotInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining("찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("If-Match 버전이 다르면 412 예외, 같으면 수정되고 응답 버전이 오른다")
+    void service_checksExpectedVersion() {
+        // given
+        StudyLogService service = newService(newDao(newDatabase()));
+        Long id = service.createStudyLog(newRequestFrom(newLog())).getId();
+
+        // when
+        StudyLogResponse updated = service.updateStudyLog(id, studyTime(45), 0L);
+
+        // then
+        assertThat(updated.getVersion()).isEqualTo(1);
+        assertThat(updated.getStudyTime()).isEqualTo(45);
+        assertThatThrownBy(() -> service.updateStudyLog(id, studyTime(60), 0L))
+                .isInstanceOf(StudyLogVersionMismatchException.class)
+                .hasMessageContaining("현재 버전: 1");
+        assertThat(service.getStudyLogById(id).getStudyTime()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("조회와 저장 사이에 다른 수정이 끼어들면 If-Match 없이는 409, 있으면 412 이고 이벤트는 나가지 않는다")
+    void service_detectsInterleavedUpdate() {
+        // given: 조회 직후에 다른 요청이 같은 행을 먼저 수정하는 DAO
+        EmbeddedDatabase database = newDatabase();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        MySQLStudyLogDaoImpl racingDao = new MySQLStudyLogDaoImpl(jdbcTemplate, new ContentCodec(new ContentCompressionProperties())) {
+            @Override
+            public Optional<StudyLog> findById(Long id) {
+                Optional<StudyLog> found = super.findById(id);
+                jdbcTemplate.update("UPDATE study_logs SET version = version + 1 WHERE id = ?", id);
+                return found;
+            }
+        };
+        Long id = newDao(database).save(newLog()).getId();
+        StudyLogService service = newService(racingDao);
+        events.clear();
+
+        // when & then
+        assertThatThrownBy(() -> service.updateStudyLog(id, studyTime(45)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> service.updateStudyLog(id, studyTime(45), 1L))
+                .isInstanceOf(StudyLogVersionMismatchException.class);
+        assertThat(events).isEmpty();
+        assertThat(newDao(database).findById(id)).get().extracting(StudyLog::getStudyTime).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("샤드 구성에서도 올라간 버전이 전역 ID를 가진 호출자 객체에 반영된다")
+    void sharded_propagatesVersion() {
+        // given
+        List<StudyLogDao> shards = List.of(newDao(newDatabase()), newDao(newDatabase()));
+        executor = Executors.newFixedThreadPool(shards.size());
+        ShardedStudyLogDao dao = new ShardedStudyLogDao(shards, executor);
+        dao.save(newLog());
+        Long id = dao.save(newLog()).getId();
+        StudyLog stale = dao.findById(id).orElseThrow();
+        StudyLog current = dao.findById(id).orElseThrow();
+
+        // when
+        current.setStudyTime(90);
+        dao.update(current);
+
+        // then
+        assertThat(current.getId()).isEqualTo(id);
+        assertThat(current.getVersion()).isEqualTo(1);
+        assertThat(dao.findById(id)).get().extracting(StudyLog::getVersion).isEqualTo(1L);
+        assertThatThrownBy(() -> dao.update(stale)).isInstanceOf(OptimisticLockingFailureException.class);
+    }
+}
@@ -0,0 +1,153 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.repository.StudyLogRepository;
+import com.study.my_spring_study_diary.repository.index.StudyLogFilter;
+import com.study.my_spring_study_diary.repository.persistence.StudyLogPersistenceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소를 destroy() 없이 버리는 것으로 비정상 종료를 흉내 내고, 같은 디렉터리로 새 저장소를 열어 복구를 검증한다.
+ */
+class StudyLogRepositoryPersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    private StudyLogRepository open(int segmentSize) {
+        StudyLogPersistenceProperties properties = new StudyLogPersistenceProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory);
+        properties.setSegmentSize(segmentSize);
+        properties.setFsyncPolicy(StudyLogPersistenceProperties.FsyncPolicy.EVERY_WRITE);
+        properties.setSnapshotEveryRecords(0);
+        properties.setSnapshotInterval(Duration.ZERO);
+        StudyLogRepository repository = new StudyLogRepository(properties);
+        repository.init();
+        return repository;
+    }
+
+    private static StudyLog newLog(String title) {
+        StudyLog studyLog = new StudyLog(null, title, "내용", Category.JAVA, Understanding.GOOD, 30, LocalDate.of(2024, 3, 1));
+        studyLog.setOwnerId(7L);
+        return studyLog;
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("비정상 종료 후 WAL을 재생하면 저장/수정/삭제/소프트 삭제가 모두 복원되고 ID가 이어진다")
+    void replay_afterCrash() {
+        // given (세그먼트를 작게 잡아 여러 세그먼트에 걸치게 한다)
+        StudyLogRepository repository = open(1024);
+        for (int i = 0; i < 20; i++) {
+            repository.save(newLog("일지 " + i));
+        }
+        StudyLog edited = repository.findById(3L).orElseThrow();
+        edited.update("수정된 제목", null, Category.SPRING, null, 90, null);
+        repository.update(edited);
+        repository.deleteById(5L);
+        repository.softDeleteById(8L);
+
+        // when
+        StudyLogRepository recovered = open(1024);
+
+        // then
+        assertThat(recovered.count()).isEqualTo(19);
+        assertThat(recovered.findById(3L)).get()
+                .extracting(StudyLog::getTitle, StudyLog::getCategory, StudyLog::getStudyTime, StudyLog::getOwnerId)
+                .containsExactly("수정된 제목", Category.SPRING, 90, 7L);
+        assertThat(recovered.existsById(5L)).isFalse();
+        assertThat(recovered.findById(8L)).get().extracting(StudyLog::isDeleted).isEqualTo(true);
+        assertThat(recovered.findAllActive()).hasSize(18);
+        assertThat(recovered.findByFilter(StudyLogFilter.categories(Category.SPRING))).extracting(StudyLog::getId).containsExactly(3L);
+        assertThat(recovered.countByFilter(StudyLogFilter.all())).isEqualTo(18);
+        assertThat(recovered.save(newLog("새 일지")).getId()).isEqualTo(21L);
+        recovered.destroy();
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후의 기록만 WAL에서 재생하고, 스냅샷 이전 세그먼트는 지워진다")
+    void snapshot_thenReplayTail() throws IOException {
+        // given
+        StudyLogRepository repository = open(1024);
+        for (int i = 0; i < 20; i++) {
+            repository.save(newLog("일지 " + i));
+        }
+        int segmentsBefore = files("wal-").size();
+        repository.snapshot();
+        repository.save(newLog("스냅샷 이후"));
+        repository.deleteById(1L);
+        repository.restore(1L);     // 이미 지워진 일지 -> 기록되지 않음
+
+        // when
+        StudyLogRepository recovered = open(1024);
+
+        // then
+        assertThat(segmentsBefore).isGreaterThan(1);
+        assertThat(files("snapshot-")).hasSize(1);
+        assertThat(files("wal-")).hasSize(1);
+        assertThat(recovered.count()).isEqualTo(20);
+        assertThat(recovered.existsById(1L)).isFalse();
+        assertThat(recovered.findById(21L)).get().extracting(StudyLog::getTitle).isEqualTo("스냅샷 이후");
+        assertThat(recovered.save(newLog("다음")).getId()).isEqualTo(22L);
+        recovered.destroy();
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘려 있으면 그 앞까지만 복원하고, 이후 기록은 정상적으로 이어 쓴다")
+    void tornTail_isTruncated() throws IOException {
+        // given
+        StudyLogRepository repository = open(64 * 1024);
+        repository.save(newLog("첫째"));
+        repository.save(newLog("둘째"));
+        repository.save(newLog("셋째"));
+        corruptLastRecord(files("wal-").get(0));
+
+        // when
+        StudyLogRepository recovered = open(64 * 1024);
+        recovered.save(newLog("복구 후"));
+        StudyLogRepository reopened = open(64 * 1024);
+
+        // then
+        assertThat(recovered.findAll()).extracting(StudyLog::getTitle).containsExactly("첫째", "둘째", "복구 후");
+        assertThat(reopened.findAll()).extracting(StudyLog::getTitle).containsExactly("첫째", "둘째", "복구 후");
+        assertThat(reopened.findById(3L)).get().extracting(StudyLog::getTitle).isEqualTo("복구 후");
+        reopened.destroy();
+    }
+
+    /**
+     * 마지막 레코드 본문의 한 바이트를 바꿔 쓰다 만 레코드처럼 만든다
+     */
+    private static void corruptLastRecord(Path segment) throws IOException {
+        byte[] bytes = Files.readAllBytes(segment);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int position = 0;
+        int last = -1;
+        while (buffer.getInt(position) != 0) {
+            last = position;
+            position += Integer.BYTES * 2 + buffer.getInt(position);
+        }
+        bytes[last + Integer.BYTES * 2 + 5] ^= 0x7F;
+        Files.write(segment, bytes);
+    }
+}
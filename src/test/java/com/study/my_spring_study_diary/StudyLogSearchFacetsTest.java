@@ -0,0 +1,70 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.SearchFacetCount;
+import com.study.my_spring_study_diary.dto.response.CompactStudyLogList;
+import com.study.my_spring_study_diary.dto.response.SearchFacetsResponse;
+import com.study.my_spring_study_diary.dto.response.StudyLogSearchPage;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.common.ApiResponse;
+import com.study.my_spring_study_diary.global.json.JsonSerializationConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyLogSearchFacetsTest {
+
+    // 두 샤드에서 같은 (SPRING, GOOD, 2025-03) 묶음이 따로 온 경우를 포함
+    private static final List<SearchFacetCount> COUNTS = List.of(
+            new SearchFacetCount(Category.SPRING, Understanding.GOOD, YearMonth.of(2025, 3), 4),
+            new SearchFacetCount(Category.SPRING, Understanding.BAD, YearMonth.of(2025, 1), 2),
+            new SearchFacetCount(Category.JAVA, Understanding.GOOD, YearMonth.of(2024, 12), 1),
+            new SearchFacetCount(Category.SPRING, Understanding.GOOD, YearMonth.of(2025, 3), 3));
+
+    @Test
+    @DisplayName("GROUP BY 행을 카테고리 / 이해도 / 월 축으로 더하고, 0건인 카테고리와 이해도도 싣는다")
+    void from_rollsUpGroupedCounts() {
+        // when
+        SearchFacetsResponse facets = SearchFacetsResponse.from(COUNTS);
+
+        // then
+        assertThat(facets.getTotal()).isEqualTo(10);
+        assertThat(facets.getCategories()).hasSize(Category.values().length)
+                .containsEntry("SPRING", 9L).containsEntry("JAVA", 1L).containsEntry("ETC", 0L);
+        assertThat(facets.getCategories().keySet()).first().isEqualTo(Category.values()[0].name());
+        assertThat(facets.getUnderstandings()).hasSize(Understanding.values().length)
+                .containsEntry("GOOD", 8L).containsEntry("BAD", 2L);
+        assertThat(facets.getMonths()).containsExactly(
+                Map.entry("2024-12", 1L), Map.entry("2025-01", 2L), Map.entry("2025-03", 7L));
+    }
+
+    @Test
+    @DisplayName("패싯을 담은 검색 페이지는 기존 페이지 필드 뒤에 facets를 싣는다 (전용 직렬화기 / 기본 직렬화 / 압축 형식 모두)")
+    void searchPage_writesFacets() {
+        // given
+        StudyLogSearchPage page = new StudyLogSearchPage(List.of(), 0, 10, 10, SearchFacetsResponse.from(COUNTS));
+        JsonMapper fast = JsonMapper.builder().addModule(JsonSerializationConfig.studyLogModule()).build();
+        JsonMapper plain = JsonMapper.builder().build();
+
+        // when
+        JsonNode fastJson = fast.readTree(fast.writeValueAsString(ApiResponse.success(page))).get("data");
+        JsonNode plainJson = plain.readTree(plain.writeValueAsString(ApiResponse.success(page))).get("data");
+        JsonNode compactJson = fast.readTree(fast.writeValueAsString(CompactStudyLogList.of(page)));
+
+        // then
+        assertThat(fastJson.propertyNames()).containsExactly(
+                "content", "page", "size", "totalElements", "first", "hasNext", "hasPrevious", "last", "totalPages", "facets");
+        assertThat(fastJson.get("facets").get("categories").get("SPRING").asLong()).isEqualTo(9);
+        assertThat(fastJson.get("facets").get("months").get("2025-03").asLong()).isEqualTo(7);
+        assertThat(plainJson.get("facets")).isEqualTo(fastJson.get("facets"));
+        assertThat(compactJson.get("facets")).isEqualTo(fastJson.get("facets"));
+        assertThat(compactJson.get("totalElements").asLong()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,120 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.common.PageRequest;
+import com.study.my_spring_study_diary.global.common.PageResponse;
+import com.study.my_spring_study_diary.repository.StudyLogRepository;
+import com.study.my_spring_study_diary.repository.index.StudyLogSortIndex;
+import com.study.my_spring_study_diary.repository.persistence.StudyLogPersistenceProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyLogSortIndexTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("정렬 기준/방향별 모든 페이지가 전체를 (값, ID) 순으로 정렬해 자른 결과와 같다 (수정/삭제 후에도)")
+    void pages_matchFullSort() {
+        // given: 값이 자주 겹치도록 좁은 범위에서 고르고, 제자리 수정/삭제를 섞는다
+        Random random = new Random(3);
+        StudyLogRepository repository = new StudyLogRepository(new StudyLogPersistenceProperties());
+        List<StudyLog> saved = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            saved.add(repository.save(randomLog(random)));
+        }
+        for (int i = 0; i < 300; i++) {
+            StudyLog studyLog = saved.get(random.nextInt(saved.size()));
+            if (random.nextInt(3) == 0) {
+                repository.deleteById(studyLog.getId());
+                saved.remove(studyLog);
+            } else {
+                StudyLog changed = randomLog(random);
+                studyLog.update(changed.getTitle(), null, null, null, changed.getStudyTime(), changed.getStudyDate());
+                studyLog.setCreatedAt(changed.getCreatedAt());
+                repository.update(studyLog);
+            }
+        }
+        repository.softDeleteById(saved.get(0).getId());     // 기존처럼 소프트 삭제된 일지도 페이지에 포함
+
+        for (StudyLogSortIndex.SortKey key : StudyLogSortIndex.SortKey.values()) {
+            for (String direction : List.of("ASC", "DESC")) {
+                Comparator<StudyLog> order = comparator(key).thenComparing(StudyLog::getId);
+                List<Long> expected = saved.stream()
+                        .sorted("ASC".equals(direction) ? order : order.reversed())
+                        .map(StudyLog::getId)
+                        .toList();
+                int size = 1 + random.nextInt(40);
+                List<Long> actual = new ArrayList<>();
+                for (int page = 0; page * size < expected.size(); page++) {
+                    // when
+                    PageResponse<StudyLog> response = repository.findAllWithPaging(pageRequest(page, size, key.getProperty(), direction));
+
+                    // then
+                    assertThat(response.getTotalElements()).isEqualTo(expected.size());
+                    response.getContent().forEach(studyLog -> actual.add(studyLog.getId()));
+                }
+                assertThat(actual).as("%s %s (size=%d)", key, direction, size).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("알 수 없는 정렬 기준은 createdAt, 범위를 벗어난 구간은 빈 목록이고 비어 있는 값은 가장 앞에 온다")
+    void page_edgeCases() {
+        // given
+        StudyLogSortIndex index = new StudyLogSortIndex();
+        StudyLog untitled = new StudyLog(1L, null, "내용", Category.JAVA, Understanding.GOOD, 10, FROM);
+        StudyLog titled = new StudyLog(2L, "가", "내용", Category.JAVA, Understanding.GOOD, 10, FROM);
+        index.put(titled);
+        index.put(untitled);
+
+        // when & then
+        assertThat(StudyLogSortIndex.SortKey.from("unknown")).isEqualTo(StudyLogSortIndex.SortKey.CREATED_AT);
+        assertThat(index.page(StudyLogSortIndex.SortKey.TITLE, true, 0, 10)).containsExactly(untitled, titled);
+        assertThat(index.page(StudyLogSortIndex.SortKey.TITLE, false, 1, 10)).containsExactly(untitled);
+        assertThat(index.page(StudyLogSortIndex.SortKey.STUDY_TIME, false, 0, 10)).containsExactly(titled, untitled);
+        assertThat(index.page(StudyLogSortIndex.SortKey.TITLE, true, 2, 10)).isEmpty();
+        index.remove(1L);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.page(StudyLogSortIndex.SortKey.TITLE, true, 0, 10)).containsExactly(titled);
+    }
+
+    private static StudyLog randomLog(Random random) {
+        StudyLog studyLog = new StudyLog(null, "제목" + random.nextInt(30), "내용",
+                Category.JAVA, Understanding.GOOD,
+                1 + random.nextInt(20),
+                FROM.plusDays(random.nextInt(40)));
+        studyLog.setCreatedAt(LocalDateTime.of(2024, 6, 1, 0, 0).plusMinutes(random.nextInt(60)));
+        return studyLog;
+    }
+
+    private static Comparator<StudyLog> comparator(StudyLogSortIndex.SortKey key) {
+        return switch (key) {
+            case TITLE -> Comparator.comparing(StudyLog::getTitle);
+            case STUDY_TIME -> Comparator.comparing(StudyLog::getStudyTime);
+            case STUDY_DATE -> Comparator.comparing(StudyLog::getStudyDate);
+            case CREATED_AT -> Comparator.comparing(StudyLog::getCreatedAt);
+        };
+    }
+
+    private static PageRequest pageRequest(int page, int size, String sortBy, String direction) {
+        PageRequest pageRequest = new PageRequest();
+        pageRequest.setPage(page);
+        pageRequest.setSize(size);
+        pageRequest.setSortBy(sortBy);
+        pageRequest.setSortDirection(direction);
+        return pageRequest;
+    }
+}
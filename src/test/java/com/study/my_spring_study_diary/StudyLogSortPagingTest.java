@@ -0,0 +1,250 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.common.Page;
+import com.study.my_spring_study_diary.dao.MySQLStudyLogDaoImpl;
+import com.study.my_spring_study_diary.dao.ShardedStudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogCursor;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyLogSort;
+import com.study.my_spring_study_diary.dao.StudyLogSortKey;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.StudyLog;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.global.compression.ContentCodec;
+import com.study.my_spring_study_diary.global.compression.ContentCompressionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.core.io.ClassPathResource;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * H2 인메모리 DB로 정렬 기준별 OFFSET 페이징과 커서 페이징이 같은 순서를 돌려주는지 검증한다.
+ * 기대값은 DAO로 다시 읽은 전체 행을 StudyLogSort 비교기로 정렬한 결과다.
+ */
+class StudyLogSortPagingTest {
+
+    private static final int SHARDS = 3;
+
+    private final List<EmbeddedDatabase> databases = new ArrayList<>();
+    private ExecutorService executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        databases.forEach(EmbeddedDatabase::shutdown);
+    }
+
+    private MySQLStudyLogDaoImpl newDatabase() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("sort-" + UUID.randomUUID() + ";MODE=MySQL")
+                .addScript("classpath:db/h2-schema.sql")
+                .build();
+        databases.add(database);
+        return new MySQLStudyLogDaoImpl(new JdbcTemplate(database), new ContentCodec(new ContentCompressionProperties()));
+    }
+
+    /**
+     * 정렬 값이 자주 겹치도록 좁은 범위에서 골라 저장하고, created_at도 DB에서 직접 흩어 놓는다
+     */
+    private static void saveLogs(StudyLogDao dao, int count, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < count; i++) {
+            StudyLog studyLog = new StudyLog(null, "일지 " + random.nextInt(20), "내용",
+                    i % 3 == 0 ? Category.JAVA : Category.SPRING, Understanding.GOOD,
+                    10 * (1 + random.nextInt(6)), LocalDate.of(2024, 1, 1).plusDays(random.nextInt(10)));
+            studyLog.setOwnerId((long) random.nextInt(12));
+            dao.save(studyLog);
+        }
+    }
+
+    private void scatterCreatedAt(long seed) {
+        Random random = new Random(seed);
+        for (EmbeddedDatabase database : databases) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            for (Long id : jdbcTemplate.queryForList("SELECT id FROM study_logs", Long.class)) {
+                jdbcTemplate.update("UPDATE study_logs SET created_at = ? WHERE id = ?",
+                        Timestamp.valueOf(LocalDateTime.of(2024, 6, 1, 9, 0).plusMinutes(random.nextInt(30))), id);
+            }
+        }
+    }
+
+    private static List<StudyLogSort> allSorts() {
+        List<StudyLogSort> sorts = new ArrayList<>();
+        for (StudyLogSortKey key : StudyLogSortKey.values()) {
+            sorts.add(new StudyLogSort(key, true));
+            sorts.add(new StudyLogSort(key, false));
+        }
+        return sorts;
+    }
+
+    private static List<Long> expectedIds(StudyLogDao dao, StudyLogSort sort, String category) {
+        return dao.findAll().stream()
+                .filter(studyLog -> category == null || studyLog.getCategory().name().equals(category))
+                .sorted(sort.comparator())
+                .map(StudyLog::getId)
+                .toList();
+    }
+
+    /**
+     * 커서를 인코딩/디코딩해 가며 끝까지 읽는다 (클라이언트가 nextCursor를 돌려보내는 흐름과 같음)
+     */
+    private static List<Long> walkWithCursor(StudyLogDao dao, StudyLogSort sort, String category, int size) {
+        List<Long> ids = new ArrayList<>();
+        StudyLogCursor after = null;
+        while (true) {
+            List<StudyLog> page = dao.searchAfter(null, category, null, null, sort, after, size);
+            page.forEach(studyLog -> ids.add(studyLog.getId()));
+            if (page.size() < size) {
+                return ids;
+            }
+            after = StudyLogCursor.decode(StudyLogCursor.after(sort, page.get(page.size() - 1)).encode(), sort);
+        }
+    }
+
+    @Test
+    @DisplayName("정렬 기준/방향마다 OFFSET 페이지와 커서 페이지를 이어 붙인 결과가 전체를 정렬한 순서와 같다")
+    void singleDatabase_offsetAndCursorMatchFullSort() {
+        // given
+        MySQLStudyLogDaoImpl dao = newDatabase();
+        saveLogs(dao, 120, 1);
+        scatterCreatedAt(2);
+
+        for (StudyLogSort sort : allSorts()) {
+            for (String category : new String[]{null, "JAVA"}) {
+                List<Long> expected = expectedIds(dao, sort, category);
+
+                // when
+                List<Long> offsetIds = new ArrayList<>();
+                for (int page = 0; page * 7 < expected.size(); page++) {
+                    Page<StudyLog> result = category == null
+                            ? dao.findAllWithPaging(page, 7, sort)
+                            : dao.findByCategoryWithPaging(category, page, 7, sort);
+                    assertThat(result.getTotalElements()).isEqualTo(expected.size());
+                    result.getContent().forEach(studyLog -> offsetIds.add(studyLog.getId()));
+                }
+                List<Long> cursorIds = walkWithCursor(dao, sort, category, 9);
+
+                // then
+                assertThat(offsetIds).as("offset %s %s", sort, category).isEqualTo(expected);
+                assertThat(cursorIds).as("cursor %s %s", sort, category).isEqualTo(expected);
+            }
+        }
+        assertThat(dao.findById(1L)).get().extracting(StudyLog::getCreatedAt).isNotNull();
+    }
+
+    @Test
+    @DisplayName("샤드 구성에서도 전역 ID 커서로 이어 읽은 결과가 전체를 정렬한 순서와 같다")
+    void sharded_cursorMatchesFullSort() {
+        // given
+        List<StudyLogDao> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(newDatabase());
+        }
+        executor = Executors.newFixedThreadPool(SHARDS);
+        ShardedStudyLogDao dao = new ShardedStudyLogDao(shards, executor);
+        saveLogs(dao, 150, 3);
+        scatterCreatedAt(4);
+
+        for (StudyLogSort sort : allSorts()) {
+            List<Long> expected = expectedIds(dao, sort, null);
+
+            // when
+            List<Long> cursorIds = walkWithCursor(dao, sort, null, 11);
+            Page<StudyLog> thirdPage = dao.findAllWithPaging(2, 10, sort);
+
+            // then
+            assertThat(cursorIds).as("cursor %s", sort).isEqualTo(expected);
+            assertThat(thirdPage.getContent()).extracting(StudyLog::getId).isEqualTo(expected.subList(20, 30));
+        }
+    }
+
+    @Test
+    @DisplayName("대소문자/악센트를 구분하지 않는 제목 정렬도 샤드 병합과 커서가 DB와 같은 순서다")
+    void sharded_titleOrderMatchesCaseAndAccentInsensitiveCollation() {
+        // given: utf8mb4_unicode_ci처럼 대소문자/악센트를 구분하지 않는 콜레이션의 샤드
+        List<StudyLogDao> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .setName("collation-" + UUID.randomUUID() + ";MODE=MySQL")
+                    .build();
+            databases.add(database);
+            new JdbcTemplate(database).execute("SET COLLATION ENGLISH STRENGTH PRIMARY");
+            new ResourceDatabasePopulator(new ClassPathResource("db/h2-schema.sql")).execute(database);
+            shards.add(new MySQLStudyLogDaoImpl(new JdbcTemplate(database), new ContentCodec(new ContentCompressionProperties())));
+        }
+        executor = Executors.newFixedThreadPool(SHARDS);
+        ShardedStudyLogDao dao = new ShardedStudyLogDao(shards, executor);
+        List<String> titles = List.of("apple", "Apple", "Émile", "emile", "Zulu", "zeta", "éclair", "Eclair", "banana", "Banana");
+        for (int i = 0; i < 60; i++) {
+            StudyLog studyLog = new StudyLog(null, titles.get(i % titles.size()), "내용", Category.JAVA, Understanding.GOOD,
+                    30, LocalDate.of(2024, 1, 1));
+            studyLog.setOwnerId((long) i);
+            dao.save(studyLog);
+        }
+
+        for (StudyLogSort sort : List.of(new StudyLogSort(StudyLogSortKey.TITLE, true), new StudyLogSort(StudyLogSortKey.TITLE, false))) {
+            // 각 샤드가 DB 콜레이션으로 정렬한 결과를 이어 붙여도 병합 비교기로 정렬한 순서가 그대로여야 한다
+            for (StudyLogDao shard : shards) {
+                List<StudyLog> shardOrder = shard.searchAfter(null, null, null, null, sort, null, 100);
+                assertThat(shardOrder).as("shard %s", sort).isSortedAccordingTo(sort.comparator());
+            }
+            List<Long> expected = expectedIds(dao, sort, null);
+
+            // when
+            List<Long> cursorIds = walkWithCursor(dao, sort, null, 7);
+            Page<StudyLog> secondPage = dao.findAllWithPaging(1, 10, sort);
+
+            // then
+            assertThat(cursorIds).as("cursor %s", sort).isEqualTo(expected);
+            assertThat(secondPage.getContent()).extracting(StudyLog::getId).isEqualTo(expected.subList(10, 20));
+        }
+    }
+
+    @Test
+    @DisplayName("목록에 없는 정렬 기준/방향과 다른 정렬로 만든 커서, 깨진 커서는 IllegalArgumentException")
+    void invalidSortAndCursor() {
+        // given
+        StudyLog last = new StudyLog(42L, "a|b", "내용", Category.JAVA, Understanding.GOOD, 30, LocalDate.of(2024, 1, 1));
+        StudyLogSort byTitle = StudyLogSort.of("title", "asc");
+        String token = StudyLogCursor.after(byTitle, last).encode();
+
+        // when
+        StudyLogCursor decoded = StudyLogCursor.decode(token, byTitle);
+
+        // then
+        assertThat(decoded.values()).containsExactly("a|b");
+        assertThat(decoded.id()).isEqualTo(42L);
+        assertThat(StudyLogSort.of(null, null)).isEqualTo(StudyLogSort.DEFAULT);
+        assertThat(StudyLogSort.of("studyTime", "DESC").orderBy())
+                .isEqualTo(" ORDER BY study_time DESC, study_date DESC, id DESC");
+        assertThatThrownBy(() -> StudyLogSort.of("content", "ASC")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StudyLogSort.of("title", "sideways")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StudyLogCursor.decode(token, StudyLogSort.of("title", "DESC")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("정렬");
+        assertThatThrownBy(() -> StudyLogCursor.decode("not a cursor!", byTitle)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,161 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.DailyCategoryStudyTime;
+import com.study.my_spring_study_diary.dao.DailyStudyActivity;
+import com.study.my_spring_study_diary.dao.StudyLogDao;
+import com.study.my_spring_study_diary.dao.StudyTimeDistribution;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.stats.StudyActivityIndex;
+import com.study.my_spring_study_diary.stats.StudyStatsIndexHealthIndicator;
+import com.study.my_spring_study_diary.stats.StudyStatsIndexInitializer;
+import com.study.my_spring_study_diary.stats.StudyStatsProperties;
+import com.study.my_spring_study_diary.stats.StudyTimeQuantileIndex;
+import com.study.my_spring_study_diary.stats.StudyTimeRangeIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통계 색인 재구성 단계(요청 전 구성, 실패 시 재시도, health 보고)를 가짜 DAO로 검증한다.
+ */
+class StudyStatsIndexInitializerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 6, 1);
+
+    private final StudyActivityIndex activityIndex = new StudyActivityIndex();
+    private final StudyTimeRangeIndex studyTimeIndex = new StudyTimeRangeIndex();
+    private final StudyTimeQuantileIndex quantileIndex = new StudyTimeQuantileIndex();
+    private StudyStatsIndexInitializer initializer;
+
+    @AfterEach
+    void tearDown() {
+        if (initializer != null) {
+            initializer.destroy();
+        }
+    }
+
+    private StudyStatsIndexInitializer initializer(StudyLogDao dao) {
+        StudyStatsProperties properties = new StudyStatsProperties();
+        properties.setRebuildRetryInitialDelay(Duration.ofMillis(20));
+        properties.setRebuildRetryMaxDelay(Duration.ofMillis(50));
+        initializer = new StudyStatsIndexInitializer(dao, activityIndex, studyTimeIndex, quantileIndex, properties);
+        return initializer;
+    }
+
+    private static StudyLogDao dao(Supplier<List<DailyStudyActivity>> activities) {
+        return dao(activities, () -> List.of(new DailyCategoryStudyTime(Category.JAVA, DAY, 1, 30)));
+    }
+
+    /**
+     * 집계 메서드만 답하는 DAO (집계 외에는 부르지 않는다)
+     */
+    private static StudyLogDao dao(Supplier<List<DailyStudyActivity>> activities, Supplier<List<DailyCategoryStudyTime>> studyTimes) {
+        return (StudyLogDao) Proxy.newProxyInstance(StudyLogDao.class.getClassLoader(), new Class<?>[]{StudyLogDao.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "aggregateDailyActivity" -> activities.get();
+                    case "aggregateDailyStudyTimeByCategory" -> studyTimes.get();
+                    case "aggregateStudyTimeDistribution" -> List.of(new StudyTimeDistribution(Category.JAVA, Understanding.GOOD, DAY, 30, 1));
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Test
+    @DisplayName("집계가 도는 동안 반영된 쓰기는 재구성 뒤에도 남는다")
+    void rebuild_keepsWritesDuringAggregate() {
+        // given: 집계 스냅샷을 만든 뒤 쓰기 하나가 색인에 반영된다
+        StudyStatsIndexInitializer initializer = initializer(dao(() -> {
+            activityIndex.add(1L, DAY.plusDays(1), 20);
+            return List.of(new DailyStudyActivity(1L, DAY, 1, 30));
+        }));
+
+        // when
+        initializer.afterSingletonsInstantiated();
+
+        // then
+        assertThat(activityIndex.isReady()).isTrue();
+        assertThat(activityIndex.year(1L, 2024).totalLogs()).isEqualTo(2);
+        assertThat(studyTimeIndex.isReady()).isTrue();
+        assertThat(quantileIndex.quantiles(DAY, DAY).complete()).isTrue();
+        assertThat(initializer.status().isReady()).isTrue();
+        assertThat(new StudyStatsIndexHealthIndicator(initializer).health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    @DisplayName("집계가 실패하면 OUT_OF_SERVICE로 알리고, 뒤에서 다시 시도해 성공하면 UP이 된다")
+    void failedRebuild_isReportedAndRetried() throws Exception {
+        // given: 첫 집계만 문장 타임아웃으로 실패
+        AtomicInteger calls = new AtomicInteger();
+        StudyStatsIndexInitializer initializer = initializer(dao(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new QueryTimeoutException("aggregateDailyActivity 시간 초과");
+            }
+            return List.of(new DailyStudyActivity(1L, DAY, 3, 90));
+        }));
+        StudyStatsIndexHealthIndicator healthIndicator = new StudyStatsIndexHealthIndicator(initializer);
+
+        // when
+        initializer.afterSingletonsInstantiated();
+        Health failed = healthIndicator.health();
+        waitUntil(activityIndex::isReady);
+
+        // then
+        assertThat(failed.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(failed.getDetails()).containsEntry("pending", List.of("학습 활동 색인")).containsKey("lastError");
+        assertThat(activityIndex.year(1L, 2024).totalLogs()).isEqualTo(3);
+        waitUntil(() -> initializer.status().isReady());
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("한 색인의 집계만 실패하면 그 색인만 다시 만든다")
+    void partialFailure_retriesOnlyFailedIndex() throws Exception {
+        // given: 학습 시간 구간 집계만 첫 번째에 실패
+        AtomicInteger activityCalls = new AtomicInteger();
+        AtomicInteger studyTimeCalls = new AtomicInteger();
+        StudyStatsIndexInitializer initializer = initializer(dao(
+                () -> {
+                    activityCalls.incrementAndGet();
+                    return List.of(new DailyStudyActivity(1L, DAY, 1, 30));
+                },
+                () -> {
+                    if (studyTimeCalls.incrementAndGet() == 1) {
+                        throw new QueryTimeoutException("aggregateDailyStudyTimeByCategory 시간 초과");
+                    }
+                    return List.of(new DailyCategoryStudyTime(Category.JAVA, DAY, 1, 30));
+                }));
+
+        // when
+        initializer.afterSingletonsInstantiated();
+        List<String> pending = initializer.status().pending();
+        waitUntil(() -> initializer.status().isReady());
+
+        // then
+        assertThat(pending).containsExactly("학습 시간 구간 색인");
+        assertThat(studyTimeIndex.sum(Category.JAVA, DAY, DAY)).isEqualTo(new StudyTimeRangeIndex.RangeSum(30, 1));
+        assertThat(activityCalls).hasValue(1);
+        assertThat(studyTimeCalls).hasValue(2);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,118 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.StudyTimeDistribution;
+import com.study.my_spring_study_diary.dto.response.StudyTimePercentilesResponse;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.entity.Understanding;
+import com.study.my_spring_study_diary.stats.QuantileSketch;
+import com.study.my_spring_study_diary.stats.StudyTimeQuantileIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class StudyTimeQuantileIndexTest {
+
+    private static final double[] QUANTILES = {0, 0.25, 0.5, 0.9, 0.99, 1};
+
+    @Test
+    @DisplayName("스케치 분위수는 같은 순위의 실제 값 대비 상대 오차 이내이고, 나눠 넣고 합치거나 일부를 빼도 그대로 성립한다")
+    void sketch_staysWithinRelativeError() {
+        Random random = new Random(17);
+        for (int round = 0; round < 20; round++) {
+            // given: 한쪽으로 치우친 (로그 정규) 학습 시간
+            QuantileSketch left = new QuantileSketch(StudyTimeQuantileIndex.RELATIVE_ACCURACY);
+            QuantileSketch right = new QuantileSketch(StudyTimeQuantileIndex.RELATIVE_ACCURACY);
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                int value = (int) Math.max(1, Math.round(Math.exp(3.5 + random.nextGaussian())));
+                values.add(value);
+                (random.nextBoolean() ? left : right).add(value, 1);
+            }
+            // 마지막 1000개는 다시 뺀다 (수정/삭제 반영)
+            QuantileSketch merged = new QuantileSketch(StudyTimeQuantileIndex.RELATIVE_ACCURACY);
+            merged.merge(left);
+            merged.merge(right);
+            for (int i = 0; i < 1000; i++) {
+                merged.add(values.remove(values.size() - 1), -1);
+            }
+
+            // when / then
+            List<Integer> sorted = values.stream().sorted().toList();
+            assertThat(merged.count()).isEqualTo(sorted.size());
+            for (double q : QUANTILES) {
+                int exact = sorted.get((int) Math.floor(q * (sorted.size() - 1)));
+                assertThat(merged.quantile(q)).isCloseTo(exact, within(exact * StudyTimeQuantileIndex.RELATIVE_ACCURACY + 1e-9));
+            }
+        }
+        assertThat(new QuantileSketch(0.01).quantile(0.5)).isNaN();
+    }
+
+    @Test
+    @DisplayName("창에 든 날짜만 합치고, 수정(빼고 다시 넣기)과 재구성이 카테고리/이해도별 분위수에 반영된다")
+    void index_windowsAndUpdates() {
+        // given
+        StudyTimeQuantileIndex index = new StudyTimeQuantileIndex();
+        LocalDate today = LocalDate.of(2025, 3, 31);
+        for (int minutes = 1; minutes <= 100; minutes++) {
+            index.add(Category.JAVA, Understanding.GOOD, today.minusDays(minutes % 10), minutes);
+        }
+        index.add(Category.JAVA, Understanding.GOOD, today.minusDays(40), 10_000);     // 창 밖
+
+        // when
+        StudyTimeQuantileIndex.WindowQuantiles window = index.quantiles(today.minusDays(29), today);
+        index.remove(Category.JAVA, Understanding.GOOD, today, 100);
+        index.add(Category.SPRING, Understanding.BAD, today, 100);
+        StudyTimeQuantileIndex.WindowQuantiles afterUpdate = index.quantiles(today.minusDays(29), today);
+
+        // then
+        assertThat(window.total().count()).isEqualTo(100);
+        assertThat(window.total().p50()).isCloseTo(50, within(0.5));
+        assertThat(window.total().p99()).isCloseTo(99, within(1.0));
+        assertThat(window.categories().get(Category.SPRING).count()).isZero();
+        assertThat(window.categories().get(Category.SPRING).p50()).isNull();
+        assertThat(afterUpdate.categories().get(Category.JAVA).count()).isEqualTo(99);
+        assertThat(afterUpdate.categories().get(Category.SPRING).p90()).isCloseTo(100, within(1.0));
+        assertThat(afterUpdate.understandings().get(Understanding.BAD).count()).isEqualTo(1);
+        assertThat(index.quantiles(today.minusDays(60), today).total().p99()).isCloseTo(100, within(1.0));
+
+        index.rebuild(List.of(new StudyTimeDistribution(Category.CS, Understanding.NORMAL, today, 45, 3)));
+        StudyTimeQuantileIndex.WindowQuantiles rebuilt = index.quantiles(today, today);
+        assertThat(rebuilt.total().count()).isEqualTo(3);
+        assertThat(rebuilt.categories().get(Category.CS).p50()).isCloseTo(45, within(0.45));
+        assertThat(rebuilt.categories().get(Category.JAVA).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재구성 전의 분위수는 불완전으로 표시해 값을 돌려주지 않고, 재구성 중 들어온 변경은 바꾼 뒤 다시 적용된다")
+    void rebuild_marksIncompleteUntilRebuiltAndReplaysChanges() {
+        // given: 재구성 전에 들어온 쓰기 하나만 담긴 스케치
+        StudyTimeQuantileIndex index = new StudyTimeQuantileIndex();
+        LocalDate today = LocalDate.of(2025, 3, 31);
+        index.add(Category.JAVA, Understanding.GOOD, today, 500);
+        StudyTimePercentilesResponse partial = StudyTimePercentilesResponse.of(today, today, index.quantiles(today, today));
+
+        // when: 스냅샷(45분 2건) 뒤에 45분 1건 삭제, 60분 2건 생성
+        index.beginRebuild();
+        index.remove(Category.CS, Understanding.NORMAL, today, 45);
+        index.add(Category.CS, Understanding.NORMAL, today, 60);
+        index.add(Category.CS, Understanding.NORMAL, today, 60);
+        index.rebuild(List.of(new StudyTimeDistribution(Category.CS, Understanding.NORMAL, today, 45, 2)));
+        StudyTimePercentilesResponse rebuilt = StudyTimePercentilesResponse.of(today, today, index.quantiles(today, today));
+
+        // then
+        assertThat(partial.isComplete()).isFalse();
+        assertThat(partial.getTotal()).isNull();
+        assertThat(partial.getCategories()).isNull();
+        assertThat(rebuilt.isComplete()).isTrue();
+        assertThat(rebuilt.getTotal().getCount()).isEqualTo(3);
+        assertThat(rebuilt.getCategories().get("CS").getP50()).isCloseTo(60, within(0.6));
+        assertThat(rebuilt.getCategories().get("JAVA").getCount()).isZero();
+    }
+}
@@ -0,0 +1,114 @@
+package com.study.my_spring_study_diary;
+
+import com.study.my_spring_study_diary.dao.DailyCategoryStudyTime;
+import com.study.my_spring_study_diary.entity.Category;
+import com.study.my_spring_study_diary.stats.StudyTimeRangeIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudyTimeRangeIndexTest {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private record Entry(Category category, LocalDate date, int minutes) {
+    }
+
+    @Test
+    @DisplayName("임의의 추가/삭제 뒤 임의 구간의 카테고리별/전체 합계가 하나씩 더한 값과 같다 (범위를 앞뒤로 넓혀도)")
+    void rangeSums_matchBruteForce() {
+        // given: 첫 날짜 주변에서 시작해 과거/미래로 멀리 떨어진 날짜까지 넣어 범위를 여러 번 넓힌다
+        Random random = new Random(3);
+        StudyTimeRangeIndex index = new StudyTimeRangeIndex();
+        List<Entry> entries = new ArrayList<>();
+        LocalDate base = LocalDate.of(2024, 6, 1);
+        for (int i = 0; i < 3000; i++) {
+            int spread = i < 500 ? 200 : 8000;
+            Entry entry = new Entry(CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    base.plusDays(random.nextInt(spread) - spread / 2), 1 + random.nextInt(300));
+            entries.add(entry);
+            index.add(entry.category(), entry.date(), entry.minutes());
+            if (random.nextInt(5) == 0) {
+                Entry removed = entries.remove(random.nextInt(entries.size()));
+                index.remove(removed.category(), removed.date(), removed.minutes());
+            }
+        }
+
+        for (int round = 0; round < 500; round++) {
+            LocalDate from = base.plusDays(random.nextInt(10_000) - 5000);
+            LocalDate to = from.plusDays(random.nextInt(3000));
+            Category category = random.nextBoolean() ? null : CATEGORIES[random.nextInt(CATEGORIES.length)];
+
+            // when
+            StudyTimeRangeIndex.RangeSum sum = index.sum(category, from, to);
+            Map<Category, StudyTimeRangeIndex.RangeSum> byCategory = index.sumByCategory(from, to);
+
+            // then
+            long minutes = 0;
+            long logs = 0;
+            long categoryTotal = 0;
+            for (Entry entry : entries) {
+                boolean inRange = !entry.date().isBefore(from) && !entry.date().isAfter(to);
+                if (inRange && (category == null || entry.category() == category)) {
+                    minutes += entry.minutes();
+                    logs++;
+                }
+            }
+            for (StudyTimeRangeIndex.RangeSum categorySum : byCategory.values()) {
+                categoryTotal += categorySum.minutes();
+            }
+            assertThat(sum).isEqualTo(new StudyTimeRangeIndex.RangeSum(minutes, logs));
+            assertThat(categoryTotal).isEqualTo(index.sum(null, from, to).minutes());
+        }
+    }
+
+    @Test
+    @DisplayName("집계로 다시 만들면 기존 내용은 버리고, 구간이 기록 범위를 벗어나면 0이다")
+    void rebuild_replacesContents() {
+        // given
+        StudyTimeRangeIndex index = new StudyTimeRangeIndex();
+        index.add(Category.ETC, LocalDate.of(2020, 1, 1), 999);
+        index.rebuild(List.of(
+                new DailyCategoryStudyTime(Category.JAVA, LocalDate.of(2025, 1, 1), 2, 90),
+                new DailyCategoryStudyTime(Category.SPRING, LocalDate.of(2025, 1, 31), 1, 30)));
+
+        // when
+        index.remove(Category.JAVA, LocalDate.of(2025, 1, 1), 40);
+
+        // then
+        assertThat(index.sum(null, LocalDate.of(2019, 1, 1), LocalDate.of(2030, 1, 1)))
+                .isEqualTo(new StudyTimeRangeIndex.RangeSum(80, 2));
+        assertThat(index.sum(Category.JAVA, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1)))
+                .isEqualTo(new StudyTimeRangeIndex.RangeSum(50, 1));
+        assertThat(index.sum(Category.ETC, LocalDate.of(2019, 1, 1), LocalDate.of(2030, 1, 1)).minutes()).isZero();
+        assertThat(index.sum(null, LocalDate.of(1990, 1, 1), LocalDate.of(1990, 12, 31)).logs()).isZero();
+        assertThat(index.sum(null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)).logs()).isZero();
+    }
+
+    @Test
+    @DisplayName("재구성 집계가 도는 동안 들어온 변경은 집계 결과로 바꾼 뒤 다시 적용된다")
+    void rebuild_replaysChangesDuringAggregate() {
+        // given
+        StudyTimeRangeIndex index = new StudyTimeRangeIndex();
+        LocalDate day = LocalDate.of(2025, 1, 1);
+        assertThat(index.isReady()).isFalse();
+
+        // when: 스냅샷(JAVA 2건 90분) 뒤에 JAVA 1건 삭제, SPRING 1건 생성
+        index.beginRebuild();
+        index.remove(Category.JAVA, day, 40);
+        index.add(Category.SPRING, day, 25);
+        index.rebuild(List.of(new DailyCategoryStudyTime(Category.JAVA, day, 2, 90)));
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.sum(Category.JAVA, day, day)).isEqualTo(new StudyTimeRangeIndex.RangeSum(50, 1));
+        assertThat(index.sum(null, day, day)).isEqualTo(new StudyTimeRangeIndex.RangeSum(75, 2));
+    }
+}
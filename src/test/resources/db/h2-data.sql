@@ -0,0 +1,4 @@
+-- 테스트용 시드 데이터 (SchemaVersionInitializerTest)
+INSERT INTO study_logs (title, content, category, understanding, study_time, study_date) VALUES
+('Spring Boot 시작하기', STRINGTOUTF8('기본 설정'), 'SPRING', 'VERY_GOOD', 120, DATE '2024-03-01'),
+('Java Stream API', STRINGTOUTF8('함수형 프로그래밍'), 'JAVA', 'GOOD', 90, DATE '2024-03-02');
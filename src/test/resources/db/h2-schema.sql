@@ -0,0 +1,35 @@
+-- 테스트용 H2(MySQL 모드) 스키마 (src/main/resources/db/schema.sql 과 같은 컬럼 구성)
+CREATE TABLE IF NOT EXISTS study_logs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    owner_id BIGINT NOT NULL DEFAULT 0,
+    title VARCHAR(100) NOT NULL,
+    content MEDIUMBLOB NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    understanding VARCHAR(20) NOT NULL,
+    study_time INT NOT NULL,
+    study_date DATE NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- 정렬 기준별 인덱스 (db/schema.sql 과 같은 구성)
+CREATE INDEX IF NOT EXISTS idx_study_logs_title ON study_logs (title, id);
+CREATE INDEX IF NOT EXISTS idx_study_logs_study_time ON study_logs (study_time, study_date, id);
+CREATE INDEX IF NOT EXISTS idx_study_logs_category_study_date ON study_logs (category, study_date, id);
+CREATE INDEX IF NOT EXISTS idx_study_logs_category_created_at ON study_logs (category, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_study_logs_category_title ON study_logs (category, title, id);
+CREATE INDEX IF NOT EXISTS idx_study_logs_category_study_time ON study_logs (category, study_time, study_date, id);
+
+-- 멱등성 키 (db/schema.sql 과 같은 구성)
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    key_hash CHAR(64) NOT NULL PRIMARY KEY,
+    request_hash CHAR(64) NOT NULL,
+    status_code INT NULL,
+    content_type VARCHAR(100) NULL,
+    etag VARCHAR(100) NULL,
+    response_body MEDIUMBLOB NULL,
+    locked_until DATETIME(3) NOT NULL,
+    expires_at DATETIME(3) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);